@@ -0,0 +1,54 @@
+package com.carpentersblocks.api;
+
+import net.minecraft.world.World;
+import com.carpentersblocks.util.collapsible.CollapsibleHeightfield;
+
+/**
+ * Reshapes Carpenter's Collapsible Blocks within a rectangular region
+ * at a single y-level.  Bounds are inclusive.
+ * <p>
+ * Each call reads the region once, applies its change in one pass,
+ * and sends clients one update per chunk.
+ */
+public class CollapsibleTerrain {
+
+    /**
+     * Smooths transitions between collapsible blocks in region.
+     *
+     * @return the number of blocks changed
+     */
+    public static int smooth(World world, int xMin, int y, int zMin, int xMax, int zMax)
+    {
+        CollapsibleHeightfield heightfield = CollapsibleHeightfield.read(world, xMin, y, zMin, xMax, zMax);
+        heightfield.smooth();
+        return heightfield.write();
+    }
+
+    /**
+     * Raises every quadrant in region by amount, in steps of one fifteenth
+     * of a block.  Negative amounts lower quadrants instead, and heights
+     * stop at the full and collapsed limits.
+     *
+     * @return the number of blocks changed
+     */
+    public static int raise(World world, int xMin, int y, int zMin, int xMax, int zMax, int amount)
+    {
+        CollapsibleHeightfield heightfield = CollapsibleHeightfield.read(world, xMin, y, zMin, xMax, zMax);
+        heightfield.adjust(amount);
+        return heightfield.write();
+    }
+
+    /**
+     * Sets height of corner at world coordinates for every
+     * collapsible block sharing it, from 1 to 16.
+     *
+     * @return <code>true</code> if any block changed
+     */
+    public static boolean setCornerHeight(World world, int x, int y, int z, int height)
+    {
+        CollapsibleHeightfield heightfield = CollapsibleHeightfield.read(world, x - 1, y, z - 1, x, z);
+        heightfield.setCornerHeight(x, z, height);
+        return heightfield.write() > 0;
+    }
+
+}
@@ -18,6 +18,7 @@ import com.carpentersblocks.CarpentersBlocks;
 import com.carpentersblocks.data.Bed;
 import com.carpentersblocks.tileentity.TEBase;
 import com.carpentersblocks.util.handler.ChatHandler;
+import com.carpentersblocks.util.handler.DesignHandler.DesignType;
 import com.carpentersblocks.util.registry.BlockRegistry;
 import com.carpentersblocks.util.registry.IconRegistry;
 import com.carpentersblocks.util.registry.ItemRegistry;
@@ -54,6 +55,15 @@ public class BlockCarpentersBed extends BlockCoverable {
         return true;
     }
 
+    @Override
+    /**
+     * Returns design type cycled by hammer.
+     */
+    public DesignType getDesignType()
+    {
+        return DesignType.BED;
+    }
+
     @Override
     /**
      * Cycle backward through bed designs.
@@ -15,6 +15,9 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 import com.carpentersblocks.data.Collapsible;
 import com.carpentersblocks.tileentity.TEBase;
+import com.carpentersblocks.util.RayTraceUtil;
+import com.carpentersblocks.util.collapsible.CollapsibleGeometry;
+import com.carpentersblocks.util.collapsible.CollapsibleHeightfield;
 import com.carpentersblocks.util.collapsible.CollapsibleUtil;
 import com.carpentersblocks.util.handler.EventHandler;
 import com.carpentersblocks.util.registry.BlockRegistry;
@@ -38,23 +41,27 @@ public class BlockCarpentersCollapsibleBlock extends BlockCoverable {
         int quad = Collapsible.getQuad(EventHandler.hitX, EventHandler.hitZ);
         int quadHeight = Collapsible.getQuadHeight(TE, quad);
 
-        Collapsible.setQuadHeight(TE, quad, --quadHeight);
-        smoothAdjacentCollapsibles(TE, quad);
+        setQuadHeight(TE, quad, --quadHeight, entityPlayer);
 
         return true;
     }
 
     @Override
     /**
-     * Lower quadrant of block.
+     * Lower quadrant of block, or smooth surrounding area if sneaking.
      */
     protected boolean onHammerRightClick(TEBase TE, EntityPlayer entityPlayer)
     {
+        if (entityPlayer.isSneaking()) {
+            CollapsibleHeightfield heightfield = CollapsibleHeightfield.read(TE.getWorldObj(), TE.xCoord, TE.yCoord, TE.zCoord, ItemRegistry.itemHammerCollapsibleSmoothRadius, entityPlayer);
+            heightfield.smooth();
+            return heightfield.write() > 0;
+        }
+
         int quad = Collapsible.getQuad(EventHandler.hitX, EventHandler.hitZ);
         int quadHeight = Collapsible.getQuadHeight(TE, quad);
 
-        Collapsible.setQuadHeight(TE, quad, ++quadHeight);
-        smoothAdjacentCollapsibles(TE, quad);
+        setQuadHeight(TE, quad, ++quadHeight, entityPlayer);
 
         return true;
     }
@@ -71,71 +78,14 @@ public class BlockCarpentersCollapsibleBlock extends BlockCoverable {
     }
 
     /**
-     * Will attempt to smooth transitions to any adjacent collapsible blocks
-     * given a TE and source quadrant.
+     * Sets height of quadrant, smoothing transitions to any adjacent
+     * collapsible blocks sharing its corner that player may edit.
      */
-    private void smoothAdjacentCollapsibles(TEBase TE, int src_quadrant)
+    private void setQuadHeight(TEBase TE, int quad, int height, EntityPlayer entityPlayer)
     {
-        World world = TE.getWorldObj();
-
-        TEBase TE_XN   = getTileEntity(world, TE.xCoord - 1, TE.yCoord, TE.zCoord);
-        TEBase TE_XP   = getTileEntity(world, TE.xCoord + 1, TE.yCoord, TE.zCoord);
-        TEBase TE_ZN   = getTileEntity(world, TE.xCoord, TE.yCoord, TE.zCoord - 1);
-        TEBase TE_ZP   = getTileEntity(world, TE.xCoord, TE.yCoord, TE.zCoord + 1);
-        TEBase TE_XZNN = getTileEntity(world, TE.xCoord - 1, TE.yCoord, TE.zCoord - 1);
-        TEBase TE_XZNP = getTileEntity(world, TE.xCoord - 1, TE.yCoord, TE.zCoord + 1);
-        TEBase TE_XZPN = getTileEntity(world, TE.xCoord + 1, TE.yCoord, TE.zCoord - 1);
-        TEBase TE_XZPP = getTileEntity(world, TE.xCoord + 1, TE.yCoord, TE.zCoord + 1);
-
-        int height = Collapsible.getQuadHeight(TE, src_quadrant);
-
-        switch (src_quadrant)
-        {
-            case Collapsible.QUAD_XZNN:
-                if (TE_ZN != null) {
-                    Collapsible.setQuadHeight(TE_ZN, Collapsible.QUAD_XZNP, height);
-                }
-                if (TE_XZNN != null) {
-                    Collapsible.setQuadHeight(TE_XZNN, Collapsible.QUAD_XZPP, height);
-                }
-                if (TE_XN != null) {
-                    Collapsible.setQuadHeight(TE_XN, Collapsible.QUAD_XZPN, height);
-                }
-                break;
-            case Collapsible.QUAD_XZNP:
-                if (TE_XN != null) {
-                    Collapsible.setQuadHeight(TE_XN, Collapsible.QUAD_XZPP, height);
-                }
-                if (TE_XZNP != null) {
-                    Collapsible.setQuadHeight(TE_XZNP, Collapsible.QUAD_XZPN, height);
-                }
-                if (TE_ZP != null) {
-                    Collapsible.setQuadHeight(TE_ZP, Collapsible.QUAD_XZNN, height);
-                }
-                break;
-            case Collapsible.QUAD_XZPN:
-                if (TE_XP != null) {
-                    Collapsible.setQuadHeight(TE_XP, Collapsible.QUAD_XZNN, height);
-                }
-                if (TE_XZPN != null) {
-                    Collapsible.setQuadHeight(TE_XZPN, Collapsible.QUAD_XZNP, height);
-                }
-                if (TE_ZN != null) {
-                    Collapsible.setQuadHeight(TE_ZN, Collapsible.QUAD_XZPP, height);
-                }
-                break;
-            case Collapsible.QUAD_XZPP:
-                if (TE_ZP != null) {
-                    Collapsible.setQuadHeight(TE_ZP, Collapsible.QUAD_XZPN, height);
-                }
-                if (TE_XZPP != null) {
-                    Collapsible.setQuadHeight(TE_XZPP, Collapsible.QUAD_XZNN, height);
-                }
-                if (TE_XP != null) {
-                    Collapsible.setQuadHeight(TE_XP, Collapsible.QUAD_XZNP, height);
-                }
-                break;
-        }
+        CollapsibleHeightfield heightfield = CollapsibleHeightfield.read(TE.getWorldObj(), TE.xCoord, TE.yCoord, TE.zCoord, 1, entityPlayer);
+        heightfield.setQuadHeight(TE.xCoord, TE.zCoord, quad, height);
+        heightfield.write();
     }
 
     @Override
@@ -249,6 +199,10 @@ public class BlockCarpentersCollapsibleBlock extends BlockCoverable {
      */
     public void onBlockPlacedBy(World world, int x, int y, int z, EntityLivingBase entityLiving, ItemStack itemStack)
     {
+        /* Set owner first, so placer may reshape the block just placed. */
+
+        super.onBlockPlacedBy(world, x, y, z, entityLiving, itemStack);
+
         /* If shift key is down, skip auto-setting quadrant heights. */
 
         if (!entityLiving.isSneaking()) {
@@ -325,19 +279,18 @@ public class BlockCarpentersCollapsibleBlock extends BlockCoverable {
                 height_XZPN = Math.max(height_XZPN, (int)(hzn2 + dz2 * (zdist - 1)));
                 height_XZPP = Math.max(height_XZPP, (int)(hzn2 + dz2 * zdist));
 
-                Collapsible.setQuadHeight(TE, Collapsible.QUAD_XZNN, height_XZNN);
-                Collapsible.setQuadHeight(TE, Collapsible.QUAD_XZNP, height_XZNP);
-                Collapsible.setQuadHeight(TE, Collapsible.QUAD_XZPP, height_XZPP);
-                Collapsible.setQuadHeight(TE, Collapsible.QUAD_XZPN, height_XZPN);
+                /* Leave shared corners of blocks placer may not edit. */
 
-                for (int quad = 0; quad < 4; ++quad) {
-                    smoothAdjacentCollapsibles(TE, quad);
-                }
+                EntityPlayer entityPlayer = entityLiving instanceof EntityPlayer ? (EntityPlayer) entityLiving : null;
+                CollapsibleHeightfield heightfield = CollapsibleHeightfield.read(world, x, y, z, 1, entityPlayer);
+                heightfield.setQuadHeight(x, z, Collapsible.QUAD_XZNN, height_XZNN);
+                heightfield.setQuadHeight(x, z, Collapsible.QUAD_XZNP, height_XZNP);
+                heightfield.setQuadHeight(x, z, Collapsible.QUAD_XZPP, height_XZPP);
+                heightfield.setQuadHeight(x, z, Collapsible.QUAD_XZPN, height_XZPN);
+                heightfield.write();
             }
 
         }
-
-        super.onBlockPlacedBy(world, x, y, z, entityLiving, itemStack);
     }
 
     @Override
@@ -351,15 +304,16 @@ public class BlockCarpentersCollapsibleBlock extends BlockCoverable {
 
         if (TE != null) {
 
-            AxisAlignedBB colBox = null;
+            float[] boxes = CollapsibleGeometry.get(TE).getBoxes();
 
-            for (int quad = 0; quad < 4; ++quad)
+            for (int idx = 0; idx < boxes.length; idx += 6)
             {
-                float[] bounds = CollapsibleUtil.genBounds(TE, quad);
-                colBox = AxisAlignedBB.getBoundingBox(x + bounds[0], y + bounds[1], z + bounds[2], x + bounds[3], y + bounds[4], z + bounds[5]);
-
-                if (axisAlignedBB.intersectsWith(colBox)) {
-                    list.add(colBox);
+                /* Test against mask before allocating box. */
+                if (x + boxes[idx] < axisAlignedBB.maxX && x + boxes[idx + 3] > axisAlignedBB.minX &&
+                    y + boxes[idx + 1] < axisAlignedBB.maxY && y + boxes[idx + 4] > axisAlignedBB.minY &&
+                    z + boxes[idx + 2] < axisAlignedBB.maxZ && z + boxes[idx + 5] > axisAlignedBB.minZ)
+                {
+                    list.add(AxisAlignedBB.getBoundingBox(x + boxes[idx], y + boxes[idx + 1], z + boxes[idx + 2], x + boxes[idx + 3], y + boxes[idx + 4], z + boxes[idx + 5]));
                 }
             }
 
@@ -378,32 +332,13 @@ public class BlockCarpentersCollapsibleBlock extends BlockCoverable {
 
         if (TE != null) {
 
-            double currDist = 0.0D;
-            double maxDist = 0.0D;
-
-            // Determine if ray trace is a hit on block
-            for (int quad = 0; quad < 4; ++quad)
-            {
-                float[] bounds = CollapsibleUtil.genBounds(TE, quad);
-
-                setBlockBounds(bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5]);
-                MovingObjectPosition traceResult = super.collisionRayTrace(world, x, y, z, startVec, endVec);
-
-                if (traceResult != null)
-                {
-                    currDist = traceResult.hitVec.squareDistanceTo(endVec);
-                    if (currDist > maxDist) {
-                        finalTrace = traceResult;
-                        maxDist = currDist;
-                    }
-                }
-            }
+            CollapsibleGeometry geometry = CollapsibleGeometry.get(TE);
+            finalTrace = RayTraceUtil.rayTraceBoxes(geometry.getBoxes(), x, y, z, startVec, endVec);
 
             /* Determine true face hit since it's built of quadrants. */
 
             if (finalTrace != null) {
-                setBlockBounds(0.0F, 0.0F, 0.0F, 1.0F, 1.0F, 1.0F);
-                finalTrace = super.collisionRayTrace(world, x, y, z, startVec, endVec);
+                finalTrace = RayTraceUtil.rayTraceBoxes(geometry.getBounds(), x, y, z, startVec, endVec);
             }
 
         }
@@ -26,6 +26,7 @@ import com.carpentersblocks.util.BlockProperties;
 import com.carpentersblocks.util.flowerpot.FlowerPotHandler;
 import com.carpentersblocks.util.flowerpot.FlowerPotHandler.Profile;
 import com.carpentersblocks.util.flowerpot.FlowerPotProperties;
+import com.carpentersblocks.util.handler.DesignHandler.DesignType;
 import com.carpentersblocks.util.handler.EventHandler;
 import com.carpentersblocks.util.handler.PacketHandler;
 import com.carpentersblocks.util.registry.BlockRegistry;
@@ -67,6 +68,15 @@ public class BlockCarpentersFlowerPot extends BlockCoverable {
         }
     }
 
+    @Override
+    /**
+     * Returns design type cycled by hammer.
+     */
+    public DesignType getDesignType()
+    {
+        return DesignType.FLOWER_POT;
+    }
+
     @Override
     /**
      * Cycle backward through bed designs.
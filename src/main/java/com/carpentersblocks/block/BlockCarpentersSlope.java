@@ -18,13 +18,13 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 import com.carpentersblocks.CarpentersBlocks;
 import com.carpentersblocks.data.Slope;
-import com.carpentersblocks.data.Slope.Type;
 import com.carpentersblocks.tileentity.TEBase;
 import com.carpentersblocks.util.EntityLivingUtil;
 import com.carpentersblocks.util.handler.EventHandler;
 import com.carpentersblocks.util.registry.BlockRegistry;
 import com.carpentersblocks.util.registry.IconRegistry;
 import com.carpentersblocks.util.registry.ItemRegistry;
+import com.carpentersblocks.util.slope.SlopeRayTrace;
 import com.carpentersblocks.util.slope.SlopeTransform;
 import com.carpentersblocks.util.slope.SlopeUtil;
 import cpw.mods.fml.relauncher.Side;
@@ -40,8 +40,6 @@ public class BlockCarpentersSlope extends BlockCoverable {
     public final static int META_PRISM       = 3;
     public final static int META_PRISM_SLOPE = 4;
 
-    private boolean rayTracing;
-
     public BlockCarpentersSlope(Material material)
     {
         super(material);
@@ -291,32 +289,28 @@ public class BlockCarpentersSlope extends BlockCoverable {
      */
     public void setBlockBoundsBasedOnState(IBlockAccess world, int x, int y, int z)
     {
-        if (!rayTracing) {
-
-            TEBase TE = getTileEntity(world, x, y, z);
-
-            if (TE != null) {
-
-                int slopeID = TE.getData();
-                Slope slope = Slope.slopesList[slopeID];
-
-                switch (slope.getPrimaryType()) {
-                    case PRISM:
-                    case PRISM_1P:
-                    case PRISM_2P:
-                    case PRISM_3P:
-                    case PRISM_4P:
-                        if (slope.isPositive) {
-                            setBlockBounds(0.0F, 0.0F, 0.0F, 1.0F, 0.5F, 1.0F);
-                        } else {
-                            setBlockBounds(0.0F, 0.5F, 0.0F, 1.0F, 1.0F, 1.0F);
-                        }
-                        break;
-                    default:
-                        setBlockBounds(0.0F, 0.0F, 0.0F, 1.0F, 1.0F, 1.0F);
-                        break;
-                }
+        TEBase TE = getTileEntity(world, x, y, z);
+
+        if (TE != null) {
 
+            int slopeID = TE.getData();
+            Slope slope = Slope.slopesList[slopeID];
+
+            switch (slope.getPrimaryType()) {
+                case PRISM:
+                case PRISM_1P:
+                case PRISM_2P:
+                case PRISM_3P:
+                case PRISM_4P:
+                    if (slope.isPositive) {
+                        setBlockBounds(0.0F, 0.0F, 0.0F, 1.0F, 0.5F, 1.0F);
+                    } else {
+                        setBlockBounds(0.0F, 0.5F, 0.0F, 1.0F, 1.0F, 1.0F);
+                    }
+                    break;
+                default:
+                    setBlockBounds(0.0F, 0.0F, 0.0F, 1.0F, 1.0F, 1.0F);
+                    break;
             }
 
         }
@@ -333,41 +327,7 @@ public class BlockCarpentersSlope extends BlockCoverable {
         MovingObjectPosition finalTrace = null;
 
         if (TE != null) {
-
-            Slope slope = Slope.slopesList[TE.getData()];
-            SlopeUtil slopeUtil = new SlopeUtil();
-
-            int numPasses = slopeUtil.getNumPasses(slope);
-            int precision = slopeUtil.getNumBoxesPerPass(slope);
-
-            rayTracing = true;
-
-            /* Determine if ray trace is a hit on slope. */
-            for (int pass = 0; pass < numPasses; ++pass)
-            {
-                for (int slice = 0; slice < precision && finalTrace == null; ++slice)
-                {
-                    float[] box = slopeUtil.genBounds(slope, slice, precision, pass);
-
-                    if (box != null) {
-                        setBlockBounds(box[0], box[1], box[2], box[3], box[4], box[5]);
-                        finalTrace = super.collisionRayTrace(world, x, y, z, startVec, endVec);
-                    }
-                }
-                if (slope.type.equals(Type.OBLIQUE_EXT)) {
-                    --precision;
-                }
-            }
-
-            rayTracing = false;
-
-            /* Determine true face hit since sloped faces are two or more shared faces. */
-
-            if (finalTrace != null) {
-                setBlockBounds(0.0F, 0.0F, 0.0F, 1.0F, 1.0F, 1.0F);
-                finalTrace = super.collisionRayTrace(world, x, y, z, startVec, endVec);
-            }
-
+            finalTrace = SlopeRayTrace.rayTrace(Slope.slopesList[TE.getData()], x, y, z, startVec, endVec);
         }
 
         return finalTrace;
@@ -384,33 +344,17 @@ public class BlockCarpentersSlope extends BlockCoverable {
 
         if (TE != null) {
 
-            AxisAlignedBB box = null;
-
-            Slope slope = Slope.slopesList[TE.getData()];
-            SlopeUtil slopeUtil = new SlopeUtil();
-
-            int precision = slopeUtil.getNumBoxesPerPass(slope);
-            int numPasses = slopeUtil.getNumPasses(slope);
+            float[] boxes = SlopeUtil.getBoxes(Slope.slopesList[TE.getData()]);
 
-            for (int pass = 0; pass < numPasses; ++pass) {
-
-                for (int slice = 0; slice < precision; ++slice)
+            for (int idx = 0; idx < boxes.length; idx += 6)
+            {
+                /* Test against mask before allocating box. */
+                if (x + boxes[idx] < axisAlignedBB.maxX && x + boxes[idx + 3] > axisAlignedBB.minX &&
+                    y + boxes[idx + 1] < axisAlignedBB.maxY && y + boxes[idx + 4] > axisAlignedBB.minY &&
+                    z + boxes[idx + 2] < axisAlignedBB.maxZ && z + boxes[idx + 5] > axisAlignedBB.minZ)
                 {
-                    float[] dim = slopeUtil.genBounds(slope, slice, precision, pass);
-
-                    if (dim != null) {
-                        box = AxisAlignedBB.getBoundingBox(x + dim[0], y + dim[1], z + dim[2], x + dim[3], y + dim[4], z + dim[5]);
-                    }
-
-                    if (box != null && axisAlignedBB.intersectsWith(box)) {
-                        list.add(box);
-                    }
-                }
-
-                if (slope.type.equals(Type.OBLIQUE_EXT)) {
-                    --precision;
+                    list.add(AxisAlignedBB.getBoundingBox(x + boxes[idx], y + boxes[idx + 1], z + boxes[idx + 2], x + boxes[idx + 3], y + boxes[idx + 4], z + boxes[idx + 5]));
                 }
-
             }
 
         }
@@ -16,6 +16,7 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 import com.carpentersblocks.data.Stairs;
 import com.carpentersblocks.tileentity.TEBase;
+import com.carpentersblocks.util.RayTraceUtil;
 import com.carpentersblocks.util.registry.BlockRegistry;
 import com.carpentersblocks.util.registry.IconRegistry;
 import com.carpentersblocks.util.registry.ItemRegistry;
@@ -166,36 +167,7 @@ public class BlockCarpentersStairs extends BlockCoverable {
         MovingObjectPosition finalTrace = null;
 
         if (TE != null) {
-
-            Stairs stairs = Stairs.stairsList[TE.getData()];
-            StairsUtil stairsUtil = new StairsUtil();
-
-            double currDist = 0.0D;
-            double maxDist = 0.0D;
-
-            // Determine if ray trace is a hit on stairs
-            for (int box = 0; box < 3; ++box)
-            {
-                float[] bounds = stairsUtil.genBounds(box, stairs);
-
-                if (bounds != null)
-                {
-                    setBlockBounds(bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5]);
-                    MovingObjectPosition traceResult = super.collisionRayTrace(world, x, y, z, startVec, endVec);
-
-                    if (traceResult != null)
-                    {
-                        currDist = traceResult.hitVec.squareDistanceTo(endVec);
-                        if (currDist > maxDist) {
-                            finalTrace = traceResult;
-                            maxDist = currDist;
-                        }
-                    }
-                }
-            }
-
-            setBlockBounds(0.0F, 0.0F, 0.0F, 1.0F, 1.0F, 1.0F);
-
+            finalTrace = RayTraceUtil.rayTraceBoxes(StairsUtil.getBoxes(Stairs.stairsList[TE.getData()]), x, y, z, startVec, endVec);
         }
 
         return finalTrace;
@@ -212,22 +184,17 @@ public class BlockCarpentersStairs extends BlockCoverable {
 
         if (TE != null) {
 
-            AxisAlignedBB colBox = null;
-
-            Stairs stairs = Stairs.stairsList[TE.getData()];
-            StairsUtil stairsUtil = new StairsUtil();
-
-            for (int box = 0; box < 3; ++box) {
-
-                float[] bounds = stairsUtil.genBounds(box, stairs);
+            float[] boxes = StairsUtil.getBoxes(Stairs.stairsList[TE.getData()]);
 
-                if (bounds != null) {
-                    colBox = AxisAlignedBB.getBoundingBox(x + bounds[0], y + bounds[1], z + bounds[2], x + bounds[3], y + bounds[4], z + bounds[5]);
-                }
-                if (colBox != null && axisAlignedBB.intersectsWith(colBox)) {
-                    list.add(colBox);
+            for (int idx = 0; idx < boxes.length; idx += 6)
+            {
+                /* Test against mask before allocating box. */
+                if (x + boxes[idx] < axisAlignedBB.maxX && x + boxes[idx + 3] > axisAlignedBB.minX &&
+                    y + boxes[idx + 1] < axisAlignedBB.maxY && y + boxes[idx + 4] > axisAlignedBB.minY &&
+                    z + boxes[idx + 2] < axisAlignedBB.maxZ && z + boxes[idx + 5] > axisAlignedBB.minZ)
+                {
+                    list.add(AxisAlignedBB.getBoundingBox(x + boxes[idx], y + boxes[idx + 1], z + boxes[idx + 2], x + boxes[idx + 3], y + boxes[idx + 4], z + boxes[idx + 5]));
                 }
-
             }
 
         }
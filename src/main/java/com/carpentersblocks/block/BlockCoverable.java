@@ -31,15 +31,18 @@ import net.minecraftforge.common.IPlantable;
 import net.minecraftforge.common.util.ForgeDirection;
 import com.carpentersblocks.api.ICarpentersChisel;
 import com.carpentersblocks.api.ICarpentersHammer;
-import com.carpentersblocks.renderer.helper.FancyFluidsHelper;
 import com.carpentersblocks.renderer.helper.ParticleHelper;
 import com.carpentersblocks.tileentity.TEBase;
 import com.carpentersblocks.util.BlockProperties;
+import com.carpentersblocks.util.CoverProfile;
 import com.carpentersblocks.util.EntityLivingUtil;
 import com.carpentersblocks.util.handler.DesignHandler;
+import com.carpentersblocks.util.handler.DesignHandler.DesignType;
 import com.carpentersblocks.util.handler.EventHandler;
 import com.carpentersblocks.util.handler.OverlayHandler;
 import com.carpentersblocks.util.handler.OverlayHandler.Overlay;
+import com.carpentersblocks.util.handler.RoutableFluidHandler;
+import com.carpentersblocks.util.handler.UpdateHandler;
 import com.carpentersblocks.util.protection.PlayerPermissions;
 import com.carpentersblocks.util.registry.FeatureRegistry;
 import com.carpentersblocks.util.registry.IconRegistry;
@@ -349,7 +352,7 @@ public class BlockCoverable extends BlockContainer {
 
                             if (actionResult.altered) {
                                 onNeighborBlockChange(world, x, y, z, this);
-                                world.notifyBlocksOfNeighborChange(x, y, z, this);
+                                UpdateHandler.notifyBlocksOfNeighborChange(world, x, y, z, this);
                             }
 
                         } else if (item instanceof ICarpentersChisel && ((ICarpentersChisel)item).canUseChisel(world, entityPlayer)) {
@@ -482,7 +485,7 @@ public class BlockCoverable extends BlockContainer {
                         }
                         damageItemWithChance(world, entityPlayer);
                         onNeighborBlockChange(world, x, y, z, this);
-                        world.notifyBlocksOfNeighborChange(x, y, z, this);
+                        UpdateHandler.notifyBlocksOfNeighborChange(world, x, y, z, this);
 
                     }
 
@@ -533,7 +536,7 @@ public class BlockCoverable extends BlockContainer {
         }
 
         if (designAdj.equals("")) {
-            design = leftClick ? DesignHandler.getPrev("chisel", design) : DesignHandler.getNext("chisel", design);
+            design = leftClick ? DesignHandler.chisel.getPrev(design) : DesignHandler.chisel.getNext(design);
         }
 
         if (!design.equals("")) {
@@ -587,7 +590,7 @@ public class BlockCoverable extends BlockContainer {
         if (TE != null) {
             for (int idx = 0; idx < 7; ++idx) {
                 if (TE.hasAttribute(TE.ATTR_COVER[idx])) {
-                    Block block = BlockProperties.toBlock(BlockProperties.getCover(TE, idx));
+                    Block block = BlockProperties.getCoverBlock(TE, idx);
                     int tempPower = block.isProvidingWeakPower(blockAccess, x, y, z, side);
                     if (tempPower > power) {
                         power = tempPower;
@@ -614,13 +617,13 @@ public class BlockCoverable extends BlockContainer {
         if (TE != null) {
             int effectiveSide = ForgeDirection.OPPOSITES[side];
             if (TE.hasAttribute(TE.ATTR_COVER[effectiveSide])) {
-                Block block = BlockProperties.toBlock(BlockProperties.getCover(TE, effectiveSide));
+                Block block = BlockProperties.getCoverBlock(TE, effectiveSide);
                 int tempPower = block.isProvidingWeakPower(blockAccess, x, y, z, side);
                 if (tempPower > power) {
                     power = tempPower;
                 }
             } else if (TE.hasAttribute(TE.ATTR_COVER[6])) {
-                Block block = BlockProperties.toBlock(BlockProperties.getCover(TE, 6));
+                Block block = BlockProperties.getCoverBlock(TE, 6);
                 int tempPower = block.isProvidingWeakPower(blockAccess, x, y, z, side);
                 if (tempPower > power) {
                     power = tempPower;
@@ -786,47 +789,100 @@ public class BlockCoverable extends BlockContainer {
         return lightValue;
     }
 
-    @Override
     /**
-     * Returns light value based on cover or side covers.
+     * Returns cover profile for tile entity, building and caching
+     * it if covers have changed since last call.
      */
-    public int getLightValue(IBlockAccess blockAccess, int x, int y, int z)
+    public CoverProfile getCoverProfile(TEBase TE)
     {
-        int lightValue = 0;
+        CoverProfile profile = TE.getCoverProfile();
+
+        if (profile == null) {
+            profile = createCoverProfile(TE);
+            TE.setCoverProfile(profile);
+        }
+
+        return profile;
+    }
+
+    /**
+     * Resolves cover properties used by lighting, fire, explosion
+     * and movement queries.
+     */
+    protected CoverProfile createCoverProfile(TEBase TE)
+    {
+        boolean hasCover = TE.hasAttribute(TE.ATTR_COVER[6]);
+        Block block = BlockProperties.toBlock(BlockProperties.getCover(TE, 6));
 
         /*
-         * Block.class will call this method by default if the passed
-         * in coordinates don't match the expected block type.  Because
-         * we're passing in covers, it may recurse.
+         * Block.class will call getLightValue() on this block if the
+         * passed in coordinates don't match the expected block type.
+         * Because we're passing in covers, it may recurse.
          *
          * Return 0 when this happens.
          */
 
-        if (grabLightValue) {
-            return 0;
-        }
+        int lightValue = 0;
         grabLightValue = true;
 
-        TEBase TE = getTileEntity(blockAccess, x, y, z);
-
-        if (TE != null) {
-            if (FeatureRegistry.enableIllumination && TE.hasAttribute(TE.ATTR_ILLUMINATOR)) {
-                lightValue = 15;
-            } else {
-                for (int side = 0; side < 7; ++side) {
-                    if (TE.hasAttribute(TE.ATTR_COVER[side])) {
-                        ItemStack itemStack = BlockProperties.getCover(TE, side);
-                        int tempLight = getLightValue(TE, BlockProperties.toBlock(itemStack), itemStack.getItemDamage());
-                        if (tempLight > lightValue) {
-                            lightValue = tempLight;
-                        }
+        if (FeatureRegistry.enableIllumination && TE.hasAttribute(TE.ATTR_ILLUMINATOR)) {
+            lightValue = 15;
+        } else {
+            for (int side = 0; side < 7; ++side) {
+                if (TE.hasAttribute(TE.ATTR_COVER[side])) {
+                    ItemStack itemStack = BlockProperties.getCover(TE, side);
+                    int tempLight = getLightValue(TE, BlockProperties.toBlock(itemStack), itemStack.getItemDamage());
+                    if (tempLight > lightValue) {
+                        lightValue = tempLight;
                     }
                 }
             }
         }
 
         grabLightValue = false;
-        return lightValue;
+
+        float resistance = hasCover ? block.getExplosionResistance(null) : getExplosionResistance(null);
+
+        /* Slipperiness comes from top surface, which may be a side cover or overlay. */
+
+        int effectiveSide = TE.hasAttribute(TE.ATTR_COVER[1]) ? 1 : 6;
+        Block surface = BlockProperties.getCoverBlock(TE, effectiveSide);
+
+        if (TE.hasAttribute(TE.ATTR_OVERLAY[effectiveSide])) {
+            Overlay overlay = OverlayHandler.getOverlayType(TE.getAttribute(TE.ATTR_OVERLAY[effectiveSide]));
+            if (OverlayHandler.coversFullSide(overlay, 1)) {
+                surface = BlockProperties.toBlock(overlay.getItemStack());
+            }
+        }
+
+        float slipperiness = surface instanceof BlockCoverable ? Blocks.dirt.slipperiness : surface.slipperiness;
+
+        return new CoverProfile(
+                hasCover,
+                block,
+                lightValue,
+                resistance,
+                Blocks.fire.getFlammability(block),
+                Blocks.fire.getEncouragement(block),
+                slipperiness
+            );
+    }
+
+    @Override
+    /**
+     * Returns light value based on cover or side covers.
+     */
+    public int getLightValue(IBlockAccess blockAccess, int x, int y, int z)
+    {
+        /* Called recursively while resolving cover light values. */
+
+        if (grabLightValue) {
+            return 0;
+        }
+
+        TEBase TE = getTileEntity(blockAccess, x, y, z);
+
+        return TE != null ? getCoverProfile(TE).lightValue : 0;
     }
 
     @Override
@@ -837,9 +893,12 @@ public class BlockCoverable extends BlockContainer {
     {
         TEBase TE = getTileEntity(world, x, y, z);
 
+        /* Hardness may depend on location, so it isn't cached. */
+
         if (TE != null) {
-            if (TE.hasAttribute(TE.ATTR_COVER[6])) {
-                return BlockProperties.toBlock(BlockProperties.getCover(TE, 6)).getBlockHardness(world, x, y, z);
+            CoverProfile profile = getCoverProfile(TE);
+            if (profile.hasCover) {
+                return profile.block.getBlockHardness(world, x, y, z);
             }
         }
 
@@ -855,7 +914,7 @@ public class BlockCoverable extends BlockContainer {
         TEBase TE = getTileEntity(world, x, y, z);
 
         if (TE != null) {
-            return Blocks.fire.getFlammability(BlockProperties.toBlock(BlockProperties.getCover(TE, 6)));
+            return getCoverProfile(TE).flammability;
         }
 
         return super.getFlammability(world, x, y, z, face);
@@ -870,7 +929,7 @@ public class BlockCoverable extends BlockContainer {
         TEBase TE = getTileEntity(world, x, y, z);
 
         if (TE != null) {
-            return Blocks.fire.getEncouragement(BlockProperties.toBlock(BlockProperties.getCover(TE, 6)));
+            return getCoverProfile(TE).fireSpreadSpeed;
         }
 
         return super.getFireSpreadSpeed(world, x, y, z, side);
@@ -887,8 +946,9 @@ public class BlockCoverable extends BlockContainer {
         TEBase TE = getTileEntity(world, x, y, z);
 
         if (TE != null) {
-            if (TE.hasAttribute(TE.ATTR_COVER[6])) {
-                return BlockProperties.toBlock(BlockProperties.getCover(TE, 6)).isFireSource(world, x, y, z, side);
+            CoverProfile profile = getCoverProfile(TE);
+            if (profile.hasCover) {
+                return profile.block.isFireSource(world, x, y, z, side);
             }
         }
 
@@ -904,9 +964,7 @@ public class BlockCoverable extends BlockContainer {
         TEBase TE = getTileEntity(world, x, y, z);
 
         if (TE != null) {
-            if (TE.hasAttribute(TE.ATTR_COVER[6])) {
-                return BlockProperties.toBlock(BlockProperties.getCover(TE, 6)).getExplosionResistance(entity);
-            }
+            return getCoverProfile(TE).resistance;
         }
 
         return this.getExplosionResistance(entity);
@@ -921,8 +979,9 @@ public class BlockCoverable extends BlockContainer {
         TEBase TE = getTileEntity(world, x, y, z);
 
         if (TE != null) {
-            if (TE.hasAttribute(TE.ATTR_COVER[6])) {
-                return BlockProperties.toBlock(BlockProperties.getCover(TE, 6)).isWood(world,  x,  y,  z);
+            CoverProfile profile = getCoverProfile(TE);
+            if (profile.hasCover) {
+                return profile.block.isWood(world,  x,  y,  z);
             }
         }
 
@@ -938,8 +997,9 @@ public class BlockCoverable extends BlockContainer {
         TEBase TE = getTileEntity(world, x, y, z);
 
         if (TE != null) {
-            if (TE.hasAttribute(TE.ATTR_COVER[6])) {
-                Block block = BlockProperties.toBlock(BlockProperties.getCover(TE, 6));
+            CoverProfile profile = getCoverProfile(TE);
+            if (profile.hasCover) {
+                Block block = profile.block;
                 if (entity instanceof EntityWither) {
                     return !block.equals(Blocks.bedrock) && !block.equals(Blocks.end_portal) && !block.equals(Blocks.end_portal_frame) && !block.equals(Blocks.command_block);
                 } else if (entity instanceof EntityDragon) {
@@ -961,7 +1021,7 @@ public class BlockCoverable extends BlockContainer {
 
         if (TE != null) {
             if (TE.hasAttribute(TE.ATTR_COVER[6])) {
-                BlockProperties.toBlock(BlockProperties.getCover(TE, 6)).onEntityCollidedWithBlock(world, x, y, z, entity);
+                BlockProperties.getCoverBlock(TE, 6).onEntityCollidedWithBlock(world, x, y, z, entity);
             }
         }
     }
@@ -1034,7 +1094,7 @@ public class BlockCoverable extends BlockContainer {
         if (TE != null) {
 
             if (TE.hasAttribute(TE.ATTR_COVER[6])) {
-                BlockProperties.toBlock(BlockProperties.getCover(TE, 6)).randomDisplayTick(world, x, y, z, random);
+                BlockProperties.getCoverBlock(TE, 6).randomDisplayTick(world, x, y, z, random);
             }
 
             if (TE.hasAttribute(TE.ATTR_OVERLAY[6])) {
@@ -1087,7 +1147,7 @@ public class BlockCoverable extends BlockContainer {
 
             for (int side1 = 1; side1 < 7; side1 += 5) {
                 if (TE.hasAttribute(TE.ATTR_COVER[side1])) {
-                    blocks.add(BlockProperties.toBlock(BlockProperties.getCover(TE, side1)));
+                    blocks.add(BlockProperties.getCoverBlock(TE, side1));
                 }
                 if (TE.hasAttribute(TE.ATTR_OVERLAY[side1])) {
                     blocks.add(BlockProperties.toBlock(OverlayHandler.getOverlayType(TE.getAttribute(TE.ATTR_OVERLAY[side1])).getItemStack()));
@@ -1096,7 +1156,7 @@ public class BlockCoverable extends BlockContainer {
 
             /* Add types using cover material */
 
-            Material material = BlockProperties.toBlock(BlockProperties.getCover(TE, 6)).getMaterial();
+            Material material = BlockProperties.getCoverBlock(TE, 6).getMaterial();
             if (material.equals(Material.grass)) {
                 blocks.add(Blocks.grass);
             } else if (material.equals(Material.ground)) {
@@ -1133,7 +1193,7 @@ public class BlockCoverable extends BlockContainer {
         TEBase TE = getTileEntity(world, x, y, z);
 
         if (TE != null) {
-            return !TE.hasAttribute(TE.ATTR_COVER[6]) || BlockProperties.toBlock(BlockProperties.getCover(TE, 6)).isOpaqueCube();
+            return !TE.hasAttribute(TE.ATTR_COVER[6]) || BlockProperties.getCoverBlock(TE, 6).isOpaqueCube();
         } else {
             return false;
         }
@@ -1179,7 +1239,7 @@ public class BlockCoverable extends BlockContainer {
         TEBase TE = getTileEntity(world, x, y, z);
 
         if (TE != null) {
-            return ForgeHooks.blockStrength(BlockProperties.toBlock(BlockProperties.getCover(TE, 6)), entityPlayer, world, x, y, z);
+            return ForgeHooks.blockStrength(BlockProperties.getCoverBlock(TE, 6), entityPlayer, world, x, y, z);
         } else {
             return super.getPlayerRelativeBlockHardness(entityPlayer, world, x, y, z);
         }
@@ -1213,8 +1273,8 @@ public class BlockCoverable extends BlockContainer {
 
                 if (shareFaces(TE_adj, TE_src, side_adj, side_src)) {
 
-                    Block block_adj = BlockProperties.toBlock(BlockProperties.getCover(TE_adj, 6));
-                    Block block_src = BlockProperties.toBlock(BlockProperties.getCover(TE_src, 6));
+                    Block block_adj = BlockProperties.getCoverBlock(TE_adj, 6);
+                    Block block_src = BlockProperties.getCoverBlock(TE_src, 6);
 
                     if (!TE_adj.hasAttribute(TE.ATTR_COVER[6])) {
                         return TE_src.hasAttribute(TE.ATTR_COVER[6]);
@@ -1285,15 +1345,15 @@ public class BlockCoverable extends BlockContainer {
      */
     public boolean isOpaqueCube()
     {
-        if (FeatureRegistry.routableFluids == 3) {
-            try {
-                Class<?> clazz = Class.forName(new Throwable().getStackTrace()[2].getClassName());
-                for (int idx = 0; idx < FancyFluidsHelper.liquidClasses.length; ++idx) {
-                    if (clazz.isAssignableFrom(FancyFluidsHelper.liquidClasses[idx])) {
-                        return true;
-                    }
-                }
-            } catch (Exception e) {}
+        /*
+         * Report opaque to adjacent fluids only while this thread is
+         * rendering chunks, so fluids don't render sides against routed
+         * fluid.  Frame 2 is the block asking, after this method and
+         * Block.shouldSideBeRendered().
+         */
+        if (FeatureRegistry.routableFluids == 3 && RoutableFluidHandler.isRenderingWorld()) {
+            StackTraceElement[] stackTrace = new Throwable().getStackTrace();
+            return stackTrace.length > 2 && RoutableFluidHandler.isFluidClass(stackTrace[2].getClassName());
         }
 
         return false;
@@ -1355,6 +1415,15 @@ public class BlockCoverable extends BlockContainer {
      */
     protected void postOnBlockActivated(TEBase TE, EntityPlayer entityPlayer, int side, float hitX, float hitY, float hitZ, ActionResult actionResult) {}
 
+    /**
+     * Returns design type cycled by hammer, or <code>null</code>
+     * if block does not support designs.
+     */
+    public DesignType getDesignType()
+    {
+        return null;
+    }
+
     protected boolean onHammerLeftClick(TEBase TE, EntityPlayer entityPlayer)
     {
         return false;
@@ -75,13 +75,37 @@ public class Collapsible {
         }
     }
 
+    /**
+     * Returns block data with height of corner set as value from 1 to 16.
+     * Out-of-range values leave data unchanged.
+     */
+    public static int setQuadHeight(int data, int corner, int height)
+    {
+        --height;
+
+        if (height >= 0 && height < 16)
+        {
+            int shift = (3 - corner) * 4;
+            data &= ~(0xf << shift);
+            data |= 15 - height << shift;
+        }
+
+        return data;
+    }
+
     /**
      * Returns height of corner as value from 1 to 16.
      */
     public static int getQuadHeight(final TEBase TE, int corner)
     {
-        int data = TE.getData();
+        return getQuadHeight(TE.getData(), corner);
+    }
 
+    /**
+     * Returns height of corner as value from 1 to 16 from block data.
+     */
+    public static int getQuadHeight(int data, int corner)
+    {
         switch (corner) {
             case QUAD_XZNN:
                 data &= 0xf000;
@@ -62,7 +62,7 @@ public class Lever implements ISided {
         int temp = (TE.getData() & ~0x8) | (state << 3);
         World world = TE.getWorldObj();
 
-        if (!world.isRemote && BlockProperties.toBlock(BlockProperties.getCover(TE, 6)).getMaterial() != Material.cloth && playSound && getState(TE) != state) {
+        if (!world.isRemote && BlockProperties.getCoverBlock(TE, 6).getMaterial() != Material.cloth && playSound && getState(TE) != state) {
             world.playSoundEffect(TE.xCoord + 0.5D, TE.yCoord + 0.5D, TE.zCoord + 0.5D, "random.click", 0.3F, getState(TE) == STATE_ON ? 0.5F : 0.6F);
         }
 
@@ -262,7 +262,7 @@ public class EntityCarpentersTile extends EntityBase {
 
     public boolean hasDesign()
     {
-        return DesignHandler.listTile.contains(getDesign());
+        return DesignHandler.tile.contains(getDesign());
     }
 
     public void setDesign(String tile)
@@ -278,7 +278,7 @@ public class EntityCarpentersTile extends EntityBase {
     public IIcon getIcon()
     {
         if (hasDesign()) {
-            return IconRegistry.icon_design_tile.get(DesignHandler.listTile.indexOf(getDesign()));
+            return IconRegistry.icon_design_tile.get(DesignHandler.tile.getId(getDesign()));
         } else {
             return IconRegistry.icon_tile_blank;
         }
@@ -432,7 +432,7 @@ public class EntityCarpentersTile extends EntityBase {
                                 dropItem = true;
                             }
                         } else {
-                            setDesign(DesignHandler.getNext("tile", getDesign()));
+                            setDesign(DesignHandler.tile.getNext(getDesign()));
                         }
                     } else if (entityPlayer.capabilities.isCreativeMode) {
                         if (!isDead) {
@@ -480,7 +480,7 @@ public class EntityCarpentersTile extends EntityBase {
                     if (entityPlayer.isSneaking()) {
                         rotate();
                     } else {
-                        setDesign(DesignHandler.getPrev("tile", getDesign()));
+                        setDesign(DesignHandler.tile.getPrev(getDesign()));
                     }
 
                     playTileSound();
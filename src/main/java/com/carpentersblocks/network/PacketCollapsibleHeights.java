@@ -0,0 +1,88 @@
+package com.carpentersblocks.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import java.io.IOException;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import com.carpentersblocks.tileentity.TEBase;
+
+/**
+ * Sends collapsible block data changed within one chunk
+ * and y-level to clients as a single packet.
+ */
+public class PacketCollapsibleHeights implements ICarpentersPacket {
+
+    private int chunkX;
+    private int chunkZ;
+    private int y;
+    private int size;
+
+    /** Chunk-relative positions, packed as x << 4 | z. */
+    private final byte[] positions = new byte[256];
+    private final short[] data = new short[256];
+
+    public PacketCollapsibleHeights() {}
+
+    public PacketCollapsibleHeights(int chunkX, int chunkZ, int y)
+    {
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.y = y;
+    }
+
+    /**
+     * Adds block data at world coordinates, which must lie within chunk.
+     */
+    public void add(int x, int z, int blockData)
+    {
+        positions[size] = (byte) ((x & 15) << 4 | z & 15);
+        data[size] = (short) blockData;
+        ++size;
+    }
+
+    @Override
+    public void processData(EntityPlayer entityPlayer, ByteBufInputStream bbis) throws IOException
+    {
+        World world = entityPlayer.worldObj;
+
+        /* Only the server may send block data. */
+        if (!world.isRemote) {
+            return;
+        }
+
+        chunkX = bbis.readInt();
+        chunkZ = bbis.readInt();
+        y = bbis.readInt();
+        size = bbis.readShort();
+
+        for (int idx = 0; idx < size; ++idx)
+        {
+            int pos = bbis.readByte() & 0xff;
+            int blockData = bbis.readShort() & 0xffff;
+            int x = chunkX << 4 | pos >> 4;
+            int z = chunkZ << 4 | pos & 15;
+
+            TileEntity TE = world.getTileEntity(x, y, z);
+            if (TE instanceof TEBase) {
+                ((TEBase)TE).setData(blockData);
+            }
+        }
+    }
+
+    @Override
+    public void appendData(ByteBuf buffer) throws IOException
+    {
+        buffer.writeInt(chunkX);
+        buffer.writeInt(chunkZ);
+        buffer.writeInt(y);
+        buffer.writeShort(size);
+
+        for (int idx = 0; idx < size; ++idx) {
+            buffer.writeByte(positions[idx]);
+            buffer.writeShort(data[idx]);
+        }
+    }
+
+}
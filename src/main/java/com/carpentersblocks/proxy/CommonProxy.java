@@ -1,5 +1,6 @@
 package com.carpentersblocks.proxy;
 
+import java.io.File;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.config.Configuration;
 import com.carpentersblocks.CarpentersBlocks;
@@ -9,14 +10,19 @@ import com.carpentersblocks.tileentity.TECarpentersDaylightSensor;
 import com.carpentersblocks.tileentity.TECarpentersFlowerPot;
 import com.carpentersblocks.tileentity.TECarpentersSafe;
 import com.carpentersblocks.tileentity.TECarpentersTorch;
+import com.carpentersblocks.util.handler.ClassificationHandler;
 import com.carpentersblocks.util.handler.DesignHandler;
 import com.carpentersblocks.util.handler.EventHandler;
 import com.carpentersblocks.util.handler.OverlayHandler;
 import com.carpentersblocks.util.handler.PacketHandler;
+import com.carpentersblocks.util.handler.UpdateHandler;
+import com.carpentersblocks.util.protection.ProtectedUtil;
 import com.carpentersblocks.util.registry.BlockRegistry;
 import com.carpentersblocks.util.registry.FeatureRegistry;
 import com.carpentersblocks.util.registry.ItemRegistry;
+import cpw.mods.fml.common.FMLCommonHandler;
 import cpw.mods.fml.common.event.FMLInitializationEvent;
+import cpw.mods.fml.common.event.FMLPostInitializationEvent;
 import cpw.mods.fml.common.event.FMLPreInitializationEvent;
 import cpw.mods.fml.common.registry.EntityRegistry;
 import cpw.mods.fml.common.registry.GameRegistry;
@@ -31,11 +37,14 @@ public class CommonProxy {
         BlockRegistry.preInit(event, config); // Do before item registration
         ItemRegistry.preInit(event, config);
         DesignHandler.preInit(event);
+        ProtectedUtil.init(new File(event.getModConfigurationDirectory(), CarpentersBlocks.MODID + "_owners.txt"));
     }
 
     public void init(FMLInitializationEvent event)
     {
         MinecraftForge.EVENT_BUS.register(new EventHandler());
+        FMLCommonHandler.instance().bus().register(new UpdateHandler());
+        FMLCommonHandler.instance().bus().register(ProtectedUtil.getOwnerResolver());
         CarpentersBlocks.channel.register(new PacketHandler());
 
         /* Initialize blocks and items */
@@ -65,4 +74,9 @@ public class CommonProxy {
         }
     }
 
+    public void postInit(FMLPostInitializationEvent event)
+    {
+        ClassificationHandler.init(); // Do after all mods register items
+    }
+
 }
@@ -14,13 +14,16 @@ import net.minecraftforge.client.MinecraftForgeClient;
 import net.minecraftforge.common.util.ForgeDirection;
 import org.lwjgl.opengl.GL11;
 import com.carpentersblocks.block.BlockCoverable;
+import com.carpentersblocks.renderer.helper.BakedQuads;
 import com.carpentersblocks.renderer.helper.FancyFluidsHelper;
 import com.carpentersblocks.renderer.helper.LightingHelper;
+import com.carpentersblocks.renderer.helper.QuadCache;
+import com.carpentersblocks.renderer.helper.RenderContext;
 import com.carpentersblocks.renderer.helper.RenderHelper;
 import com.carpentersblocks.renderer.helper.VertexHelper;
+import com.carpentersblocks.tileentity.AttributeArray;
 import com.carpentersblocks.tileentity.TEBase;
 import com.carpentersblocks.util.BlockProperties;
-import com.carpentersblocks.util.handler.DesignHandler;
 import com.carpentersblocks.util.handler.DyeHandler;
 import com.carpentersblocks.util.handler.OptifineHandler;
 import com.carpentersblocks.util.handler.OverlayHandler;
@@ -37,6 +40,9 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
     public static final int PASS_OPAQUE = 0;
     public static final int PASS_ALPHA  = 1;
 
+    protected static final int PASS_MASK_OPAQUE = 1 << PASS_OPAQUE;
+    protected static final int PASS_MASK_ALL    = 1 << PASS_OPAQUE | 1 << PASS_ALPHA;
+
     public static final int DOWN  = 0;
     public static final int UP    = 1;
     public static final int NORTH = 2;
@@ -58,10 +64,35 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
     public boolean[]      hasIconOverride = new boolean[6];
     public IIcon[]        iconOverride    = new IIcon[6];
     public int            renderPass;
+    public RenderContext  renderContext;
 
     /** 0-5 are side covers, with 6 being the block itself. */
     public int            coverRendering    = 6;
 
+    /** Location returned by {@link #getSideCoverRenderBounds}. */
+    private final int[]   sideCoverOffset   = new int[3];
+
+    /** Whether this instance renders blocks for a single thread. */
+    private boolean       isThreadHandler;
+
+    /**
+     * Handler instance for each render thread.
+     * <p>
+     * Handlers keep per-block state in instance fields, so the registered
+     * handler delegates world rendering to an instance owned by the calling
+     * thread.  Vertices are still drawn through the shared
+     * {@link Tessellator#instance}, so rendering from several threads is
+     * not safe until output is drawn per thread.
+     */
+    private final ThreadLocal<BlockHandlerBase> threadHandler = new ThreadLocal<BlockHandlerBase>()
+    {
+        @Override
+        protected BlockHandlerBase initialValue()
+        {
+            return createThreadHandler();
+        }
+    };
+
     @Override
     public void renderInventoryBlock(Block block, int metadata, int modelID, RenderBlocks renderBlocks)
     {
@@ -108,10 +139,36 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
         GL11.glRotatef(90.0F, 0.0F, -1.0F, 0.0F);
     }
 
+    /**
+     * Creates handler bound to current thread and its {@link RenderContext}.
+     * Handlers must have a public no-argument constructor, since sharing
+     * this handler between threads would mix their render state.
+     */
+    private BlockHandlerBase createThreadHandler()
+    {
+        BlockHandlerBase handler;
+
+        try {
+            handler = getClass().newInstance();
+        } catch (Exception e) {
+            throw new IllegalStateException(String.format("Unable to create render handler %s for thread", getClass().getName()), e);
+        }
+
+        handler.isThreadHandler = true;
+        handler.renderContext = RenderContext.get();
+
+        return handler;
+    }
+
     @Override
     public boolean renderWorldBlock(IBlockAccess blockAccess, int x, int y, int z, Block block, int modelID, RenderBlocks renderBlocks)
     {
-        VertexHelper.vertexCount = 0;
+        if (!isThreadHandler) {
+            return threadHandler.get().renderWorldBlock(blockAccess, x, y, z, block, modelID, renderBlocks);
+        }
+
+        renderContext.vertexCount = 0;
+        renderContext.bakedQuads = null;
         renderPass = MinecraftForgeClient.getRenderPass();
         TileEntity TE_default = blockAccess.getTileEntity(x, y, z);
 
@@ -120,18 +177,166 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
             TE = (TEBase) TE_default;
             srcBlock = block;
             this.renderBlocks = renderBlocks;
-            lightingHelper = new LightingHelper(renderBlocks);
+            lightingHelper = renderContext.getLightingHelper(renderBlocks, x, y, z);
+
+            /* Skip passes without geometry, unless drawing breaking animation. */
+
+            int mask = TE.getRenderPassMask();
+            if (mask == TEBase.RENDER_PASS_UNRESOLVED) {
+                mask = getRenderPassMask();
+                TE.setRenderPassMask(mask);
+            }
+
+            if (renderBlocks.hasOverrideBlockTexture()) {
+                renderCarpentersBlock(x, y, z);
+                renderSideBlocks(x, y, z);
+            } else if ((mask & 1 << renderPass) != 0) {
+                if (canBakeQuads()) {
+                    renderCachedBlock(x, y, z);
+                } else {
+                    renderCarpentersBlock(x, y, z);
+                    renderSideBlocks(x, y, z);
+                }
+            }
+
+            if (FeatureRegistry.routableFluids > 0) {
+                renderContext.vertexCount += FancyFluidsHelper.render(TE, renderBlocks, x, y, z) ? 4 : 0;
+            }
+
+        }
+
+        return renderContext.vertexCount > 0;
+    }
+
+    /**
+     * Whether quads drawn by this handler depend only on state captured
+     * by {@link QuadCache.Key}, and are drawn solely through
+     * {@link #renderBlock}.  Blocks meeting this can replay quads baked
+     * for an identical block instead of rebuilding them.
+     */
+    protected boolean canBakeQuads()
+    {
+        return false;
+    }
+
+    /**
+     * Returns mask of visible faces, along with render settings
+     * that change the geometry drawn for block.
+     */
+    protected int getFaceMask(int x, int y, int z)
+    {
+        int mask = 0;
+
+        for (int side = 0; side < 6; ++side) {
+            ForgeDirection dir = ForgeDirection.getOrientation(side);
+            if (srcBlock.shouldSideBeRendered(renderBlocks.blockAccess, x + dir.offsetX, y + dir.offsetY, z + dir.offsetZ, side)) {
+                mask |= 1 << side;
+            }
+        }
+
+        if (renderBlocks.renderAllFaces) {
+            mask |= 1 << 6;
+        }
+        if (Minecraft.isAmbientOcclusionEnabled()) {
+            mask |= 1 << 7;
+        }
+        if (Minecraft.isFancyGraphicsEnabled()) {
+            mask |= 1 << 8;
+        }
+
+        return mask;
+    }
 
+    /**
+     * Replays quads cached for an identical block, or draws
+     * block and bakes its quads for later replay.
+     */
+    private void renderCachedBlock(int x, int y, int z)
+    {
+        QuadCache.Key key = renderContext.quadCacheKey.set(srcBlock, TE, renderPass, getFaceMask(x, y, z));
+        BakedQuads quads = QuadCache.get(key);
+
+        if (quads != null) {
+            renderBakedQuads(quads, x, y, z);
+        } else {
+            renderContext.bakedQuads = quads = new BakedQuads(x, y, z);
             renderCarpentersBlock(x, y, z);
             renderSideBlocks(x, y, z);
+            renderContext.bakedQuads = null;
+            if (quads.isValid()) {
+                QuadCache.put(key, quads);
+            }
+        }
+    }
 
-            if (FeatureRegistry.routableFluids > 0) {
-                VertexHelper.vertexCount += FancyFluidsHelper.render(TE, renderBlocks, x, y, z) ? 4 : 0;
+    /**
+     * Draws baked quads at block, with lighting and color
+     * resolved for this location.
+     */
+    private void renderBakedQuads(BakedQuads quads, int x, int y, int z)
+    {
+        double xMin = renderBlocks.renderMinX;
+        double yMin = renderBlocks.renderMinY;
+        double zMin = renderBlocks.renderMinZ;
+        double xMax = renderBlocks.renderMaxX;
+        double yMax = renderBlocks.renderMaxY;
+        double zMax = renderBlocks.renderMaxZ;
+
+        VertexHelper.startDrawing(GL11.GL_QUADS);
+
+        for (int lightIdx = 0; lightIdx < quads.lighting.size(); ++lightIdx)
+        {
+            BakedQuads.Lighting lighting = quads.lighting.get(lightIdx);
+            int lightX = x + lighting.xOffset;
+            int lightY = y + lighting.yOffset;
+            int lightZ = z + lighting.zOffset;
+
+            renderBlocks.setRenderBounds(lighting.xMin, lighting.yMin, lighting.zMin, lighting.xMax, lighting.yMax, lighting.zMax);
+            renderBlocks.enableAO = lighting.enableAO;
+            lightingHelper.setupLighting(lighting.itemStack, lightX, lightY, lightZ, lighting.side);
+
+            for (int faceIdx = 0; faceIdx < lighting.faces.size(); ++faceIdx)
+            {
+                BakedQuads.Face face = lighting.faces.get(faceIdx);
+                int color = face.hasDye ? face.dyeColor : getBlockColor(face.block, face.metadata, lightX, lightY, lightZ, face.side, face.icon);
+                lightingHelper.setupColor(lightX, lightY, lightZ, face.side, color, face.icon);
+
+                for (int vertex = 0, idx = 0; vertex < face.vertexCount; ++vertex, idx += 5) {
+                    VertexHelper.setupVertex(renderBlocks, x + face.vertices[idx], y + face.vertices[idx + 1], z + face.vertices[idx + 2], face.vertices[idx + 3], face.vertices[idx + 4], face.corners[vertex]);
+                }
+            }
+        }
+
+        renderBlocks.enableAO = false;
+        renderBlocks.setRenderBounds(xMin, yMin, zMin, xMax, yMax, zMax);
+    }
+
+    /**
+     * Returns mask of render passes in which block has geometry.
+     * Bit 0 is the opaque pass, and bit 1 is the alpha pass.
+     * <p>
+     * The opaque pass is always included.  The alpha pass is included
+     * for chisel designs and for attributes whose block renders in it.
+     * Override for blocks that draw additional parts in the alpha pass.
+     */
+    protected int getRenderPassMask()
+    {
+        for (int side = 0; side < 7; ++side) {
+            if (TE.hasChiselDesign(side)) {
+                return PASS_MASK_ALL;
             }
+        }
 
+        for (byte attrId = 0; attrId < AttributeArray.SIZE; ++attrId) {
+            if (TE.hasAttribute(attrId)) {
+                Block block = BlockProperties.toBlock(TE.getAttribute(attrId));
+                if (!(block instanceof BlockCoverable) && block.getRenderBlockPass() == PASS_ALPHA) {
+                    return PASS_MASK_ALL;
+                }
+            }
         }
 
-        return VertexHelper.vertexCount > 0;
+        return PASS_MASK_OPAQUE;
     }
 
     @Override
@@ -395,6 +600,8 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
     /**
      * Sets up side cover rendering bounds.
      * Will return block location where side cover should be rendered.
+     * <p>
+     * The returned array is reused by the next call.
      */
     protected int[] getSideCoverRenderBounds(int x, int y, int z, int side)
     {
@@ -478,7 +685,11 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
                 break;
         }
 
-        return new int[] { x, y, z };
+        sideCoverOffset[0] = x;
+        sideCoverOffset[1] = y;
+        sideCoverOffset[2] = z;
+
+        return sideCoverOffset;
     }
 
     /**
@@ -486,19 +697,23 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
      */
     protected void renderSideBlocks(int x, int y, int z)
     {
+        int sideCovers = TE.getSideCoverMask();
+
+        if (sideCovers == 0) {
+            return;
+        }
+
         renderBlocks.renderAllFaces = true;
 
         srcBlock.setBlockBoundsBasedOnState(renderBlocks.blockAccess, x, y, z);
 
-        for (int side = 0; side < 6; ++side)
+        for (; sideCovers != 0; sideCovers &= sideCovers - 1)
         {
-            if (TE.hasAttribute(TE.ATTR_COVER[side]))
-            {
-                coverRendering = side;
-                int[] renderOffset = getSideCoverRenderBounds(x, y, z, side);
-                renderBlock(getCoverForRendering(), renderOffset[0], renderOffset[1], renderOffset[2]);
-                renderBlocks.setRenderBoundsFromBlock(srcBlock);
-            }
+            int side = Integer.numberOfTrailingZeros(sideCovers);
+            coverRendering = side;
+            int[] renderOffset = getSideCoverRenderBounds(x, y, z, side);
+            renderBlock(getCoverForRendering(), renderOffset[0], renderOffset[1], renderOffset[2]);
+            renderBlocks.setRenderBoundsFromBlock(srcBlock);
         }
 
         renderBlocks.renderAllFaces = false;
@@ -518,8 +733,7 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
      */
     protected IIcon getIcon(ItemStack itemStack, int side)
     {
-        BlockProperties.prepareItemStackForRendering(itemStack);
-        IIcon icon = renderBlocks.getIconSafe(getUniqueIcon(itemStack, side, BlockProperties.toBlock(itemStack).getIcon(side, itemStack.getItemDamage())));
+        IIcon icon = renderBlocks.getIconSafe(getUniqueIcon(itemStack, side, BlockProperties.toBlock(itemStack).getIcon(side, BlockProperties.getRenderMetadata(itemStack))));
 
         if (hasIconOverride[side]) {
             icon = renderBlocks.getIconSafe(iconOverride[side]);
@@ -624,8 +838,7 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
      */
     protected void renderChiselDesign(int x, int y, int z, int side)
     {
-        String design = TE.getChiselDesign(coverRendering);
-        IIcon icon = renderBlocks.getIconSafe(IconRegistry.icon_design_chisel.get(DesignHandler.listChisel.indexOf(design)));
+        IIcon icon = renderBlocks.getIconSafe(IconRegistry.icon_design_chisel.get(TE.getChiselDesignId(coverRendering)));
         setColorAndRender(new ItemStack(Blocks.glass), x, y, z, side, icon);
     }
 
@@ -646,12 +859,18 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
      */
     public final void setColorAndRender(ItemStack itemStack, int x, int y, int z, int side, IIcon icon)
     {
-        int color = getBlockColor(BlockProperties.toBlock(itemStack), itemStack.getItemDamage(), x, y, z, side, icon);
+        Block block = BlockProperties.toBlock(itemStack);
+        int color = getBlockColor(block, itemStack.getItemDamage(), x, y, z, side, icon);
+        boolean hasDye = !suppressDyeColor && (TE.hasAttribute(TE.ATTR_DYE[coverRendering]) || hasDyeOverride);
 
-        if (!suppressDyeColor && (TE.hasAttribute(TE.ATTR_DYE[coverRendering]) || hasDyeOverride)) {
+        if (hasDye) {
             color = hasDyeOverride ? dyeOverride : DyeHandler.getColor(TE.getAttribute(TE.ATTR_DYE[coverRendering]));
         }
 
+        if (renderContext != null && renderContext.bakedQuads != null) {
+            renderContext.bakedQuads.beginFace(side, block, itemStack.getItemDamage(), hasDye, color, icon);
+        }
+
         lightingHelper.setupColor(x, y, z, side, color, icon);
         render(x, y, z, side, icon);
         VertexHelper.postRender();
@@ -749,6 +968,18 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
         return Minecraft.isAmbientOcclusionEnabled() && !disableAO && block.getLightValue() == 0;
     }
 
+    /**
+     * Sets up lighting for side, recording it when baking quads.
+     */
+    private void setupLighting(ItemStack itemStack, int x, int y, int z, int side)
+    {
+        if (renderContext != null && renderContext.bakedQuads != null) {
+            renderContext.bakedQuads.beginLighting(itemStack, x, y, z, side, renderBlocks);
+        }
+
+        lightingHelper.setupLighting(itemStack, x, y, z, side);
+    }
+
     /**
      * Renders block.
      * Coordinates may change since side covers render here.
@@ -763,37 +994,37 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
 
         if (renderBlocks.renderAllFaces || srcBlock.shouldSideBeRendered(renderBlocks.blockAccess, x, y - 1, z, DOWN) || renderBlocks.renderMinY > 0.0D)
         {
-            lightingHelper.setupLightingYNeg(itemStack, x, y, z);
+            setupLighting(itemStack, x, y, z, DOWN);
             delegateSideRender(itemStack, x, y, z, DOWN);
         }
 
         if (renderBlocks.renderAllFaces || srcBlock.shouldSideBeRendered(renderBlocks.blockAccess, x, y + 1, z, UP) || renderBlocks.renderMaxY < 1.0D)
         {
-            lightingHelper.setupLightingYPos(itemStack, x, y, z);
+            setupLighting(itemStack, x, y, z, UP);
             delegateSideRender(itemStack, x, y, z, UP);
         }
 
         if (renderBlocks.renderAllFaces || srcBlock.shouldSideBeRendered(renderBlocks.blockAccess, x, y, z - 1, NORTH) || renderBlocks.renderMinZ > 0.0D)
         {
-            lightingHelper.setupLightingZNeg(itemStack, x, y, z);
+            setupLighting(itemStack, x, y, z, NORTH);
             delegateSideRender(itemStack, x, y, z, NORTH);
         }
 
         if (renderBlocks.renderAllFaces || srcBlock.shouldSideBeRendered(renderBlocks.blockAccess, x, y, z + 1, SOUTH) || renderBlocks.renderMaxZ < 1.0D)
         {
-            lightingHelper.setupLightingZPos(itemStack, x, y, z);
+            setupLighting(itemStack, x, y, z, SOUTH);
             delegateSideRender(itemStack, x, y, z, SOUTH);
         }
 
         if (renderBlocks.renderAllFaces || srcBlock.shouldSideBeRendered(renderBlocks.blockAccess, x - 1, y, z, WEST) || renderBlocks.renderMinX > 0.0D)
         {
-            lightingHelper.setupLightingXNeg(itemStack, x, y, z);
+            setupLighting(itemStack, x, y, z, WEST);
             delegateSideRender(itemStack, x, y, z, WEST);
         }
 
         if (renderBlocks.renderAllFaces || srcBlock.shouldSideBeRendered(renderBlocks.blockAccess, x + 1, y, z, EAST) || renderBlocks.renderMaxX < 1.0D)
         {
-            lightingHelper.setupLightingXPos(itemStack, x, y, z);
+            setupLighting(itemStack, x, y, z, EAST);
             delegateSideRender(itemStack, x, y, z, EAST);
         }
 
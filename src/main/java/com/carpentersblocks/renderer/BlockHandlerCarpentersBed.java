@@ -7,7 +7,6 @@ import net.minecraftforge.common.util.ForgeDirection;
 import com.carpentersblocks.data.Bed;
 import com.carpentersblocks.renderer.helper.VertexHelper;
 import com.carpentersblocks.tileentity.TEBase;
-import com.carpentersblocks.util.handler.DesignHandler;
 import com.carpentersblocks.util.handler.DyeHandler;
 import com.carpentersblocks.util.registry.IconRegistry;
 import cpw.mods.fml.relauncher.Side;
@@ -108,7 +107,7 @@ public class BlockHandlerCarpentersBed extends BlockHandlerBase {
         }
 
         if (hasDesign) {
-            icon_design = IconRegistry.icon_design_bed.get(DesignHandler.listBed.indexOf(TE.getDesign()));
+            icon_design = IconRegistry.icon_design_bed.get(TE.getDesignId());
         }
     }
 
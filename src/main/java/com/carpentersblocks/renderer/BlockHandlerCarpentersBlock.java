@@ -15,4 +15,10 @@ public class BlockHandlerCarpentersBlock extends BlockHandlerBase {
         super.renderInventoryBlock(block, metadata, modelID, renderBlocks);
     }
 
+    @Override
+    protected boolean canBakeQuads()
+    {
+        return true;
+    }
+
 }
@@ -17,7 +17,7 @@ import org.lwjgl.opengl.GL11;
 import com.carpentersblocks.renderer.helper.RenderHelper;
 import com.carpentersblocks.renderer.helper.RenderHelperCollapsible;
 import com.carpentersblocks.renderer.helper.VertexHelper;
-import com.carpentersblocks.util.collapsible.CollapsibleUtil;
+import com.carpentersblocks.util.collapsible.CollapsibleGeometry;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
@@ -88,15 +88,15 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
     protected void renderBaseBlock(ItemStack itemStack, int x, int y, int z)
     {
         renderBlocks.enableAO = getEnableAO(itemStack);
-        CollapsibleUtil.computeOffsets(TE);
+        renderContext.collapsible = CollapsibleGeometry.get(TE);
 
         /* Render top slopes. */
 
-        if (srcBlock.shouldSideBeRendered(renderBlocks.blockAccess, x, y + 1, z, UP) || !CollapsibleUtil.isFullHeight(TE)) {
+        if (srcBlock.shouldSideBeRendered(renderBlocks.blockAccess, x, y + 1, z, UP) || !renderContext.collapsible.isFullHeight()) {
             VertexHelper.startDrawing(GL11.GL_TRIANGLES);
-            isSideSloped = true;
+            renderContext.isSideSloped = true;
             prepareTopFace(itemStack, x, y, z);
-            isSideSloped = false;
+            renderContext.isSideSloped = false;
         }
 
         /* Render all other faces. */
@@ -115,28 +115,28 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
 
         /* NORTH FACE */
         if (srcBlock.shouldSideBeRendered(renderBlocks.blockAccess, x, y, z - 1, NORTH)) {
-            if (CollapsibleUtil.offset_XZNN + CollapsibleUtil.offset_XZPN >= oneStep) {
+            if (renderContext.collapsible.offset_XZNN + renderContext.collapsible.offset_XZPN >= oneStep) {
                 prepareFaceZNeg(itemStack, x, y, z);
             }
         }
 
         /* SOUTH FACE */
         if (srcBlock.shouldSideBeRendered(renderBlocks.blockAccess, x, y, z + 1, SOUTH)) {
-            if (CollapsibleUtil.offset_XZNP + CollapsibleUtil.offset_XZPP >= oneStep) {
+            if (renderContext.collapsible.offset_XZNP + renderContext.collapsible.offset_XZPP >= oneStep) {
                 prepareFaceZPos(itemStack, x, y, z);
             }
         }
 
         /* WEST FACE */
         if (srcBlock.shouldSideBeRendered(renderBlocks.blockAccess, x - 1, y, z, WEST)) {
-            if (CollapsibleUtil.offset_XZNN + CollapsibleUtil.offset_XZNP >= oneStep) {
+            if (renderContext.collapsible.offset_XZNN + renderContext.collapsible.offset_XZNP >= oneStep) {
                 prepareFaceXNeg(itemStack, x, y, z);
             }
         }
 
         /* EAST FACE */
         if (srcBlock.shouldSideBeRendered(renderBlocks.blockAccess, x + 1, y, z, EAST)) {
-            if (CollapsibleUtil.offset_XZPN + CollapsibleUtil.offset_XZPP >= oneStep) {
+            if (renderContext.collapsible.offset_XZPN + renderContext.collapsible.offset_XZPP >= oneStep) {
                 prepareFaceXPos(itemStack, x, y, z);
             }
         }
@@ -151,26 +151,26 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
     {
         switch (side) {
             case NORTH: {
-                double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(CollapsibleUtil.offset_XZNN - CollapsibleUtil.offset_XZPN);
-                double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(CollapsibleUtil.CENTER_YMAX - (CollapsibleUtil.offset_XZPN + CollapsibleUtil.offset_XZNN) / 2.0F) * 2.0F;
+                double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(renderContext.collapsible.offset_XZNN - renderContext.collapsible.offset_XZPN);
+                double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(renderContext.collapsible.CENTER_YMAX - (renderContext.collapsible.offset_XZPN + renderContext.collapsible.offset_XZNN) / 2.0F) * 2.0F;
 
                 return (float) (lightingHelper.LIGHTNESS[1] - (lightness_WE + lightness_NS) / 2.0F);
             }
             case SOUTH: {
-                double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(CollapsibleUtil.offset_XZNP - CollapsibleUtil.offset_XZPP);
-                double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(CollapsibleUtil.CENTER_YMAX - (CollapsibleUtil.offset_XZPP + CollapsibleUtil.offset_XZNP) / 2.0F) * 2.0F;
+                double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(renderContext.collapsible.offset_XZNP - renderContext.collapsible.offset_XZPP);
+                double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(renderContext.collapsible.CENTER_YMAX - (renderContext.collapsible.offset_XZPP + renderContext.collapsible.offset_XZNP) / 2.0F) * 2.0F;
 
                 return (float) (lightingHelper.LIGHTNESS[1] - (lightness_WE + lightness_NS) / 2.0F);
             }
             case WEST: {
-                double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(CollapsibleUtil.offset_XZNN - CollapsibleUtil.offset_XZNP);
-                double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(CollapsibleUtil.CENTER_YMAX - (CollapsibleUtil.offset_XZNP + CollapsibleUtil.offset_XZNN) / 2.0F) * 2.0F;
+                double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(renderContext.collapsible.offset_XZNN - renderContext.collapsible.offset_XZNP);
+                double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(renderContext.collapsible.CENTER_YMAX - (renderContext.collapsible.offset_XZNP + renderContext.collapsible.offset_XZNN) / 2.0F) * 2.0F;
 
                 return (float) (lightingHelper.LIGHTNESS[1] - (lightness_WE + lightness_NS) / 2.0F);
             }
             case EAST: {
-                double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(CollapsibleUtil.offset_XZPP - CollapsibleUtil.offset_XZPN);
-                double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(CollapsibleUtil.CENTER_YMAX - (CollapsibleUtil.offset_XZPP + CollapsibleUtil.offset_XZPN) / 2.0F) * 2.0F;
+                double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(renderContext.collapsible.offset_XZPP - renderContext.collapsible.offset_XZPN);
+                double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(renderContext.collapsible.CENTER_YMAX - (renderContext.collapsible.offset_XZPP + renderContext.collapsible.offset_XZPN) / 2.0F) * 2.0F;
 
                 return (float) (lightingHelper.LIGHTNESS[1] - (lightness_WE + lightness_NS) / 2.0F);
             }
@@ -186,35 +186,35 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
     {
         /* Compute CENTER_YMAX lighting. */
 
-        renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 0.5D, CollapsibleUtil.CENTER_YMAX, 0.5D);
+        renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 0.5D, renderContext.collapsible.CENTER_YMAX, 0.5D);
         lightingHelper.setupLightingYPos(itemStack, x, y, z);
         float aoCenter = lightingHelper.ao[SOUTHEAST];
         int brightnessCenter = renderBlocks.brightnessTopLeft;
 
         /* Compute XZPP corner lighting. */
 
-        renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, CollapsibleUtil.offset_XZPP, 1.0D);
+        renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, renderContext.collapsible.offset_XZPP, 1.0D);
         lightingHelper.setupLightingYPos(itemStack, x, y, z);
         float aoXZPP = lightingHelper.ao[SOUTHEAST];
         int brightnessXZPP = renderBlocks.brightnessTopLeft;
 
         /* Compute XZPN corner lighting. */
 
-        renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, CollapsibleUtil.offset_XZPN, 1.0D);
+        renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, renderContext.collapsible.offset_XZPN, 1.0D);
         lightingHelper.setupLightingYPos(itemStack, x, y, z);
         float aoXZPN = lightingHelper.ao[NORTHEAST];
         int brightnessXZPN = renderBlocks.brightnessBottomLeft;
 
         /* Compute XZNN corner lighting. */
 
-        renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, CollapsibleUtil.offset_XZNN, 1.0D);
+        renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, renderContext.collapsible.offset_XZNN, 1.0D);
         lightingHelper.setupLightingYPos(itemStack, x, y, z);
         float aoXZNN = lightingHelper.ao[NORTHWEST];
         int brightnessXZNN = renderBlocks.brightnessBottomRight;
 
         /* Compute XZNP corner lighting. */
 
-        renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, CollapsibleUtil.offset_XZNP, 1.0D);
+        renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, renderContext.collapsible.offset_XZNP, 1.0D);
         lightingHelper.setupLightingYPos(itemStack, x, y, z);
         float aoXZNP = lightingHelper.ao[SOUTHWEST];
         int brightnessXZNP = renderBlocks.brightnessTopRight;
@@ -222,7 +222,7 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
         /* Top North triangle. */
 
         lightingHelper.setLightnessOverride(getInterpolatedLightness(ForgeDirection.NORTH));
-        renderBlocks.setRenderBounds(0.0D, Math.min(CollapsibleUtil.offset_XZNN, CollapsibleUtil.offset_XZPN), 0.0D, 1.0D, Math.max(CollapsibleUtil.offset_XZNN, CollapsibleUtil.offset_XZPN), 0.5D);
+        renderBlocks.setRenderBounds(0.0D, Math.min(renderContext.collapsible.offset_XZNN, renderContext.collapsible.offset_XZPN), 0.0D, 1.0D, Math.max(renderContext.collapsible.offset_XZNN, renderContext.collapsible.offset_XZPN), 0.5D);
         lightingHelper.ao[TOP_LEFT] = lightingHelper.ao[TOP_RIGHT] = aoCenter;
         renderBlocks.brightnessTopLeft = renderBlocks.brightnessTopRight = brightnessCenter;
         lightingHelper.ao[BOTTOM_LEFT] = aoXZPN;
@@ -234,7 +234,7 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
         /* Top South triangle. */
 
         lightingHelper.setLightnessOverride(getInterpolatedLightness(ForgeDirection.SOUTH));
-        renderBlocks.setRenderBounds(0.0D, Math.min(CollapsibleUtil.offset_XZNP, CollapsibleUtil.offset_XZPP), 0.5D, 1.0D, Math.max(CollapsibleUtil.offset_XZNP, CollapsibleUtil.offset_XZPP), 1.0D);
+        renderBlocks.setRenderBounds(0.0D, Math.min(renderContext.collapsible.offset_XZNP, renderContext.collapsible.offset_XZPP), 0.5D, 1.0D, Math.max(renderContext.collapsible.offset_XZNP, renderContext.collapsible.offset_XZPP), 1.0D);
         lightingHelper.ao[BOTTOM_LEFT] = lightingHelper.ao[BOTTOM_RIGHT] = aoCenter;
         renderBlocks.brightnessBottomLeft = renderBlocks.brightnessBottomRight = brightnessCenter;
         lightingHelper.ao[TOP_LEFT] = aoXZPP;
@@ -246,7 +246,7 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
         /* Top West triangle. */
 
         lightingHelper.setLightnessOverride(getInterpolatedLightness(ForgeDirection.WEST));
-        renderBlocks.setRenderBounds(0.0D, Math.min(CollapsibleUtil.offset_XZNN, CollapsibleUtil.offset_XZNP), 0.0D, 0.5D, Math.max(CollapsibleUtil.offset_XZNN, CollapsibleUtil.offset_XZNP), 1.0D);
+        renderBlocks.setRenderBounds(0.0D, Math.min(renderContext.collapsible.offset_XZNN, renderContext.collapsible.offset_XZNP), 0.0D, 0.5D, Math.max(renderContext.collapsible.offset_XZNN, renderContext.collapsible.offset_XZNP), 1.0D);
         lightingHelper.ao[TOP_LEFT] = lightingHelper.ao[BOTTOM_LEFT] = aoCenter;
         renderBlocks.brightnessTopLeft = renderBlocks.brightnessBottomLeft = brightnessCenter;
         lightingHelper.ao[TOP_RIGHT] = aoXZNP;
@@ -258,7 +258,7 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
         /* Top East triangle. */
 
         lightingHelper.setLightnessOverride(getInterpolatedLightness(ForgeDirection.EAST));
-        renderBlocks.setRenderBounds(0.5D, Math.min(CollapsibleUtil.offset_XZPN, CollapsibleUtil.offset_XZPP), 0.0D, 1.0D, Math.max(CollapsibleUtil.offset_XZPN, CollapsibleUtil.offset_XZPP), 1.0D);
+        renderBlocks.setRenderBounds(0.5D, Math.min(renderContext.collapsible.offset_XZPN, renderContext.collapsible.offset_XZPP), 0.0D, 1.0D, Math.max(renderContext.collapsible.offset_XZPN, renderContext.collapsible.offset_XZPP), 1.0D);
         lightingHelper.ao[TOP_RIGHT] = lightingHelper.ao[BOTTOM_RIGHT] = aoCenter;
         renderBlocks.brightnessTopRight = renderBlocks.brightnessBottomRight = brightnessCenter;
         lightingHelper.ao[TOP_LEFT] = aoXZPP;
@@ -278,8 +278,8 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
         lightingHelper.setupLightingZNeg(itemStack, x, y, z);
 
         if (renderBlocks.enableAO) {
-            lightingHelper.ao[TOP_LEFT]  = (float) (ao[NORTH][BOTTOM_LEFT] + (ao[NORTH][TOP_LEFT] - ao[NORTH][BOTTOM_LEFT]) * CollapsibleUtil.offset_XZPN);
-            lightingHelper.ao[TOP_RIGHT] = (float) (ao[NORTH][BOTTOM_RIGHT] + (ao[NORTH][TOP_RIGHT] - ao[NORTH][BOTTOM_RIGHT]) * CollapsibleUtil.offset_XZNN);
+            lightingHelper.ao[TOP_LEFT]  = (float) (ao[NORTH][BOTTOM_LEFT] + (ao[NORTH][TOP_LEFT] - ao[NORTH][BOTTOM_LEFT]) * renderContext.collapsible.offset_XZPN);
+            lightingHelper.ao[TOP_RIGHT] = (float) (ao[NORTH][BOTTOM_RIGHT] + (ao[NORTH][TOP_RIGHT] - ao[NORTH][BOTTOM_RIGHT]) * renderContext.collapsible.offset_XZNN);
         }
 
         setIDAndRender(itemStack, NORMAL_ZN, x, y, z, NORTH);
@@ -293,8 +293,8 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
         lightingHelper.setupLightingZPos(itemStack, x, y, z);
 
         if (renderBlocks.enableAO) {
-            lightingHelper.ao[TOP_LEFT]  = (float) (ao[SOUTH][BOTTOM_LEFT] + (ao[SOUTH][TOP_LEFT] - ao[SOUTH][BOTTOM_LEFT]) * CollapsibleUtil.offset_XZNP);
-            lightingHelper.ao[TOP_RIGHT] = (float) (ao[SOUTH][BOTTOM_RIGHT] + (ao[SOUTH][TOP_RIGHT] - ao[SOUTH][BOTTOM_RIGHT]) * CollapsibleUtil.offset_XZPP);
+            lightingHelper.ao[TOP_LEFT]  = (float) (ao[SOUTH][BOTTOM_LEFT] + (ao[SOUTH][TOP_LEFT] - ao[SOUTH][BOTTOM_LEFT]) * renderContext.collapsible.offset_XZNP);
+            lightingHelper.ao[TOP_RIGHT] = (float) (ao[SOUTH][BOTTOM_RIGHT] + (ao[SOUTH][TOP_RIGHT] - ao[SOUTH][BOTTOM_RIGHT]) * renderContext.collapsible.offset_XZPP);
         }
 
         setIDAndRender(itemStack, NORMAL_ZP, x, y, z, SOUTH);
@@ -308,8 +308,8 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
         lightingHelper.setupLightingXNeg(itemStack, x, y, z);
 
         if (renderBlocks.enableAO) {
-            lightingHelper.ao[TOP_LEFT]  = (float) (ao[WEST][BOTTOM_LEFT] + (ao[WEST][TOP_LEFT] - ao[WEST][BOTTOM_LEFT]) * CollapsibleUtil.offset_XZNN);
-            lightingHelper.ao[TOP_RIGHT] = (float) (ao[WEST][BOTTOM_RIGHT] + (ao[WEST][TOP_RIGHT] - ao[WEST][BOTTOM_RIGHT]) * CollapsibleUtil.offset_XZNP);
+            lightingHelper.ao[TOP_LEFT]  = (float) (ao[WEST][BOTTOM_LEFT] + (ao[WEST][TOP_LEFT] - ao[WEST][BOTTOM_LEFT]) * renderContext.collapsible.offset_XZNN);
+            lightingHelper.ao[TOP_RIGHT] = (float) (ao[WEST][BOTTOM_RIGHT] + (ao[WEST][TOP_RIGHT] - ao[WEST][BOTTOM_RIGHT]) * renderContext.collapsible.offset_XZNP);
         }
 
         setIDAndRender(itemStack, NORMAL_XN, x, y, z, WEST);
@@ -323,8 +323,8 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
         lightingHelper.setupLightingXPos(itemStack, x, y, z);
 
         if (renderBlocks.enableAO) {
-            lightingHelper.ao[TOP_LEFT]  = (float) (ao[EAST][BOTTOM_LEFT] + (ao[EAST][TOP_LEFT] - ao[EAST][BOTTOM_LEFT]) * CollapsibleUtil.offset_XZPP);
-            lightingHelper.ao[TOP_RIGHT] = (float) (ao[EAST][BOTTOM_RIGHT] + (ao[EAST][TOP_RIGHT] - ao[EAST][BOTTOM_RIGHT]) * CollapsibleUtil.offset_XZPN);
+            lightingHelper.ao[TOP_LEFT]  = (float) (ao[EAST][BOTTOM_LEFT] + (ao[EAST][TOP_LEFT] - ao[EAST][BOTTOM_LEFT]) * renderContext.collapsible.offset_XZPP);
+            lightingHelper.ao[TOP_RIGHT] = (float) (ao[EAST][BOTTOM_RIGHT] + (ao[EAST][TOP_RIGHT] - ao[EAST][BOTTOM_RIGHT]) * renderContext.collapsible.offset_XZPN);
         }
 
         setIDAndRender(itemStack, NORMAL_XP, x, y, z, EAST);
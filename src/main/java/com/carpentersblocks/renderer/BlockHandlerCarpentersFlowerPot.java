@@ -11,7 +11,6 @@ import com.carpentersblocks.renderer.helper.RenderHelperFlowerPot;
 import com.carpentersblocks.util.BlockProperties;
 import com.carpentersblocks.util.flowerpot.FlowerPotHandler;
 import com.carpentersblocks.util.flowerpot.FlowerPotProperties;
-import com.carpentersblocks.util.handler.DesignHandler;
 import com.carpentersblocks.util.registry.IconRegistry;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -42,6 +41,16 @@ public class BlockHandlerCarpentersFlowerPot extends BlockHandlerBase {
         }
     }
 
+    @Override
+    /**
+     * Returns mask of render passes in which block has geometry.
+     * Plants may render in the alpha pass.
+     */
+    protected int getRenderPassMask()
+    {
+        return PASS_MASK_ALL;
+    }
+
     @Override
     /**
      * Renders block
@@ -85,7 +94,7 @@ public class BlockHandlerCarpentersFlowerPot extends BlockHandlerBase {
     public boolean renderPot(ItemStack itemStack, int x, int y, int z)
     {
         if (TE.hasDesign()) {
-            IIcon designIcon = IconRegistry.icon_design_flower_pot.get(DesignHandler.listFlowerPot.indexOf(TE.getDesign()));
+            IIcon designIcon = IconRegistry.icon_design_flower_pot.get(TE.getDesignId());
             setIconOverride(6, designIcon);
         }
 
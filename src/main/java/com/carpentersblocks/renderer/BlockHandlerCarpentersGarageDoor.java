@@ -32,6 +32,16 @@ public class BlockHandlerCarpentersGarageDoor extends BlockHandlerBase {
         super.renderInventoryBlock(block, metadata, modelID, renderBlocks);
     }
 
+    @Override
+    /**
+     * Returns mask of render passes in which block has geometry.
+     * Glass panes are drawn in both passes.
+     */
+    protected int getRenderPassMask()
+    {
+        return PASS_MASK_ALL;
+    }
+
     @Override
     /**
      * Renders ladder.
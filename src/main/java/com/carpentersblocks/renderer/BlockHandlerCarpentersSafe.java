@@ -124,6 +124,16 @@ public class BlockHandlerCarpentersSafe extends BlockHandlerBase {
         super.renderInventoryBlock(Blocks.obsidian, metadata, modelID, renderBlocks);
     }
 
+    @Override
+    /**
+     * Returns mask of render passes in which block has geometry.
+     * Ice lights render in the alpha pass.
+     */
+    protected int getRenderPassMask()
+    {
+        return PASS_MASK_ALL;
+    }
+
     @Override
     /**
      * Renders safe.
@@ -9,6 +9,7 @@ import static com.carpentersblocks.renderer.helper.VertexHelper.SOUTHWEST;
 import static com.carpentersblocks.renderer.helper.VertexHelper.TOP_LEFT;
 import static com.carpentersblocks.renderer.helper.VertexHelper.TOP_RIGHT;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockDirectional;
@@ -24,6 +25,7 @@ import com.carpentersblocks.block.BlockCarpentersSlope;
 import com.carpentersblocks.block.BlockCoverable;
 import com.carpentersblocks.data.Slope;
 import com.carpentersblocks.data.Slope.Type;
+import com.carpentersblocks.renderer.helper.FaceTemplate;
 import com.carpentersblocks.renderer.helper.RenderHelper;
 import com.carpentersblocks.renderer.helper.VertexHelper;
 import com.carpentersblocks.renderer.helper.slope.oblique.HelperCorner;
@@ -42,74 +44,247 @@ public class BlockHandlerCarpentersSlope extends BlockHandlerSloped {
 
     /* Lightness values. */
 
-    private float LIGHTNESS_XYNN   = 0.6F;
-    private float LIGHTNESS_XYPN   = 0.55F;
-    private float LIGHTNESS_ZYNN   = 0.7F;
-    private float LIGHTNESS_ZYPN   = 0.65F;
-    private float LIGHTNESS_XYNP   = 0.85F;
-    private float LIGHTNESS_XYPP   = 0.8F;
-    private float LIGHTNESS_ZYNP   = 0.95F;
-    private float LIGHTNESS_ZYPP   = 0.9F;
-    private float LIGHTNESS_XZPP   = 0.7F;
-    private float LIGHTNESS_XYZPPP = 0.9F;
-    private float LIGHTNESS_XYZPNP = 0.65F;
+    private static final float LIGHTNESS_XYNN   = 0.6F;
+    private static final float LIGHTNESS_XYPN   = 0.55F;
+    private static final float LIGHTNESS_ZYNN   = 0.7F;
+    private static final float LIGHTNESS_ZYPN   = 0.65F;
+    private static final float LIGHTNESS_XYNP   = 0.85F;
+    private static final float LIGHTNESS_XYPP   = 0.8F;
+    private static final float LIGHTNESS_ZYNP   = 0.95F;
+    private static final float LIGHTNESS_ZYPP   = 0.9F;
+    private static final float LIGHTNESS_XZPP   = 0.7F;
+    private static final float LIGHTNESS_XYZPPP = 0.9F;
+    private static final float LIGHTNESS_XYZPNP = 0.65F;
 
     /* Render Ids used for RenderHelper designation. */
 
-    private final int NORMAL_YN              = 0;
-    private final int NORMAL_YP              = 1;
-    private final int NORMAL_ZN              = 2;
-    private final int NORMAL_ZP              = 3;
-    private final int NORMAL_XN              = 4;
-    private final int NORMAL_XP              = 5;
-    private final int TRIANGLE_XZNN          = 6;
-    private final int TRIANGLE_XZNP          = 7;
-    private final int TRIANGLE_XZPP          = 8;
-    private final int TRIANGLE_XZPN          = 9;
-    private final int TRIANGLE_ZXNP          = 10;
-    private final int TRIANGLE_ZXNN          = 11;
-    private final int TRIANGLE_ZXPN          = 12;
-    private final int TRIANGLE_ZXPP          = 13;
-    private final int WEDGE_YN               = 14;
-    private final int WEDGE_YP               = 15;
-    private final int WEDGE_SLOPED_ZN        = 16;
-    private final int WEDGE_ZN               = 17;
-    private final int WEDGE_SLOPED_ZP        = 18;
-    private final int WEDGE_ZP               = 19;
-    private final int WEDGE_SLOPED_XN        = 20;
-    private final int WEDGE_XN               = 21;
-    private final int WEDGE_SLOPED_XP        = 22;
-    private final int WEDGE_XP               = 23;
-    private final int WEDGE_CORNER_SLOPED_ZN = 24;
-    private final int WEDGE_CORNER_SLOPED_ZP = 25;
-    private final int WEDGE_CORNER_SLOPED_XN = 26;
-    private final int WEDGE_CORNER_SLOPED_XP = 27;
-    private final int OBL_INT_YN             = 28;
-    private final int OBL_INT_YP             = 29;
-    private final int OBL_EXT_LEFT_YP        = 30;
-    private final int OBL_EXT_RIGHT_YP       = 31;
-    private final int OBL_EXT_LEFT_YN        = 32;
-    private final int OBL_EXT_RIGHT_YN       = 33;
-    private final int PRISM_YZNN             = 34;
-    private final int PRISM_YZNP             = 35;
-    private final int PRISM_YXNN             = 36;
-    private final int PRISM_YXNP             = 37;
-    private final int PRISM_YZPN             = 38;
-    private final int PRISM_YZPP             = 39;
-    private final int PRISM_YXPN             = 40;
-    private final int PRISM_YXPP             = 41;
-    private final int PRISM_NORTH_XN         = 42;
-    private final int PRISM_NORTH_XP         = 43;
-    private final int PRISM_SOUTH_XN         = 44;
-    private final int PRISM_SOUTH_XP         = 45;
-    private final int PRISM_WEST_ZN          = 46;
-    private final int PRISM_WEST_ZP          = 47;
-    private final int PRISM_EAST_ZN          = 48;
-    private final int PRISM_EAST_ZP          = 49;
-    private final int PRISM_WEDGE_ZN         = 50;
-    private final int PRISM_WEDGE_ZP         = 51;
-    private final int PRISM_WEDGE_XN         = 52;
-    private final int PRISM_WEDGE_XP         = 53;
+    private static final int NORMAL_YN        = 0;
+    private static final int NORMAL_YP        = 1;
+    private static final int NORMAL_ZN        = 2;
+    private static final int NORMAL_ZP        = 3;
+    private static final int NORMAL_XN        = 4;
+    private static final int NORMAL_XP        = 5;
+    private static final int TRIANGLE_XZNN    = 6;
+    private static final int TRIANGLE_XZNP    = 7;
+    private static final int TRIANGLE_XZPP    = 8;
+    private static final int TRIANGLE_XZPN    = 9;
+    private static final int TRIANGLE_ZXNP    = 10;
+    private static final int TRIANGLE_ZXNN    = 11;
+    private static final int TRIANGLE_ZXPN    = 12;
+    private static final int TRIANGLE_ZXPP    = 13;
+    private static final int WEDGE_YN         = 14;
+    private static final int WEDGE_YP         = 15;
+    private static final int WEDGE_ZN         = 16;
+    private static final int WEDGE_ZP         = 17;
+    private static final int WEDGE_XN         = 18;
+    private static final int WEDGE_XP         = 19;
+    private static final int OBL_INT_YN       = 20;
+    private static final int OBL_INT_YP       = 21;
+    private static final int OBL_EXT_LEFT_YP  = 22;
+    private static final int OBL_EXT_RIGHT_YP = 23;
+    private static final int OBL_EXT_LEFT_YN  = 24;
+    private static final int OBL_EXT_RIGHT_YN = 25;
+    private static final int SLOPED_PIECE     = 26;
+
+    /**
+     * A sloped face drawn for a slope, resolved once per slope ID
+     * so rendering only has to walk a fixed array.
+     * <p>
+     * Each piece holds the face template with its vertex layout, so
+     * drawing it only resolves bounds, lighting, color and icon UVs.
+     */
+    private static class SlopedPiece {
+
+        /** Whether draw mode changes before this piece. */
+        public final boolean startDrawing;
+
+        public final int drawMode;
+
+        /** Render bounds for piece, or null to keep current bounds. */
+        public final double[] bounds;
+
+        /** Whether lighting tables must be repopulated for piece bounds. */
+        public final boolean relight;
+
+        /** Wedge slope supplying lightness and ambient occlusion mapping. */
+        public final Slope lighting;
+
+        /** Vertex layout of face. */
+        public final FaceTemplate template;
+
+        public final int side;
+        public final boolean forceFullFrame;
+
+        public SlopedPiece(SlopedPiece prevPiece, int drawMode, double[] bounds, Slope lighting, FaceTemplate template, int side, boolean forceFullFrame)
+        {
+            this.startDrawing = prevPiece == null || prevPiece.drawMode != drawMode;
+            this.drawMode = drawMode;
+            this.bounds = bounds;
+            this.relight = prevPiece == null || bounds != null && !Arrays.equals(bounds, prevPiece.bounds);
+            this.lighting = lighting;
+            this.template = template;
+            this.side = side;
+            this.forceFullFrame = forceFullFrame;
+        }
+
+    }
+
+    /** Sloped pieces for wedge and prism slopes, indexed by slope ID. */
+    private final static SlopedPiece[][] slopedPieces;
+    static {
+        slopedPieces = new SlopedPiece[Slope.slopesList.length][];
+        for (Slope slope : Slope.slopesList) {
+            if (slope != null) {
+                slopedPieces[slope.slopeID] = getSlopedPieces(slope);
+            }
+        }
+    }
+
+    /**
+     * Appends piece to list, linking it to previous piece.
+     */
+    private static void addPiece(List<SlopedPiece> list, int drawMode, double[] bounds, Slope lighting, FaceTemplate template, int side, boolean forceFullFrame)
+    {
+        SlopedPiece prevPiece = list.isEmpty() ? null : list.get(list.size() - 1);
+        list.add(new SlopedPiece(prevPiece, drawMode, bounds, lighting, template, side, forceFullFrame));
+    }
+
+    /**
+     * Appends the two half pieces forming a prism point.
+     */
+    private static void addPrismPoint(List<SlopedPiece> list, ForgeDirection dir)
+    {
+        switch (dir) {
+            case NORTH:
+                addPiece(list, GL11.GL_TRIANGLES, new double[] { 0.0D, 0.0D, 0.0D, 0.5D, 0.5D, 0.5D }, Slope.WEDGE_POS_W, HelperPrism.getPointTemplate(ForgeDirection.NORTH, ForgeDirection.WEST), WEST, false);
+                addPiece(list, GL11.GL_TRIANGLES, new double[] { 0.5D, 0.0D, 0.0D, 1.0D, 0.5D, 0.5D }, Slope.WEDGE_POS_E, HelperPrism.getPointTemplate(ForgeDirection.NORTH, ForgeDirection.EAST), EAST, false);
+                break;
+            case SOUTH:
+                addPiece(list, GL11.GL_TRIANGLES, new double[] { 0.0D, 0.0D, 0.5D, 0.5D, 0.5D, 1.0D }, Slope.WEDGE_POS_W, HelperPrism.getPointTemplate(ForgeDirection.SOUTH, ForgeDirection.WEST), WEST, false);
+                addPiece(list, GL11.GL_TRIANGLES, new double[] { 0.5D, 0.0D, 0.5D, 1.0D, 0.5D, 1.0D }, Slope.WEDGE_POS_E, HelperPrism.getPointTemplate(ForgeDirection.SOUTH, ForgeDirection.EAST), EAST, false);
+                break;
+            case WEST:
+                addPiece(list, GL11.GL_TRIANGLES, new double[] { 0.0D, 0.0D, 0.0D, 0.5D, 0.5D, 0.5D }, Slope.WEDGE_POS_N, HelperPrism.getPointTemplate(ForgeDirection.WEST, ForgeDirection.NORTH), NORTH, false);
+                addPiece(list, GL11.GL_TRIANGLES, new double[] { 0.0D, 0.0D, 0.5D, 0.5D, 0.5D, 1.0D }, Slope.WEDGE_POS_S, HelperPrism.getPointTemplate(ForgeDirection.WEST, ForgeDirection.SOUTH), SOUTH, false);
+                break;
+            default: // EAST
+                addPiece(list, GL11.GL_TRIANGLES, new double[] { 0.5D, 0.0D, 0.0D, 1.0D, 0.5D, 0.5D }, Slope.WEDGE_POS_N, HelperPrism.getPointTemplate(ForgeDirection.EAST, ForgeDirection.NORTH), NORTH, false);
+                addPiece(list, GL11.GL_TRIANGLES, new double[] { 0.5D, 0.0D, 0.5D, 1.0D, 0.5D, 1.0D }, Slope.WEDGE_POS_S, HelperPrism.getPointTemplate(ForgeDirection.EAST, ForgeDirection.SOUTH), SOUTH, false);
+                break;
+        }
+    }
+
+    /**
+     * Resolves draw mode, bounds, lighting and face template
+     * for each sloped face of slope.
+     * <p>
+     * Oblique slopes use their own lighting and are not included.
+     */
+    private static SlopedPiece[] getSlopedPieces(Slope slope)
+    {
+        List<SlopedPiece> list = new ArrayList<SlopedPiece>();
+        boolean hasN = slope.facings.contains(ForgeDirection.NORTH);
+        boolean hasS = slope.facings.contains(ForgeDirection.SOUTH);
+        boolean hasW = slope.facings.contains(ForgeDirection.WEST);
+
+        switch (slope.getPrimaryType()) {
+            case WEDGE_SIDE:
+
+                if (hasN) {
+                    addPiece(list, GL11.GL_QUADS, null, slope, HelperOblWedge.getSlopeTemplate(ForgeDirection.NORTH, slope.slopeID), EAST, false);
+                } else {
+                    addPiece(list, GL11.GL_QUADS, null, slope, HelperOblWedge.getSlopeTemplate(ForgeDirection.SOUTH, slope.slopeID), WEST, false);
+                }
+
+                break;
+            case WEDGE:
+
+                if (hasN) {
+                    addPiece(list, GL11.GL_QUADS, null, slope, HelperOblWedge.getSlopeTemplate(ForgeDirection.NORTH, slope.slopeID), NORTH, false);
+                } else if (hasS) {
+                    addPiece(list, GL11.GL_QUADS, null, slope, HelperOblWedge.getSlopeTemplate(ForgeDirection.SOUTH, slope.slopeID), SOUTH, false);
+                } else if (hasW) {
+                    addPiece(list, GL11.GL_QUADS, null, slope, HelperOblWedge.getSlopeTemplate(ForgeDirection.WEST, slope.slopeID), WEST, false);
+                } else { // ForgeDirection.EAST
+                    addPiece(list, GL11.GL_QUADS, null, slope, HelperOblWedge.getSlopeTemplate(ForgeDirection.EAST, slope.slopeID), EAST, false);
+                }
+
+                break;
+            case WEDGE_INT:
+            case WEDGE_EXT:
+
+                if (hasW) {
+                    addPiece(list, GL11.GL_TRIANGLES, null, slope.isPositive ? Slope.WEDGE_POS_W : Slope.WEDGE_NEG_W, HelperCorner.getSlopeTemplate(ForgeDirection.WEST, slope.slopeID), WEST, false);
+                } else { // ForgeDirection.EAST
+                    addPiece(list, GL11.GL_TRIANGLES, null, slope.isPositive ? Slope.WEDGE_POS_E : Slope.WEDGE_NEG_E, HelperCorner.getSlopeTemplate(ForgeDirection.EAST, slope.slopeID), EAST, false);
+                }
+                if (hasN) {
+                    addPiece(list, GL11.GL_TRIANGLES, null, slope.isPositive ? Slope.WEDGE_POS_N : Slope.WEDGE_NEG_N, HelperCorner.getSlopeTemplate(ForgeDirection.NORTH, slope.slopeID), NORTH, false);
+                } else {
+                    addPiece(list, GL11.GL_TRIANGLES, null, slope.isPositive ? Slope.WEDGE_POS_S : Slope.WEDGE_NEG_S, HelperCorner.getSlopeTemplate(ForgeDirection.SOUTH, slope.slopeID), SOUTH, false);
+                }
+
+                break;
+            case PRISM:
+
+                if (hasN) {
+                    addPrismPoint(list, ForgeDirection.NORTH);
+                } else if (slope.isPositive) {
+                    addPiece(list, GL11.GL_TRIANGLES, new double[] { 0.0D, 0.0D, 0.0D, 1.0D, 0.5D, 0.5D }, Slope.WEDGE_POS_N, HelperPrism.getSlopeTemplate(ForgeDirection.NORTH, true), NORTH, false);
+                } else {
+                    addPiece(list, GL11.GL_TRIANGLES, new double[] { 0.0D, 0.5D, 0.0D, 1.0D, 1.0D, 0.5D }, Slope.WEDGE_NEG_N, HelperPrism.getSlopeTemplate(ForgeDirection.NORTH, false), NORTH, false);
+                }
+
+                if (hasS) {
+                    addPrismPoint(list, ForgeDirection.SOUTH);
+                } else if (slope.isPositive) {
+                    addPiece(list, GL11.GL_TRIANGLES, new double[] { 0.0D, 0.0D, 0.5D, 1.0D, 0.5D, 1.0D }, Slope.WEDGE_POS_S, HelperPrism.getSlopeTemplate(ForgeDirection.SOUTH, true), SOUTH, false);
+                } else {
+                    addPiece(list, GL11.GL_TRIANGLES, new double[] { 0.0D, 0.5D, 0.5D, 1.0D, 1.0D, 1.0D }, Slope.WEDGE_NEG_S, HelperPrism.getSlopeTemplate(ForgeDirection.SOUTH, false), SOUTH, false);
+                }
+
+                if (hasW) {
+                    addPrismPoint(list, ForgeDirection.WEST);
+                } else if (slope.isPositive) {
+                    addPiece(list, GL11.GL_TRIANGLES, new double[] { 0.0D, 0.0D, 0.0D, 0.5D, 0.5D, 1.0D }, Slope.WEDGE_POS_W, HelperPrism.getSlopeTemplate(ForgeDirection.WEST, true), WEST, false);
+                } else {
+                    addPiece(list, GL11.GL_TRIANGLES, new double[] { 0.0D, 0.5D, 0.0D, 0.5D, 1.0D, 1.0D }, Slope.WEDGE_NEG_W, HelperPrism.getSlopeTemplate(ForgeDirection.WEST, false), WEST, false);
+                }
+
+                if (slope.facings.contains(ForgeDirection.EAST)) {
+                    addPrismPoint(list, ForgeDirection.EAST);
+                } else if (slope.isPositive) {
+                    addPiece(list, GL11.GL_TRIANGLES, new double[] { 0.5D, 0.0D, 0.0D, 1.0D, 0.5D, 1.0D }, Slope.WEDGE_POS_E, HelperPrism.getSlopeTemplate(ForgeDirection.EAST, true), EAST, false);
+                } else {
+                    addPiece(list, GL11.GL_TRIANGLES, new double[] { 0.5D, 0.5D, 0.0D, 1.0D, 1.0D, 1.0D }, Slope.WEDGE_NEG_E, HelperPrism.getSlopeTemplate(ForgeDirection.EAST, false), EAST, false);
+                }
+
+                break;
+            case PRISM_WEDGE:
+
+                double[] fullBounds = new double[] { 0.0D, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D };
+
+                if (hasN) {
+                    addPrismPoint(list, ForgeDirection.NORTH);
+                    addPiece(list, GL11.GL_QUADS, fullBounds, Slope.WEDGE_POS_N, HelperOblWedge.getSlopeTemplate(ForgeDirection.NORTH, Slope.ID_WEDGE_POS_N), NORTH, true);
+                } else if (hasS) {
+                    addPrismPoint(list, ForgeDirection.SOUTH);
+                    addPiece(list, GL11.GL_QUADS, fullBounds, Slope.WEDGE_POS_S, HelperOblWedge.getSlopeTemplate(ForgeDirection.SOUTH, Slope.ID_WEDGE_POS_S), SOUTH, true);
+                } else if (hasW) {
+                    addPrismPoint(list, ForgeDirection.WEST);
+                    addPiece(list, GL11.GL_QUADS, fullBounds, Slope.WEDGE_POS_W, HelperOblWedge.getSlopeTemplate(ForgeDirection.WEST, Slope.ID_WEDGE_POS_W), WEST, true);
+                } else { // ForgeDirection.EAST
+                    addPrismPoint(list, ForgeDirection.EAST);
+                    addPiece(list, GL11.GL_QUADS, fullBounds, Slope.WEDGE_POS_E, HelperOblWedge.getSlopeTemplate(ForgeDirection.EAST, Slope.ID_WEDGE_POS_E), EAST, true);
+                }
+
+                break;
+            default:
+                break;
+        }
+
+        return list.toArray(new SlopedPiece[list.size()]);
+    }
 
     @Override
     public void renderInventoryBlock(Block block, int metadata, int modelID, RenderBlocks renderBlocks)
@@ -233,17 +408,20 @@ public class BlockHandlerCarpentersSlope extends BlockHandlerSloped {
 
     private boolean forceFullFrame = false;
 
+    /** Template drawn for {@link #SLOPED_PIECE}. */
+    private FaceTemplate pieceTemplate;
+
     @Override
     /**
      * Override to provide custom icons.
      */
     protected IIcon getUniqueIcon(ItemStack itemStack, int side, IIcon icon)
     {
-        if (isSideSloped)
+        if (renderContext.isSideSloped)
         {
             Block block = BlockProperties.toBlock(itemStack);
             Slope slope = Slope.slopesList[TE.getData()];
-            int metadata = itemStack.getItemDamage();
+            int metadata = BlockProperties.getRenderMetadata(itemStack);
 
             if (!TE.hasAttribute(TE.ATTR_COVER[6])) {
 
@@ -308,6 +486,9 @@ public class BlockHandlerCarpentersSlope extends BlockHandlerSloped {
 
         switch (renderID)
         {
+            case SLOPED_PIECE:
+                pieceTemplate.render(renderBlocks, x, y, z, icon);
+                break;
             case NORMAL_YN:
                 RenderHelper.renderFaceYNeg(renderBlocks, x, y, z, icon);
                 break;
@@ -356,42 +537,18 @@ public class BlockHandlerCarpentersSlope extends BlockHandlerSloped {
             case WEDGE_YP:
                 HelperOrthoWedge.renderFaceYPos(renderBlocks, slopeID, x, y, z, icon);
                 break;
-            case WEDGE_SLOPED_ZN:
-                HelperOblWedge.renderSlopeZNeg(renderBlocks, slopeID, x, y, z, icon);
-                break;
             case WEDGE_ZN:
                 HelperOrthoWedge.renderFaceZNeg(renderBlocks, slopeID, x, y, z, icon);
                 break;
-            case WEDGE_SLOPED_ZP:
-                HelperOblWedge.renderSlopeZPos(renderBlocks, slopeID, x, y, z, icon);
-                break;
             case WEDGE_ZP:
                 HelperOrthoWedge.renderFaceZPos(renderBlocks, slopeID, x, y, z, icon);
                 break;
-            case WEDGE_SLOPED_XN:
-                HelperOblWedge.renderSlopeXNeg(renderBlocks, slopeID, x, y, z, icon);
-                break;
             case WEDGE_XN:
                 HelperOrthoWedge.renderFaceXNeg(renderBlocks, slopeID, x, y, z, icon);
                 break;
-            case WEDGE_SLOPED_XP:
-                HelperOblWedge.renderSlopeXPos(renderBlocks, slopeID, x, y, z, icon);
-                break;
             case WEDGE_XP:
                 HelperOrthoWedge.renderFaceXPos(renderBlocks, slopeID, x, y, z, icon);
                 break;
-            case WEDGE_CORNER_SLOPED_ZN:
-                HelperCorner.renderSlopeZNeg(renderBlocks, slopeID, x, y, z, icon);
-                break;
-            case WEDGE_CORNER_SLOPED_ZP:
-                HelperCorner.renderSlopeZPos(renderBlocks, slopeID, x, y, z, icon);
-                break;
-            case WEDGE_CORNER_SLOPED_XN:
-                HelperCorner.renderSlopeXNeg(renderBlocks, slopeID, x, y, z, icon);
-                break;
-            case WEDGE_CORNER_SLOPED_XP:
-                HelperCorner.renderSlopeXPos(renderBlocks, slopeID, x, y, z, icon);
-                break;
             case OBL_INT_YN:
                 HelperOblique.renderIntObliqueYNeg(renderBlocks, slopeID, x, y, z, icon);
                 break;
@@ -410,66 +567,6 @@ public class BlockHandlerCarpentersSlope extends BlockHandlerSloped {
             case OBL_EXT_RIGHT_YN:
                 HelperOblique.renderExtObliqueYNegRight(renderBlocks, slopeID, x, y, z, icon);
                 break;
-            case PRISM_YZNN:
-                HelperPrism.renderSlopeYNegZNeg(renderBlocks, x, y, z, icon);
-                break;
-            case PRISM_YZNP:
-                HelperPrism.renderSlopeYNegZPos(renderBlocks, x, y, z, icon);
-                break;
-            case PRISM_YXNN:
-                HelperPrism.renderSlopeYNegXNeg(renderBlocks, x, y, z, icon);
-                break;
-            case PRISM_YXNP:
-                HelperPrism.renderSlopeYNegXPos(renderBlocks, x, y, z, icon);
-                break;
-            case PRISM_YZPN:
-                HelperPrism.renderSlopeYPosZNeg(renderBlocks, x, y, z, icon);
-                break;
-            case PRISM_YZPP:
-                HelperPrism.renderSlopeYPosZPos(renderBlocks, x, y, z, icon);
-                break;
-            case PRISM_YXPN:
-                HelperPrism.renderSlopeYPosXNeg(renderBlocks, x, y, z, icon);
-                break;
-            case PRISM_YXPP:
-                HelperPrism.renderSlopeYPosXPos(renderBlocks, x, y, z, icon);
-                break;
-            case PRISM_NORTH_XN:
-                HelperPrism.renderNorthPointSlopeXNeg(renderBlocks, x, y, z, icon);
-                break;
-            case PRISM_NORTH_XP:
-                HelperPrism.renderNorthPointSlopeXPos(renderBlocks, x, y, z, icon);
-                break;
-            case PRISM_SOUTH_XN:
-                HelperPrism.renderSouthPointSlopeXNeg(renderBlocks, x, y, z, icon);
-                break;
-            case PRISM_SOUTH_XP:
-                HelperPrism.renderSouthPointSlopeXPos(renderBlocks, x, y, z, icon);
-                break;
-            case PRISM_WEST_ZN:
-                HelperPrism.renderWestPointSlopeZNeg(renderBlocks, x, y, z, icon);
-                break;
-            case PRISM_WEST_ZP:
-                HelperPrism.renderWestPointSlopeZPos(renderBlocks, x, y, z, icon);
-                break;
-            case PRISM_EAST_ZN:
-                HelperPrism.renderEastPointSlopeZNeg(renderBlocks, x, y, z, icon);
-                break;
-            case PRISM_EAST_ZP:
-                HelperPrism.renderEastPointSlopeZPos(renderBlocks, x, y, z, icon);
-                break;
-            case PRISM_WEDGE_ZN:
-                HelperPrism.renderWedgeSlopeZNeg(renderBlocks, x, y, z, icon);
-                break;
-            case PRISM_WEDGE_ZP:
-                HelperPrism.renderWedgeSlopeZPos(renderBlocks, x, y, z, icon);
-                break;
-            case PRISM_WEDGE_XN:
-                HelperPrism.renderWedgeSlopeXNeg(renderBlocks, x, y, z, icon);
-                break;
-            case PRISM_WEDGE_XP:
-                HelperPrism.renderWedgeSlopeXPos(renderBlocks, x, y, z, icon);
-                break;
         }
     }
 
@@ -485,38 +582,21 @@ public class BlockHandlerCarpentersSlope extends BlockHandlerSloped {
 
         /* Render sloped faces. */
 
-        isSideSloped = true;
+        renderContext.isSideSloped = true;
 
         switch (slope.getPrimaryType()) {
-            case WEDGE_SIDE:
-                prepareHorizontalWedge(itemStack, slope, x, y, z);
-                break;
-            case WEDGE:
-                prepareVerticalWedge(itemStack, slope, x, y, z);
-                break;
-            case WEDGE_INT:
-                prepareWedgeIntCorner(itemStack, slope, x, y, z);
-                break;
-            case WEDGE_EXT:
-                prepareWedgeExtCorner(itemStack, slope, x, y, z);
-                break;
             case OBLIQUE_INT:
                 prepareObliqueIntCorner(itemStack, slope, x, y, z);
                 break;
             case OBLIQUE_EXT:
                 prepareObliqueExtCorner(itemStack, slope, x, y, z);
                 break;
-            case PRISM:
-                preparePrism(itemStack, slope, x, y, z);
-                break;
-            case PRISM_WEDGE:
-                preparePrismWedge(itemStack, slope, x, y, z);
-                break;
             default:
+                renderSlopedPieces(itemStack, slope, x, y, z);
                 break;
         }
 
-        isSideSloped = false;
+        renderContext.isSideSloped = false;
 
         lightingHelper.clearLightnessOverride();
 
@@ -549,230 +629,46 @@ public class BlockHandlerCarpentersSlope extends BlockHandlerSloped {
     @Override
     protected boolean isPositiveFace(int side)
     {
-        return super.isPositiveFace(side) || isSideSloped && Slope.slopesList[TE.getData()].isPositive;
+        return super.isPositiveFace(side) || renderContext.isSideSloped && Slope.slopesList[TE.getData()].isPositive;
     }
 
     /**
-     * Will set lighting and render prism sloped faces.
+     * Will set lighting and render sloped faces from the
+     * precomputed pieces for wedge and prism slopes.
      */
-    private void preparePrism(ItemStack itemStack, Slope slope, int x, int y, int z)
+    private void renderSlopedPieces(ItemStack itemStack, Slope slope, int x, int y, int z)
     {
-        int POINT_N = 0;
-        int POINT_S = 1;
-        int POINT_W = 2;
-        int POINT_E = 3;
-
-        List<Integer> pieceList = new ArrayList<Integer>();
-
-        /* Add prism pieces. */
-
-        if (slope.facings.contains(ForgeDirection.NORTH)) {
-            pieceList.add(POINT_N);
-        }
-        if (slope.facings.contains(ForgeDirection.SOUTH)) {
-            pieceList.add(POINT_S);
-        }
-        if (slope.facings.contains(ForgeDirection.WEST)) {
-            pieceList.add(POINT_W);
-        }
-        if (slope.facings.contains(ForgeDirection.EAST)) {
-            pieceList.add(POINT_E);
-        }
-
-        /* Begin rendering sloped pieces. */
-
-        VertexHelper.startDrawing(GL11.GL_TRIANGLES);
-
-        if (pieceList.contains(POINT_N)) {
-
-            renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 0.5D, 0.5D, 0.5D);
-            setWedgeLighting(itemStack, Slope.WEDGE_POS_W);
-            setIDAndRender(itemStack, PRISM_NORTH_XN, x, y, z, WEST);
-            renderBlocks.setRenderBounds(0.5D, 0.0D, 0.0D, 1.0D, 0.5D, 0.5D);
-            setWedgeLighting(itemStack, Slope.WEDGE_POS_E);
-            setIDAndRender(itemStack, PRISM_NORTH_XP, x, y, z, EAST);
-
-        } else {
+        for (SlopedPiece piece : slopedPieces[slope.slopeID]) {
 
-            if (slope.isPositive) {
-                renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, 0.5D, 0.5D);
-                setWedgeLighting(itemStack, Slope.WEDGE_POS_N);
-                setIDAndRender(itemStack, PRISM_YZPN, x, y, z, NORTH);
-            } else {
-                renderBlocks.setRenderBounds(0.0D, 0.5D, 0.0D, 1.0D, 1.0D, 0.5D);
-                setWedgeLighting(itemStack, Slope.WEDGE_NEG_N);
-                setIDAndRender(itemStack, PRISM_YZNN, x, y, z, NORTH);
+            if (piece.startDrawing) {
+                VertexHelper.startDrawing(piece.drawMode);
             }
-
-        }
-
-        if (pieceList.contains(POINT_S)) {
-
-            renderBlocks.setRenderBounds(0.0D, 0.0D, 0.5D, 0.5D, 0.5D, 1.0D);
-            setWedgeLighting(itemStack, Slope.WEDGE_POS_W);
-            setIDAndRender(itemStack, PRISM_SOUTH_XN, x, y, z, WEST);
-            renderBlocks.setRenderBounds(0.5D, 0.0D, 0.5D, 1.0D, 0.5D, 1.0D);
-            setWedgeLighting(itemStack, Slope.WEDGE_POS_E);
-            setIDAndRender(itemStack, PRISM_SOUTH_XP, x, y, z, EAST);
-
-        } else {
-
-            if (slope.isPositive) {
-                renderBlocks.setRenderBounds(0.0D, 0.0D, 0.5D, 1.0D, 0.5D, 1.0D);
-                setWedgeLighting(itemStack, Slope.WEDGE_POS_S);
-                setIDAndRender(itemStack, PRISM_YZPP, x, y, z, SOUTH);
-            } else {
-                renderBlocks.setRenderBounds(0.0D, 0.5D, 0.5D, 1.0D, 1.0D, 1.0D);
-                setWedgeLighting(itemStack, Slope.WEDGE_NEG_S);
-                setIDAndRender(itemStack, PRISM_YZNP, x, y, z, SOUTH);
+            if (piece.bounds != null) {
+                renderBlocks.setRenderBounds(piece.bounds[0], piece.bounds[1], piece.bounds[2], piece.bounds[3], piece.bounds[4], piece.bounds[5]);
             }
-
-        }
-
-        if (pieceList.contains(POINT_W)) {
-
-            renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 0.5D, 0.5D, 0.5D);
-            setWedgeLighting(itemStack, Slope.WEDGE_POS_N);
-            setIDAndRender(itemStack, PRISM_WEST_ZN, x, y, z, NORTH);
-            renderBlocks.setRenderBounds(0.0D, 0.0D, 0.5D, 0.5D, 0.5D, 1.0D);
-            setWedgeLighting(itemStack, Slope.WEDGE_POS_S);
-            setIDAndRender(itemStack, PRISM_WEST_ZP, x, y, z, SOUTH);
-
-        } else {
-
-            if (slope.isPositive) {
-                renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 0.5D, 0.5D, 1.0D);
-                setWedgeLighting(itemStack, Slope.WEDGE_POS_W);
-                setIDAndRender(itemStack, PRISM_YXPN, x, y, z, WEST);
-            } else {
-                renderBlocks.setRenderBounds(0.0D, 0.5D, 0.0D, 0.5D, 1.0D, 1.0D);
-                setWedgeLighting(itemStack, Slope.WEDGE_NEG_W);
-                setIDAndRender(itemStack, PRISM_YXNN, x, y, z, WEST);
+            if (piece.relight) {
+                prepareLighting(itemStack);
             }
 
-        }
-
-        if (pieceList.contains(POINT_E)) {
-
-            renderBlocks.setRenderBounds(0.5D, 0.0D, 0.0D, 1.0D, 0.5D, 0.5D);
-            setWedgeLighting(itemStack, Slope.WEDGE_POS_N);
-            setIDAndRender(itemStack, PRISM_EAST_ZN, x, y, z, NORTH);
-            renderBlocks.setRenderBounds(0.5D, 0.0D, 0.5D, 1.0D, 0.5D, 1.0D);
-            setWedgeLighting(itemStack, Slope.WEDGE_POS_S);
-            setIDAndRender(itemStack, PRISM_EAST_ZP, x, y, z, SOUTH);
-
-        } else {
-
-            if (slope.isPositive) {
-                renderBlocks.setRenderBounds(0.5D, 0.0D, 0.0D, 1.0D, 0.5D, 1.0D);
-                setWedgeLighting(itemStack, Slope.WEDGE_POS_E);
-                setIDAndRender(itemStack, PRISM_YXPP, x, y, z, EAST);
-            } else {
-                renderBlocks.setRenderBounds(0.5D, 0.5D, 0.0D, 1.0D, 1.0D, 1.0D);
-                setWedgeLighting(itemStack, Slope.WEDGE_NEG_E);
-                setIDAndRender(itemStack, PRISM_YXNP, x, y, z, EAST);
-            }
+            setWedgeLighting(piece.lighting);
+            forceFullFrame = piece.forceFullFrame;
+            pieceTemplate = piece.template;
+            setIDAndRender(itemStack, SLOPED_PIECE, x, y, z, piece.side);
 
         }
-    }
-
-    /**
-     * Will set lighting and render prism wedge sloped faces.
-     */
-    private void preparePrismWedge(ItemStack itemStack, Slope slope, int x, int y, int z)
-    {
-        switch (slope.slopeID) {
-            case Slope.ID_PRISM_WEDGE_POS_N:
-
-                VertexHelper.startDrawing(GL11.GL_TRIANGLES);
-
-                renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 0.5D, 0.5D, 0.5D);
-                setWedgeLighting(itemStack, Slope.WEDGE_POS_W);
-                setIDAndRender(itemStack, PRISM_NORTH_XN, x, y, z, WEST);
-                renderBlocks.setRenderBounds(0.5D, 0.0D, 0.0D, 1.0D, 0.5D, 0.5D);
-                setWedgeLighting(itemStack, Slope.WEDGE_POS_E);
-                setIDAndRender(itemStack, PRISM_NORTH_XP, x, y, z, EAST);
-
-                VertexHelper.startDrawing(GL11.GL_QUADS);
-
-                forceFullFrame = true;
-                renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D);
-                setWedgeLighting(itemStack, Slope.WEDGE_POS_N);
-                setIDAndRender(itemStack, PRISM_WEDGE_ZN, x, y, z, NORTH);
-                forceFullFrame = false;
-
-                break;
-            case Slope.ID_PRISM_WEDGE_POS_S:
-
-                VertexHelper.startDrawing(GL11.GL_TRIANGLES);
-
-                renderBlocks.setRenderBounds(0.0D, 0.0D, 0.5D, 0.5D, 0.5D, 1.0D);
-                setWedgeLighting(itemStack, Slope.WEDGE_POS_W);
-                setIDAndRender(itemStack, PRISM_SOUTH_XN, x, y, z, WEST);
-                renderBlocks.setRenderBounds(0.5D, 0.0D, 0.5D, 1.0D, 0.5D, 1.0D);
-                setWedgeLighting(itemStack, Slope.WEDGE_POS_E);
-                setIDAndRender(itemStack, PRISM_SOUTH_XP, x, y, z, EAST);
-
-                VertexHelper.startDrawing(GL11.GL_QUADS);
-
-                forceFullFrame = true;
-                renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D);
-                setWedgeLighting(itemStack, Slope.WEDGE_POS_S);
-                setIDAndRender(itemStack, PRISM_WEDGE_ZP, x, y, z, SOUTH);
-                forceFullFrame = false;
-
-                break;
-            case Slope.ID_PRISM_WEDGE_POS_W:
 
-                VertexHelper.startDrawing(GL11.GL_TRIANGLES);
-
-                renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 0.5D, 0.5D, 0.5D);
-                setWedgeLighting(itemStack, Slope.WEDGE_POS_N);
-                setIDAndRender(itemStack, PRISM_WEST_ZN, x, y, z, NORTH);
-                renderBlocks.setRenderBounds(0.0D, 0.0D, 0.5D, 0.5D, 0.5D, 1.0D);
-                setWedgeLighting(itemStack, Slope.WEDGE_POS_S);
-                setIDAndRender(itemStack, PRISM_WEST_ZP, x, y, z, SOUTH);
-
-                VertexHelper.startDrawing(GL11.GL_QUADS);
-
-                forceFullFrame = true;
-                renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D);
-                setWedgeLighting(itemStack, Slope.WEDGE_POS_W);
-                setIDAndRender(itemStack, PRISM_WEDGE_XN, x, y, z, WEST);
-                forceFullFrame = false;
-
-                break;
-            case Slope.ID_PRISM_WEDGE_POS_E:
-
-                VertexHelper.startDrawing(GL11.GL_TRIANGLES);
-
-                renderBlocks.setRenderBounds(0.5D, 0.0D, 0.0D, 1.0D, 0.5D, 0.5D);
-                setWedgeLighting(itemStack, Slope.WEDGE_POS_N);
-                setIDAndRender(itemStack, PRISM_EAST_ZN, x, y, z, NORTH);
-                renderBlocks.setRenderBounds(0.5D, 0.0D, 0.5D, 1.0D, 0.5D, 1.0D);
-                setWedgeLighting(itemStack, Slope.WEDGE_POS_S);
-                setIDAndRender(itemStack, PRISM_EAST_ZP, x, y, z, SOUTH);
-
-                VertexHelper.startDrawing(GL11.GL_QUADS);
-
-                forceFullFrame = true;
-                renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D);
-                setWedgeLighting(itemStack, Slope.WEDGE_POS_E);
-                setIDAndRender(itemStack, PRISM_WEDGE_XP, x, y, z, EAST);
-                forceFullFrame = false;
-
-                break;
-        }
+        forceFullFrame = false;
+        pieceTemplate = null;
     }
 
     /**
      * Will set lighting for wedge sloped faces.  Many slope types
      * make use of these lighting parameters in addition to wedges.
+     * <p>
+     * Lighting tables must already be populated by {@link #prepareLighting}.
      */
-    private void setWedgeLighting(ItemStack itemStack, Slope slope)
+    private void setWedgeLighting(Slope slope)
     {
-        prepareLighting(itemStack);
-
         World world = TE.getWorldObj();
 
         boolean solid_YP = world.isSideSolid(TE.xCoord, TE.yCoord + 1, TE.zCoord, ForgeDirection.DOWN);
@@ -1010,86 +906,6 @@ public class BlockHandlerCarpentersSlope extends BlockHandlerSloped {
         }
     }
 
-    private void prepareHorizontalWedge(ItemStack itemStack, Slope slope, int x, int y, int z)
-    {
-        VertexHelper.startDrawing(GL11.GL_QUADS);
-
-        setWedgeLighting(itemStack, slope);
-
-        if (slope.facings.contains(ForgeDirection.NORTH)) {
-            setIDAndRender(itemStack, WEDGE_SLOPED_ZN, x, y, z, EAST);
-        } else {
-            setIDAndRender(itemStack, WEDGE_SLOPED_ZP, x, y, z, WEST);
-        }
-    }
-
-    private void prepareVerticalWedge(ItemStack itemStack, Slope slope, int x, int y, int z)
-    {
-        VertexHelper.startDrawing(GL11.GL_QUADS);
-
-        setWedgeLighting(itemStack, slope);
-
-        if (slope.facings.contains(ForgeDirection.NORTH)) {
-            setIDAndRender(itemStack, WEDGE_SLOPED_ZN, x, y, z, NORTH);
-        } else if (slope.facings.contains(ForgeDirection.SOUTH)) {
-            setIDAndRender(itemStack, WEDGE_SLOPED_ZP, x, y, z, SOUTH);
-        } else if (slope.facings.contains(ForgeDirection.WEST)) {
-            setIDAndRender(itemStack, WEDGE_SLOPED_XN, x, y, z, WEST);
-        } else { // ForgeDirection.EAST
-            setIDAndRender(itemStack, WEDGE_SLOPED_XP, x, y, z, EAST);
-        }
-    }
-
-    private void prepareWedgeIntCorner(ItemStack itemStack, Slope slope, int x, int y, int z)
-    {
-        VertexHelper.startDrawing(GL11.GL_TRIANGLES);
-
-        Slope slopeX = slope.facings.contains(ForgeDirection.WEST) ? slope.isPositive ? Slope.WEDGE_POS_W : Slope.WEDGE_NEG_W : slope.isPositive ? Slope.WEDGE_POS_E : Slope.WEDGE_NEG_E;
-
-        setWedgeLighting(itemStack, slopeX);
-
-        if (slopeX.facings.contains(ForgeDirection.WEST)) {
-            setIDAndRender(itemStack, WEDGE_CORNER_SLOPED_XN, x, y, z, WEST);
-        } else { // ForgeDirection.EAST
-            setIDAndRender(itemStack, WEDGE_CORNER_SLOPED_XP, x, y, z, EAST);
-        }
-
-        Slope slopeZ = slope.facings.contains(ForgeDirection.NORTH) ? slope.isPositive ? Slope.WEDGE_POS_N : Slope.WEDGE_NEG_N : slope.isPositive ? Slope.WEDGE_POS_S : Slope.WEDGE_NEG_S;
-
-        setWedgeLighting(itemStack, slopeZ);
-
-        if (slope.facings.contains(ForgeDirection.NORTH)) {
-            setIDAndRender(itemStack, WEDGE_CORNER_SLOPED_ZN, x, y, z, NORTH);
-        } else {
-            setIDAndRender(itemStack, WEDGE_CORNER_SLOPED_ZP, x, y, z, SOUTH);
-        }
-    }
-
-    private void prepareWedgeExtCorner(ItemStack itemStack, Slope slope, int x, int y, int z)
-    {
-        VertexHelper.startDrawing(GL11.GL_TRIANGLES);
-
-        Slope slopeX = slope.facings.contains(ForgeDirection.WEST) ? slope.isPositive ? Slope.WEDGE_POS_W : Slope.WEDGE_NEG_W : slope.isPositive ? Slope.WEDGE_POS_E : Slope.WEDGE_NEG_E;
-
-        setWedgeLighting(itemStack, slopeX);
-
-        if (slopeX.facings.contains(ForgeDirection.WEST)) {
-            setIDAndRender(itemStack, WEDGE_CORNER_SLOPED_XN, x, y, z, WEST);
-        } else { // ForgeDirection.EAST
-            setIDAndRender(itemStack, WEDGE_CORNER_SLOPED_XP, x, y, z, EAST);
-        }
-
-        Slope slopeZ = slope.facings.contains(ForgeDirection.NORTH) ? slope.isPositive ? Slope.WEDGE_POS_N : Slope.WEDGE_NEG_N : slope.isPositive ? Slope.WEDGE_POS_S : Slope.WEDGE_NEG_S;
-
-        setWedgeLighting(itemStack, slopeZ);
-
-        if (slope.facings.contains(ForgeDirection.NORTH)) {
-            setIDAndRender(itemStack, WEDGE_CORNER_SLOPED_ZN, x, y, z, NORTH);
-        } else {
-            setIDAndRender(itemStack, WEDGE_CORNER_SLOPED_ZP, x, y, z, SOUTH);
-        }
-    }
-
     private void prepareObliqueIntCorner(ItemStack itemStack, Slope slope, int x, int y, int z)
     {
         VertexHelper.startDrawing(GL11.GL_TRIANGLES);
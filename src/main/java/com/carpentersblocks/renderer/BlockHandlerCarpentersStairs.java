@@ -30,21 +30,15 @@ public class BlockHandlerCarpentersStairs extends BlockHandlerBase {
     {
         ItemStack itemStack = getCoverForRendering();
 
-        Stairs stairs = Stairs.stairsList[TE.getData()];
-        StairsUtil stairsUtil = new StairsUtil();
+        float[] boxes = StairsUtil.getBoxes(Stairs.stairsList[TE.getData()]);
 
         BlockCarpentersStairs blockRef = (BlockCarpentersStairs) BlockRegistry.blockCarpentersStairs;
 
-        for (int box = 0; box < 3; ++box)
+        for (int idx = 0; idx < boxes.length; idx += 6)
         {
-            float[] bounds = stairsUtil.genBounds(box, stairs);
-
-            if (bounds != null)
-            {
-                blockRef.setBlockBounds(bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5]);
-                renderBlocks.setRenderBounds(bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5]);
-                renderBlock(itemStack, x, y, z);
-            }
+            blockRef.setBlockBounds(boxes[idx], boxes[idx + 1], boxes[idx + 2], boxes[idx + 3], boxes[idx + 4], boxes[idx + 5]);
+            renderBlocks.setRenderBounds(boxes[idx], boxes[idx + 1], boxes[idx + 2], boxes[idx + 3], boxes[idx + 4], boxes[idx + 5]);
+            renderBlock(itemStack, x, y, z);
         }
     }
 
@@ -54,30 +48,29 @@ public class BlockHandlerCarpentersStairs extends BlockHandlerBase {
      */
     protected void renderSideBlocks(int x, int y, int z)
     {
+        int sideCovers = TE.getSideCoverMask();
+
+        if (sideCovers == 0) {
+            return;
+        }
+
         renderBlocks.renderAllFaces = true;
 
         Stairs stairs = Stairs.stairsList[TE.getData()];
-        StairsUtil stairsUtil = new StairsUtil();
+        float[] boxes = StairsUtil.getBoxes(stairs);
 
-        for (int box = 0; box < 3; ++box)
+        for (int idx = 0; idx < boxes.length; idx += 6)
         {
-            float[] bounds = stairsUtil.genBounds(box, stairs);
-
-            if (bounds != null)
+            for (int mask = sideCovers; mask != 0; mask &= mask - 1)
             {
-                for (int side = 0; side < 6; ++side)
-                {
-                    coverRendering = side;
+                int side = Integer.numberOfTrailingZeros(mask);
+                coverRendering = side;
 
-                    if (TE.hasAttribute(TE.ATTR_COVER[side]))
-                    {
-                        renderBlocks.setRenderBounds(bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5]);
-                        int[] renderOffset = getSideCoverRenderBounds(x, y, z, side);
+                renderBlocks.setRenderBounds(boxes[idx], boxes[idx + 1], boxes[idx + 2], boxes[idx + 3], boxes[idx + 4], boxes[idx + 5]);
+                int[] renderOffset = getSideCoverRenderBounds(x, y, z, side);
 
-                        if (clipSideCoverBoundsBasedOnState(stairs.stairsID, box, side)) {
-                            renderBlock(getCoverForRendering(), renderOffset[0], renderOffset[1], renderOffset[2]);
-                        }
-                    }
+                if (clipSideCoverBoundsBasedOnState(stairs.stairsID, idx / 6, side)) {
+                    renderBlock(getCoverForRendering(), renderOffset[0], renderOffset[1], renderOffset[2]);
                 }
             }
         }
@@ -43,6 +43,16 @@ public class BlockHandlerCarpentersTorch extends BlockHandlerBase {
         }
     }
 
+    @Override
+    /**
+     * Returns mask of render passes in which block has geometry.
+     * Lantern glass is drawn in both passes.
+     */
+    protected int getRenderPassMask()
+    {
+        return PASS_MASK_ALL;
+    }
+
     @Override
     /**
      * Renders block
@@ -27,6 +27,16 @@ public class BlockHandlerHinged extends BlockHandlerBase {
             { 0.90625D, 0.0D, 0.0D, 0.90625D, 1.0D, 1.0D }
     };
 
+    @Override
+    /**
+     * Returns mask of render passes in which block has geometry.
+     * Glass panes are drawn in both passes.
+     */
+    protected int getRenderPassMask()
+    {
+        return PASS_MASK_ALL;
+    }
+
     /**
      * Renders pane like glass or screen.
      * <p>
@@ -12,9 +12,6 @@ import cpw.mods.fml.relauncher.SideOnly;
 @SideOnly(Side.CLIENT)
 public abstract class BlockHandlerSloped extends BlockHandlerBase {
 
-    /** Returns whether side is sloped face. */
-    public static boolean isSideSloped;
-
     /** Identifies which render helper to use. */
     protected int renderID = 0;
 
@@ -51,6 +48,21 @@ public abstract class BlockHandlerSloped extends BlockHandlerBase {
         }
     }
 
+    /**
+     * Copies ambient occlusion and brightness for current side into tables.
+     */
+    private void storeLighting(float[] aoTable, int[] brightnessTable)
+    {
+        aoTable[0] = lightingHelper.ao[TOP_LEFT];
+        aoTable[1] = lightingHelper.ao[BOTTOM_LEFT];
+        aoTable[2] = lightingHelper.ao[BOTTOM_RIGHT];
+        aoTable[3] = lightingHelper.ao[TOP_RIGHT];
+        brightnessTable[0] = renderBlocks.brightnessTopLeft;
+        brightnessTable[1] = renderBlocks.brightnessBottomLeft;
+        brightnessTable[2] = renderBlocks.brightnessBottomRight;
+        brightnessTable[3] = renderBlocks.brightnessTopRight;
+    }
+
     /**
      * Fills ambient occlusion and brightness tables.
      */
@@ -62,8 +74,7 @@ public abstract class BlockHandlerSloped extends BlockHandlerBase {
                 lightingHelper.setupLightingYNeg(itemStack, TE.xCoord, TE.yCoord, TE.zCoord);
 
                 if (renderBlocks.enableAO) {
-                    ao[DOWN] = new float[] { lightingHelper.ao[TOP_LEFT], lightingHelper.ao[BOTTOM_LEFT], lightingHelper.ao[BOTTOM_RIGHT], lightingHelper.ao[TOP_RIGHT] };
-                    brightness[DOWN] = new int[] { renderBlocks.brightnessTopLeft, renderBlocks.brightnessBottomLeft, renderBlocks.brightnessBottomRight, renderBlocks.brightnessTopRight };
+                    storeLighting(ao[DOWN], brightness[DOWN]);
                 }
 
                 break;
@@ -72,8 +83,7 @@ public abstract class BlockHandlerSloped extends BlockHandlerBase {
                 lightingHelper.setupLightingYPos(itemStack, TE.xCoord, TE.yCoord, TE.zCoord);
 
                 if (renderBlocks.enableAO) {
-                    ao[UP] = new float[] { lightingHelper.ao[TOP_LEFT], lightingHelper.ao[BOTTOM_LEFT], lightingHelper.ao[BOTTOM_RIGHT], lightingHelper.ao[TOP_RIGHT] };
-                    brightness[UP] = new int[] { renderBlocks.brightnessTopLeft, renderBlocks.brightnessBottomLeft, renderBlocks.brightnessBottomRight, renderBlocks.brightnessTopRight };
+                    storeLighting(ao[UP], brightness[UP]);
                 }
 
                 break;
@@ -82,8 +92,7 @@ public abstract class BlockHandlerSloped extends BlockHandlerBase {
                 lightingHelper.setupLightingZNeg(itemStack, TE.xCoord, TE.yCoord, TE.zCoord);
 
                 if (renderBlocks.enableAO) {
-                    ao[NORTH] = new float[] { lightingHelper.ao[TOP_LEFT], lightingHelper.ao[BOTTOM_LEFT], lightingHelper.ao[BOTTOM_RIGHT], lightingHelper.ao[TOP_RIGHT] };
-                    brightness[NORTH] = new int[] { renderBlocks.brightnessTopLeft, renderBlocks.brightnessBottomLeft, renderBlocks.brightnessBottomRight, renderBlocks.brightnessTopRight };
+                    storeLighting(ao[NORTH], brightness[NORTH]);
                 }
 
                 break;
@@ -92,8 +101,7 @@ public abstract class BlockHandlerSloped extends BlockHandlerBase {
                 lightingHelper.setupLightingZPos(itemStack, TE.xCoord, TE.yCoord, TE.zCoord);
 
                 if (renderBlocks.enableAO) {
-                    ao[SOUTH] = new float[] { lightingHelper.ao[TOP_LEFT], lightingHelper.ao[BOTTOM_LEFT], lightingHelper.ao[BOTTOM_RIGHT], lightingHelper.ao[TOP_RIGHT] };
-                    brightness[SOUTH] = new int[] { renderBlocks.brightnessTopLeft, renderBlocks.brightnessBottomLeft, renderBlocks.brightnessBottomRight, renderBlocks.brightnessTopRight };
+                    storeLighting(ao[SOUTH], brightness[SOUTH]);
                 }
 
                 break;
@@ -102,8 +110,7 @@ public abstract class BlockHandlerSloped extends BlockHandlerBase {
                 lightingHelper.setupLightingXNeg(itemStack, TE.xCoord, TE.yCoord, TE.zCoord);
 
                 if (renderBlocks.enableAO) {
-                    ao[WEST] = new float[] { lightingHelper.ao[TOP_LEFT], lightingHelper.ao[BOTTOM_LEFT], lightingHelper.ao[BOTTOM_RIGHT], lightingHelper.ao[TOP_RIGHT] };
-                    brightness[WEST] = new int[] { renderBlocks.brightnessTopLeft, renderBlocks.brightnessBottomLeft, renderBlocks.brightnessBottomRight, renderBlocks.brightnessTopRight };
+                    storeLighting(ao[WEST], brightness[WEST]);
                 }
 
                 break;
@@ -112,8 +119,7 @@ public abstract class BlockHandlerSloped extends BlockHandlerBase {
                 lightingHelper.setupLightingXPos(itemStack, TE.xCoord, TE.yCoord, TE.zCoord);
 
                 if (renderBlocks.enableAO) {
-                    ao[EAST] = new float[] { lightingHelper.ao[TOP_LEFT], lightingHelper.ao[BOTTOM_LEFT], lightingHelper.ao[BOTTOM_RIGHT], lightingHelper.ao[TOP_RIGHT] };
-                    brightness[EAST] = new int[] { renderBlocks.brightnessTopLeft, renderBlocks.brightnessBottomLeft, renderBlocks.brightnessBottomRight, renderBlocks.brightnessTopRight };
+                    storeLighting(ao[EAST], brightness[EAST]);
                 }
 
                 break;
@@ -136,8 +142,7 @@ public abstract class BlockHandlerSloped extends BlockHandlerBase {
                 renderBlocks.renderMinY = renderTemp;
 
                 if (renderBlocks.enableAO) {
-                    offset_ao[DOWN] = new float[] { lightingHelper.ao[TOP_LEFT], lightingHelper.ao[BOTTOM_LEFT], lightingHelper.ao[BOTTOM_RIGHT], lightingHelper.ao[TOP_RIGHT] };
-                    offset_brightness[DOWN] = new int[] { renderBlocks.brightnessTopLeft, renderBlocks.brightnessBottomLeft, renderBlocks.brightnessBottomRight, renderBlocks.brightnessTopRight };
+                    storeLighting(offset_ao[DOWN], offset_brightness[DOWN]);
                 }
 
                 break;
@@ -149,8 +154,7 @@ public abstract class BlockHandlerSloped extends BlockHandlerBase {
                 renderBlocks.renderMaxY = renderTemp;
 
                 if (renderBlocks.enableAO) {
-                    offset_ao[UP] = new float[] { lightingHelper.ao[TOP_LEFT], lightingHelper.ao[BOTTOM_LEFT], lightingHelper.ao[BOTTOM_RIGHT], lightingHelper.ao[TOP_RIGHT] };
-                    offset_brightness[UP] = new int[] { renderBlocks.brightnessTopLeft, renderBlocks.brightnessBottomLeft, renderBlocks.brightnessBottomRight, renderBlocks.brightnessTopRight };
+                    storeLighting(offset_ao[UP], offset_brightness[UP]);
                 }
 
                 break;
@@ -162,8 +166,7 @@ public abstract class BlockHandlerSloped extends BlockHandlerBase {
                 renderBlocks.renderMinZ = renderTemp;
 
                 if (renderBlocks.enableAO) {
-                    offset_ao[NORTH] = new float[] { lightingHelper.ao[TOP_LEFT], lightingHelper.ao[BOTTOM_LEFT], lightingHelper.ao[BOTTOM_RIGHT], lightingHelper.ao[TOP_RIGHT] };
-                    offset_brightness[NORTH] = new int[] { renderBlocks.brightnessTopLeft, renderBlocks.brightnessBottomLeft, renderBlocks.brightnessBottomRight, renderBlocks.brightnessTopRight };
+                    storeLighting(offset_ao[NORTH], offset_brightness[NORTH]);
                 }
 
                 break;
@@ -175,8 +178,7 @@ public abstract class BlockHandlerSloped extends BlockHandlerBase {
                 renderBlocks.renderMaxZ = renderTemp;
 
                 if (renderBlocks.enableAO) {
-                    offset_ao[SOUTH] = new float[] { lightingHelper.ao[TOP_LEFT], lightingHelper.ao[BOTTOM_LEFT], lightingHelper.ao[BOTTOM_RIGHT], lightingHelper.ao[TOP_RIGHT] };
-                    offset_brightness[SOUTH] = new int[] { renderBlocks.brightnessTopLeft, renderBlocks.brightnessBottomLeft, renderBlocks.brightnessBottomRight, renderBlocks.brightnessTopRight };
+                    storeLighting(offset_ao[SOUTH], offset_brightness[SOUTH]);
                 }
 
                 break;
@@ -188,8 +190,7 @@ public abstract class BlockHandlerSloped extends BlockHandlerBase {
                 renderBlocks.renderMinX = renderTemp;
 
                 if (renderBlocks.enableAO) {
-                    offset_ao[WEST] = new float[] { lightingHelper.ao[TOP_LEFT], lightingHelper.ao[BOTTOM_LEFT], lightingHelper.ao[BOTTOM_RIGHT], lightingHelper.ao[TOP_RIGHT] };
-                    offset_brightness[WEST] = new int[] { renderBlocks.brightnessTopLeft, renderBlocks.brightnessBottomLeft, renderBlocks.brightnessBottomRight, renderBlocks.brightnessTopRight };
+                    storeLighting(offset_ao[WEST], offset_brightness[WEST]);
                 }
 
                 break;
@@ -201,8 +202,7 @@ public abstract class BlockHandlerSloped extends BlockHandlerBase {
                 renderBlocks.renderMaxX = renderTemp;
 
                 if (renderBlocks.enableAO) {
-                    offset_ao[EAST] = new float[] { lightingHelper.ao[TOP_LEFT], lightingHelper.ao[BOTTOM_LEFT], lightingHelper.ao[BOTTOM_RIGHT], lightingHelper.ao[TOP_RIGHT] };
-                    offset_brightness[EAST] = new int[] { renderBlocks.brightnessTopLeft, renderBlocks.brightnessBottomLeft, renderBlocks.brightnessBottomRight, renderBlocks.brightnessTopRight };
+                    storeLighting(offset_ao[EAST], offset_brightness[EAST]);
                 }
 
                 break;
@@ -0,0 +1,185 @@
+package com.carpentersblocks.renderer.helper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.minecraft.block.Block;
+import net.minecraft.client.renderer.RenderBlocks;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.IIcon;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+
+/**
+ * Quads drawn for a block, stored relative to the block origin
+ * and without lighting or color applied.
+ * <p>
+ * Faces are grouped under the lighting setup they were drawn with,
+ * so they can be replayed at another location with lighting and
+ * color resolved for that location.
+ */
+@SideOnly(Side.CLIENT)
+public class BakedQuads {
+
+    /**
+     * Lighting setup shared by one or more faces.
+     */
+    public static class Lighting {
+
+        /** Cover used for lighting. */
+        public final ItemStack itemStack;
+
+        public final int side;
+
+        /** Lighting coordinates, relative to block origin. */
+        public final int xOffset, yOffset, zOffset;
+
+        /** Render bounds when lighting was set up. */
+        public final double xMin, yMin, zMin, xMax, yMax, zMax;
+
+        public final boolean enableAO;
+
+        public final List<Face> faces = new ArrayList<Face>();
+
+        public Lighting(ItemStack itemStack, int side, int xOffset, int yOffset, int zOffset, RenderBlocks renderBlocks)
+        {
+            this.itemStack = ItemStack.copyItemStack(itemStack);
+            this.side = side;
+            this.xOffset = xOffset;
+            this.yOffset = yOffset;
+            this.zOffset = zOffset;
+            xMin = renderBlocks.renderMinX;
+            yMin = renderBlocks.renderMinY;
+            zMin = renderBlocks.renderMinZ;
+            xMax = renderBlocks.renderMaxX;
+            yMax = renderBlocks.renderMaxY;
+            zMax = renderBlocks.renderMaxZ;
+            enableAO = renderBlocks.enableAO;
+        }
+
+    }
+
+    /**
+     * Vertices drawn with a single color.
+     */
+    public static class Face {
+
+        public final int side;
+
+        /** Block and metadata color is resolved from. */
+        public final Block block;
+        public final int metadata;
+
+        /** Whether face is dyed, in which case {@link #dyeColor} is used. */
+        public final boolean hasDye;
+        public final int dyeColor;
+
+        public final IIcon icon;
+
+        /** Vertex x, y, z, u and v, with position relative to block origin. */
+        public double[] vertices = new double[4 * 5];
+
+        /** Vertex corner used for ambient occlusion. */
+        public int[] corners = new int[4];
+
+        public int vertexCount;
+
+        public Face(int side, Block block, int metadata, boolean hasDye, int dyeColor, IIcon icon)
+        {
+            this.side = side;
+            this.block = block;
+            this.metadata = metadata;
+            this.hasDye = hasDye;
+            this.dyeColor = dyeColor;
+            this.icon = icon;
+        }
+
+        private void addVertex(double x, double y, double z, double u, double v, int corner)
+        {
+            if (vertexCount == corners.length) {
+                vertices = Arrays.copyOf(vertices, vertices.length * 2);
+                corners = Arrays.copyOf(corners, corners.length * 2);
+            }
+
+            int idx = vertexCount * 5;
+            vertices[idx]     = x;
+            vertices[idx + 1] = y;
+            vertices[idx + 2] = z;
+            vertices[idx + 3] = u;
+            vertices[idx + 4] = v;
+            corners[vertexCount++] = corner;
+        }
+
+    }
+
+    public final List<Lighting> lighting = new ArrayList<Lighting>();
+
+    private final int xOrigin;
+    private final int yOrigin;
+    private final int zOrigin;
+
+    private Lighting currentLighting;
+    private Face currentFace;
+
+    /** Set when geometry was drawn that cannot be replayed. */
+    private boolean isInvalid;
+
+    public BakedQuads(int x, int y, int z)
+    {
+        xOrigin = x;
+        yOrigin = y;
+        zOrigin = z;
+    }
+
+    /**
+     * Begins a lighting group for subsequent faces.
+     */
+    public void beginLighting(ItemStack itemStack, int x, int y, int z, int side, RenderBlocks renderBlocks)
+    {
+        currentLighting = new Lighting(itemStack, side, x - xOrigin, y - yOrigin, z - zOrigin, renderBlocks);
+        currentFace = null;
+        lighting.add(currentLighting);
+    }
+
+    /**
+     * Begins a face for subsequent vertices.
+     */
+    public void beginFace(int side, Block block, int metadata, boolean hasDye, int dyeColor, IIcon icon)
+    {
+        if (currentLighting == null) {
+            isInvalid = true;
+        } else {
+            currentFace = new Face(side, block, metadata, hasDye, dyeColor, icon);
+            currentLighting.faces.add(currentFace);
+        }
+    }
+
+    /**
+     * Records vertex for current face.
+     */
+    public void addVertex(double x, double y, double z, double u, double v, int corner)
+    {
+        if (currentFace == null) {
+            isInvalid = true;
+        } else {
+            currentFace.addVertex(x - xOrigin, y - yOrigin, z - zOrigin, u, v, corner);
+        }
+    }
+
+    /**
+     * Marks quads as unable to be replayed.
+     */
+    public void invalidate()
+    {
+        isInvalid = true;
+    }
+
+    /**
+     * Returns whether all drawn geometry was recorded and can be replayed.
+     */
+    public boolean isValid()
+    {
+        return !isInvalid;
+    }
+
+}
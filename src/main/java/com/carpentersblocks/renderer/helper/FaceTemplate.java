@@ -0,0 +1,130 @@
+package com.carpentersblocks.renderer.helper;
+
+import static com.carpentersblocks.renderer.helper.VertexHelper.BOTTOM_LEFT;
+import static com.carpentersblocks.renderer.helper.VertexHelper.BOTTOM_RIGHT;
+import static com.carpentersblocks.renderer.helper.VertexHelper.TOP_CENTER;
+import static com.carpentersblocks.renderer.helper.VertexHelper.TOP_LEFT;
+import static com.carpentersblocks.renderer.helper.VertexHelper.TOP_RIGHT;
+import net.minecraft.client.renderer.RenderBlocks;
+import net.minecraft.util.IIcon;
+import net.minecraftforge.common.util.ForgeDirection;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+
+/**
+ * Vertex layout of a face, built once so the face can be drawn
+ * without branching on slope or face type.
+ * <p>
+ * Each vertex is stored as six values: x, y and z bound selectors
+ * ({@link #MIN}, {@link #MAX} or {@link #MID}), u and v corner
+ * selectors, and the vertex corner used for lighting.  Corner selectors
+ * are {@link VertexHelper} corners, where {@link VertexHelper#TOP_CENTER}
+ * and {@link VertexHelper#BOTTOM_CENTER} select the midpoint of the
+ * top or bottom u coordinates.
+ * <p>
+ * Bounds, render offset, icon and texture rotation are resolved by
+ * {@link RenderHelper#prepareRender} when the face is drawn, so one
+ * template serves every block sharing the face.
+ */
+@SideOnly(Side.CLIENT)
+public class FaceTemplate {
+
+    /* Bound selectors. */
+
+    public static final int MIN = 0;
+    public static final int MAX = 1;
+    public static final int MID = 2;
+
+    private static final int VERTEX_SIZE = 6;
+
+    public final ForgeDirection side;
+
+    /** Bound, corner and lighting selectors for each vertex. */
+    private final int[] vertices;
+
+    public FaceTemplate(ForgeDirection side, int[][] vertices)
+    {
+        this.side = side;
+        this.vertices = new int[vertices.length * VERTEX_SIZE];
+
+        for (int idx = 0; idx < vertices.length; ++idx) {
+            System.arraycopy(vertices[idx], 0, this.vertices, idx * VERTEX_SIZE, VERTEX_SIZE);
+        }
+    }
+
+    /**
+     * Returns number of vertices in face.
+     */
+    public int getVertexCount()
+    {
+        return vertices.length / VERTEX_SIZE;
+    }
+
+    /**
+     * Renders the given texture to the face.  Args: x, y, z, texture
+     */
+    public void render(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
+    {
+        RenderContext ctx = RenderContext.get();
+
+        RenderHelper.prepareRender(ctx, renderBlocks, side, x, y, z, icon);
+
+        for (int idx = 0; idx < vertices.length; idx += VERTEX_SIZE) {
+            VertexHelper.setupVertex(
+                    ctx,
+                    renderBlocks,
+                    getBound(ctx.xMin, ctx.xMax, vertices[idx]),
+                    getBound(ctx.yMin, ctx.yMax, vertices[idx + 1]),
+                    getBound(ctx.zMin, ctx.zMax, vertices[idx + 2]),
+                    getU(ctx, vertices[idx + 3]),
+                    getV(ctx, vertices[idx + 4]),
+                    vertices[idx + 5]
+                    );
+        }
+    }
+
+    private static double getBound(double min, double max, int bound)
+    {
+        switch (bound) {
+            case MIN:
+                return min;
+            case MAX:
+                return max;
+            default: // MID
+                return max - (max - min) / 2;
+        }
+    }
+
+    private static double getU(RenderContext ctx, int corner)
+    {
+        switch (corner) {
+            case TOP_LEFT:
+                return ctx.uTL;
+            case BOTTOM_LEFT:
+                return ctx.uBL;
+            case BOTTOM_RIGHT:
+                return ctx.uBR;
+            case TOP_RIGHT:
+                return ctx.uTR;
+            case TOP_CENTER:
+                return ctx.uTR - (ctx.uTR - ctx.uTL) / 2;
+            default: // BOTTOM_CENTER
+                return ctx.uBR - (ctx.uBR - ctx.uBL) / 2;
+        }
+    }
+
+    private static double getV(RenderContext ctx, int corner)
+    {
+        switch (corner) {
+            case TOP_LEFT:
+                return ctx.vTL;
+            case BOTTOM_LEFT:
+                return ctx.vBL;
+            case BOTTOM_RIGHT:
+                return ctx.vBR;
+            default: // TOP_RIGHT
+                return ctx.vTR;
+        }
+    }
+
+}
@@ -45,7 +45,7 @@ public class FancyFluidsHelper {
             {
                 if (!block.hasTileEntity(metadata) && metadata == 0)
                 {
-                    LightingHelper lightingHelper = new LightingHelper(renderBlocks);
+                    LightingHelper lightingHelper = RenderContext.get().getLightingHelper(renderBlocks, x, y, z);
                     lightingHelper.setupLightingYPos(itemStack, x, y, z);
                     lightingHelper.setupColor(x, y, z, 1, 16777215, null);
                     double fluidHeight = (block instanceof BlockLiquid ? 1.0D - 1.0F / 9.0F : 0.875F) - 0.0010000000474974513D;
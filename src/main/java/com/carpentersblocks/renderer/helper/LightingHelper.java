@@ -4,12 +4,14 @@ import static com.carpentersblocks.renderer.helper.VertexHelper.BOTTOM_LEFT;
 import static com.carpentersblocks.renderer.helper.VertexHelper.BOTTOM_RIGHT;
 import static com.carpentersblocks.renderer.helper.VertexHelper.TOP_LEFT;
 import static com.carpentersblocks.renderer.helper.VertexHelper.TOP_RIGHT;
+import java.util.Arrays;
 import net.minecraft.block.Block;
 import net.minecraft.client.renderer.EntityRenderer;
 import net.minecraft.client.renderer.RenderBlocks;
 import net.minecraft.client.renderer.Tessellator;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.IIcon;
+import net.minecraft.world.IBlockAccess;
 import com.carpentersblocks.renderer.BlockHandlerBase;
 import com.carpentersblocks.util.BlockProperties;
 import com.carpentersblocks.util.handler.ShadersHandler;
@@ -35,6 +37,37 @@ public class LightingHelper {
     /** Brightness for side. */
     public int brightness;
 
+    /** Scratch color used by {@link #setupColor}. */
+    private final float[] rgb = new float[3];
+
+    /**
+     * Width of cached neighborhood.  Offset lighting samples up to two
+     * blocks away from the block being drawn.
+     */
+    private static final int CACHE_WIDTH = 5;
+
+    private static final int CACHE_RADIUS = CACHE_WIDTH / 2;
+
+    private static final int   UNSET_BRIGHTNESS = -1;
+    private static final float UNSET_AO         = -1.0F;
+
+    /** Mixed brightness samples around block, for {@link #cacheBlock}. */
+    private final int[] brightnessCache = new int[CACHE_WIDTH * CACHE_WIDTH * CACHE_WIDTH];
+
+    /** Ambient occlusion light value samples around block. */
+    private final float[] aoCache = new float[CACHE_WIDTH * CACHE_WIDTH * CACHE_WIDTH];
+
+    /** Block that brightness samples were taken for. */
+    private Block cacheBlock;
+
+    private IBlockAccess cacheAccess;
+    private int cacheX;
+    private int cacheY;
+    private int cacheZ;
+
+    /** Number of {@link Block#getMixedBrightnessForBlock} calls made for current block. */
+    private int brightnessLookups;
+
     /**
      * Class constructor specifying the {@link BlockHandlerBase}.
      *
@@ -46,6 +79,119 @@ public class LightingHelper {
         this.renderBlocks = renderBlocks;
     }
 
+    /**
+     * Prepares helper for reuse with next block.
+     * <p>
+     * Clears all lightness, brightness and color overrides, and
+     * discards light samples taken for the previous block.
+     *
+     * @param  renderBlocks the {@link RenderBlocks}
+     * @param  x the x coordinate of block being drawn
+     * @param  y the y coordinate of block being drawn
+     * @param  z the z coordinate of block being drawn
+     * @return the {@link LightingHelper}
+     */
+    public LightingHelper reset(RenderBlocks renderBlocks, int x, int y, int z)
+    {
+        this.renderBlocks = renderBlocks;
+        hasLightnessOverride = false;
+        hasBrightnessOverride = false;
+        hasColorOverride = false;
+        colorOverride = 0xffffff;
+        brightness = 0;
+
+        /* Light samples are only valid for a single block render. */
+
+        cacheAccess = renderBlocks.blockAccess;
+        cacheBlock = null;
+        cacheX = x;
+        cacheY = y;
+        cacheZ = z;
+        Arrays.fill(brightnessCache, UNSET_BRIGHTNESS);
+        Arrays.fill(aoCache, UNSET_AO);
+        brightnessLookups = 0;
+
+        return this;
+    }
+
+    /**
+     * Returns number of {@link Block#getMixedBrightnessForBlock} calls
+     * made since helper was last reset.
+     */
+    public int getBrightnessLookups()
+    {
+        return brightnessLookups;
+    }
+
+    /**
+     * Returns index into sample caches, or -1 if coordinates
+     * are outside cached neighborhood.
+     */
+    private int getCacheIndex(int x, int y, int z)
+    {
+        if (renderBlocks.blockAccess != cacheAccess) {
+            return -1;
+        }
+
+        int dx = x - cacheX + CACHE_RADIUS;
+        int dy = y - cacheY + CACHE_RADIUS;
+        int dz = z - cacheZ + CACHE_RADIUS;
+
+        if (dx < 0 || dy < 0 || dz < 0 || dx >= CACHE_WIDTH || dy >= CACHE_WIDTH || dz >= CACHE_WIDTH) {
+            return -1;
+        }
+
+        return (dy * CACHE_WIDTH + dz) * CACHE_WIDTH + dx;
+    }
+
+    /**
+     * Returns mixed brightness of block at coordinates, sampling
+     * world only once per position while drawing a block.
+     * <p>
+     * Brightness may depend on the block doing the query,
+     * so samples are discarded when the block changes.
+     */
+    private int getMixedBrightness(Block block, int x, int y, int z)
+    {
+        int idx = getCacheIndex(x, y, z);
+
+        if (idx < 0) {
+            ++brightnessLookups;
+            return block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y, z);
+        }
+
+        if (block != cacheBlock) {
+            Arrays.fill(brightnessCache, UNSET_BRIGHTNESS);
+            cacheBlock = block;
+        }
+
+        if (brightnessCache[idx] == UNSET_BRIGHTNESS) {
+            ++brightnessLookups;
+            brightnessCache[idx] = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y, z);
+        }
+
+        return brightnessCache[idx];
+    }
+
+    /**
+     * Returns ambient occlusion light value of block at coordinates,
+     * sampling world only once per position while drawing a block.
+     */
+    private float getAoLightValue(int x, int y, int z)
+    {
+        int idx = getCacheIndex(x, y, z);
+
+        if (idx < 0) {
+            return renderBlocks.blockAccess.getBlock(x, y, z).getAmbientOcclusionLightValue();
+        }
+
+        if (aoCache[idx] == UNSET_AO) {
+            aoCache[idx] = renderBlocks.blockAccess.getBlock(x, y, z).getAmbientOcclusionLightValue();
+        }
+
+        return aoCache[idx];
+    }
+
     /**
      * Sets brightness and lightness values to their maximum values.
      */
@@ -140,11 +286,23 @@ public class LightingHelper {
      */
     public static float[] getRGB(int hexColor)
     {
-        float red = (hexColor >> 16 & 255) / 255.0F;
-        float green = (hexColor >> 8 & 255) / 255.0F;
-        float blue = (hexColor & 255) / 255.0F;
+        return getRGB(hexColor, new float[3]);
+    }
+
+    /**
+     * Gets rgb color from integer.
+     *
+     * @param  color the hex color
+     * @param  rgb the array to fill
+     * @return the filled array
+     */
+    public static float[] getRGB(int hexColor, float[] rgb)
+    {
+        rgb[0] = (hexColor >> 16 & 255) / 255.0F;
+        rgb[1] = (hexColor >> 8 & 255) / 255.0F;
+        rgb[2] = (hexColor & 255) / 255.0F;
 
-        return new float[] { red, green, blue };
+        return rgb;
     }
 
     /**
@@ -175,10 +333,10 @@ public class LightingHelper {
         }
 
         tessellator.setBrightness(hasBrightnessOverride ? brightnessOverride : brightness);
-        float[] rgb = getRGB(hexColor);
-
         if (hasColorOverride && !renderBlocks.hasOverrideBlockTexture()) {
-            rgb = getRGB(colorOverride);
+            getRGB(colorOverride, rgb);
+        } else {
+            getRGB(hexColor, rgb);
         }
 
         applyAnaglyph(rgb);
@@ -272,6 +430,34 @@ public class LightingHelper {
         return difference1 << 16 | difference3;
     }
 
+    /**
+     * Sets up lighting for side and returns the {@link LightingHelper}.
+     *
+     * @param  itemStack the cover {@link ItemStack}
+     * @param  x the x coordinate
+     * @param  y the y coordinate
+     * @param  z the z coordinate
+     * @param  side the side
+     * @return the {@link LightingHelper}
+     */
+    public LightingHelper setupLighting(ItemStack itemStack, int x, int y, int z, int side)
+    {
+        switch (side) {
+            case BlockHandlerBase.DOWN:
+                return setupLightingYNeg(itemStack, x, y, z);
+            case BlockHandlerBase.UP:
+                return setupLightingYPos(itemStack, x, y, z);
+            case BlockHandlerBase.NORTH:
+                return setupLightingZNeg(itemStack, x, y, z);
+            case BlockHandlerBase.SOUTH:
+                return setupLightingZPos(itemStack, x, y, z);
+            case BlockHandlerBase.WEST:
+                return setupLightingXNeg(itemStack, x, y, z);
+            default:
+                return setupLightingXPos(itemStack, x, y, z);
+        }
+    }
+
     /**
      * Sets up lighting for the bottom face and returns the {@link LightingHelper}.
      * <p>
@@ -293,29 +479,29 @@ public class LightingHelper {
     {
         Block block = BlockProperties.toBlock(itemStack);
         int y_offset = renderBlocks.renderMinY > 0.0F ? y : y - 1;
-        brightness = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y_offset, z);
+        brightness = getMixedBrightness(block, x, y_offset, z);
 
         if (renderBlocks.enableAO) {
 
             float ratio = (float) (1.0F - renderBlocks.renderMinY);
-            float aoLightValue = renderBlocks.blockAccess.getBlock(x, y_offset, z).getAmbientOcclusionLightValue();
-
-            renderBlocks.aoBrightnessXYNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y_offset, z);
-            renderBlocks.aoBrightnessYZNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y_offset, z - 1);
-            renderBlocks.aoBrightnessYZNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y_offset, z + 1);
-            renderBlocks.aoBrightnessXYPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y_offset, z);
-            renderBlocks.aoBrightnessXYZNNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y_offset, z - 1);
-            renderBlocks.aoBrightnessXYZNNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y_offset, z + 1);
-            renderBlocks.aoBrightnessXYZPNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y_offset, z - 1);
-            renderBlocks.aoBrightnessXYZPNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y_offset, z + 1);
-            renderBlocks.aoLightValueScratchXYNN = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y - 1, z).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y, z).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchYZNN = getMixedAo(renderBlocks.blockAccess.getBlock(x, y - 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y, z - 1).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchYZNP = getMixedAo(renderBlocks.blockAccess.getBlock(x, y - 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y, z + 1).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYPN = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y - 1, z).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y, z).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZNNN = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y - 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y, z - 1).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZNNP = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y - 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y, z + 1).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZPNN = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y - 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y, z - 1).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZPNP = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y - 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y, z + 1).getAmbientOcclusionLightValue(), ratio);
+            float aoLightValue = getAoLightValue(x, y_offset, z);
+
+            renderBlocks.aoBrightnessXYNN = getMixedBrightness(block, x - 1, y_offset, z);
+            renderBlocks.aoBrightnessYZNN = getMixedBrightness(block, x, y_offset, z - 1);
+            renderBlocks.aoBrightnessYZNP = getMixedBrightness(block, x, y_offset, z + 1);
+            renderBlocks.aoBrightnessXYPN = getMixedBrightness(block, x + 1, y_offset, z);
+            renderBlocks.aoBrightnessXYZNNN = getMixedBrightness(block, x - 1, y_offset, z - 1);
+            renderBlocks.aoBrightnessXYZNNP = getMixedBrightness(block, x - 1, y_offset, z + 1);
+            renderBlocks.aoBrightnessXYZPNN = getMixedBrightness(block, x + 1, y_offset, z - 1);
+            renderBlocks.aoBrightnessXYZPNP = getMixedBrightness(block, x + 1, y_offset, z + 1);
+            renderBlocks.aoLightValueScratchXYNN = getMixedAo(getAoLightValue(x - 1, y - 1, z), getAoLightValue(x - 1, y, z), ratio);
+            renderBlocks.aoLightValueScratchYZNN = getMixedAo(getAoLightValue(x, y - 1, z - 1), getAoLightValue(x, y, z - 1), ratio);
+            renderBlocks.aoLightValueScratchYZNP = getMixedAo(getAoLightValue(x, y - 1, z + 1), getAoLightValue(x, y, z + 1), ratio);
+            renderBlocks.aoLightValueScratchXYPN = getMixedAo(getAoLightValue(x + 1, y - 1, z), getAoLightValue(x + 1, y, z), ratio);
+            renderBlocks.aoLightValueScratchXYZNNN = getMixedAo(getAoLightValue(x - 1, y - 1, z - 1), getAoLightValue(x - 1, y, z - 1), ratio);
+            renderBlocks.aoLightValueScratchXYZNNP = getMixedAo(getAoLightValue(x - 1, y - 1, z + 1), getAoLightValue(x - 1, y, z + 1), ratio);
+            renderBlocks.aoLightValueScratchXYZPNN = getMixedAo(getAoLightValue(x + 1, y - 1, z - 1), getAoLightValue(x + 1, y, z - 1), ratio);
+            renderBlocks.aoLightValueScratchXYZPNP = getMixedAo(getAoLightValue(x + 1, y - 1, z + 1), getAoLightValue(x + 1, y, z + 1), ratio);
 
             float aoMixed_XYZPNP = ao[TOP_LEFT     /*SE*/] = (renderBlocks.aoLightValueScratchYZNP + aoLightValue + renderBlocks.aoLightValueScratchXYZPNP + renderBlocks.aoLightValueScratchXYPN) / 4.0F;
             float aoMixed_XYZPNN = ao[BOTTOM_LEFT  /*NE*/] = (aoLightValue + renderBlocks.aoLightValueScratchYZNN + renderBlocks.aoLightValueScratchXYPN + renderBlocks.aoLightValueScratchXYZPNN) / 4.0F;
@@ -367,28 +553,28 @@ public class LightingHelper {
     {
         Block block = BlockProperties.toBlock(itemStack);
         int y_offset = renderBlocks.renderMaxY < 1.0F ? y : y + 1;
-        brightness = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y_offset, z);
+        brightness = getMixedBrightness(block, x, y_offset, z);
 
         if (renderBlocks.enableAO) {
 
-            float aoLightValue = renderBlocks.blockAccess.getBlock(x, y_offset, z).getAmbientOcclusionLightValue();
-
-            renderBlocks.aoBrightnessXYNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y_offset, z);
-            renderBlocks.aoBrightnessXYPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y_offset, z);
-            renderBlocks.aoBrightnessYZPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y_offset, z - 1);
-            renderBlocks.aoBrightnessYZPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y_offset, z + 1);
-            renderBlocks.aoBrightnessXYZNPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y_offset, z - 1);
-            renderBlocks.aoBrightnessXYZPPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y_offset, z - 1);
-            renderBlocks.aoBrightnessXYZNPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y_offset, z + 1);
-            renderBlocks.aoBrightnessXYZPPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y_offset, z + 1);
-            renderBlocks.aoLightValueScratchXYNP = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y + 1, z).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxY);
-            renderBlocks.aoLightValueScratchXYPP = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y + 1, z).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxY);
-            renderBlocks.aoLightValueScratchYZPN = getMixedAo(renderBlocks.blockAccess.getBlock(x, y + 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y, z - 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxY);
-            renderBlocks.aoLightValueScratchYZPP = getMixedAo(renderBlocks.blockAccess.getBlock(x, y + 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y, z + 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxY);
-            renderBlocks.aoLightValueScratchXYZNPN = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y + 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y, z - 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxY);
-            renderBlocks.aoLightValueScratchXYZPPN = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y + 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y, z - 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxY);
-            renderBlocks.aoLightValueScratchXYZNPP = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y + 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y, z + 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxY);
-            renderBlocks.aoLightValueScratchXYZPPP = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y + 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y, z + 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxY);
+            float aoLightValue = getAoLightValue(x, y_offset, z);
+
+            renderBlocks.aoBrightnessXYNP = getMixedBrightness(block, x - 1, y_offset, z);
+            renderBlocks.aoBrightnessXYPP = getMixedBrightness(block, x + 1, y_offset, z);
+            renderBlocks.aoBrightnessYZPN = getMixedBrightness(block, x, y_offset, z - 1);
+            renderBlocks.aoBrightnessYZPP = getMixedBrightness(block, x, y_offset, z + 1);
+            renderBlocks.aoBrightnessXYZNPN = getMixedBrightness(block, x - 1, y_offset, z - 1);
+            renderBlocks.aoBrightnessXYZPPN = getMixedBrightness(block, x + 1, y_offset, z - 1);
+            renderBlocks.aoBrightnessXYZNPP = getMixedBrightness(block, x - 1, y_offset, z + 1);
+            renderBlocks.aoBrightnessXYZPPP = getMixedBrightness(block, x + 1, y_offset, z + 1);
+            renderBlocks.aoLightValueScratchXYNP = getMixedAo(getAoLightValue(x - 1, y + 1, z), getAoLightValue(x - 1, y, z), renderBlocks.renderMaxY);
+            renderBlocks.aoLightValueScratchXYPP = getMixedAo(getAoLightValue(x + 1, y + 1, z), getAoLightValue(x + 1, y, z), renderBlocks.renderMaxY);
+            renderBlocks.aoLightValueScratchYZPN = getMixedAo(getAoLightValue(x, y + 1, z - 1), getAoLightValue(x, y, z - 1), renderBlocks.renderMaxY);
+            renderBlocks.aoLightValueScratchYZPP = getMixedAo(getAoLightValue(x, y + 1, z + 1), getAoLightValue(x, y, z + 1), renderBlocks.renderMaxY);
+            renderBlocks.aoLightValueScratchXYZNPN = getMixedAo(getAoLightValue(x - 1, y + 1, z - 1), getAoLightValue(x - 1, y, z - 1), renderBlocks.renderMaxY);
+            renderBlocks.aoLightValueScratchXYZPPN = getMixedAo(getAoLightValue(x + 1, y + 1, z - 1), getAoLightValue(x + 1, y, z - 1), renderBlocks.renderMaxY);
+            renderBlocks.aoLightValueScratchXYZNPP = getMixedAo(getAoLightValue(x - 1, y + 1, z + 1), getAoLightValue(x - 1, y, z + 1), renderBlocks.renderMaxY);
+            renderBlocks.aoLightValueScratchXYZPPP = getMixedAo(getAoLightValue(x + 1, y + 1, z + 1), getAoLightValue(x + 1, y, z + 1), renderBlocks.renderMaxY);
 
             float aoMixed_XYZPPP = ao[TOP_LEFT     /*SE*/] = (renderBlocks.aoLightValueScratchYZPP + aoLightValue + renderBlocks.aoLightValueScratchXYZPPP + renderBlocks.aoLightValueScratchXYPP) / 4.0F;
             float aoMixed_XYZPPN = ao[BOTTOM_LEFT  /*NE*/] = (aoLightValue + renderBlocks.aoLightValueScratchYZPN + renderBlocks.aoLightValueScratchXYPP + renderBlocks.aoLightValueScratchXYZPPN) / 4.0F;
@@ -440,29 +626,29 @@ public class LightingHelper {
     {
         Block block = BlockProperties.toBlock(itemStack);
         int z_offset = renderBlocks.renderMinZ > 0.0F ? z : z - 1;
-        brightness = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y, z_offset);
+        brightness = getMixedBrightness(block, x, y, z_offset);
 
         if (renderBlocks.enableAO) {
 
             float ratio = (float) (1.0F - renderBlocks.renderMinZ);
-            float aoLightValue = renderBlocks.blockAccess.getBlock(x, y, z_offset).getAmbientOcclusionLightValue();
-
-            renderBlocks.aoBrightnessXZNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y, z_offset);
-            renderBlocks.aoBrightnessYZNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y - 1, z_offset);
-            renderBlocks.aoBrightnessYZPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y + 1, z_offset);
-            renderBlocks.aoBrightnessXZPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y, z_offset);
-            renderBlocks.aoBrightnessXYZNNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y - 1, z_offset);
-            renderBlocks.aoBrightnessXYZNPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y + 1, z_offset);
-            renderBlocks.aoBrightnessXYZPNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y - 1, z_offset);
-            renderBlocks.aoBrightnessXYZPPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y + 1, z_offset);
-            renderBlocks.aoLightValueScratchXZNN = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y, z).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchYZNN = getMixedAo(renderBlocks.blockAccess.getBlock(x, y - 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y - 1, z).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchYZPN = getMixedAo(renderBlocks.blockAccess.getBlock(x, y + 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y + 1, z).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXZPN = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y, z).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZNNN = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y - 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y - 1, z).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZNPN = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y + 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y + 1, z).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZPNN = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y - 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y - 1, z).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZPPN = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y + 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y + 1, z).getAmbientOcclusionLightValue(), ratio);
+            float aoLightValue = getAoLightValue(x, y, z_offset);
+
+            renderBlocks.aoBrightnessXZNN = getMixedBrightness(block, x - 1, y, z_offset);
+            renderBlocks.aoBrightnessYZNN = getMixedBrightness(block, x, y - 1, z_offset);
+            renderBlocks.aoBrightnessYZPN = getMixedBrightness(block, x, y + 1, z_offset);
+            renderBlocks.aoBrightnessXZPN = getMixedBrightness(block, x + 1, y, z_offset);
+            renderBlocks.aoBrightnessXYZNNN = getMixedBrightness(block, x - 1, y - 1, z_offset);
+            renderBlocks.aoBrightnessXYZNPN = getMixedBrightness(block, x - 1, y + 1, z_offset);
+            renderBlocks.aoBrightnessXYZPNN = getMixedBrightness(block, x + 1, y - 1, z_offset);
+            renderBlocks.aoBrightnessXYZPPN = getMixedBrightness(block, x + 1, y + 1, z_offset);
+            renderBlocks.aoLightValueScratchXZNN = getMixedAo(getAoLightValue(x - 1, y, z - 1), getAoLightValue(x - 1, y, z), ratio);
+            renderBlocks.aoLightValueScratchYZNN = getMixedAo(getAoLightValue(x, y - 1, z - 1), getAoLightValue(x, y - 1, z), ratio);
+            renderBlocks.aoLightValueScratchYZPN = getMixedAo(getAoLightValue(x, y + 1, z - 1), getAoLightValue(x, y + 1, z), ratio);
+            renderBlocks.aoLightValueScratchXZPN = getMixedAo(getAoLightValue(x + 1, y, z - 1), getAoLightValue(x + 1, y, z), ratio);
+            renderBlocks.aoLightValueScratchXYZNNN = getMixedAo(getAoLightValue(x - 1, y - 1, z - 1), getAoLightValue(x - 1, y - 1, z), ratio);
+            renderBlocks.aoLightValueScratchXYZNPN = getMixedAo(getAoLightValue(x - 1, y + 1, z - 1), getAoLightValue(x - 1, y + 1, z), ratio);
+            renderBlocks.aoLightValueScratchXYZPNN = getMixedAo(getAoLightValue(x + 1, y - 1, z - 1), getAoLightValue(x + 1, y - 1, z), ratio);
+            renderBlocks.aoLightValueScratchXYZPPN = getMixedAo(getAoLightValue(x + 1, y + 1, z - 1), getAoLightValue(x + 1, y + 1, z), ratio);
 
             float aoMixed_XYZPPN = ao[TOP_LEFT]     = (aoLightValue + renderBlocks.aoLightValueScratchYZPN + renderBlocks.aoLightValueScratchXZPN + renderBlocks.aoLightValueScratchXYZPPN) / 4.0F;
             float aoMixed_XYZPNN = ao[BOTTOM_LEFT]  = (renderBlocks.aoLightValueScratchYZNN + aoLightValue + renderBlocks.aoLightValueScratchXYZPNN + renderBlocks.aoLightValueScratchXZPN) / 4.0F;
@@ -514,28 +700,28 @@ public class LightingHelper {
     {
         Block block = BlockProperties.toBlock(itemStack);
         int z_offset = renderBlocks.renderMaxZ < 1.0F ? z : z + 1;
-        brightness = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y, z_offset);
+        brightness = getMixedBrightness(block, x, y, z_offset);
 
         if (renderBlocks.enableAO) {
 
-            float aoLightValue = renderBlocks.blockAccess.getBlock(x, y, z_offset).getAmbientOcclusionLightValue();
-
-            renderBlocks.aoBrightnessXZNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y, z_offset);
-            renderBlocks.aoBrightnessXZPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y, z_offset);
-            renderBlocks.aoBrightnessYZNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y - 1, z_offset);
-            renderBlocks.aoBrightnessYZPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y + 1, z_offset);
-            renderBlocks.aoBrightnessXYZNNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y - 1, z_offset);
-            renderBlocks.aoBrightnessXYZNPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y + 1, z_offset);
-            renderBlocks.aoBrightnessXYZPNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y - 1, z_offset);
-            renderBlocks.aoBrightnessXYZPPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y + 1, z_offset);
-            renderBlocks.aoLightValueScratchXZNP = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxZ);
-            renderBlocks.aoLightValueScratchXZPP = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxZ);
-            renderBlocks.aoLightValueScratchYZNP = getMixedAo(renderBlocks.blockAccess.getBlock(x, y - 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y - 1, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxZ);
-            renderBlocks.aoLightValueScratchYZPP = getMixedAo(renderBlocks.blockAccess.getBlock(x, y + 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y + 1, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxZ);
-            renderBlocks.aoLightValueScratchXYZNNP = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y - 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y - 1, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxZ);
-            renderBlocks.aoLightValueScratchXYZNPP = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y + 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y + 1, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxZ);
-            renderBlocks.aoLightValueScratchXYZPNP = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y - 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y - 1, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxZ);
-            renderBlocks.aoLightValueScratchXYZPPP = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y + 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y + 1, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxZ);
+            float aoLightValue = getAoLightValue(x, y, z_offset);
+
+            renderBlocks.aoBrightnessXZNP = getMixedBrightness(block, x - 1, y, z_offset);
+            renderBlocks.aoBrightnessXZPP = getMixedBrightness(block, x + 1, y, z_offset);
+            renderBlocks.aoBrightnessYZNP = getMixedBrightness(block, x, y - 1, z_offset);
+            renderBlocks.aoBrightnessYZPP = getMixedBrightness(block, x, y + 1, z_offset);
+            renderBlocks.aoBrightnessXYZNNP = getMixedBrightness(block, x - 1, y - 1, z_offset);
+            renderBlocks.aoBrightnessXYZNPP = getMixedBrightness(block, x - 1, y + 1, z_offset);
+            renderBlocks.aoBrightnessXYZPNP = getMixedBrightness(block, x + 1, y - 1, z_offset);
+            renderBlocks.aoBrightnessXYZPPP = getMixedBrightness(block, x + 1, y + 1, z_offset);
+            renderBlocks.aoLightValueScratchXZNP = getMixedAo(getAoLightValue(x - 1, y, z + 1), getAoLightValue(x - 1, y, z), renderBlocks.renderMaxZ);
+            renderBlocks.aoLightValueScratchXZPP = getMixedAo(getAoLightValue(x + 1, y, z + 1), getAoLightValue(x + 1, y, z), renderBlocks.renderMaxZ);
+            renderBlocks.aoLightValueScratchYZNP = getMixedAo(getAoLightValue(x, y - 1, z + 1), getAoLightValue(x, y - 1, z), renderBlocks.renderMaxZ);
+            renderBlocks.aoLightValueScratchYZPP = getMixedAo(getAoLightValue(x, y + 1, z + 1), getAoLightValue(x, y + 1, z), renderBlocks.renderMaxZ);
+            renderBlocks.aoLightValueScratchXYZNNP = getMixedAo(getAoLightValue(x - 1, y - 1, z + 1), getAoLightValue(x - 1, y - 1, z), renderBlocks.renderMaxZ);
+            renderBlocks.aoLightValueScratchXYZNPP = getMixedAo(getAoLightValue(x - 1, y + 1, z + 1), getAoLightValue(x - 1, y + 1, z), renderBlocks.renderMaxZ);
+            renderBlocks.aoLightValueScratchXYZPNP = getMixedAo(getAoLightValue(x + 1, y - 1, z + 1), getAoLightValue(x + 1, y - 1, z), renderBlocks.renderMaxZ);
+            renderBlocks.aoLightValueScratchXYZPPP = getMixedAo(getAoLightValue(x + 1, y + 1, z + 1), getAoLightValue(x + 1, y + 1, z), renderBlocks.renderMaxZ);
 
             float aoMixed_XYZNPP = ao[TOP_LEFT]     = (renderBlocks.aoLightValueScratchXZNP + renderBlocks.aoLightValueScratchXYZNPP + aoLightValue + renderBlocks.aoLightValueScratchYZPP) / 4.0F;
             float aoMixed_XYZNNP = ao[BOTTOM_LEFT]  = (renderBlocks.aoLightValueScratchXYZNNP + renderBlocks.aoLightValueScratchXZNP + renderBlocks.aoLightValueScratchYZNP + aoLightValue) / 4.0F;
@@ -587,29 +773,29 @@ public class LightingHelper {
     {
         Block block = BlockProperties.toBlock(itemStack);
         int x_offset = renderBlocks.renderMinX > 0.0F ? x : x - 1;
-        brightness = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y, z);
+        brightness = getMixedBrightness(block, x_offset, y, z);
 
         if (renderBlocks.enableAO) {
 
             float ratio = (float) (1.0F - renderBlocks.renderMinX);
-            float aoLightValue = renderBlocks.blockAccess.getBlock(x_offset, y, z).getAmbientOcclusionLightValue();
-
-            renderBlocks.aoBrightnessXYNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y - 1, z);
-            renderBlocks.aoBrightnessXZNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y, z - 1);
-            renderBlocks.aoBrightnessXZNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y, z + 1);
-            renderBlocks.aoBrightnessXYNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y + 1, z);
-            renderBlocks.aoBrightnessXYZNNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y - 1, z - 1);
-            renderBlocks.aoBrightnessXYZNNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y - 1, z + 1);
-            renderBlocks.aoBrightnessXYZNPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y + 1, z - 1);
-            renderBlocks.aoBrightnessXYZNPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y + 1, z + 1);
-            renderBlocks.aoLightValueScratchXYNN = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y - 1, z).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y - 1, z).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXZNN = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y, z - 1).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXZNP = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y, z + 1).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYNP = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y + 1, z).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y + 1, z).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZNNN = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y - 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y - 1, z - 1).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZNNP = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y - 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y - 1, z + 1).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZNPN = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y + 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y + 1, z - 1).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZNPP = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y + 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y + 1, z + 1).getAmbientOcclusionLightValue(), ratio);
+            float aoLightValue = getAoLightValue(x_offset, y, z);
+
+            renderBlocks.aoBrightnessXYNN = getMixedBrightness(block, x_offset, y - 1, z);
+            renderBlocks.aoBrightnessXZNN = getMixedBrightness(block, x_offset, y, z - 1);
+            renderBlocks.aoBrightnessXZNP = getMixedBrightness(block, x_offset, y, z + 1);
+            renderBlocks.aoBrightnessXYNP = getMixedBrightness(block, x_offset, y + 1, z);
+            renderBlocks.aoBrightnessXYZNNN = getMixedBrightness(block, x_offset, y - 1, z - 1);
+            renderBlocks.aoBrightnessXYZNNP = getMixedBrightness(block, x_offset, y - 1, z + 1);
+            renderBlocks.aoBrightnessXYZNPN = getMixedBrightness(block, x_offset, y + 1, z - 1);
+            renderBlocks.aoBrightnessXYZNPP = getMixedBrightness(block, x_offset, y + 1, z + 1);
+            renderBlocks.aoLightValueScratchXYNN = getMixedAo(getAoLightValue(x - 1, y - 1, z), getAoLightValue(x, y - 1, z), ratio);
+            renderBlocks.aoLightValueScratchXZNN = getMixedAo(getAoLightValue(x - 1, y, z - 1), getAoLightValue(x, y, z - 1), ratio);
+            renderBlocks.aoLightValueScratchXZNP = getMixedAo(getAoLightValue(x - 1, y, z + 1), getAoLightValue(x, y, z + 1), ratio);
+            renderBlocks.aoLightValueScratchXYNP = getMixedAo(getAoLightValue(x - 1, y + 1, z), getAoLightValue(x, y + 1, z), ratio);
+            renderBlocks.aoLightValueScratchXYZNNN = getMixedAo(getAoLightValue(x - 1, y - 1, z - 1), getAoLightValue(x, y - 1, z - 1), ratio);
+            renderBlocks.aoLightValueScratchXYZNNP = getMixedAo(getAoLightValue(x - 1, y - 1, z + 1), getAoLightValue(x, y - 1, z + 1), ratio);
+            renderBlocks.aoLightValueScratchXYZNPN = getMixedAo(getAoLightValue(x - 1, y + 1, z - 1), getAoLightValue(x, y + 1, z - 1), ratio);
+            renderBlocks.aoLightValueScratchXYZNPP = getMixedAo(getAoLightValue(x - 1, y + 1, z + 1), getAoLightValue(x, y + 1, z + 1), ratio);
 
             float aoMixed_XYZNPN = ao[TOP_LEFT]     = (renderBlocks.aoLightValueScratchXZNN + aoLightValue + renderBlocks.aoLightValueScratchXYZNPN + renderBlocks.aoLightValueScratchXYNP) / 4.0F;
             float aoMixed_XYZNNN = ao[BOTTOM_LEFT]  = (renderBlocks.aoLightValueScratchXYZNNN + renderBlocks.aoLightValueScratchXYNN + renderBlocks.aoLightValueScratchXZNN + aoLightValue) / 4.0F;
@@ -661,28 +847,28 @@ public class LightingHelper {
     {
         Block block = BlockProperties.toBlock(itemStack);
         int x_offset = renderBlocks.renderMaxX < 1.0F ? x : x + 1;
-        brightness = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y, z);
+        brightness = getMixedBrightness(block, x_offset, y, z);
 
         if (renderBlocks.enableAO) {
 
-            float aoLightValue = renderBlocks.blockAccess.getBlock(x_offset, y, z).getAmbientOcclusionLightValue();
-
-            renderBlocks.aoBrightnessXYPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y - 1, z);
-            renderBlocks.aoBrightnessXZPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y, z - 1);
-            renderBlocks.aoBrightnessXZPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y, z + 1);
-            renderBlocks.aoBrightnessXYPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y + 1, z);
-            renderBlocks.aoBrightnessXYZPNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y - 1, z - 1);
-            renderBlocks.aoBrightnessXYZPNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y - 1, z + 1);
-            renderBlocks.aoBrightnessXYZPPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y + 1, z - 1);
-            renderBlocks.aoBrightnessXYZPPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y + 1, z + 1);
-            renderBlocks.aoLightValueScratchXYPN = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y - 1, z).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y - 1, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxX);
-            renderBlocks.aoLightValueScratchXZPN = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y, z - 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxX);
-            renderBlocks.aoLightValueScratchXZPP = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y, z + 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxX);
-            renderBlocks.aoLightValueScratchXYPP = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y + 1, z).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y + 1, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxX);
-            renderBlocks.aoLightValueScratchXYZPNN = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y - 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y - 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxX);
-            renderBlocks.aoLightValueScratchXYZPNP = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y - 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y - 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxX);
-            renderBlocks.aoLightValueScratchXYZPPN = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y + 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y + 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxX);
-            renderBlocks.aoLightValueScratchXYZPPP = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y + 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y + 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxX);
+            float aoLightValue = getAoLightValue(x_offset, y, z);
+
+            renderBlocks.aoBrightnessXYPN = getMixedBrightness(block, x_offset, y - 1, z);
+            renderBlocks.aoBrightnessXZPN = getMixedBrightness(block, x_offset, y, z - 1);
+            renderBlocks.aoBrightnessXZPP = getMixedBrightness(block, x_offset, y, z + 1);
+            renderBlocks.aoBrightnessXYPP = getMixedBrightness(block, x_offset, y + 1, z);
+            renderBlocks.aoBrightnessXYZPNN = getMixedBrightness(block, x_offset, y - 1, z - 1);
+            renderBlocks.aoBrightnessXYZPNP = getMixedBrightness(block, x_offset, y - 1, z + 1);
+            renderBlocks.aoBrightnessXYZPPN = getMixedBrightness(block, x_offset, y + 1, z - 1);
+            renderBlocks.aoBrightnessXYZPPP = getMixedBrightness(block, x_offset, y + 1, z + 1);
+            renderBlocks.aoLightValueScratchXYPN = getMixedAo(getAoLightValue(x + 1, y - 1, z), getAoLightValue(x, y - 1, z), renderBlocks.renderMaxX);
+            renderBlocks.aoLightValueScratchXZPN = getMixedAo(getAoLightValue(x + 1, y, z - 1), getAoLightValue(x, y, z - 1), renderBlocks.renderMaxX);
+            renderBlocks.aoLightValueScratchXZPP = getMixedAo(getAoLightValue(x + 1, y, z + 1), getAoLightValue(x, y, z + 1), renderBlocks.renderMaxX);
+            renderBlocks.aoLightValueScratchXYPP = getMixedAo(getAoLightValue(x + 1, y + 1, z), getAoLightValue(x, y + 1, z), renderBlocks.renderMaxX);
+            renderBlocks.aoLightValueScratchXYZPNN = getMixedAo(getAoLightValue(x + 1, y - 1, z - 1), getAoLightValue(x, y - 1, z - 1), renderBlocks.renderMaxX);
+            renderBlocks.aoLightValueScratchXYZPNP = getMixedAo(getAoLightValue(x + 1, y - 1, z + 1), getAoLightValue(x, y - 1, z + 1), renderBlocks.renderMaxX);
+            renderBlocks.aoLightValueScratchXYZPPN = getMixedAo(getAoLightValue(x + 1, y + 1, z - 1), getAoLightValue(x, y + 1, z - 1), renderBlocks.renderMaxX);
+            renderBlocks.aoLightValueScratchXYZPPP = getMixedAo(getAoLightValue(x + 1, y + 1, z + 1), getAoLightValue(x, y + 1, z + 1), renderBlocks.renderMaxX);
 
             float aoMixed_XYZPPP = ao[TOP_LEFT]     = (aoLightValue + renderBlocks.aoLightValueScratchXZPP + renderBlocks.aoLightValueScratchXYPP + renderBlocks.aoLightValueScratchXYZPPP) / 4.0F;
             float aoMixed_XYZPNP = ao[BOTTOM_LEFT]  = (renderBlocks.aoLightValueScratchXYPN + renderBlocks.aoLightValueScratchXYZPNP + aoLightValue + renderBlocks.aoLightValueScratchXZPP) / 4.0F;
@@ -36,11 +36,9 @@ public class ParticleHelper {
      */
     public static void spawnTileParticleAt(Entity entity, ItemStack itemStack)
     {
-        BlockProperties.prepareItemStackForRendering(itemStack);
-
         entity.worldObj.spawnParticle
         (
-                "blockcrack_" + Item.getIdFromItem(itemStack.getItem()) + "_" + itemStack.getItemDamage(),
+                "blockcrack_" + Item.getIdFromItem(itemStack.getItem()) + "_" + BlockProperties.getRenderMetadata(itemStack),
                 entity.posX + (entity.worldObj.rand.nextFloat() - 0.5D) * entity.width, entity.boundingBox.minY + 0.1D,
                 entity.posZ + (entity.worldObj.rand.nextFloat() - 0.5D) * entity.width,
                 -entity.motionX * 4.0D,
@@ -54,7 +52,7 @@ public class ParticleHelper {
      */
     public static void addDestroyEffect(World world, int x, int y, int z, ItemStack itemStack, EffectRenderer effectRenderer)
     {
-        BlockProperties.prepareItemStackForRendering(itemStack);
+        int metadata = BlockProperties.getRenderMetadata(itemStack);
         byte factor = 4;
 
         for (int posX = 0; posX < factor; ++posX)
@@ -67,7 +65,7 @@ public class ParticleHelper {
                     double dirY = y + (posY + 0.5D) / factor;
                     double dirZ = z + (posZ + 0.5D) / factor;
 
-                    EntityDiggingFX particle = new EntityDiggingFX(world, dirX, dirY, dirZ, dirX - x - 0.5D, dirY - y - 0.5D, dirZ - z - 0.5D, BlockProperties.toBlock(itemStack), itemStack.getItemDamage());
+                    EntityDiggingFX particle = new EntityDiggingFX(world, dirX, dirY, dirZ, dirX - x - 0.5D, dirY - y - 0.5D, dirZ - z - 0.5D, BlockProperties.toBlock(itemStack), metadata);
                     effectRenderer.addEffect(particle.applyColourMultiplier(x, y, z));
                 }
             }
@@ -79,9 +77,7 @@ public class ParticleHelper {
      */
     public static void addHitEffect(TEBase TE, MovingObjectPosition target, double x, double y, double z, ItemStack itemStack, EffectRenderer effectRenderer)
     {
-        BlockProperties.prepareItemStackForRendering(itemStack);
-
-        EntityDiggingFX particle = new EntityDiggingFX(TE.getWorldObj(), x, y, z, 0.0D, 0.0D, 0.0D, BlockProperties.toBlock(itemStack), itemStack.getItemDamage());
+        EntityDiggingFX particle = new EntityDiggingFX(TE.getWorldObj(), x, y, z, 0.0D, 0.0D, 0.0D, BlockProperties.toBlock(itemStack), BlockProperties.getRenderMetadata(itemStack));
         effectRenderer.addEffect(particle.applyColourMultiplier(target.blockX, target.blockY, target.blockZ).multiplyVelocity(0.2F).multipleParticleScaleBy(0.6F));
     }
 
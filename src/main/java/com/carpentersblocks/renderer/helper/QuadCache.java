@@ -0,0 +1,192 @@
+package com.carpentersblocks.renderer.helper;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import net.minecraft.block.Block;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import com.carpentersblocks.tileentity.TEBase;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+
+/**
+ * Bounded cache of {@link BakedQuads}, shared by all render threads.
+ * <p>
+ * Blocks with the same type, data, attributes and visible faces draw
+ * identical geometry, so quads baked for one are replayed for the rest
+ * with lighting and color resolved at their own location.  The least
+ * recently used entry is evicted when full, and the cache is cleared
+ * whenever the block texture atlas is rebuilt.
+ */
+@SideOnly(Side.CLIENT)
+public class QuadCache {
+
+    /** Maximum number of baked blocks held. */
+    public static final int CAPACITY = 1024;
+
+    private static final Map<Key, BakedQuads> cache = new LinkedHashMap<Key, BakedQuads>(CAPACITY, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, BakedQuads> eldest)
+        {
+            return size() > CAPACITY;
+        }
+    };
+
+    private static long hits;
+    private static long misses;
+
+    /**
+     * Returns baked quads for key, or <code>null</code> if none are cached.
+     */
+    public static BakedQuads get(Key key)
+    {
+        synchronized (cache) {
+            BakedQuads quads = cache.get(key);
+            if (quads != null) {
+                ++hits;
+            } else {
+                ++misses;
+            }
+            return quads;
+        }
+    }
+
+    /**
+     * Caches baked quads.  Key is copied, so it may be reused by caller.
+     */
+    public static void put(Key key, BakedQuads quads)
+    {
+        synchronized (cache) {
+            cache.put(key.copy(), quads);
+        }
+    }
+
+    /**
+     * Discards all baked quads.
+     * <p>
+     * Must be called when icons are restitched, since baked
+     * texture coordinates point into the old atlas.
+     */
+    public static void invalidate()
+    {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Returns number of lookups that found baked quads.
+     */
+    public static long getHits()
+    {
+        synchronized (cache) {
+            return hits;
+        }
+    }
+
+    /**
+     * Returns number of lookups that required block to be drawn and baked.
+     */
+    public static long getMisses()
+    {
+        synchronized (cache) {
+            return misses;
+        }
+    }
+
+    public static int size()
+    {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Identifies geometry drawn for a block.
+     * <p>
+     * Keys are mutable so each render thread can reuse one for lookups.
+     */
+    public static class Key {
+
+        /** Signature slots ahead of attributes. */
+        private static final int HEADER = 4;
+
+        /** Cover, dye and overlay attributes are the only ones drawn on block faces. */
+        private static final int ATTRIBUTES = 21;
+
+        private static final int SIZE = HEADER + ATTRIBUTES + 7;
+
+        private Block block;
+        private final int[] signature;
+        private int hash;
+
+        public Key()
+        {
+            signature = new int[SIZE];
+        }
+
+        private Key(Key key)
+        {
+            block = key.block;
+            signature = Arrays.copyOf(key.signature, SIZE);
+            hash = key.hash;
+        }
+
+        /**
+         * Sets key from block state.
+         *
+         * @param  block the block
+         * @param  TE the {@link TEBase}
+         * @param  renderPass the render pass
+         * @param  faceMask visible faces and render settings affecting geometry
+         * @return the {@link Key}
+         */
+        public Key set(Block block, TEBase TE, int renderPass, int faceMask)
+        {
+            this.block = block;
+            signature[0] = TE.getData();
+            signature[1] = renderPass;
+            signature[2] = faceMask;
+            signature[3] = TE.getDesignId();
+
+            for (byte attrId = 0; attrId < ATTRIBUTES; ++attrId) {
+                ItemStack itemStack = TE.getAttribute(attrId);
+                signature[HEADER + attrId] = itemStack == null ? -1 : Item.getIdFromItem(itemStack.getItem()) << 16 | itemStack.getItemDamage() & 0xffff;
+            }
+
+            for (int side = 0; side < 7; ++side) {
+                signature[HEADER + ATTRIBUTES + side] = TE.getChiselDesignId(side);
+            }
+
+            hash = 31 * block.hashCode() + Arrays.hashCode(signature);
+
+            return this;
+        }
+
+        private Key copy()
+        {
+            return new Key(this);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) obj;
+            return block == key.block && hash == key.hash && Arrays.equals(signature, key.signature);
+        }
+
+    }
+
+}
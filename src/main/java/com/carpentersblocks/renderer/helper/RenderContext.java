@@ -0,0 +1,86 @@
+package com.carpentersblocks.renderer.helper;
+
+import net.minecraft.client.renderer.RenderBlocks;
+import com.carpentersblocks.util.collapsible.CollapsibleGeometry;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+
+/**
+ * Holds mutable state for a single render thread.
+ * <p>
+ * Contexts are pooled per thread, so render helpers and block handlers
+ * on different threads don't share vertex, bound or UV state.  Vertices
+ * themselves still go through the shared Tessellator.
+ * Obtain the context for the current thread through {@link #get()}.
+ */
+@SideOnly(Side.CLIENT)
+public class RenderContext {
+
+    private static final ThreadLocal<RenderContext> pool = new ThreadLocal<RenderContext>()
+    {
+        @Override
+        protected RenderContext initialValue()
+        {
+            return new RenderContext();
+        }
+    };
+
+    /* Vertex state. */
+
+    public boolean clearFloat;
+    public boolean floatingIcon;
+    public int     drawMode;
+
+    /** Keeps track of vertices drawn per pass. */
+    public int     vertexCount;
+
+    /** Keeps track of vertex draws when in triangle mode. */
+    public int     triVertexCount;
+
+    /* Face state. */
+
+    public boolean rotationOverride;
+    public int     rotation;
+    public double  renderOffset;
+    public double  uMin, uMax, vMin, vMax;
+    public double  xMin, xMax, yMin, yMax, zMin, zMax;
+    public double  uTL, vTL, uBL, vBL, uBR, vBR, uTR, vTR;
+
+    /** Whether side being drawn is a sloped face. */
+    public boolean isSideSloped;
+
+    /** Collapsible block corner and center heights. */
+    public CollapsibleGeometry collapsible;
+
+    /** Quads being baked for current block, or null if not baking. */
+    public BakedQuads bakedQuads;
+
+    /** Key reused for {@link QuadCache} lookups. */
+    public final QuadCache.Key quadCacheKey = new QuadCache.Key();
+
+    /** Lighting helper shared by blocks drawn on this thread. */
+    private LightingHelper lightingHelper;
+
+    private RenderContext() { }
+
+    /**
+     * Returns lighting helper for this thread, reset for drawing a new block.
+     */
+    public LightingHelper getLightingHelper(RenderBlocks renderBlocks, int x, int y, int z)
+    {
+        if (lightingHelper == null) {
+            lightingHelper = new LightingHelper(renderBlocks);
+        }
+
+        return lightingHelper.reset(renderBlocks, x, y, z);
+    }
+
+    /**
+     * Returns render context for current thread.
+     */
+    public static RenderContext get()
+    {
+        return pool.get();
+    }
+
+}
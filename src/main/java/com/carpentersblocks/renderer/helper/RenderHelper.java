@@ -4,122 +4,99 @@ import net.minecraft.block.BlockGrass;
 import net.minecraft.client.renderer.RenderBlocks;
 import net.minecraft.util.IIcon;
 import net.minecraftforge.common.util.ForgeDirection;
-import com.carpentersblocks.renderer.BlockHandlerSloped;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
 @SideOnly(Side.CLIENT)
 public class RenderHelper extends VertexHelper {
 
-    private static boolean  rotationOverride = false;
-    protected static int    rotation;
-    private static double   uMin;
-    private static double   uMax;
-    private static double   vMin;
-    private static double   vMax;
-    protected static double xMin;
-    protected static double xMax;
-    protected static double yMin;
-    protected static double yMax;
-    protected static double zMin;
-    protected static double zMax;
-    protected static double uTL;
-    protected static double vTL;
-    protected static double uBL;
-    protected static double vBL;
-    protected static double uBR;
-    protected static double vBR;
-    protected static double uTR;
-    protected static double vTR;
-
     public static final double OFFSET_MAX = 2.0D / 1024.0D;
     public static final double OFFSET_MIN = 1.0D / 1024.0D;
 
-    public static double renderOffset;
-
     public static void setOffset(double offset)
     {
-        renderOffset = offset;
+        RenderContext.get().renderOffset = offset;
     }
 
     public static void clearOffset()
     {
-        renderOffset = 0.0D;
+        RenderContext.get().renderOffset = 0.0D;
     }
 
     public static void setTextureRotationOverride(int in_rotation)
     {
-        rotationOverride = true;
-        rotation = in_rotation;
+        RenderContext ctx = RenderContext.get();
+        ctx.rotationOverride = true;
+        ctx.rotation = in_rotation;
     }
 
     public static void clearTextureRotationOverride()
     {
-        rotationOverride = false;
+        RenderContext.get().rotationOverride = false;
     }
 
     /**
      * Sets UV coordinates for each corner based on side rotation.
      */
-    private static void setCornerUV(double t_uTL, double t_vTL, double t_uBL, double t_vBL, double t_uBR, double t_vBR, double t_uTR, double t_vTR)
+    private static void setCornerUV(RenderContext ctx, double t_uTL, double t_vTL, double t_uBL, double t_vBL, double t_uBR, double t_vBR, double t_uTR, double t_vTR)
     {
-        uTL = t_uTL;
-        vTL = t_vTL;
-        uBL = t_uBL;
-        vBL = t_vBL;
-        uBR = t_uBR;
-        vBR = t_vBR;
-        uTR = t_uTR;
-        vTR = t_vTR;
+        ctx.uTL = t_uTL;
+        ctx.vTL = t_vTL;
+        ctx.uBL = t_uBL;
+        ctx.vBL = t_vBL;
+        ctx.uBR = t_uBR;
+        ctx.vBR = t_vBR;
+        ctx.uTR = t_uTR;
+        ctx.vTR = t_vTR;
     }
 
     /**
      * Will populate render bounds and icon u, v translations.
      */
-    protected static void prepareRender(RenderBlocks renderBlocks, ForgeDirection side, double x, double y, double z, IIcon icon)
+    protected static void prepareRender(RenderContext ctx, RenderBlocks renderBlocks, ForgeDirection side, double x, double y, double z, IIcon icon)
     {
         /* Enforce default floating icons */
 
         if (icon == BlockGrass.getIconSideOverlay() || icon.getIconName().contains("overlay/overlay_") && icon.getIconName().endsWith("_side")) {
-            setFloatingIcon();
+            setFloatingIcon(ctx);
         }
 
         /* Set render bounds with offset. */
 
-        xMin = x + renderBlocks.renderMinX - renderOffset;
-        xMax = x + renderBlocks.renderMaxX + renderOffset;
-        yMin = y + renderBlocks.renderMinY - renderOffset;
-        yMax = y + renderBlocks.renderMaxY + renderOffset;
-        zMin = z + renderBlocks.renderMinZ - renderOffset;
-        zMax = z + renderBlocks.renderMaxZ + renderOffset;
+        ctx.xMin = x + renderBlocks.renderMinX - ctx.renderOffset;
+        ctx.xMax = x + renderBlocks.renderMaxX + ctx.renderOffset;
+        ctx.yMin = y + renderBlocks.renderMinY - ctx.renderOffset;
+        ctx.yMax = y + renderBlocks.renderMaxY + ctx.renderOffset;
+        ctx.zMin = z + renderBlocks.renderMinZ - ctx.renderOffset;
+        ctx.zMax = z + renderBlocks.renderMaxZ + ctx.renderOffset;
 
         // Sloppy way to help prevent z-fighting on sloped faces.
         // Working on a better solution...
-        if (BlockHandlerSloped.isSideSloped) {
+        if (ctx.isSideSloped) {
             switch (side) {
                 case DOWN:
-                    yMin -= renderOffset;
-                    yMax -= renderOffset;
+                    ctx.yMin -= ctx.renderOffset;
+                    ctx.yMax -= ctx.renderOffset;
                     break;
                 case UP:
-                    yMin += renderOffset;
-                    yMax += renderOffset;
+                    ctx.yMin += ctx.renderOffset;
+                    ctx.yMax += ctx.renderOffset;
                     break;
                 case NORTH:
-                    zMin -= renderOffset;
-                    zMax -= renderOffset;
+                    ctx.zMin -= ctx.renderOffset;
+                    ctx.zMax -= ctx.renderOffset;
                     break;
                 case SOUTH:
-                    zMin += renderOffset;
-                    zMax += renderOffset;
+                    ctx.zMin += ctx.renderOffset;
+                    ctx.zMax += ctx.renderOffset;
                     break;
                 case WEST:
-                    xMin -= renderOffset;
-                    xMax -= renderOffset;
+                    ctx.xMin -= ctx.renderOffset;
+                    ctx.xMax -= ctx.renderOffset;
                     break;
                 case EAST:
-                    xMin += renderOffset;
-                    xMax += renderOffset;
+                    ctx.xMin += ctx.renderOffset;
+                    ctx.xMax += ctx.renderOffset;
                     break;
                 default: {}
             }
@@ -127,25 +104,25 @@ public class RenderHelper extends VertexHelper {
 
         /* Set u, v for icon with rotation. */
 
-        if (!rotationOverride) {
+        if (!ctx.rotationOverride) {
             switch (side) {
                 case DOWN:
-                    rotation = renderBlocks.uvRotateBottom;
+                    ctx.rotation = renderBlocks.uvRotateBottom;
                     break;
                 case UP:
-                    rotation = renderBlocks.uvRotateTop;
+                    ctx.rotation = renderBlocks.uvRotateTop;
                     break;
                 case NORTH:
-                    rotation = renderBlocks.uvRotateNorth;
+                    ctx.rotation = renderBlocks.uvRotateNorth;
                     break;
                 case SOUTH:
-                    rotation = renderBlocks.uvRotateSouth;
+                    ctx.rotation = renderBlocks.uvRotateSouth;
                     break;
                 case WEST:
-                    rotation = renderBlocks.uvRotateWest;
+                    ctx.rotation = renderBlocks.uvRotateWest;
                     break;
                 case EAST:
-                    rotation = renderBlocks.uvRotateEast;
+                    ctx.rotation = renderBlocks.uvRotateEast;
                     break;
                 default: {}
             }
@@ -155,49 +132,49 @@ public class RenderHelper extends VertexHelper {
 
             case DOWN:
 
-                switch (rotation) {
+                switch (ctx.rotation) {
 
                     case 0:
 
-                        uMin = icon.getInterpolatedU(renderBlocks.renderMinX * 16.0D);
-                        uMax = icon.getInterpolatedU(renderBlocks.renderMaxX * 16.0D);
-                        vMin = icon.getInterpolatedV(renderBlocks.renderMinZ * 16.0D);
-                        vMax = icon.getInterpolatedV(renderBlocks.renderMaxZ * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(renderBlocks.renderMinX * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(renderBlocks.renderMaxX * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(renderBlocks.renderMinZ * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(renderBlocks.renderMaxZ * 16.0D);
 
-                        setCornerUV(uMax, vMax, uMax, vMin, uMin, vMin, uMin, vMax);
+                        setCornerUV(ctx, ctx.uMax, ctx.vMax, ctx.uMax, ctx.vMin, ctx.uMin, ctx.vMin, ctx.uMin, ctx.vMax);
 
                         break;
 
                     case 1:
 
-                        uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxZ * 16.0D);
-                        uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMinZ * 16.0D);
-                        vMin = icon.getInterpolatedV(renderBlocks.renderMinX * 16.0D);
-                        vMax = icon.getInterpolatedV(renderBlocks.renderMaxX * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxZ * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMinZ * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(renderBlocks.renderMinX * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(renderBlocks.renderMaxX * 16.0D);
 
-                        setCornerUV(uMin, vMax, uMax, vMax, uMax, vMin, uMin, vMin);
+                        setCornerUV(ctx, ctx.uMin, ctx.vMax, ctx.uMax, ctx.vMax, ctx.uMax, ctx.vMin, ctx.uMin, ctx.vMin);
 
                         break;
 
                     case 2:
 
-                        uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMinX * 16.0D);
-                        uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxX * 16.0D);
-                        vMin = icon.getInterpolatedV(16.0D - renderBlocks.renderMinZ * 16.0D);
-                        vMax = icon.getInterpolatedV(16.0D - renderBlocks.renderMaxZ * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMinX * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxX * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(16.0D - renderBlocks.renderMinZ * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(16.0D - renderBlocks.renderMaxZ * 16.0D);
 
-                        setCornerUV(uMax, vMax, uMax, vMin, uMin, vMin, uMin, vMax);
+                        setCornerUV(ctx, ctx.uMax, ctx.vMax, ctx.uMax, ctx.vMin, ctx.uMin, ctx.vMin, ctx.uMin, ctx.vMax);
 
                         break;
 
                     case 3:
 
-                        uMin = icon.getInterpolatedU(renderBlocks.renderMaxZ * 16.0D);
-                        uMax = icon.getInterpolatedU(renderBlocks.renderMinZ * 16.0D);
-                        vMin = icon.getInterpolatedV(16.0D - renderBlocks.renderMinX * 16.0D);
-                        vMax = icon.getInterpolatedV(16.0D - renderBlocks.renderMaxX * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(renderBlocks.renderMaxZ * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(renderBlocks.renderMinZ * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(16.0D - renderBlocks.renderMinX * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(16.0D - renderBlocks.renderMaxX * 16.0D);
 
-                        setCornerUV(uMin, vMax, uMax, vMax, uMax, vMin, uMin, vMin);
+                        setCornerUV(ctx, ctx.uMin, ctx.vMax, ctx.uMax, ctx.vMax, ctx.uMax, ctx.vMin, ctx.uMin, ctx.vMin);
 
                         break;
 
@@ -207,49 +184,49 @@ public class RenderHelper extends VertexHelper {
 
             case UP:
 
-                switch (rotation) {
+                switch (ctx.rotation) {
 
                     case 0:
 
-                        uMin = icon.getInterpolatedU(renderBlocks.renderMinX * 16.0D);
-                        uMax = icon.getInterpolatedU(renderBlocks.renderMaxX * 16.0D);
-                        vMin = icon.getInterpolatedV(renderBlocks.renderMinZ * 16.0D);
-                        vMax = icon.getInterpolatedV(renderBlocks.renderMaxZ * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(renderBlocks.renderMinX * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(renderBlocks.renderMaxX * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(renderBlocks.renderMinZ * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(renderBlocks.renderMaxZ * 16.0D);
 
-                        setCornerUV(uMax, vMax, uMax, vMin, uMin, vMin, uMin, vMax);
+                        setCornerUV(ctx, ctx.uMax, ctx.vMax, ctx.uMax, ctx.vMin, ctx.uMin, ctx.vMin, ctx.uMin, ctx.vMax);
 
                         break;
 
                     case 1:
 
-                        uMin = icon.getInterpolatedU(renderBlocks.renderMaxZ * 16.0D);
-                        uMax = icon.getInterpolatedU(renderBlocks.renderMinZ * 16.0D);
-                        vMin = icon.getInterpolatedV(16.0D - renderBlocks.renderMinX * 16.0D);
-                        vMax = icon.getInterpolatedV(16.0D - renderBlocks.renderMaxX * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(renderBlocks.renderMaxZ * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(renderBlocks.renderMinZ * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(16.0D - renderBlocks.renderMinX * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(16.0D - renderBlocks.renderMaxX * 16.0D);
 
-                        setCornerUV(uMin, vMax, uMax, vMax, uMax, vMin, uMin, vMin);
+                        setCornerUV(ctx, ctx.uMin, ctx.vMax, ctx.uMax, ctx.vMax, ctx.uMax, ctx.vMin, ctx.uMin, ctx.vMin);
 
                         break;
 
                     case 2:
 
-                        uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMinX * 16.0D);
-                        uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxX * 16.0D);
-                        vMin = icon.getInterpolatedV(16.0D - renderBlocks.renderMinZ * 16.0D);
-                        vMax = icon.getInterpolatedV(16.0D - renderBlocks.renderMaxZ * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMinX * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxX * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(16.0D - renderBlocks.renderMinZ * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(16.0D - renderBlocks.renderMaxZ * 16.0D);
 
-                        setCornerUV(uMax, vMax, uMax, vMin, uMin, vMin, uMin, vMax);
+                        setCornerUV(ctx, ctx.uMax, ctx.vMax, ctx.uMax, ctx.vMin, ctx.uMin, ctx.vMin, ctx.uMin, ctx.vMax);
 
                         break;
 
                     case 3:
 
-                        uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxZ * 16.0D);
-                        uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMinZ * 16.0D);
-                        vMin = icon.getInterpolatedV(renderBlocks.renderMinX * 16.0D);
-                        vMax = icon.getInterpolatedV(renderBlocks.renderMaxX * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxZ * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMinZ * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(renderBlocks.renderMinX * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(renderBlocks.renderMaxX * 16.0D);
 
-                        setCornerUV(uMin, vMax, uMax, vMax, uMax, vMin, uMin, vMin);
+                        setCornerUV(ctx, ctx.uMin, ctx.vMax, ctx.uMax, ctx.vMax, ctx.uMax, ctx.vMin, ctx.uMin, ctx.vMin);
 
                         break;
 
@@ -259,49 +236,49 @@ public class RenderHelper extends VertexHelper {
 
             case NORTH:
 
-                switch (rotation) {
+                switch (ctx.rotation) {
 
                     case 0:
 
-                        uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxX * 16.0D);
-                        uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMinX * 16.0D);
-                        vMin = icon.getInterpolatedV(16.0D - (floatingIcon ? 1.0D - (renderBlocks.renderMaxY - renderBlocks.renderMinY) : renderBlocks.renderMinY) * 16.0D);
-                        vMax = icon.getInterpolatedV(16.0D - (floatingIcon ? 1.0D : renderBlocks.renderMaxY) * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxX * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMinX * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(16.0D - (ctx.floatingIcon ? 1.0D - (renderBlocks.renderMaxY - renderBlocks.renderMinY) : renderBlocks.renderMinY) * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(16.0D - (ctx.floatingIcon ? 1.0D : renderBlocks.renderMaxY) * 16.0D);
 
-                        setCornerUV(uMin, vMax, uMin, vMin, uMax, vMin, uMax, vMax);
+                        setCornerUV(ctx, ctx.uMin, ctx.vMax, ctx.uMin, ctx.vMin, ctx.uMax, ctx.vMin, ctx.uMax, ctx.vMax);
 
                         break;
 
                     case 1:
 
-                        uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxY * 16.0D);
-                        uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMinY * 16.0D);
-                        vMin = icon.getInterpolatedV(renderBlocks.renderMaxX * 16.0D);
-                        vMax = icon.getInterpolatedV(renderBlocks.renderMinX * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxY * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMinY * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(renderBlocks.renderMaxX * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(renderBlocks.renderMinX * 16.0D);
 
-                        setCornerUV(uMin, vMin, uMax, vMin, uMax, vMax, uMin, vMax);
+                        setCornerUV(ctx, ctx.uMin, ctx.vMin, ctx.uMax, ctx.vMin, ctx.uMax, ctx.vMax, ctx.uMin, ctx.vMax);
 
                         break;
 
                     case 2:
 
-                        uMin = icon.getInterpolatedU(renderBlocks.renderMaxX * 16.0D);
-                        uMax = icon.getInterpolatedU(renderBlocks.renderMinX * 16.0D);
-                        vMin = icon.getInterpolatedV(renderBlocks.renderMinY * 16.0D);
-                        vMax = icon.getInterpolatedV(renderBlocks.renderMaxY * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(renderBlocks.renderMaxX * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(renderBlocks.renderMinX * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(renderBlocks.renderMinY * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(renderBlocks.renderMaxY * 16.0D);
 
-                        setCornerUV(uMin, vMax, uMin, vMin, uMax, vMin, uMax, vMax);
+                        setCornerUV(ctx, ctx.uMin, ctx.vMax, ctx.uMin, ctx.vMin, ctx.uMax, ctx.vMin, ctx.uMax, ctx.vMax);
 
                         break;
 
                     case 3:
 
-                        uMin = icon.getInterpolatedU(renderBlocks.renderMaxY * 16.0D);
-                        uMax = icon.getInterpolatedU(renderBlocks.renderMinY * 16.0D);
-                        vMin = icon.getInterpolatedV(16.0D - renderBlocks.renderMaxX * 16.0D);
-                        vMax = icon.getInterpolatedV(16.0D - renderBlocks.renderMinX * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(renderBlocks.renderMaxY * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(renderBlocks.renderMinY * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(16.0D - renderBlocks.renderMaxX * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(16.0D - renderBlocks.renderMinX * 16.0D);
 
-                        setCornerUV(uMin, vMin, uMax, vMin, uMax, vMax, uMin, vMax);
+                        setCornerUV(ctx, ctx.uMin, ctx.vMin, ctx.uMax, ctx.vMin, ctx.uMax, ctx.vMax, ctx.uMin, ctx.vMax);
 
                         break;
 
@@ -311,49 +288,49 @@ public class RenderHelper extends VertexHelper {
 
             case SOUTH:
 
-                switch (rotation) {
+                switch (ctx.rotation) {
 
                     case 0:
 
-                        uMin = icon.getInterpolatedU(renderBlocks.renderMinX * 16.0D);
-                        uMax = icon.getInterpolatedU(renderBlocks.renderMaxX * 16.0D);
-                        vMin = icon.getInterpolatedV(16.0D - (floatingIcon ? 1.0D - (renderBlocks.renderMaxY - renderBlocks.renderMinY) : renderBlocks.renderMinY) * 16.0D);
-                        vMax = icon.getInterpolatedV(16.0D - (floatingIcon ? 1.0D : renderBlocks.renderMaxY) * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(renderBlocks.renderMinX * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(renderBlocks.renderMaxX * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(16.0D - (ctx.floatingIcon ? 1.0D - (renderBlocks.renderMaxY - renderBlocks.renderMinY) : renderBlocks.renderMinY) * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(16.0D - (ctx.floatingIcon ? 1.0D : renderBlocks.renderMaxY) * 16.0D);
 
-                        setCornerUV(uMin, vMax, uMin, vMin, uMax, vMin, uMax, vMax);
+                        setCornerUV(ctx, ctx.uMin, ctx.vMax, ctx.uMin, ctx.vMin, ctx.uMax, ctx.vMin, ctx.uMax, ctx.vMax);
 
                         break;
 
                     case 1:
 
-                        uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxY * 16.0D);
-                        uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMinY * 16.0D);
-                        vMin = icon.getInterpolatedV(16.0D - renderBlocks.renderMinX * 16.0D);
-                        vMax = icon.getInterpolatedV(16.0D - renderBlocks.renderMaxX * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxY * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMinY * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(16.0D - renderBlocks.renderMinX * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(16.0D - renderBlocks.renderMaxX * 16.0D);
 
-                        setCornerUV(uMin, vMin, uMax, vMin, uMax, vMax, uMin, vMax);
+                        setCornerUV(ctx, ctx.uMin, ctx.vMin, ctx.uMax, ctx.vMin, ctx.uMax, ctx.vMax, ctx.uMin, ctx.vMax);
 
                         break;
 
                     case 2:
 
-                        uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMinX * 16.0D);
-                        uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxX * 16.0D);
-                        vMin = icon.getInterpolatedV(renderBlocks.renderMinY * 16.0D);
-                        vMax = icon.getInterpolatedV(renderBlocks.renderMaxY * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMinX * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxX * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(renderBlocks.renderMinY * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(renderBlocks.renderMaxY * 16.0D);
 
-                        setCornerUV(uMin, vMax, uMin, vMin, uMax, vMin, uMax, vMax);
+                        setCornerUV(ctx, ctx.uMin, ctx.vMax, ctx.uMin, ctx.vMin, ctx.uMax, ctx.vMin, ctx.uMax, ctx.vMax);
 
                         break;
 
                     case 3:
 
-                        uMin = icon.getInterpolatedU(renderBlocks.renderMaxY * 16.0D);
-                        uMax = icon.getInterpolatedU(renderBlocks.renderMinY * 16.0D);
-                        vMin = icon.getInterpolatedV(renderBlocks.renderMinX * 16.0D);
-                        vMax = icon.getInterpolatedV(renderBlocks.renderMaxX * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(renderBlocks.renderMaxY * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(renderBlocks.renderMinY * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(renderBlocks.renderMinX * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(renderBlocks.renderMaxX * 16.0D);
 
-                        setCornerUV(uMin, vMin, uMax, vMin, uMax, vMax, uMin, vMax);
+                        setCornerUV(ctx, ctx.uMin, ctx.vMin, ctx.uMax, ctx.vMin, ctx.uMax, ctx.vMax, ctx.uMin, ctx.vMax);
 
                         break;
 
@@ -363,49 +340,49 @@ public class RenderHelper extends VertexHelper {
 
             case WEST:
 
-                switch (rotation) {
+                switch (ctx.rotation) {
 
                     case 0:
 
-                        uMin = icon.getInterpolatedU(renderBlocks.renderMinZ * 16.0D);
-                        uMax = icon.getInterpolatedU(renderBlocks.renderMaxZ * 16.0D);
-                        vMax = icon.getInterpolatedV(16.0D - (floatingIcon ? 1.0D : renderBlocks.renderMaxY) * 16.0D);
-                        vMin = icon.getInterpolatedV(16.0D - (floatingIcon ? 1.0D - (renderBlocks.renderMaxY - renderBlocks.renderMinY) : renderBlocks.renderMinY) * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(renderBlocks.renderMinZ * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(renderBlocks.renderMaxZ * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(16.0D - (ctx.floatingIcon ? 1.0D : renderBlocks.renderMaxY) * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(16.0D - (ctx.floatingIcon ? 1.0D - (renderBlocks.renderMaxY - renderBlocks.renderMinY) : renderBlocks.renderMinY) * 16.0D);
 
-                        setCornerUV(uMin, vMax, uMin, vMin, uMax, vMin, uMax, vMax);
+                        setCornerUV(ctx, ctx.uMin, ctx.vMax, ctx.uMin, ctx.vMin, ctx.uMax, ctx.vMin, ctx.uMax, ctx.vMax);
 
                         break;
 
                     case 1:
 
-                        uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxY * 16.0D);
-                        uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMinY * 16.0D);
-                        vMin = icon.getInterpolatedV(16.0D - renderBlocks.renderMinZ * 16.0D);
-                        vMax = icon.getInterpolatedV(16.0D - renderBlocks.renderMaxZ * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxY * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMinY * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(16.0D - renderBlocks.renderMinZ * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(16.0D - renderBlocks.renderMaxZ * 16.0D);
 
-                        setCornerUV(uMin, vMin, uMax, vMin, uMax, vMax, uMin, vMax);
+                        setCornerUV(ctx, ctx.uMin, ctx.vMin, ctx.uMax, ctx.vMin, ctx.uMax, ctx.vMax, ctx.uMin, ctx.vMax);
 
                         break;
 
                     case 2:
 
-                        uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMinZ * 16.0D);
-                        uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxZ * 16.0D);
-                        vMin = icon.getInterpolatedV(renderBlocks.renderMinY * 16.0D);
-                        vMax = icon.getInterpolatedV(renderBlocks.renderMaxY * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMinZ * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxZ * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(renderBlocks.renderMinY * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(renderBlocks.renderMaxY * 16.0D);
 
-                        setCornerUV(uMin, vMax, uMin, vMin, uMax, vMin, uMax, vMax);
+                        setCornerUV(ctx, ctx.uMin, ctx.vMax, ctx.uMin, ctx.vMin, ctx.uMax, ctx.vMin, ctx.uMax, ctx.vMax);
 
                         break;
 
                     case 3:
 
-                        uMin = icon.getInterpolatedU(renderBlocks.renderMaxY * 16.0D);
-                        uMax = icon.getInterpolatedU(renderBlocks.renderMinY * 16.0D);
-                        vMin = icon.getInterpolatedV(renderBlocks.renderMinZ * 16.0D);
-                        vMax = icon.getInterpolatedV(renderBlocks.renderMaxZ * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(renderBlocks.renderMaxY * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(renderBlocks.renderMinY * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(renderBlocks.renderMinZ * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(renderBlocks.renderMaxZ * 16.0D);
 
-                        setCornerUV(uMin, vMin, uMax, vMin, uMax, vMax, uMin, vMax);
+                        setCornerUV(ctx, ctx.uMin, ctx.vMin, ctx.uMax, ctx.vMin, ctx.uMax, ctx.vMax, ctx.uMin, ctx.vMax);
 
                         break;
 
@@ -415,49 +392,49 @@ public class RenderHelper extends VertexHelper {
 
             case EAST:
 
-                switch (rotation) {
+                switch (ctx.rotation) {
 
                     case 0:
 
-                        uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxZ * 16.0D);
-                        uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMinZ * 16.0D);
-                        vMax = icon.getInterpolatedV(16.0D - (floatingIcon ? 1.0D : renderBlocks.renderMaxY) * 16.0D);
-                        vMin = icon.getInterpolatedV(16.0D - (floatingIcon ? 1.0D - (renderBlocks.renderMaxY - renderBlocks.renderMinY) : renderBlocks.renderMinY) * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxZ * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMinZ * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(16.0D - (ctx.floatingIcon ? 1.0D : renderBlocks.renderMaxY) * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(16.0D - (ctx.floatingIcon ? 1.0D - (renderBlocks.renderMaxY - renderBlocks.renderMinY) : renderBlocks.renderMinY) * 16.0D);
 
-                        setCornerUV(uMin, vMax, uMin, vMin, uMax, vMin, uMax, vMax);
+                        setCornerUV(ctx, ctx.uMin, ctx.vMax, ctx.uMin, ctx.vMin, ctx.uMax, ctx.vMin, ctx.uMax, ctx.vMax);
 
                         break;
 
                     case 1:
 
-                        uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxY * 16.0D);
-                        uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMinY * 16.0D);
-                        vMin = icon.getInterpolatedV(renderBlocks.renderMaxZ * 16.0D);
-                        vMax = icon.getInterpolatedV(renderBlocks.renderMinZ * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(16.0D - renderBlocks.renderMaxY * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(16.0D - renderBlocks.renderMinY * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(renderBlocks.renderMaxZ * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(renderBlocks.renderMinZ * 16.0D);
 
-                        setCornerUV(uMin, vMin, uMax, vMin, uMax, vMax, uMin, vMax);
+                        setCornerUV(ctx, ctx.uMin, ctx.vMin, ctx.uMax, ctx.vMin, ctx.uMax, ctx.vMax, ctx.uMin, ctx.vMax);
 
                         break;
 
                     case 2:
 
-                        uMin = icon.getInterpolatedU(renderBlocks.renderMaxZ * 16.0D);
-                        uMax = icon.getInterpolatedU(renderBlocks.renderMinZ * 16.0D);
-                        vMin = icon.getInterpolatedV(renderBlocks.renderMinY * 16.0D);
-                        vMax = icon.getInterpolatedV(renderBlocks.renderMaxY * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(renderBlocks.renderMaxZ * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(renderBlocks.renderMinZ * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(renderBlocks.renderMinY * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(renderBlocks.renderMaxY * 16.0D);
 
-                        setCornerUV(uMin, vMax, uMin, vMin, uMax, vMin, uMax, vMax);
+                        setCornerUV(ctx, ctx.uMin, ctx.vMax, ctx.uMin, ctx.vMin, ctx.uMax, ctx.vMin, ctx.uMax, ctx.vMax);
 
                         break;
 
                     case 3:
 
-                        uMin = icon.getInterpolatedU(renderBlocks.renderMaxY * 16.0D);
-                        uMax = icon.getInterpolatedU(renderBlocks.renderMinY * 16.0D);
-                        vMin = icon.getInterpolatedV(16.0D - renderBlocks.renderMaxZ * 16.0D);
-                        vMax = icon.getInterpolatedV(16.0D - renderBlocks.renderMinZ * 16.0D);
+                        ctx.uMin = icon.getInterpolatedU(renderBlocks.renderMaxY * 16.0D);
+                        ctx.uMax = icon.getInterpolatedU(renderBlocks.renderMinY * 16.0D);
+                        ctx.vMin = icon.getInterpolatedV(16.0D - renderBlocks.renderMaxZ * 16.0D);
+                        ctx.vMax = icon.getInterpolatedV(16.0D - renderBlocks.renderMinZ * 16.0D);
 
-                        setCornerUV(uMin, vMin, uMax, vMin, uMax, vMax, uMin, vMax);
+                        setCornerUV(ctx, ctx.uMin, ctx.vMin, ctx.uMax, ctx.vMin, ctx.uMax, ctx.vMax, ctx.uMin, ctx.vMax);
 
                         break;
 
@@ -475,12 +452,14 @@ public class RenderHelper extends VertexHelper {
      */
     public static void renderFaceYNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.DOWN, x, y, z, icon);
+        RenderContext ctx = RenderContext.get();
 
-        setupVertex(renderBlocks, xMin, yMin, zMax, uTR, vTR, SOUTHWEST);
-        setupVertex(renderBlocks, xMin, yMin, zMin, uBR, vBR, NORTHWEST);
-        setupVertex(renderBlocks, xMax, yMin, zMin, uBL, vBL, NORTHEAST);
-        setupVertex(renderBlocks, xMax, yMin, zMax, uTL, vTL, SOUTHEAST);
+        prepareRender(ctx, renderBlocks, ForgeDirection.DOWN, x, y, z, icon);
+
+        setupVertex(ctx, renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHWEST);
+        setupVertex(ctx, renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, NORTHWEST);
+        setupVertex(ctx, renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, NORTHEAST);
+        setupVertex(ctx, renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHEAST);
     }
 
     /**
@@ -488,12 +467,14 @@ public class RenderHelper extends VertexHelper {
      */
     public static void renderFaceYPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.UP, x, y, z, icon);
+        RenderContext ctx = RenderContext.get();
+
+        prepareRender(ctx, renderBlocks, ForgeDirection.UP, x, y, z, icon);
 
-        setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, SOUTHEAST);
-        setupVertex(renderBlocks, xMax, yMax, zMin, uBL, vBL, NORTHEAST);
-        setupVertex(renderBlocks, xMin, yMax, zMin, uBR, vBR, NORTHWEST);
-        setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, SOUTHWEST);
+        setupVertex(ctx, renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHEAST);
+        setupVertex(ctx, renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uBL, ctx.vBL, NORTHEAST);
+        setupVertex(ctx, renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uBR, ctx.vBR, NORTHWEST);
+        setupVertex(ctx, renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHWEST);
     }
 
     /**
@@ -501,12 +482,14 @@ public class RenderHelper extends VertexHelper {
      */
     public static void renderFaceZNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
+        RenderContext ctx = RenderContext.get();
 
-        setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, TOP_LEFT    );
-        setupVertex(renderBlocks, xMax, yMin, zMin, uBL, vBL, BOTTOM_LEFT );
-        setupVertex(renderBlocks, xMin, yMin, zMin, uBR, vBR, BOTTOM_RIGHT);
-        setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, TOP_RIGHT   );
+        prepareRender(ctx, renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
+
+        setupVertex(ctx, renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, TOP_LEFT    );
+        setupVertex(ctx, renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, BOTTOM_LEFT );
+        setupVertex(ctx, renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, BOTTOM_RIGHT);
+        setupVertex(ctx, renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, TOP_RIGHT   );
     }
 
     /**
@@ -514,12 +497,14 @@ public class RenderHelper extends VertexHelper {
      */
     public static void renderFaceZPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
+        RenderContext ctx = RenderContext.get();
+
+        prepareRender(ctx, renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
 
-        setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, TOP_LEFT    );
-        setupVertex(renderBlocks, xMin, yMin, zMax, uBL, vBL, BOTTOM_LEFT );
-        setupVertex(renderBlocks, xMax, yMin, zMax, uBR, vBR, BOTTOM_RIGHT);
-        setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, TOP_RIGHT   );
+        setupVertex(ctx, renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, TOP_LEFT    );
+        setupVertex(ctx, renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, BOTTOM_LEFT );
+        setupVertex(ctx, renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, BOTTOM_RIGHT);
+        setupVertex(ctx, renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, TOP_RIGHT   );
     }
 
     /**
@@ -527,12 +512,14 @@ public class RenderHelper extends VertexHelper {
      */
     public static void renderFaceXNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
+        RenderContext ctx = RenderContext.get();
 
-        setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, TOP_LEFT    );
-        setupVertex(renderBlocks, xMin, yMin, zMin, uBL, vBL, BOTTOM_LEFT );
-        setupVertex(renderBlocks, xMin, yMin, zMax, uBR, vBR, BOTTOM_RIGHT);
-        setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, TOP_RIGHT   );
+        prepareRender(ctx, renderBlocks, ForgeDirection.WEST, x, y, z, icon);
+
+        setupVertex(ctx, renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, TOP_LEFT    );
+        setupVertex(ctx, renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, BOTTOM_LEFT );
+        setupVertex(ctx, renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, BOTTOM_RIGHT);
+        setupVertex(ctx, renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, TOP_RIGHT   );
     }
 
     /**
@@ -540,12 +527,14 @@ public class RenderHelper extends VertexHelper {
      */
     public static void renderFaceXPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
+        RenderContext ctx = RenderContext.get();
+
+        prepareRender(ctx, renderBlocks, ForgeDirection.EAST, x, y, z, icon);
 
-        setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, TOP_LEFT    );
-        setupVertex(renderBlocks, xMax, yMin, zMax, uBL, vBL, BOTTOM_LEFT );
-        setupVertex(renderBlocks, xMax, yMin, zMin, uBR, vBR, BOTTOM_RIGHT);
-        setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, TOP_RIGHT   );
+        setupVertex(ctx, renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, TOP_LEFT    );
+        setupVertex(ctx, renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, BOTTOM_LEFT );
+        setupVertex(ctx, renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, BOTTOM_RIGHT);
+        setupVertex(ctx, renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, TOP_RIGHT   );
     }
 
 }
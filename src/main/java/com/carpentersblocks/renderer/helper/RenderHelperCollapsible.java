@@ -3,7 +3,6 @@ package com.carpentersblocks.renderer.helper;
 import net.minecraft.client.renderer.RenderBlocks;
 import net.minecraft.util.IIcon;
 import net.minecraftforge.common.util.ForgeDirection;
-import com.carpentersblocks.util.collapsible.CollapsibleUtil;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
@@ -15,14 +14,16 @@ public class RenderHelperCollapsible extends RenderHelper {
      */
     public static void renderSlopeYPosZNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.UP, x, y, z, icon);
+        RenderContext ctx = RenderContext.get();
 
-        double uTM = uTR - (uTR - uTL) / 2;
-        double xMid = xMax - (xMax - xMin) / 2;
+        prepareRender(ctx, renderBlocks, ForgeDirection.UP, x, y, z, icon);
 
-        setupVertex(renderBlocks, xMid, y + CollapsibleUtil.CENTER_YMAX, zMax, uTM, vTR, TOP_CENTER  );
-        setupVertex(renderBlocks, xMax, y + CollapsibleUtil.offset_XZPN, zMin, uBL, vBL, NORTHEAST   );
-        setupVertex(renderBlocks, xMin, y + CollapsibleUtil.offset_XZNN, zMin, uBR, vBR, NORTHWEST   );
+        double uTM = ctx.uTR - (ctx.uTR - ctx.uTL) / 2;
+        double xMid = ctx.xMax - (ctx.xMax - ctx.xMin) / 2;
+
+        setupVertex(ctx, renderBlocks, xMid, y + ctx.collapsible.CENTER_YMAX, ctx.zMax, uTM, ctx.vTR, TOP_CENTER  );
+        setupVertex(ctx, renderBlocks, ctx.xMax, y + ctx.collapsible.offset_XZPN, ctx.zMin, ctx.uBL, ctx.vBL, NORTHEAST   );
+        setupVertex(ctx, renderBlocks, ctx.xMin, y + ctx.collapsible.offset_XZNN, ctx.zMin, ctx.uBR, ctx.vBR, NORTHWEST   );
     }
 
     /**
@@ -30,14 +31,16 @@ public class RenderHelperCollapsible extends RenderHelper {
      */
     public static void renderSlopeYPosZPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.UP, x, y, z, icon);
+        RenderContext ctx = RenderContext.get();
+
+        prepareRender(ctx, renderBlocks, ForgeDirection.UP, x, y, z, icon);
 
-        double uBM = uBR - (uBR - uBL) / 2;
-        double xMid = xMax - (xMax - xMin) / 2;
+        double uBM = ctx.uBR - (ctx.uBR - ctx.uBL) / 2;
+        double xMid = ctx.xMax - (ctx.xMax - ctx.xMin) / 2;
 
-        setupVertex(renderBlocks, xMax, y + CollapsibleUtil.offset_XZPP, zMax, uTL, vTL, SOUTHEAST    );
-        setupVertex(renderBlocks, xMid, y + CollapsibleUtil.CENTER_YMAX, zMin, uBM, vBR, BOTTOM_CENTER);
-        setupVertex(renderBlocks, xMin, y + CollapsibleUtil.offset_XZNP, zMax, uTR, vTR, SOUTHWEST    );
+        setupVertex(ctx, renderBlocks, ctx.xMax, y + ctx.collapsible.offset_XZPP, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHEAST    );
+        setupVertex(ctx, renderBlocks, xMid, y + ctx.collapsible.CENTER_YMAX, ctx.zMin, uBM, ctx.vBR, BOTTOM_CENTER);
+        setupVertex(ctx, renderBlocks, ctx.xMin, y + ctx.collapsible.offset_XZNP, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHWEST    );
     }
 
     /**
@@ -45,14 +48,16 @@ public class RenderHelperCollapsible extends RenderHelper {
      */
     public static void renderSlopeXNegYPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.UP, x, y, z, icon);
+        RenderContext ctx = RenderContext.get();
 
-        double vLM = vBL - (vBL - vTL) / 2;
-        double zMid = zMax - (zMax - zMin) / 2;
+        prepareRender(ctx, renderBlocks, ForgeDirection.UP, x, y, z, icon);
 
-        setupVertex(renderBlocks, xMax, y + CollapsibleUtil.CENTER_YMAX, zMid, uBL, vLM, LEFT_CENTER );
-        setupVertex(renderBlocks, xMin, y + CollapsibleUtil.offset_XZNN, zMin, uBR, vBR, NORTHWEST   );
-        setupVertex(renderBlocks, xMin, y + CollapsibleUtil.offset_XZNP, zMax, uTR, vTR, SOUTHWEST   );
+        double vLM = ctx.vBL - (ctx.vBL - ctx.vTL) / 2;
+        double zMid = ctx.zMax - (ctx.zMax - ctx.zMin) / 2;
+
+        setupVertex(ctx, renderBlocks, ctx.xMax, y + ctx.collapsible.CENTER_YMAX, zMid, ctx.uBL, vLM, LEFT_CENTER );
+        setupVertex(ctx, renderBlocks, ctx.xMin, y + ctx.collapsible.offset_XZNN, ctx.zMin, ctx.uBR, ctx.vBR, NORTHWEST   );
+        setupVertex(ctx, renderBlocks, ctx.xMin, y + ctx.collapsible.offset_XZNP, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHWEST   );
     }
 
     /**
@@ -60,14 +65,16 @@ public class RenderHelperCollapsible extends RenderHelper {
      */
     public static void renderSlopeXPosYPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.UP, x, y, z, icon);
+        RenderContext ctx = RenderContext.get();
+
+        prepareRender(ctx, renderBlocks, ForgeDirection.UP, x, y, z, icon);
 
-        double vRM = vBR - (vBR - vTR) / 2;
-        double zMid = zMax - (zMax - zMin) / 2;
+        double vRM = ctx.vBR - (ctx.vBR - ctx.vTR) / 2;
+        double zMid = ctx.zMax - (ctx.zMax - ctx.zMin) / 2;
 
-        setupVertex(renderBlocks, xMax, y + CollapsibleUtil.offset_XZPP, zMax, uTL, vTL, SOUTHEAST   );
-        setupVertex(renderBlocks, xMax, y + CollapsibleUtil.offset_XZPN, zMin, uBL, vBL, NORTHEAST   );
-        setupVertex(renderBlocks, xMin, y + CollapsibleUtil.CENTER_YMAX, zMid, uBR, vRM, RIGHT_CENTER);
+        setupVertex(ctx, renderBlocks, ctx.xMax, y + ctx.collapsible.offset_XZPP, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHEAST   );
+        setupVertex(ctx, renderBlocks, ctx.xMax, y + ctx.collapsible.offset_XZPN, ctx.zMin, ctx.uBL, ctx.vBL, NORTHEAST   );
+        setupVertex(ctx, renderBlocks, ctx.xMin, y + ctx.collapsible.CENTER_YMAX, zMid, ctx.uBR, vRM, RIGHT_CENTER);
     }
 
     /**
@@ -75,20 +82,22 @@ public class RenderHelperCollapsible extends RenderHelper {
      */
     public static void renderFaceZNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
+        RenderContext ctx = RenderContext.get();
 
-        if (floatingIcon) {
-            vBL = vTL - (vTL - vBL) * CollapsibleUtil.offset_XZPN;
-            vBR = vTR - (vTR - vBR) * CollapsibleUtil.offset_XZNN;
+        prepareRender(ctx, renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
+
+        if (ctx.floatingIcon) {
+            ctx.vBL = ctx.vTL - (ctx.vTL - ctx.vBL) * ctx.collapsible.offset_XZPN;
+            ctx.vBR = ctx.vTR - (ctx.vTR - ctx.vBR) * ctx.collapsible.offset_XZNN;
         } else {
-            vTL = vBL + (vTL - vBL) * CollapsibleUtil.offset_XZPN;
-            vTR = vBR + (vTR - vBR) * CollapsibleUtil.offset_XZNN;
+            ctx.vTL = ctx.vBL + (ctx.vTL - ctx.vBL) * ctx.collapsible.offset_XZPN;
+            ctx.vTR = ctx.vBR + (ctx.vTR - ctx.vBR) * ctx.collapsible.offset_XZNN;
         }
 
-        setupVertex(renderBlocks, xMax, yMin + CollapsibleUtil.offset_XZPN, zMin, uTL, vTL, TOP_LEFT    );
-        setupVertex(renderBlocks, xMax,                               yMin, zMin, uBL, vBL, BOTTOM_LEFT );
-        setupVertex(renderBlocks, xMin,                               yMin, zMin, uBR, vBR, BOTTOM_RIGHT);
-        setupVertex(renderBlocks, xMin, yMin + CollapsibleUtil.offset_XZNN, zMin, uTR, vTR, TOP_RIGHT   );
+        setupVertex(ctx, renderBlocks, ctx.xMax, ctx.yMin + ctx.collapsible.offset_XZPN, ctx.zMin, ctx.uTL, ctx.vTL, TOP_LEFT    );
+        setupVertex(ctx, renderBlocks, ctx.xMax,                   ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, BOTTOM_LEFT );
+        setupVertex(ctx, renderBlocks, ctx.xMin,                   ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, BOTTOM_RIGHT);
+        setupVertex(ctx, renderBlocks, ctx.xMin, ctx.yMin + ctx.collapsible.offset_XZNN, ctx.zMin, ctx.uTR, ctx.vTR, TOP_RIGHT   );
     }
 
     /**
@@ -96,20 +105,22 @@ public class RenderHelperCollapsible extends RenderHelper {
      */
     public static void renderFaceZPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
+        RenderContext ctx = RenderContext.get();
+
+        prepareRender(ctx, renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
 
-        if (floatingIcon) {
-            vBL = vTL - (vTL - vBL) * CollapsibleUtil.offset_XZNP;
-            vBR = vTR - (vTR - vBR) * CollapsibleUtil.offset_XZPP;
+        if (ctx.floatingIcon) {
+            ctx.vBL = ctx.vTL - (ctx.vTL - ctx.vBL) * ctx.collapsible.offset_XZNP;
+            ctx.vBR = ctx.vTR - (ctx.vTR - ctx.vBR) * ctx.collapsible.offset_XZPP;
         } else {
-            vTL = vBL + (vTL - vBL) * CollapsibleUtil.offset_XZNP;
-            vTR = vBR + (vTR - vBR) * CollapsibleUtil.offset_XZPP;
+            ctx.vTL = ctx.vBL + (ctx.vTL - ctx.vBL) * ctx.collapsible.offset_XZNP;
+            ctx.vTR = ctx.vBR + (ctx.vTR - ctx.vBR) * ctx.collapsible.offset_XZPP;
         }
 
-        setupVertex(renderBlocks, xMin, yMin + CollapsibleUtil.offset_XZNP, zMax, uTL, vTL, TOP_LEFT    );
-        setupVertex(renderBlocks, xMin,                               yMin, zMax, uBL, vBL, BOTTOM_LEFT );
-        setupVertex(renderBlocks, xMax,                               yMin, zMax, uBR, vBR, BOTTOM_RIGHT);
-        setupVertex(renderBlocks, xMax, yMin + CollapsibleUtil.offset_XZPP, zMax, uTR, vTR, TOP_RIGHT   );
+        setupVertex(ctx, renderBlocks, ctx.xMin, ctx.yMin + ctx.collapsible.offset_XZNP, ctx.zMax, ctx.uTL, ctx.vTL, TOP_LEFT    );
+        setupVertex(ctx, renderBlocks, ctx.xMin,                   ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, BOTTOM_LEFT );
+        setupVertex(ctx, renderBlocks, ctx.xMax,                   ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, BOTTOM_RIGHT);
+        setupVertex(ctx, renderBlocks, ctx.xMax, ctx.yMin + ctx.collapsible.offset_XZPP, ctx.zMax, ctx.uTR, ctx.vTR, TOP_RIGHT   );
     }
 
     /**
@@ -117,20 +128,22 @@ public class RenderHelperCollapsible extends RenderHelper {
      */
     public static void renderFaceXNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
+        RenderContext ctx = RenderContext.get();
 
-        if (floatingIcon) {
-            vBL = vTL - (vTL - vBL) * CollapsibleUtil.offset_XZNN;
-            vBR = vTR - (vTR - vBR) * CollapsibleUtil.offset_XZNP;
+        prepareRender(ctx, renderBlocks, ForgeDirection.WEST, x, y, z, icon);
+
+        if (ctx.floatingIcon) {
+            ctx.vBL = ctx.vTL - (ctx.vTL - ctx.vBL) * ctx.collapsible.offset_XZNN;
+            ctx.vBR = ctx.vTR - (ctx.vTR - ctx.vBR) * ctx.collapsible.offset_XZNP;
         } else {
-            vTL = vBL + (vTL - vBL) * CollapsibleUtil.offset_XZNN;
-            vTR = vBR + (vTR - vBR) * CollapsibleUtil.offset_XZNP;
+            ctx.vTL = ctx.vBL + (ctx.vTL - ctx.vBL) * ctx.collapsible.offset_XZNN;
+            ctx.vTR = ctx.vBR + (ctx.vTR - ctx.vBR) * ctx.collapsible.offset_XZNP;
         }
 
-        setupVertex(renderBlocks, xMin, yMin + CollapsibleUtil.offset_XZNN, zMin, uTL, vTL, TOP_LEFT    );
-        setupVertex(renderBlocks, xMin,                               yMin, zMin, uBL, vBL, BOTTOM_LEFT );
-        setupVertex(renderBlocks, xMin,                               yMin, zMax, uBR, vBR, BOTTOM_RIGHT);
-        setupVertex(renderBlocks, xMin, yMin + CollapsibleUtil.offset_XZNP, zMax, uTR, vTR, TOP_RIGHT   );
+        setupVertex(ctx, renderBlocks, ctx.xMin, ctx.yMin + ctx.collapsible.offset_XZNN, ctx.zMin, ctx.uTL, ctx.vTL, TOP_LEFT    );
+        setupVertex(ctx, renderBlocks, ctx.xMin,                   ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, BOTTOM_LEFT );
+        setupVertex(ctx, renderBlocks, ctx.xMin,                   ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, BOTTOM_RIGHT);
+        setupVertex(ctx, renderBlocks, ctx.xMin, ctx.yMin + ctx.collapsible.offset_XZNP, ctx.zMax, ctx.uTR, ctx.vTR, TOP_RIGHT   );
     }
 
     /**
@@ -138,20 +151,22 @@ public class RenderHelperCollapsible extends RenderHelper {
      */
     public static void renderFaceXPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
+        RenderContext ctx = RenderContext.get();
+
+        prepareRender(ctx, renderBlocks, ForgeDirection.EAST, x, y, z, icon);
 
-        if (floatingIcon) {
-            vBL = vTL - (vTL - vBL) * CollapsibleUtil.offset_XZPP;
-            vBR = vTR - (vTR - vBR) * CollapsibleUtil.offset_XZPN;
+        if (ctx.floatingIcon) {
+            ctx.vBL = ctx.vTL - (ctx.vTL - ctx.vBL) * ctx.collapsible.offset_XZPP;
+            ctx.vBR = ctx.vTR - (ctx.vTR - ctx.vBR) * ctx.collapsible.offset_XZPN;
         } else {
-            vTL = vBL + (vTL - vBL) * CollapsibleUtil.offset_XZPP;
-            vTR = vBR + (vTR - vBR) * CollapsibleUtil.offset_XZPN;
+            ctx.vTL = ctx.vBL + (ctx.vTL - ctx.vBL) * ctx.collapsible.offset_XZPP;
+            ctx.vTR = ctx.vBR + (ctx.vTR - ctx.vBR) * ctx.collapsible.offset_XZPN;
         }
 
-        setupVertex(renderBlocks, xMax, yMin + CollapsibleUtil.offset_XZPP, zMax, uTL, vTL, TOP_LEFT    );
-        setupVertex(renderBlocks, xMax,                               yMin, zMax, uBL, vBL, BOTTOM_LEFT );
-        setupVertex(renderBlocks, xMax,                               yMin, zMin, uBR, vBR, BOTTOM_RIGHT);
-        setupVertex(renderBlocks, xMax, yMin + CollapsibleUtil.offset_XZPN, zMin, uTR, vTR, TOP_RIGHT   );
+        setupVertex(ctx, renderBlocks, ctx.xMax, ctx.yMin + ctx.collapsible.offset_XZPP, ctx.zMax, ctx.uTL, ctx.vTL, TOP_LEFT    );
+        setupVertex(ctx, renderBlocks, ctx.xMax,                   ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, BOTTOM_LEFT );
+        setupVertex(ctx, renderBlocks, ctx.xMax,                   ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, BOTTOM_RIGHT);
+        setupVertex(ctx, renderBlocks, ctx.xMax, ctx.yMin + ctx.collapsible.offset_XZPN, ctx.zMin, ctx.uTR, ctx.vTR, TOP_RIGHT   );
     }
 
 }
@@ -24,22 +24,6 @@ public class VertexHelper {
     public final static int LEFT_CENTER   = 6;
     public final static int RIGHT_CENTER  = 7;
 
-    private static boolean   clearFloat       = false;
-    protected static boolean floatingIcon     = false;
-
-    private static int drawMode;
-
-    /** Keeps track of vertices drawn per pass. */
-    public static int vertexCount = 0;
-
-    /** Keeps track of vertex draws when in triangle mode. */
-    private static int triVertexCount = 0;
-
-    /**
-     * Offset used for faces.
-     */
-    protected static double offset = 0.0D;
-
     /**
      * Sets draw mode internally.
      * <p>
@@ -51,7 +35,7 @@ public class VertexHelper {
      */
     public static void startDrawing(int inDrawMode)
     {
-        drawMode = inDrawMode;
+        RenderContext.get().drawMode = inDrawMode;
     }
 
     /**
@@ -64,7 +48,7 @@ public class VertexHelper {
      */
     public static boolean hasFloatingIcon()
     {
-        return floatingIcon;
+        return RenderContext.get().floatingIcon;
     }
 
     /**
@@ -74,7 +58,12 @@ public class VertexHelper {
      */
     public static void setFloatingIcon()
     {
-        floatingIcon = clearFloat = true;
+        setFloatingIcon(RenderContext.get());
+    }
+
+    protected static void setFloatingIcon(RenderContext ctx)
+    {
+        ctx.floatingIcon = ctx.clearFloat = true;
     }
 
     /**
@@ -82,7 +71,7 @@ public class VertexHelper {
      */
     public static void setFloatingIconLock()
     {
-        floatingIcon = true;
+        RenderContext.get().floatingIcon = true;
     }
 
     /**
@@ -90,23 +79,7 @@ public class VertexHelper {
      */
     public static void clearFloatingIconLock()
     {
-        floatingIcon = false;
-    }
-
-    /**
-     * Sets offset for drawing face.
-     */
-    public static void setOffset(double render_offset)
-    {
-        offset = render_offset;
-    }
-
-    /**
-     * Clears offset.
-     */
-    public static void clearOffset()
-    {
-        offset = 0.0D;
+        RenderContext.get().floatingIcon = false;
     }
 
     /**
@@ -114,8 +87,9 @@ public class VertexHelper {
      */
     public static void postRender()
     {
-        if (clearFloat) {
-            floatingIcon = clearFloat = false;
+        RenderContext ctx = RenderContext.get();
+        if (ctx.clearFloat) {
+            ctx.floatingIcon = ctx.clearFloat = false;
         }
     }
 
@@ -123,15 +97,28 @@ public class VertexHelper {
      * Adds vertex to Tessellator and increments draw count.
      */
     public static void drawVertex(RenderBlocks renderBlocks, double x, double y, double z, double u, double v)
+    {
+        RenderContext ctx = RenderContext.get();
+
+        /* Color is set by caller, so vertex cannot be baked. */
+
+        if (ctx.bakedQuads != null) {
+            ctx.bakedQuads.invalidate();
+        }
+
+        drawVertex(ctx, x, y, z, u, v);
+    }
+
+    private static void drawVertex(RenderContext ctx, double x, double y, double z, double u, double v)
     {
         Tessellator.instance.addVertexWithUV(x, y, z, u, v);
-        ++vertexCount;
+        ++ctx.vertexCount;
     }
 
     /**
      * Applies brightness, color, and adds vertex through tessellator.
      * <p>
-     * If {@link #drawMode} is {@link GL11#GL_TRIANGLES Triangles}, will automatically
+     * If {@link RenderContext#drawMode} is {@link GL11#GL_TRIANGLES Triangles}, will automatically
      * duplicate the third vertex to form a {@link GL11#GL_QUADS Quad}.
      *
      * @param renderBlocks the {@link RenderBlocks}
@@ -144,6 +131,17 @@ public class VertexHelper {
      * @see   {@link #startDrawing(int)}
      */
     public static void setupVertex(RenderBlocks renderBlocks, double x, double y, double z, double u, double v, int vertex)
+    {
+        setupVertex(RenderContext.get(), renderBlocks, x, y, z, u, v, vertex);
+    }
+
+    /**
+     * Applies brightness, color, and adds vertex through tessellator
+     * using given render context.
+     *
+     * @see {@link #setupVertex(RenderBlocks, double, double, double, double, double, int)}
+     */
+    protected static void setupVertex(RenderContext ctx, RenderBlocks renderBlocks, double x, double y, double z, double u, double v, int vertex)
     {
         Tessellator tessellator = Tessellator.instance;
 
@@ -186,14 +184,23 @@ public class VertexHelper {
 
         }
 
-        drawVertex(renderBlocks, x, y, z, u, v);
+        drawVertex(ctx, x, y, z, u, v);
 
         /* Alpha quad sorting and ShadersModeCore won't work with triangles, so make them a quad. */
 
-        if (drawMode == GL11.GL_TRIANGLES) {
-            if (++triVertexCount > 2) {
-                drawVertex(renderBlocks, x, y, z, u, v);
-                triVertexCount = 0;
+        boolean isQuadEnd = false;
+        if (ctx.drawMode == GL11.GL_TRIANGLES) {
+            if (++ctx.triVertexCount > 2) {
+                drawVertex(ctx, x, y, z, u, v);
+                ctx.triVertexCount = 0;
+                isQuadEnd = true;
+            }
+        }
+
+        if (ctx.bakedQuads != null) {
+            ctx.bakedQuads.addVertex(x, y, z, u, v, vertex);
+            if (isQuadEnd) {
+                ctx.bakedQuads.addVertex(x, y, z, u, v, vertex);
             }
         }
     }
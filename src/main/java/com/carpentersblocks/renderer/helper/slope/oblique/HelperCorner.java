@@ -1,9 +1,12 @@
 package com.carpentersblocks.renderer.helper.slope.oblique;
 
+import static com.carpentersblocks.renderer.helper.FaceTemplate.MAX;
+import static com.carpentersblocks.renderer.helper.FaceTemplate.MIN;
 import net.minecraft.client.renderer.RenderBlocks;
 import net.minecraft.util.IIcon;
 import net.minecraftforge.common.util.ForgeDirection;
 import com.carpentersblocks.data.Slope;
+import com.carpentersblocks.renderer.helper.FaceTemplate;
 import com.carpentersblocks.renderer.helper.RenderHelper;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -11,55 +14,311 @@ import cpw.mods.fml.relauncher.SideOnly;
 @SideOnly(Side.CLIENT)
 public class HelperCorner extends RenderHelper {
 
+    /* North sloped faces. */
+
+    private static final FaceTemplate INT_NEG_NW_ZNEG = new FaceTemplate(ForgeDirection.NORTH, new int[][] {
+        { MIN, MIN, MAX, BOTTOM_RIGHT, BOTTOM_RIGHT, SOUTHWEST },
+        { MIN, MAX, MIN, TOP_RIGHT,    TOP_RIGHT,    NORTHWEST },
+        { MAX, MIN, MAX, BOTTOM_LEFT,  BOTTOM_LEFT,  SOUTHEAST }
+    });
+
+    private static final FaceTemplate INT_NEG_NE_ZNEG = new FaceTemplate(ForgeDirection.NORTH, new int[][] {
+        { MIN, MIN, MAX, BOTTOM_RIGHT, BOTTOM_RIGHT, SOUTHWEST },
+        { MAX, MAX, MIN, TOP_LEFT,     TOP_LEFT,     NORTHEAST },
+        { MAX, MIN, MAX, BOTTOM_LEFT,  BOTTOM_LEFT,  SOUTHEAST }
+    });
+
+    private static final FaceTemplate EXT_NEG_NW_ZNEG = new FaceTemplate(ForgeDirection.NORTH, new int[][] {
+        { MIN, MAX, MIN, TOP_RIGHT,   TOP_RIGHT,   NORTHWEST },
+        { MAX, MAX, MIN, TOP_LEFT,    TOP_LEFT,    NORTHEAST },
+        { MAX, MIN, MAX, BOTTOM_LEFT, BOTTOM_LEFT, SOUTHEAST }
+    });
+
+    private static final FaceTemplate EXT_NEG_NE_ZNEG = new FaceTemplate(ForgeDirection.NORTH, new int[][] {
+        { MIN, MIN, MAX, BOTTOM_RIGHT, BOTTOM_RIGHT, SOUTHWEST },
+        { MIN, MAX, MIN, TOP_RIGHT,    TOP_RIGHT,    NORTHWEST },
+        { MAX, MAX, MIN, TOP_LEFT,     TOP_LEFT,     NORTHEAST }
+    });
+
+    private static final FaceTemplate INT_POS_NW_ZNEG = new FaceTemplate(ForgeDirection.NORTH, new int[][] {
+        { MAX, MAX, MAX, TOP_LEFT,     TOP_LEFT,     SOUTHEAST },
+        { MIN, MIN, MIN, BOTTOM_RIGHT, BOTTOM_RIGHT, NORTHWEST },
+        { MIN, MAX, MAX, TOP_RIGHT,    TOP_RIGHT,    SOUTHWEST }
+    });
+
+    private static final FaceTemplate INT_POS_NE_ZNEG = new FaceTemplate(ForgeDirection.NORTH, new int[][] {
+        { MAX, MAX, MAX, TOP_LEFT,    TOP_LEFT,    SOUTHEAST },
+        { MAX, MIN, MIN, BOTTOM_LEFT, BOTTOM_LEFT, NORTHEAST },
+        { MIN, MAX, MAX, TOP_RIGHT,   TOP_RIGHT,   SOUTHWEST }
+    });
+
+    private static final FaceTemplate EXT_POS_NW_ZNEG = new FaceTemplate(ForgeDirection.NORTH, new int[][] {
+        { MAX, MAX, MAX, TOP_LEFT,     TOP_LEFT,     SOUTHEAST },
+        { MAX, MIN, MIN, BOTTOM_LEFT,  BOTTOM_LEFT,  NORTHEAST },
+        { MIN, MIN, MIN, BOTTOM_RIGHT, BOTTOM_RIGHT, NORTHWEST }
+    });
+
+    private static final FaceTemplate EXT_POS_NE_ZNEG = new FaceTemplate(ForgeDirection.NORTH, new int[][] {
+        { MAX, MIN, MIN, BOTTOM_LEFT,  BOTTOM_LEFT,  NORTHEAST },
+        { MIN, MIN, MIN, BOTTOM_RIGHT, BOTTOM_RIGHT, NORTHWEST },
+        { MIN, MAX, MAX, TOP_RIGHT,    TOP_RIGHT,    SOUTHWEST }
+    });
+
+    /* South sloped faces. */
+
+    private static final FaceTemplate INT_NEG_SW_ZPOS = new FaceTemplate(ForgeDirection.SOUTH, new int[][] {
+        { MIN, MAX, MAX, TOP_LEFT,     TOP_LEFT,     SOUTHWEST },
+        { MIN, MIN, MIN, BOTTOM_LEFT,  BOTTOM_LEFT,  NORTHWEST },
+        { MAX, MIN, MIN, BOTTOM_RIGHT, BOTTOM_RIGHT, NORTHEAST }
+    });
+
+    private static final FaceTemplate INT_NEG_SE_ZPOS = new FaceTemplate(ForgeDirection.SOUTH, new int[][] {
+        { MAX, MAX, MAX, TOP_RIGHT,    TOP_RIGHT,    SOUTHEAST },
+        { MIN, MIN, MIN, BOTTOM_LEFT,  BOTTOM_LEFT,  NORTHWEST },
+        { MAX, MIN, MIN, BOTTOM_RIGHT, BOTTOM_RIGHT, NORTHEAST }
+    });
+
+    private static final FaceTemplate EXT_NEG_SW_ZPOS = new FaceTemplate(ForgeDirection.SOUTH, new int[][] {
+        { MIN, MAX, MAX, TOP_LEFT,     TOP_LEFT,     SOUTHWEST },
+        { MAX, MIN, MIN, BOTTOM_RIGHT, BOTTOM_RIGHT, NORTHEAST },
+        { MAX, MAX, MAX, TOP_RIGHT,    TOP_RIGHT,    SOUTHEAST }
+    });
+
+    private static final FaceTemplate EXT_NEG_SE_ZPOS = new FaceTemplate(ForgeDirection.SOUTH, new int[][] {
+        { MIN, MAX, MAX, TOP_LEFT,    TOP_LEFT,    SOUTHWEST },
+        { MIN, MIN, MIN, BOTTOM_LEFT, BOTTOM_LEFT, NORTHWEST },
+        { MAX, MAX, MAX, TOP_RIGHT,   TOP_RIGHT,   SOUTHEAST }
+    });
+
+    private static final FaceTemplate INT_POS_SW_ZPOS = new FaceTemplate(ForgeDirection.SOUTH, new int[][] {
+        { MAX, MAX, MIN, TOP_RIGHT,   TOP_RIGHT,   NORTHEAST },
+        { MIN, MAX, MIN, TOP_LEFT,    TOP_LEFT,    NORTHWEST },
+        { MIN, MIN, MAX, BOTTOM_LEFT, BOTTOM_LEFT, SOUTHWEST }
+    });
+
+    private static final FaceTemplate INT_POS_SE_ZPOS = new FaceTemplate(ForgeDirection.SOUTH, new int[][] {
+        { MAX, MIN, MAX, BOTTOM_RIGHT, BOTTOM_RIGHT, SOUTHEAST },
+        { MAX, MAX, MIN, TOP_RIGHT,    TOP_RIGHT,    NORTHEAST },
+        { MIN, MAX, MIN, TOP_LEFT,     TOP_LEFT,     NORTHWEST }
+    });
+
+    private static final FaceTemplate EXT_POS_SW_ZPOS = new FaceTemplate(ForgeDirection.SOUTH, new int[][] {
+        { MAX, MIN, MAX, BOTTOM_RIGHT, BOTTOM_RIGHT, SOUTHEAST },
+        { MAX, MAX, MIN, TOP_RIGHT,    TOP_RIGHT,    NORTHEAST },
+        { MIN, MIN, MAX, BOTTOM_LEFT,  BOTTOM_LEFT,  SOUTHWEST }
+    });
+
+    private static final FaceTemplate EXT_POS_SE_ZPOS = new FaceTemplate(ForgeDirection.SOUTH, new int[][] {
+        { MAX, MIN, MAX, BOTTOM_RIGHT, BOTTOM_RIGHT, SOUTHEAST },
+        { MIN, MAX, MIN, TOP_LEFT,     TOP_LEFT,     NORTHWEST },
+        { MIN, MIN, MAX, BOTTOM_LEFT,  BOTTOM_LEFT,  SOUTHWEST }
+    });
+
+    /* West sloped faces. */
+
+    private static final FaceTemplate INT_NEG_NW_XNEG = new FaceTemplate(ForgeDirection.WEST, new int[][] {
+        { MIN, MAX, MIN, TOP_LEFT,     TOP_LEFT,     NORTHWEST },
+        { MAX, MIN, MIN, BOTTOM_LEFT,  BOTTOM_LEFT,  NORTHEAST },
+        { MAX, MIN, MAX, BOTTOM_RIGHT, BOTTOM_RIGHT, SOUTHEAST }
+    });
+
+    private static final FaceTemplate INT_NEG_SW_XNEG = new FaceTemplate(ForgeDirection.WEST, new int[][] {
+        { MIN, MAX, MAX, TOP_RIGHT,    TOP_RIGHT,    SOUTHWEST },
+        { MAX, MIN, MIN, BOTTOM_LEFT,  BOTTOM_LEFT,  NORTHEAST },
+        { MAX, MIN, MAX, BOTTOM_RIGHT, BOTTOM_RIGHT, SOUTHEAST }
+    });
+
+    private static final FaceTemplate EXT_NEG_NW_XNEG = new FaceTemplate(ForgeDirection.WEST, new int[][] {
+        { MIN, MAX, MAX, TOP_RIGHT,    TOP_RIGHT,    SOUTHWEST },
+        { MIN, MAX, MIN, TOP_LEFT,     TOP_LEFT,     NORTHWEST },
+        { MAX, MIN, MAX, BOTTOM_RIGHT, BOTTOM_RIGHT, SOUTHEAST }
+    });
+
+    private static final FaceTemplate EXT_NEG_SW_XNEG = new FaceTemplate(ForgeDirection.WEST, new int[][] {
+        { MIN, MAX, MAX, TOP_RIGHT,   TOP_RIGHT,   SOUTHWEST },
+        { MIN, MAX, MIN, TOP_LEFT,    TOP_LEFT,    NORTHWEST },
+        { MAX, MIN, MIN, BOTTOM_LEFT, BOTTOM_LEFT, NORTHEAST }
+    });
+
+    private static final FaceTemplate INT_POS_NW_XNEG = new FaceTemplate(ForgeDirection.WEST, new int[][] {
+        { MAX, MAX, MAX, TOP_RIGHT,   TOP_RIGHT,   SOUTHEAST },
+        { MAX, MAX, MIN, TOP_LEFT,    TOP_LEFT,    NORTHEAST },
+        { MIN, MIN, MIN, BOTTOM_LEFT, BOTTOM_LEFT, NORTHWEST }
+    });
+
+    private static final FaceTemplate INT_POS_SW_XNEG = new FaceTemplate(ForgeDirection.WEST, new int[][] {
+        { MAX, MAX, MAX, TOP_RIGHT,    TOP_RIGHT,    SOUTHEAST },
+        { MAX, MAX, MIN, TOP_LEFT,     TOP_LEFT,     NORTHEAST },
+        { MIN, MIN, MAX, BOTTOM_RIGHT, BOTTOM_RIGHT, SOUTHWEST }
+    });
+
+    private static final FaceTemplate EXT_POS_NW_XNEG = new FaceTemplate(ForgeDirection.WEST, new int[][] {
+        { MAX, MAX, MAX, TOP_RIGHT,    TOP_RIGHT,    SOUTHEAST },
+        { MIN, MIN, MIN, BOTTOM_LEFT,  BOTTOM_LEFT,  NORTHWEST },
+        { MIN, MIN, MAX, BOTTOM_RIGHT, BOTTOM_RIGHT, SOUTHWEST }
+    });
+
+    private static final FaceTemplate EXT_POS_SW_XNEG = new FaceTemplate(ForgeDirection.WEST, new int[][] {
+        { MAX, MAX, MIN, TOP_LEFT,     TOP_LEFT,     NORTHEAST },
+        { MIN, MIN, MIN, BOTTOM_LEFT,  BOTTOM_LEFT,  NORTHWEST },
+        { MIN, MIN, MAX, BOTTOM_RIGHT, BOTTOM_RIGHT, SOUTHWEST }
+    });
+
+    /* East sloped faces. */
+
+    private static final FaceTemplate INT_NEG_NE_XPOS = new FaceTemplate(ForgeDirection.EAST, new int[][] {
+        { MIN, MIN, MAX, BOTTOM_LEFT,  BOTTOM_LEFT,  SOUTHWEST },
+        { MIN, MIN, MIN, BOTTOM_RIGHT, BOTTOM_RIGHT, NORTHWEST },
+        { MAX, MAX, MIN, TOP_RIGHT,    TOP_RIGHT,    NORTHEAST }
+    });
+
+    private static final FaceTemplate INT_NEG_SE_XPOS = new FaceTemplate(ForgeDirection.EAST, new int[][] {
+        { MIN, MIN, MAX, BOTTOM_LEFT,  BOTTOM_LEFT,  SOUTHWEST },
+        { MIN, MIN, MIN, BOTTOM_RIGHT, BOTTOM_RIGHT, NORTHWEST },
+        { MAX, MAX, MAX, TOP_LEFT,     TOP_LEFT,     SOUTHEAST }
+    });
+
+    private static final FaceTemplate EXT_NEG_NE_XPOS = new FaceTemplate(ForgeDirection.EAST, new int[][] {
+        { MIN, MIN, MAX, BOTTOM_LEFT, BOTTOM_LEFT, SOUTHWEST },
+        { MAX, MAX, MIN, TOP_RIGHT,   TOP_RIGHT,   NORTHEAST },
+        { MAX, MAX, MAX, TOP_LEFT,    TOP_LEFT,    SOUTHEAST }
+    });
+
+    private static final FaceTemplate EXT_NEG_SE_XPOS = new FaceTemplate(ForgeDirection.EAST, new int[][] {
+        { MIN, MIN, MIN, BOTTOM_RIGHT, BOTTOM_RIGHT, NORTHWEST },
+        { MAX, MAX, MIN, TOP_RIGHT,    TOP_RIGHT,    NORTHEAST },
+        { MAX, MAX, MAX, TOP_LEFT,     TOP_LEFT,     SOUTHEAST }
+    });
+
+    private static final FaceTemplate INT_POS_NE_XPOS = new FaceTemplate(ForgeDirection.EAST, new int[][] {
+        { MAX, MIN, MIN, BOTTOM_RIGHT, BOTTOM_RIGHT, NORTHEAST },
+        { MIN, MAX, MIN, TOP_RIGHT,    TOP_RIGHT,    NORTHWEST },
+        { MIN, MAX, MAX, TOP_LEFT,     TOP_LEFT,     SOUTHWEST }
+    });
+
+    private static final FaceTemplate INT_POS_SE_XPOS = new FaceTemplate(ForgeDirection.EAST, new int[][] {
+        { MAX, MIN, MAX, BOTTOM_LEFT, BOTTOM_LEFT, SOUTHEAST },
+        { MIN, MAX, MIN, TOP_RIGHT,   TOP_RIGHT,   NORTHWEST },
+        { MIN, MAX, MAX, TOP_LEFT,    TOP_LEFT,    SOUTHWEST }
+    });
+
+    private static final FaceTemplate EXT_POS_NE_XPOS = new FaceTemplate(ForgeDirection.EAST, new int[][] {
+        { MAX, MIN, MAX, BOTTOM_LEFT,  BOTTOM_LEFT,  SOUTHEAST },
+        { MAX, MIN, MIN, BOTTOM_RIGHT, BOTTOM_RIGHT, NORTHEAST },
+        { MIN, MAX, MAX, TOP_LEFT,     TOP_LEFT,     SOUTHWEST }
+    });
+
+    private static final FaceTemplate EXT_POS_SE_XPOS = new FaceTemplate(ForgeDirection.EAST, new int[][] {
+        { MAX, MIN, MAX, BOTTOM_LEFT,  BOTTOM_LEFT,  SOUTHEAST },
+        { MAX, MIN, MIN, BOTTOM_RIGHT, BOTTOM_RIGHT, NORTHEAST },
+        { MIN, MAX, MIN, TOP_RIGHT,    TOP_RIGHT,    NORTHWEST }
+    });
+
+    /**
+     * Returns template for sloped corner face on side, or <code>null</code>
+     * if slope has no such face.
+     */
+    public static FaceTemplate getSlopeTemplate(ForgeDirection side, int slopeID)
+    {
+        switch (side) {
+            case NORTH:
+                switch (slopeID) {
+                    case Slope.ID_WEDGE_INT_NEG_NW:
+                        return INT_NEG_NW_ZNEG;
+                    case Slope.ID_WEDGE_INT_NEG_NE:
+                        return INT_NEG_NE_ZNEG;
+                    case Slope.ID_WEDGE_EXT_NEG_NW:
+                        return EXT_NEG_NW_ZNEG;
+                    case Slope.ID_WEDGE_EXT_NEG_NE:
+                        return EXT_NEG_NE_ZNEG;
+                    case Slope.ID_WEDGE_INT_POS_NW:
+                        return INT_POS_NW_ZNEG;
+                    case Slope.ID_WEDGE_INT_POS_NE:
+                        return INT_POS_NE_ZNEG;
+                    case Slope.ID_WEDGE_EXT_POS_NW:
+                        return EXT_POS_NW_ZNEG;
+                    case Slope.ID_WEDGE_EXT_POS_NE:
+                        return EXT_POS_NE_ZNEG;
+                    default:
+                        return null;
+                }
+            case SOUTH:
+                switch (slopeID) {
+                    case Slope.ID_WEDGE_INT_NEG_SW:
+                        return INT_NEG_SW_ZPOS;
+                    case Slope.ID_WEDGE_INT_NEG_SE:
+                        return INT_NEG_SE_ZPOS;
+                    case Slope.ID_WEDGE_EXT_NEG_SW:
+                        return EXT_NEG_SW_ZPOS;
+                    case Slope.ID_WEDGE_EXT_NEG_SE:
+                        return EXT_NEG_SE_ZPOS;
+                    case Slope.ID_WEDGE_INT_POS_SW:
+                        return INT_POS_SW_ZPOS;
+                    case Slope.ID_WEDGE_INT_POS_SE:
+                        return INT_POS_SE_ZPOS;
+                    case Slope.ID_WEDGE_EXT_POS_SW:
+                        return EXT_POS_SW_ZPOS;
+                    case Slope.ID_WEDGE_EXT_POS_SE:
+                        return EXT_POS_SE_ZPOS;
+                    default:
+                        return null;
+                }
+            case WEST:
+                switch (slopeID) {
+                    case Slope.ID_WEDGE_INT_NEG_NW:
+                        return INT_NEG_NW_XNEG;
+                    case Slope.ID_WEDGE_INT_NEG_SW:
+                        return INT_NEG_SW_XNEG;
+                    case Slope.ID_WEDGE_EXT_NEG_NW:
+                        return EXT_NEG_NW_XNEG;
+                    case Slope.ID_WEDGE_EXT_NEG_SW:
+                        return EXT_NEG_SW_XNEG;
+                    case Slope.ID_WEDGE_INT_POS_NW:
+                        return INT_POS_NW_XNEG;
+                    case Slope.ID_WEDGE_INT_POS_SW:
+                        return INT_POS_SW_XNEG;
+                    case Slope.ID_WEDGE_EXT_POS_NW:
+                        return EXT_POS_NW_XNEG;
+                    case Slope.ID_WEDGE_EXT_POS_SW:
+                        return EXT_POS_SW_XNEG;
+                    default:
+                        return null;
+                }
+            case EAST:
+                switch (slopeID) {
+                    case Slope.ID_WEDGE_INT_NEG_NE:
+                        return INT_NEG_NE_XPOS;
+                    case Slope.ID_WEDGE_INT_NEG_SE:
+                        return INT_NEG_SE_XPOS;
+                    case Slope.ID_WEDGE_EXT_NEG_NE:
+                        return EXT_NEG_NE_XPOS;
+                    case Slope.ID_WEDGE_EXT_NEG_SE:
+                        return EXT_NEG_SE_XPOS;
+                    case Slope.ID_WEDGE_INT_POS_NE:
+                        return INT_POS_NE_XPOS;
+                    case Slope.ID_WEDGE_INT_POS_SE:
+                        return INT_POS_SE_XPOS;
+                    case Slope.ID_WEDGE_EXT_POS_NE:
+                        return EXT_POS_NE_XPOS;
+                    case Slope.ID_WEDGE_EXT_POS_SE:
+                        return EXT_POS_SE_XPOS;
+                    default:
+                        return null;
+                }
+            default:
+                return null;
+        }
+    }
+
     /**
      * Renders the given texture to the North sloped face of the block.
      */
     public static void renderSlopeZNeg(RenderBlocks renderBlocks, int slopeID, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
-
-        switch (slopeID)
-        {
-            case Slope.ID_WEDGE_INT_NEG_NW:
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBR, vBR, SOUTHWEST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBL, vBL, SOUTHEAST);
-                break;
-            case Slope.ID_WEDGE_INT_NEG_NE:
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBR, vBR, SOUTHWEST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, NORTHEAST);
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBL, vBL, SOUTHEAST);
-                break;
-            case Slope.ID_WEDGE_EXT_NEG_NW:
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, NORTHEAST);
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBL, vBL, SOUTHEAST);
-                break;
-            case Slope.ID_WEDGE_EXT_NEG_NE:
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBR, vBR, SOUTHWEST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, NORTHEAST);
-                break;
-            case Slope.ID_WEDGE_INT_POS_NW:
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, SOUTHEAST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBR, vBR, NORTHWEST);
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, SOUTHWEST);
-                break;
-            case Slope.ID_WEDGE_INT_POS_NE:
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, SOUTHEAST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBL, vBL, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, SOUTHWEST);
-                break;
-            case Slope.ID_WEDGE_EXT_POS_NW:
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, SOUTHEAST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBL, vBL, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBR, vBR, NORTHWEST);
-                break;
-            case Slope.ID_WEDGE_EXT_POS_NE:
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBL, vBL, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBR, vBR, NORTHWEST);
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, SOUTHWEST);
-                break;
+        FaceTemplate template = getSlopeTemplate(ForgeDirection.NORTH, slopeID);
+
+        if (template != null) {
+            template.render(renderBlocks, x, y, z, icon);
         }
     }
 
@@ -68,50 +327,10 @@ public class HelperCorner extends RenderHelper {
      */
     public static void renderSlopeZPos(RenderBlocks renderBlocks, int slopeID, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
-
-        switch (slopeID)
-        {
-            case Slope.ID_WEDGE_INT_NEG_SW:
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, SOUTHWEST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBL, vBL, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBR, vBR, NORTHEAST);
-                break;
-            case Slope.ID_WEDGE_INT_NEG_SE:
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, SOUTHEAST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBL, vBL, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBR, vBR, NORTHEAST);
-                break;
-            case Slope.ID_WEDGE_EXT_NEG_SW:
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, SOUTHWEST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBR, vBR, NORTHEAST);
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, SOUTHEAST);
-                break;
-            case Slope.ID_WEDGE_EXT_NEG_SE:
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, SOUTHWEST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBL, vBL, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, SOUTHEAST);
-                break;
-            case Slope.ID_WEDGE_INT_POS_SW:
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, NORTHWEST);
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBL, vBL, SOUTHWEST);
-                break;
-            case Slope.ID_WEDGE_INT_POS_SE:
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBR, vBR, SOUTHEAST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, NORTHWEST);
-                break;
-            case Slope.ID_WEDGE_EXT_POS_SW:
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBR, vBR, SOUTHEAST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBL, vBL, SOUTHWEST);
-                break;
-            case Slope.ID_WEDGE_EXT_POS_SE:
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBR, vBR, SOUTHEAST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, NORTHWEST);
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBL, vBL, SOUTHWEST);
-                break;
+        FaceTemplate template = getSlopeTemplate(ForgeDirection.SOUTH, slopeID);
+
+        if (template != null) {
+            template.render(renderBlocks, x, y, z, icon);
         }
     }
 
@@ -120,50 +339,10 @@ public class HelperCorner extends RenderHelper {
      */
     public static void renderSlopeXNeg(RenderBlocks renderBlocks, int slopeID, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
-
-        switch (slopeID)
-        {
-            case Slope.ID_WEDGE_INT_NEG_NW:
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBL, vBL, NORTHEAST);
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBR, vBR, SOUTHEAST);
-                break;
-            case Slope.ID_WEDGE_INT_NEG_SW:
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, SOUTHWEST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBL, vBL, NORTHEAST);
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBR, vBR, SOUTHEAST);
-                break;
-            case Slope.ID_WEDGE_EXT_NEG_NW:
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, SOUTHWEST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBR, vBR, SOUTHEAST);
-                break;
-            case Slope.ID_WEDGE_EXT_NEG_SW:
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, SOUTHWEST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBL, vBL, NORTHEAST);
-                break;
-            case Slope.ID_WEDGE_INT_POS_NW:
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, SOUTHEAST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBL, vBL, NORTHWEST);
-                break;
-            case Slope.ID_WEDGE_INT_POS_SW:
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, SOUTHEAST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBR, vBR, SOUTHWEST);
-                break;
-            case Slope.ID_WEDGE_EXT_POS_NW:
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, SOUTHEAST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBL, vBL, NORTHWEST);
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBR, vBR, SOUTHWEST);
-                break;
-            case Slope.ID_WEDGE_EXT_POS_SW:
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBL, vBL, NORTHWEST);
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBR, vBR, SOUTHWEST);
-                break;
+        FaceTemplate template = getSlopeTemplate(ForgeDirection.WEST, slopeID);
+
+        if (template != null) {
+            template.render(renderBlocks, x, y, z, icon);
         }
     }
 
@@ -172,50 +351,10 @@ public class HelperCorner extends RenderHelper {
      */
     public static void renderSlopeXPos(RenderBlocks renderBlocks, int slopeID, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
-
-        switch (slopeID)
-        {
-            case Slope.ID_WEDGE_INT_NEG_NE:
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBL, vBL, SOUTHWEST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBR, vBR, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, NORTHEAST);
-                break;
-            case Slope.ID_WEDGE_INT_NEG_SE:
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBL, vBL, SOUTHWEST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBR, vBR, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, SOUTHEAST);
-                break;
-            case Slope.ID_WEDGE_EXT_NEG_NE:
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBL, vBL, SOUTHWEST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, NORTHEAST);
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, SOUTHEAST);
-                break;
-            case Slope.ID_WEDGE_EXT_NEG_SE:
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBR, vBR, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, NORTHEAST);
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, SOUTHEAST);
-                break;
-            case Slope.ID_WEDGE_INT_POS_NE:
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBR, vBR, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, NORTHWEST);
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, SOUTHWEST);
-                break;
-            case Slope.ID_WEDGE_INT_POS_SE:
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBL, vBL, SOUTHEAST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, NORTHWEST);
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, SOUTHWEST);
-                break;
-            case Slope.ID_WEDGE_EXT_POS_NE:
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBL, vBL, SOUTHEAST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBR, vBR, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, SOUTHWEST);
-                break;
-            case Slope.ID_WEDGE_EXT_POS_SE:
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBL, vBL, SOUTHEAST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBR, vBR, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, NORTHWEST);
-                break;
+        FaceTemplate template = getSlopeTemplate(ForgeDirection.EAST, slopeID);
+
+        if (template != null) {
+            template.render(renderBlocks, x, y, z, icon);
         }
     }
 
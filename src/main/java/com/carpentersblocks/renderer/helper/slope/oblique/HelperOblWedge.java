@@ -1,9 +1,12 @@
 package com.carpentersblocks.renderer.helper.slope.oblique;
 
+import static com.carpentersblocks.renderer.helper.FaceTemplate.MAX;
+import static com.carpentersblocks.renderer.helper.FaceTemplate.MIN;
 import net.minecraft.client.renderer.RenderBlocks;
 import net.minecraft.util.IIcon;
 import net.minecraftforge.common.util.ForgeDirection;
 import com.carpentersblocks.data.Slope;
+import com.carpentersblocks.renderer.helper.FaceTemplate;
 import com.carpentersblocks.renderer.helper.RenderHelper;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -11,38 +14,163 @@ import cpw.mods.fml.relauncher.SideOnly;
 @SideOnly(Side.CLIENT)
 public class HelperOblWedge extends RenderHelper {
 
+    /* North sloped faces. */
+
+    private static final FaceTemplate POS_N_ZNEG = new FaceTemplate(ForgeDirection.NORTH, new int[][] {
+        { MAX, MAX, MAX, TOP_LEFT,     TOP_LEFT,     SOUTHEAST },
+        { MAX, MIN, MIN, BOTTOM_LEFT,  BOTTOM_LEFT,  NORTHEAST },
+        { MIN, MIN, MIN, BOTTOM_RIGHT, BOTTOM_RIGHT, NORTHWEST },
+        { MIN, MAX, MAX, TOP_RIGHT,    TOP_RIGHT,    SOUTHWEST }
+    });
+
+    private static final FaceTemplate NEG_N_ZNEG = new FaceTemplate(ForgeDirection.NORTH, new int[][] {
+        { MIN, MIN, MAX, BOTTOM_RIGHT, BOTTOM_RIGHT, SOUTHWEST },
+        { MIN, MAX, MIN, TOP_RIGHT,    TOP_RIGHT,    NORTHWEST },
+        { MAX, MAX, MIN, TOP_LEFT,     TOP_LEFT,     NORTHEAST },
+        { MAX, MIN, MAX, BOTTOM_LEFT,  BOTTOM_LEFT,  SOUTHEAST }
+    });
+
+    private static final FaceTemplate NW_ZNEG = new FaceTemplate(ForgeDirection.NORTH, new int[][] {
+        { MAX, MAX, MIN, TOP_LEFT,     TOP_LEFT,     TOP_LEFT },
+        { MAX, MIN, MIN, BOTTOM_LEFT,  BOTTOM_LEFT,  BOTTOM_LEFT },
+        { MIN, MIN, MAX, BOTTOM_RIGHT, BOTTOM_RIGHT, BOTTOM_RIGHT },
+        { MIN, MAX, MAX, TOP_RIGHT,    TOP_RIGHT,    TOP_RIGHT }
+    });
+
+    private static final FaceTemplate NE_ZNEG = new FaceTemplate(ForgeDirection.NORTH, new int[][] {
+        { MAX, MAX, MAX, TOP_LEFT,     TOP_LEFT,     TOP_LEFT },
+        { MAX, MIN, MAX, BOTTOM_LEFT,  BOTTOM_LEFT,  BOTTOM_LEFT },
+        { MIN, MIN, MIN, BOTTOM_RIGHT, BOTTOM_RIGHT, BOTTOM_RIGHT },
+        { MIN, MAX, MIN, TOP_RIGHT,    TOP_RIGHT,    TOP_RIGHT }
+    });
+
+    /* South sloped faces. */
+
+    private static final FaceTemplate POS_S_ZPOS = new FaceTemplate(ForgeDirection.SOUTH, new int[][] {
+        { MAX, MIN, MAX, BOTTOM_RIGHT, BOTTOM_RIGHT, SOUTHEAST },
+        { MAX, MAX, MIN, TOP_RIGHT,    TOP_RIGHT,    NORTHEAST },
+        { MIN, MAX, MIN, TOP_LEFT,     TOP_LEFT,     NORTHWEST },
+        { MIN, MIN, MAX, BOTTOM_LEFT,  BOTTOM_LEFT,  SOUTHWEST }
+    });
+
+    private static final FaceTemplate NEG_S_ZPOS = new FaceTemplate(ForgeDirection.SOUTH, new int[][] {
+        { MIN, MAX, MAX, TOP_LEFT,     TOP_LEFT,     SOUTHWEST },
+        { MIN, MIN, MIN, BOTTOM_LEFT,  BOTTOM_LEFT,  NORTHWEST },
+        { MAX, MIN, MIN, BOTTOM_RIGHT, BOTTOM_RIGHT, NORTHEAST },
+        { MAX, MAX, MAX, TOP_RIGHT,    TOP_RIGHT,    SOUTHEAST }
+    });
+
+    private static final FaceTemplate SW_ZPOS = new FaceTemplate(ForgeDirection.SOUTH, new int[][] {
+        { MIN, MAX, MIN, TOP_LEFT,     TOP_LEFT,     TOP_LEFT },
+        { MIN, MIN, MIN, BOTTOM_LEFT,  BOTTOM_LEFT,  BOTTOM_LEFT },
+        { MAX, MIN, MAX, BOTTOM_RIGHT, BOTTOM_RIGHT, BOTTOM_RIGHT },
+        { MAX, MAX, MAX, TOP_RIGHT,    TOP_RIGHT,    TOP_RIGHT }
+    });
+
+    private static final FaceTemplate SE_ZPOS = new FaceTemplate(ForgeDirection.SOUTH, new int[][] {
+        { MIN, MAX, MAX, TOP_LEFT,     TOP_LEFT,     TOP_LEFT },
+        { MIN, MIN, MAX, BOTTOM_LEFT,  BOTTOM_LEFT,  BOTTOM_LEFT },
+        { MAX, MIN, MIN, BOTTOM_RIGHT, BOTTOM_RIGHT, BOTTOM_RIGHT },
+        { MAX, MAX, MIN, TOP_RIGHT,    TOP_RIGHT,    TOP_RIGHT }
+    });
+
+    /* West sloped faces. */
+
+    private static final FaceTemplate POS_W_XNEG = new FaceTemplate(ForgeDirection.WEST, new int[][] {
+        { MAX, MAX, MAX, TOP_RIGHT,    TOP_RIGHT,    SOUTHEAST },
+        { MAX, MAX, MIN, TOP_LEFT,     TOP_LEFT,     NORTHEAST },
+        { MIN, MIN, MIN, BOTTOM_LEFT,  BOTTOM_LEFT,  NORTHWEST },
+        { MIN, MIN, MAX, BOTTOM_RIGHT, BOTTOM_RIGHT, SOUTHWEST }
+    });
+
+    private static final FaceTemplate NEG_W_XNEG = new FaceTemplate(ForgeDirection.WEST, new int[][] {
+        { MIN, MAX, MAX, TOP_RIGHT,    TOP_RIGHT,    SOUTHWEST },
+        { MIN, MAX, MIN, TOP_LEFT,     TOP_LEFT,     NORTHWEST },
+        { MAX, MIN, MIN, BOTTOM_LEFT,  BOTTOM_LEFT,  NORTHEAST },
+        { MAX, MIN, MAX, BOTTOM_RIGHT, BOTTOM_RIGHT, SOUTHEAST }
+    });
+
+    /* East sloped faces. */
+
+    private static final FaceTemplate POS_E_XPOS = new FaceTemplate(ForgeDirection.EAST, new int[][] {
+        { MAX, MIN, MAX, BOTTOM_LEFT,  BOTTOM_LEFT,  SOUTHEAST },
+        { MAX, MIN, MIN, BOTTOM_RIGHT, BOTTOM_RIGHT, NORTHEAST },
+        { MIN, MAX, MIN, TOP_RIGHT,    TOP_RIGHT,    NORTHWEST },
+        { MIN, MAX, MAX, TOP_LEFT,     TOP_LEFT,     SOUTHWEST }
+    });
+
+    private static final FaceTemplate NEG_E_XPOS = new FaceTemplate(ForgeDirection.EAST, new int[][] {
+        { MIN, MIN, MAX, BOTTOM_LEFT,  BOTTOM_LEFT,  SOUTHWEST },
+        { MIN, MIN, MIN, BOTTOM_RIGHT, BOTTOM_RIGHT, NORTHWEST },
+        { MAX, MAX, MIN, TOP_RIGHT,    TOP_RIGHT,    NORTHEAST },
+        { MAX, MAX, MAX, TOP_LEFT,     TOP_LEFT,     SOUTHEAST }
+    });
+
+    /**
+     * Returns template for sloped wedge face on side, or <code>null</code>
+     * if slope has no such face.
+     */
+    public static FaceTemplate getSlopeTemplate(ForgeDirection side, int slopeID)
+    {
+        switch (side) {
+            case NORTH:
+                switch (slopeID) {
+                    case Slope.ID_WEDGE_POS_N:
+                        return POS_N_ZNEG;
+                    case Slope.ID_WEDGE_NEG_N:
+                        return NEG_N_ZNEG;
+                    case Slope.ID_WEDGE_NW:
+                        return NW_ZNEG;
+                    case Slope.ID_WEDGE_NE:
+                        return NE_ZNEG;
+                    default:
+                        return null;
+                }
+            case SOUTH:
+                switch (slopeID) {
+                    case Slope.ID_WEDGE_POS_S:
+                        return POS_S_ZPOS;
+                    case Slope.ID_WEDGE_NEG_S:
+                        return NEG_S_ZPOS;
+                    case Slope.ID_WEDGE_SW:
+                        return SW_ZPOS;
+                    case Slope.ID_WEDGE_SE:
+                        return SE_ZPOS;
+                    default:
+                        return null;
+                }
+            case WEST:
+                switch (slopeID) {
+                    case Slope.ID_WEDGE_POS_W:
+                        return POS_W_XNEG;
+                    case Slope.ID_WEDGE_NEG_W:
+                        return NEG_W_XNEG;
+                    default:
+                        return null;
+                }
+            case EAST:
+                switch (slopeID) {
+                    case Slope.ID_WEDGE_POS_E:
+                        return POS_E_XPOS;
+                    case Slope.ID_WEDGE_NEG_E:
+                        return NEG_E_XPOS;
+                    default:
+                        return null;
+                }
+            default:
+                return null;
+        }
+    }
+
     /**
      * Renders the given texture to the North sloped face of the block.  Args: slope, x, y, z, texture
      */
     public static void renderSlopeZNeg(RenderBlocks renderBlocks, int slopeID, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
-
-        switch (slopeID) {
-            case Slope.ID_WEDGE_POS_N:
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, SOUTHEAST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBL, vBL, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBR, vBR, NORTHWEST);
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, SOUTHWEST);
-                break;
-            case Slope.ID_WEDGE_NEG_N:
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBR, vBR, SOUTHWEST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, NORTHEAST);
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBL, vBL, SOUTHEAST);
-                break;
-            case Slope.ID_WEDGE_NW:
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, TOP_LEFT    );
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBL, vBL, BOTTOM_LEFT );
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBR, vBR, BOTTOM_RIGHT);
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, TOP_RIGHT   );
-                break;
-            case Slope.ID_WEDGE_NE:
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, TOP_LEFT    );
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBL, vBL, BOTTOM_LEFT );
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBR, vBR, BOTTOM_RIGHT);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, TOP_RIGHT   );
-                break;
+        FaceTemplate template = getSlopeTemplate(ForgeDirection.NORTH, slopeID);
+
+        if (template != null) {
+            template.render(renderBlocks, x, y, z, icon);
         }
     }
 
@@ -51,33 +179,10 @@ public class HelperOblWedge extends RenderHelper {
      */
     public static void renderSlopeZPos(RenderBlocks renderBlocks, int slopeID, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
-
-        switch (slopeID) {
-            case Slope.ID_WEDGE_POS_S:
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBR, vBR, SOUTHEAST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, NORTHWEST);
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBL, vBL, SOUTHWEST);
-                break;
-            case Slope.ID_WEDGE_NEG_S:
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, SOUTHWEST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBL, vBL, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBR, vBR, NORTHEAST);
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, SOUTHEAST);
-                break;
-            case Slope.ID_WEDGE_SW:
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, TOP_LEFT    );
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBL, vBL, BOTTOM_LEFT );
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBR, vBR, BOTTOM_RIGHT);
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, TOP_RIGHT   );
-                break;
-            case Slope.ID_WEDGE_SE:
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, TOP_LEFT    );
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBL, vBL, BOTTOM_LEFT );
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBR, vBR, BOTTOM_RIGHT);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, TOP_RIGHT   );
-                break;
+        FaceTemplate template = getSlopeTemplate(ForgeDirection.SOUTH, slopeID);
+
+        if (template != null) {
+            template.render(renderBlocks, x, y, z, icon);
         }
     }
 
@@ -86,21 +191,10 @@ public class HelperOblWedge extends RenderHelper {
      */
     public static void renderSlopeXNeg(RenderBlocks renderBlocks, int slopeID, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
-
-        switch (slopeID) {
-            case Slope.ID_WEDGE_POS_W:
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, SOUTHEAST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBL, vBL, NORTHWEST);
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBR, vBR, SOUTHWEST);
-                break;
-            case Slope.ID_WEDGE_NEG_W:
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, SOUTHWEST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBL, vBL, NORTHEAST);
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBR, vBR, SOUTHEAST);
-                break;
+        FaceTemplate template = getSlopeTemplate(ForgeDirection.WEST, slopeID);
+
+        if (template != null) {
+            template.render(renderBlocks, x, y, z, icon);
         }
     }
 
@@ -109,21 +203,10 @@ public class HelperOblWedge extends RenderHelper {
      */
     public static void renderSlopeXPos(RenderBlocks renderBlocks, int slopeID, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
-
-        switch (slopeID) {
-            case Slope.ID_WEDGE_POS_E:
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBL, vBL, SOUTHEAST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBR, vBR, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, NORTHWEST);
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, SOUTHWEST);
-                break;
-            case Slope.ID_WEDGE_NEG_E:
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBL, vBL, SOUTHWEST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBR, vBR, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, NORTHEAST);
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, SOUTHEAST);
-                break;
+        FaceTemplate template = getSlopeTemplate(ForgeDirection.EAST, slopeID);
+
+        if (template != null) {
+            template.render(renderBlocks, x, y, z, icon);
         }
     }
 
@@ -1,9 +1,13 @@
 package com.carpentersblocks.renderer.helper.slope.oblique;
 
+import static com.carpentersblocks.renderer.helper.FaceTemplate.MAX;
+import static com.carpentersblocks.renderer.helper.FaceTemplate.MID;
+import static com.carpentersblocks.renderer.helper.FaceTemplate.MIN;
 import net.minecraft.client.renderer.RenderBlocks;
 import net.minecraft.util.IIcon;
 import net.minecraftforge.common.util.ForgeDirection;
 import com.carpentersblocks.data.Slope;
+import com.carpentersblocks.renderer.helper.FaceTemplate;
 import com.carpentersblocks.renderer.helper.RenderHelper;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -11,19 +15,151 @@ import cpw.mods.fml.relauncher.SideOnly;
 @SideOnly(Side.CLIENT)
 public class HelperPrism extends RenderHelper {
 
+    /* Prism slopes. */
+
+    private static final FaceTemplate SLOPE_YNEG_ZNEG = new FaceTemplate(ForgeDirection.NORTH, new int[][] {
+        { MAX, MAX, MIN, TOP_LEFT,      TOP_LEFT,     NORTHEAST },
+        { MID, MIN, MAX, BOTTOM_CENTER, BOTTOM_RIGHT, TOP_CENTER },
+        { MIN, MAX, MIN, TOP_RIGHT,     TOP_RIGHT,    NORTHWEST }
+    });
+
+    private static final FaceTemplate SLOPE_YNEG_ZPOS = new FaceTemplate(ForgeDirection.SOUTH, new int[][] {
+        { MIN, MAX, MAX, TOP_LEFT,      TOP_LEFT,     SOUTHWEST },
+        { MID, MIN, MIN, BOTTOM_CENTER, BOTTOM_RIGHT, BOTTOM_CENTER },
+        { MAX, MAX, MAX, TOP_RIGHT,     TOP_RIGHT,    SOUTHEAST }
+    });
+
+    private static final FaceTemplate SLOPE_YNEG_XNEG = new FaceTemplate(ForgeDirection.WEST, new int[][] {
+        { MIN, MAX, MIN, TOP_LEFT,      TOP_LEFT,     NORTHWEST },
+        { MAX, MIN, MID, BOTTOM_CENTER, BOTTOM_RIGHT, LEFT_CENTER },
+        { MIN, MAX, MAX, TOP_RIGHT,     TOP_RIGHT,    SOUTHWEST }
+    });
+
+    private static final FaceTemplate SLOPE_YNEG_XPOS = new FaceTemplate(ForgeDirection.EAST, new int[][] {
+        { MAX, MAX, MAX, TOP_LEFT,      TOP_LEFT,     SOUTHEAST },
+        { MIN, MIN, MID, BOTTOM_CENTER, BOTTOM_RIGHT, RIGHT_CENTER },
+        { MAX, MAX, MIN, TOP_RIGHT,     TOP_RIGHT,    NORTHEAST }
+    });
+
+    private static final FaceTemplate SLOPE_YPOS_ZNEG = new FaceTemplate(ForgeDirection.NORTH, new int[][] {
+        { MID, MAX, MAX, TOP_CENTER,   TOP_LEFT,     TOP_CENTER },
+        { MAX, MIN, MIN, BOTTOM_LEFT,  BOTTOM_LEFT,  NORTHEAST },
+        { MIN, MIN, MIN, BOTTOM_RIGHT, BOTTOM_RIGHT, NORTHWEST }
+    });
+
+    private static final FaceTemplate SLOPE_YPOS_ZPOS = new FaceTemplate(ForgeDirection.SOUTH, new int[][] {
+        { MID, MAX, MIN, TOP_CENTER,   TOP_LEFT,     BOTTOM_CENTER },
+        { MIN, MIN, MAX, BOTTOM_LEFT,  BOTTOM_LEFT,  SOUTHWEST },
+        { MAX, MIN, MAX, BOTTOM_RIGHT, BOTTOM_RIGHT, SOUTHEAST }
+    });
+
+    private static final FaceTemplate SLOPE_YPOS_XNEG = new FaceTemplate(ForgeDirection.WEST, new int[][] {
+        { MAX, MAX, MID, TOP_CENTER,   TOP_LEFT,     LEFT_CENTER },
+        { MIN, MIN, MIN, BOTTOM_LEFT,  BOTTOM_LEFT,  NORTHWEST },
+        { MIN, MIN, MAX, BOTTOM_RIGHT, BOTTOM_RIGHT, SOUTHWEST }
+    });
+
+    private static final FaceTemplate SLOPE_YPOS_XPOS = new FaceTemplate(ForgeDirection.EAST, new int[][] {
+        { MIN, MAX, MID, TOP_CENTER,   TOP_RIGHT,    RIGHT_CENTER },
+        { MAX, MIN, MAX, BOTTOM_LEFT,  BOTTOM_LEFT,  SOUTHEAST },
+        { MAX, MIN, MIN, BOTTOM_RIGHT, BOTTOM_RIGHT, NORTHEAST }
+    });
+
+    /* Prism point halves. */
+
+    private static final FaceTemplate WEST_POINT_ZNEG = new FaceTemplate(ForgeDirection.NORTH, new int[][] {
+        { MAX, MAX, MAX, TOP_LEFT,     TOP_LEFT,     SOUTHEAST },
+        { MIN, MIN, MIN, BOTTOM_RIGHT, BOTTOM_RIGHT, NORTHWEST },
+        { MIN, MAX, MAX, TOP_RIGHT,    TOP_RIGHT,    SOUTHWEST }
+    });
+
+    private static final FaceTemplate WEST_POINT_ZPOS = new FaceTemplate(ForgeDirection.SOUTH, new int[][] {
+        { MIN, MAX, MIN, TOP_LEFT,    TOP_LEFT,    NORTHWEST },
+        { MIN, MIN, MAX, BOTTOM_LEFT, BOTTOM_LEFT, SOUTHWEST },
+        { MAX, MAX, MIN, TOP_RIGHT,   TOP_RIGHT,   NORTHEAST }
+    });
+
+    private static final FaceTemplate EAST_POINT_ZNEG = new FaceTemplate(ForgeDirection.NORTH, new int[][] {
+        { MAX, MAX, MAX, TOP_LEFT,    TOP_LEFT,    SOUTHEAST },
+        { MAX, MIN, MIN, BOTTOM_LEFT, BOTTOM_LEFT, NORTHEAST },
+        { MIN, MAX, MAX, TOP_RIGHT,   TOP_RIGHT,   SOUTHWEST }
+    });
+
+    private static final FaceTemplate EAST_POINT_ZPOS = new FaceTemplate(ForgeDirection.SOUTH, new int[][] {
+        { MIN, MAX, MIN, TOP_LEFT,     TOP_LEFT,     NORTHWEST },
+        { MAX, MIN, MAX, BOTTOM_RIGHT, BOTTOM_RIGHT, SOUTHEAST },
+        { MAX, MAX, MIN, TOP_RIGHT,    TOP_RIGHT,    NORTHEAST }
+    });
+
+    private static final FaceTemplate NORTH_POINT_XNEG = new FaceTemplate(ForgeDirection.WEST, new int[][] {
+        { MAX, MAX, MIN, TOP_LEFT,    TOP_LEFT,    NORTHEAST },
+        { MIN, MIN, MIN, BOTTOM_LEFT, BOTTOM_LEFT, NORTHWEST },
+        { MAX, MAX, MAX, TOP_RIGHT,   TOP_RIGHT,   SOUTHEAST }
+    });
+
+    private static final FaceTemplate NORTH_POINT_XPOS = new FaceTemplate(ForgeDirection.EAST, new int[][] {
+        { MIN, MAX, MAX, TOP_LEFT,     TOP_LEFT,     SOUTHWEST },
+        { MAX, MIN, MIN, BOTTOM_RIGHT, BOTTOM_RIGHT, NORTHEAST },
+        { MIN, MAX, MIN, TOP_RIGHT,    TOP_RIGHT,    NORTHWEST }
+    });
+
+    private static final FaceTemplate SOUTH_POINT_XNEG = new FaceTemplate(ForgeDirection.WEST, new int[][] {
+        { MAX, MAX, MIN, TOP_LEFT,     TOP_LEFT,     NORTHEAST },
+        { MIN, MIN, MAX, BOTTOM_RIGHT, BOTTOM_RIGHT, SOUTHWEST },
+        { MAX, MAX, MAX, TOP_RIGHT,    TOP_RIGHT,    SOUTHEAST }
+    });
+
+    private static final FaceTemplate SOUTH_POINT_XPOS = new FaceTemplate(ForgeDirection.EAST, new int[][] {
+        { MIN, MAX, MAX, TOP_LEFT,    TOP_LEFT,    SOUTHWEST },
+        { MAX, MIN, MAX, BOTTOM_LEFT, BOTTOM_LEFT, SOUTHEAST },
+        { MIN, MAX, MIN, TOP_RIGHT,   TOP_RIGHT,   NORTHWEST }
+    });
+
     /**
-     * Renders the given texture to the negative North slope of the block.
+     * Returns template for prism slope on side.
      */
-    public static void renderSlopeYNegZNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
+    public static FaceTemplate getSlopeTemplate(ForgeDirection side, boolean isPositive)
     {
-        prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
+        switch (side) {
+            case NORTH:
+                return isPositive ? SLOPE_YPOS_ZNEG : SLOPE_YNEG_ZNEG;
+            case SOUTH:
+                return isPositive ? SLOPE_YPOS_ZPOS : SLOPE_YNEG_ZPOS;
+            case WEST:
+                return isPositive ? SLOPE_YPOS_XNEG : SLOPE_YNEG_XNEG;
+            case EAST:
+                return isPositive ? SLOPE_YPOS_XPOS : SLOPE_YNEG_XPOS;
+            default:
+                return null;
+        }
+    }
 
-        double uBM  = uBR  - (uBR  -  uBL) / 2;
-        double xMid = xMax - (xMax - xMin) / 2;
+    /**
+     * Returns template for half of prism point, where side is
+     * the half of the point to draw.
+     */
+    public static FaceTemplate getPointTemplate(ForgeDirection point, ForgeDirection side)
+    {
+        switch (point) {
+            case NORTH:
+                return side == ForgeDirection.WEST ? NORTH_POINT_XNEG : NORTH_POINT_XPOS;
+            case SOUTH:
+                return side == ForgeDirection.WEST ? SOUTH_POINT_XNEG : SOUTH_POINT_XPOS;
+            case WEST:
+                return side == ForgeDirection.NORTH ? WEST_POINT_ZNEG : WEST_POINT_ZPOS;
+            case EAST:
+                return side == ForgeDirection.NORTH ? EAST_POINT_ZNEG : EAST_POINT_ZPOS;
+            default:
+                return null;
+        }
+    }
 
-        setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, NORTHEAST );
-        setupVertex(renderBlocks, xMid, yMin, zMax, uBM, vBR, TOP_CENTER);
-        setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, NORTHWEST );
+    /**
+     * Renders the given texture to the negative North slope of the block.
+     */
+    public static void renderSlopeYNegZNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
+    {
+        SLOPE_YNEG_ZNEG.render(renderBlocks, x, y, z, icon);
     }
 
     /**
@@ -31,14 +167,7 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderSlopeYNegZPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
-
-        double uBM  = uBR  - (uBR  -  uBL) / 2;
-        double xMid = xMax - (xMax - xMin) / 2;
-
-        setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, SOUTHWEST    );
-        setupVertex(renderBlocks, xMid, yMin, zMin, uBM, vBR, BOTTOM_CENTER);
-        setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, SOUTHEAST    );
+        SLOPE_YNEG_ZPOS.render(renderBlocks, x, y, z, icon);
     }
 
     /**
@@ -46,14 +175,7 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderSlopeYNegXNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
-
-        double uBM  = uBR  - (uBR  -  uBL) / 2;
-        double zMid = zMax - (zMax - zMin) / 2;
-
-        setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, NORTHWEST  );
-        setupVertex(renderBlocks, xMax, yMin, zMid, uBM, vBR, LEFT_CENTER);
-        setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, SOUTHWEST  );
+        SLOPE_YNEG_XNEG.render(renderBlocks, x, y, z, icon);
     }
 
     /**
@@ -61,14 +183,7 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderSlopeYNegXPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
-
-        double uBM  = uBR  - (uBR  -  uBL) / 2;
-        double zMid = zMax - (zMax - zMin) / 2;
-
-        setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, SOUTHEAST   );
-        setupVertex(renderBlocks, xMin, yMin, zMid, uBM, vBR, RIGHT_CENTER);
-        setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, NORTHEAST   );
+        SLOPE_YNEG_XPOS.render(renderBlocks, x, y, z, icon);
     }
 
     /**
@@ -76,14 +191,7 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderSlopeYPosZNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
-
-        double uTM  = uTR  - (uTR  -  uTL) / 2;
-        double xMid = xMax - (xMax - xMin) / 2;
-
-        setupVertex(renderBlocks, xMid, yMax, zMax, uTM, vTL, TOP_CENTER  );
-        setupVertex(renderBlocks, xMax, yMin, zMin, uBL, vBL, NORTHEAST   );
-        setupVertex(renderBlocks, xMin, yMin, zMin, uBR, vBR, NORTHWEST   );
+        SLOPE_YPOS_ZNEG.render(renderBlocks, x, y, z, icon);
     }
 
     /**
@@ -91,14 +199,7 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderSlopeYPosZPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
-
-        double uTM  = uTR  - (uTR  -  uTL) / 2;
-        double xMid = xMax - (xMax - xMin) / 2;
-
-        setupVertex(renderBlocks, xMid, yMax, zMin, uTM, vTL, BOTTOM_CENTER);
-        setupVertex(renderBlocks, xMin, yMin, zMax, uBL, vBL, SOUTHWEST    );
-        setupVertex(renderBlocks, xMax, yMin, zMax, uBR, vBR, SOUTHEAST    );
+        SLOPE_YPOS_ZPOS.render(renderBlocks, x, y, z, icon);
     }
 
     /**
@@ -106,14 +207,7 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderSlopeYPosXNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
-
-        double uTM  = uTR  - (uTR  -  uTL) / 2;
-        double zMid = zMax - (zMax - zMin) / 2;
-
-        setupVertex(renderBlocks, xMax, yMax, zMid, uTM, vTL, LEFT_CENTER );
-        setupVertex(renderBlocks, xMin, yMin, zMin, uBL, vBL, NORTHWEST   );
-        setupVertex(renderBlocks, xMin, yMin, zMax, uBR, vBR, SOUTHWEST   );
+        SLOPE_YPOS_XNEG.render(renderBlocks, x, y, z, icon);
     }
 
     /**
@@ -121,14 +215,7 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderSlopeYPosXPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
-
-        double uTM  = uTR  - (uTR  -  uTL) / 2;
-        double zMid = zMax - (zMax - zMin) / 2;
-
-        setupVertex(renderBlocks, xMin, yMax, zMid, uTM, vTR, RIGHT_CENTER);
-        setupVertex(renderBlocks, xMax, yMin, zMax, uBL, vBL, SOUTHEAST   );
-        setupVertex(renderBlocks, xMax, yMin, zMin, uBR, vBR, NORTHEAST   );
+        SLOPE_YPOS_XPOS.render(renderBlocks, x, y, z, icon);
     }
 
     /**
@@ -136,11 +223,7 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderWestPointSlopeZNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
-
-        setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, SOUTHEAST);
-        setupVertex(renderBlocks, xMin, yMin, zMin, uBR, vBR, NORTHWEST);
-        setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, SOUTHWEST);
+        WEST_POINT_ZNEG.render(renderBlocks, x, y, z, icon);
     }
 
     /**
@@ -148,11 +231,7 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderWestPointSlopeZPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
-
-        setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, NORTHWEST);
-        setupVertex(renderBlocks, xMin, yMin, zMax, uBL, vBL, SOUTHWEST);
-        setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, NORTHEAST);
+        WEST_POINT_ZPOS.render(renderBlocks, x, y, z, icon);
     }
 
     /**
@@ -160,11 +239,7 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderEastPointSlopeZNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
-
-        setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, SOUTHEAST);
-        setupVertex(renderBlocks, xMax, yMin, zMin, uBL, vBL, NORTHEAST);
-        setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, SOUTHWEST);
+        EAST_POINT_ZNEG.render(renderBlocks, x, y, z, icon);
     }
 
     /**
@@ -172,11 +247,7 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderEastPointSlopeZPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
-
-        setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, NORTHWEST);
-        setupVertex(renderBlocks, xMax, yMin, zMax, uBR, vBR, SOUTHEAST);
-        setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, NORTHEAST);
+        EAST_POINT_ZPOS.render(renderBlocks, x, y, z, icon);
     }
 
     /**
@@ -184,11 +255,7 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderNorthPointSlopeXNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
-
-        setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, NORTHEAST);
-        setupVertex(renderBlocks, xMin, yMin, zMin, uBL, vBL, NORTHWEST);
-        setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, SOUTHEAST);
+        NORTH_POINT_XNEG.render(renderBlocks, x, y, z, icon);
     }
 
     /**
@@ -196,11 +263,7 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderNorthPointSlopeXPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
-
-        setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, SOUTHWEST);
-        setupVertex(renderBlocks, xMax, yMin, zMin, uBR, vBR, NORTHEAST);
-        setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, NORTHWEST);
+        NORTH_POINT_XPOS.render(renderBlocks, x, y, z, icon);
     }
 
     /**
@@ -208,11 +271,7 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderSouthPointSlopeXNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
-
-        setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, NORTHEAST);
-        setupVertex(renderBlocks, xMin, yMin, zMax, uBR, vBR, SOUTHWEST);
-        setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, SOUTHEAST);
+        SOUTH_POINT_XNEG.render(renderBlocks, x, y, z, icon);
     }
 
     /**
@@ -220,11 +279,7 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderSouthPointSlopeXPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
-
-        setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, SOUTHWEST);
-        setupVertex(renderBlocks, xMax, yMin, zMax, uBL, vBL, SOUTHEAST);
-        setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, NORTHWEST);
+        SOUTH_POINT_XPOS.render(renderBlocks, x, y, z, icon);
     }
 
     /**
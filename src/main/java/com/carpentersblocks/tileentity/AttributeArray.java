@@ -0,0 +1,99 @@
+package com.carpentersblocks.tileentity;
+
+import net.minecraft.item.ItemStack;
+
+/**
+ * Fixed-slot attribute storage for {@link TEBase}.
+ * <p>
+ * Attribute ids are dense and known ahead of time, so stacks are
+ * held in an array indexed by id alongside a presence bitmask.
+ * The array itself is only allocated once the first attribute
+ * is added, since many tile entities never receive one.
+ */
+public class AttributeArray {
+
+    /** Number of attribute slots, one past the highest attribute id. */
+    public static final int SIZE = 26;
+
+    private ItemStack[] stacks;
+
+    /** Bit n is set when attribute n is present. */
+    private int mask;
+
+    public boolean has(byte attrId)
+    {
+        return (mask & 1 << attrId) != 0;
+    }
+
+    public ItemStack get(byte attrId)
+    {
+        return has(attrId) ? stacks[attrId] : null;
+    }
+
+    public void put(byte attrId, ItemStack itemStack)
+    {
+        if (stacks == null) {
+            stacks = new ItemStack[SIZE];
+        }
+
+        stacks[attrId] = itemStack;
+        mask |= 1 << attrId;
+    }
+
+    public void remove(byte attrId)
+    {
+        if (has(attrId)) {
+            stacks[attrId] = null;
+            mask &= ~(1 << attrId);
+        }
+    }
+
+    public void clear()
+    {
+        if (stacks != null) {
+            for (int idx = 0; idx < SIZE; ++idx) {
+                stacks[idx] = null;
+            }
+        }
+
+        mask = 0;
+    }
+
+    public boolean isEmpty()
+    {
+        return mask == 0;
+    }
+
+    /**
+     * Returns presence bitmask, where bit n represents attribute n.
+     */
+    public int getMask()
+    {
+        return mask;
+    }
+
+    /**
+     * Packs attribute id and item id into one int for the sparse NBT layout.
+     */
+    public static int packEntry(byte attrId, int itemId)
+    {
+        return attrId << 16 | itemId & 0xffff;
+    }
+
+    /**
+     * Returns attribute id from entry written by {@link #packEntry}.
+     */
+    public static byte getEntryAttrId(int entry)
+    {
+        return (byte) (entry >>> 16);
+    }
+
+    /**
+     * Returns item id from entry written by {@link #packEntry}.
+     */
+    public static int getEntryItemId(int entry)
+    {
+        return entry & 0xffff;
+    }
+
+}
@@ -3,15 +3,57 @@ package com.carpentersblocks.tileentity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import com.carpentersblocks.util.handler.DesignHandler;
 
 public class MigrationHelper {
 
     /**
-     * Updates data prior to version 3.3.1 to new format.
+     * Reads data saved using an older NBT layout.
+     * <p>
+     * The tile entity is written back using the current layout
+     * the next time its chunk is saved.
      *
      * @param nbt the {@link NBTTagCompound}
      */
     public static void updateMappingsOnRead(TEBase TE, NBTTagCompound nbt)
+    {
+        if (nbt.hasKey("owner")) {
+            updateMappingsPre331(TE, nbt);
+        } else {
+            updateMappingsVersion1(TE, nbt);
+        }
+    }
+
+    /**
+     * Updates data from version 3.3.1 prior to sparse layout.
+     * <p>
+     * Every attribute was stored as an {@link ItemStack} compound, and
+     * all fields were written regardless of value.
+     */
+    private static void updateMappingsVersion1(TEBase TE, NBTTagCompound nbt)
+    {
+        String TAG_METADATA      = "cbMetadata";
+        String TAG_OWNER         = "cbOwner";
+        String TAG_CHISEL_DESIGN = "cbChiselDesign";
+        String TAG_DESIGN        = "cbDesign";
+
+        TEBase.readAttributeList(TE, nbt);
+
+        for (int idx = 0; idx < 7; ++idx) {
+            TE.cbChiselDesign[idx] = DesignHandler.chisel.getId(nbt.getString(TAG_CHISEL_DESIGN + "_" + idx));
+        }
+
+        TE.cbMetadata = nbt.getShort(TAG_METADATA);
+        TE.cbDesign = nbt.getString(TAG_DESIGN);
+        TE.cbOwner = nbt.getString(TAG_OWNER);
+    }
+
+    /**
+     * Updates data prior to version 3.3.1 to new format.
+     *
+     * @param nbt the {@link NBTTagCompound}
+     */
+    private static void updateMappingsPre331(TEBase TE, NBTTagCompound nbt)
     {
         String TAG_METADATA      = "metadata";
         String TAG_OWNER         = "owner";
@@ -23,7 +65,7 @@ public class MigrationHelper {
         TE.cbOwner = nbt.getString(TAG_OWNER);
 
         for (int idx = 0; idx < 7; ++idx) {
-            TE.cbChiselDesign[idx] = nbt.getString(TAG_CHISEL_DESIGN + "_" + idx);
+            TE.cbChiselDesign[idx] = DesignHandler.chisel.getId(nbt.getString(TAG_CHISEL_DESIGN + "_" + idx));
         }
 
         /* Update base block data. */
@@ -1,21 +1,36 @@
 package com.carpentersblocks.tileentity;
 
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.UUID;
 import net.minecraft.block.Block;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.Packet;
 import net.minecraft.network.play.server.S35PacketUpdateTileEntity;
+import net.minecraft.server.management.PlayerManager;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import org.apache.logging.log4j.Level;
+import com.carpentersblocks.block.BlockCoverable;
 import com.carpentersblocks.util.BlockProperties;
+import com.carpentersblocks.util.CoverProfile;
+import com.carpentersblocks.util.ModLogger;
+import com.carpentersblocks.util.collapsible.CollapsibleGeometry;
+import com.carpentersblocks.util.handler.DesignCatalog;
 import com.carpentersblocks.util.handler.DesignHandler;
+import com.carpentersblocks.util.handler.DesignHandler.DesignType;
+import com.carpentersblocks.util.handler.UpdateHandler;
 import com.carpentersblocks.util.protection.IProtected;
 import com.carpentersblocks.util.protection.ProtectedUtil;
 import cpw.mods.fml.common.FMLCommonHandler;
@@ -29,6 +44,30 @@ public class TEBase extends TileEntity implements IProtected {
     private static final String TAG_OWNER         = "cbOwner";
     private static final String TAG_CHISEL_DESIGN = "cbChiselDesign";
     private static final String TAG_DESIGN        = "cbDesign";
+    private static final String TAG_DELTA         = "cbDelta";
+    private static final String TAG_ATTR_DATA     = "cbAttrData";
+    private static final String TAG_VERSION       = "cbVersion";
+
+    /**
+     * NBT layout version.
+     * <p>
+     * Version 2 omits default values and packs plain attribute stacks into
+     * an int array.  Older layouts are upgraded by {@link MigrationHelper}.
+     */
+    public static final byte    NBT_VERSION       = 2;
+
+    /** Description packet action codes. */
+    private static final int    SYNC_FULL         = 0;
+    private static final int    SYNC_DELTA        = 1;
+
+    /*
+     * Dirty-field bits for delta synchronization.  Bits 0 through 25
+     * map directly to attribute ids.
+     */
+    private static final int    FIELD_CHISEL_DESIGN = 26;
+    private static final long   FIELD_METADATA    = 1L << 33;
+    private static final long   FIELD_DESIGN      = 1L << 34;
+    private static final long   FIELD_OWNER       = 1L << 35;
 
     public static final byte[]  ATTR_COVER        = {  0,  1,  2,  3,  4,  5,  6 };
     public static final byte[]  ATTR_DYE          = {  7,  8,  9, 10, 11, 12, 13 };
@@ -39,10 +78,14 @@ public class TEBase extends TileEntity implements IProtected {
     public static final byte    ATTR_FERTILIZER   = 24;
     public static final byte    ATTR_UPGRADE      = 25;
 
-    protected Map<Byte, ItemStack> cbAttrMap = new HashMap<Byte, ItemStack>();
+    /** Attribute mask bits for side covers {@link #ATTR_COVER}[0] through [5]. */
+    private static final int    SIDE_COVER_MASK   = 0x3f;
+
+    /** Attribute {@link ItemStack ItemStacks}, indexed by attribute id. */
+    protected AttributeArray cbAttrMap = new AttributeArray();
 
-    /** Chisel design for each side and base block. */
-    protected String[] cbChiselDesign = { "", "", "", "", "", "", "" };
+    /** Chisel design id for each side and base block. */
+    protected int[] cbChiselDesign = { -1, -1, -1, -1, -1, -1, -1 };
 
     /** Holds specific block information like facing, states, etc. */
     protected short cbMetadata;
@@ -50,30 +93,52 @@ public class TEBase extends TileEntity implements IProtected {
     /** Design name. */
     protected String cbDesign = "";
 
+    /** Design id, resolved against block design type on first use. */
+    private int cbDesignId = DESIGN_UNRESOLVED;
+    private static final int DESIGN_UNRESOLVED = -2;
+
     /** Owner of tile entity. */
     protected String cbOwner = "";
 
+    /** Fields changed since last synchronization with clients. */
+    private long cbDirtyFields;
+
+    /** Cached cover properties, cleared when attributes change. */
+    private CoverProfile cbCoverProfile;
+
+    /** Cached collapsible block shape, rebuilt when data changes. */
+    private CollapsibleGeometry cbCollapsibleGeometry;
+
+    /** Render passes with geometry, cleared when any field changes. */
+    private byte cbRenderPassMask = RENDER_PASS_UNRESOLVED;
+    public static final byte RENDER_PASS_UNRESOLVED = -1;
+
     @Override
     public void readFromNBT(NBTTagCompound nbt)
     {
         super.readFromNBT(nbt);
 
         cbAttrMap.clear();
+        cbDesignId = DESIGN_UNRESOLVED;
+        cbCoverProfile = null;
+        cbRenderPassMask = RENDER_PASS_UNRESOLVED;
 
-        if (nbt.hasKey("owner")) {
+        if (nbt.getByte(TAG_VERSION) < NBT_VERSION) {
             MigrationHelper.updateMappingsOnRead(this, nbt);
         } else {
-            NBTTagList nbttaglist = nbt.getTagList(TAG_ATTR_LIST, 10);
-            for (int idx = 0; idx < nbttaglist.tagCount(); ++idx) {
-                NBTTagCompound nbt1 = nbttaglist.getCompoundTagAt(idx);
-                ItemStack tempStack = ItemStack.loadItemStackFromNBT(nbt1);
-                tempStack.stackSize = 1; // All ItemStacks pre-3.2.7 DEV R3 stored original stack sizes, reduce them here.
-                byte attrId = (byte) (nbt1.getByte(TAG_ATTR) & 255);
-                cbAttrMap.put(attrId, tempStack);
+            int[] attrData = nbt.getIntArray(TAG_ATTR_DATA);
+            for (int idx = 0; idx + 1 < attrData.length; idx += 2) {
+                byte attrId = AttributeArray.getEntryAttrId(attrData[idx]);
+                Item item = Item.getItemById(AttributeArray.getEntryItemId(attrData[idx]));
+                if (item != null && attrId < AttributeArray.SIZE) {
+                    cbAttrMap.put(attrId, new ItemStack(item, 1, attrData[idx + 1]));
+                }
             }
 
+            readAttributeList(this, nbt);
+
             for (int idx = 0; idx < 7; ++idx) {
-                cbChiselDesign[idx] = nbt.getString(TAG_CHISEL_DESIGN + "_" + idx);
+                cbChiselDesign[idx] = DesignHandler.chisel.getId(nbt.getString(TAG_CHISEL_DESIGN + "_" + idx));
             }
 
             cbMetadata = nbt.getShort(TAG_METADATA);
@@ -90,30 +155,79 @@ public class TEBase extends TileEntity implements IProtected {
         }
     }
 
+    /**
+     * Reads attributes stored as {@link ItemStack} compounds.
+     * <p>
+     * Current saves only use this for stacks carrying NBT data.
+     */
+    protected static void readAttributeList(TEBase TE, NBTTagCompound nbt)
+    {
+        NBTTagList nbttaglist = nbt.getTagList(TAG_ATTR_LIST, 10);
+        for (int idx = 0; idx < nbttaglist.tagCount(); ++idx) {
+            NBTTagCompound nbt1 = nbttaglist.getCompoundTagAt(idx);
+            ItemStack tempStack = ItemStack.loadItemStackFromNBT(nbt1);
+            byte attrId = (byte) (nbt1.getByte(TAG_ATTR) & 255);
+            if (tempStack != null && attrId >= 0 && attrId < AttributeArray.SIZE) {
+                tempStack.stackSize = 1; // All ItemStacks pre-3.2.7 DEV R3 stored original stack sizes, reduce them here.
+                TE.cbAttrMap.put(attrId, tempStack);
+            }
+        }
+    }
+
     @Override
+    /**
+     * Writes tile entity using sparse layout.
+     * <p>
+     * Attributes without NBT data are packed as (attribute id, item id)
+     * and damage int pairs, and fields left at their defaults are omitted.
+     */
     public void writeToNBT(NBTTagCompound nbt)
     {
         super.writeToNBT(nbt);
 
+        nbt.setByte(TAG_VERSION, NBT_VERSION);
+
+        int[] attrData = new int[Integer.bitCount(cbAttrMap.getMask()) * 2];
+        int count = 0;
         NBTTagList itemstack_list = new NBTTagList();
 
-        Iterator iterator = cbAttrMap.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry entry = (Map.Entry) iterator.next();
-            NBTTagCompound nbt1 = new NBTTagCompound();
-            nbt1.setByte(TAG_ATTR, (Byte) entry.getKey());
-            ((ItemStack)entry.getValue()).writeToNBT(nbt1);
-            itemstack_list.appendTag(nbt1);
+        for (byte attrId = 0; attrId < AttributeArray.SIZE; ++attrId) {
+            if (cbAttrMap.has(attrId)) {
+                ItemStack itemStack = cbAttrMap.get(attrId);
+                if (itemStack.hasTagCompound()) {
+                    NBTTagCompound nbt1 = new NBTTagCompound();
+                    nbt1.setByte(TAG_ATTR, attrId);
+                    itemStack.writeToNBT(nbt1);
+                    itemstack_list.appendTag(nbt1);
+                } else {
+                    attrData[count++] = AttributeArray.packEntry(attrId, Item.getIdFromItem(itemStack.getItem()));
+                    attrData[count++] = itemStack.getItemDamage();
+                }
+            }
+        }
+
+        if (count > 0) {
+            nbt.setIntArray(TAG_ATTR_DATA, count < attrData.length ? Arrays.copyOf(attrData, count) : attrData);
+        }
+        if (itemstack_list.tagCount() > 0) {
+            nbt.setTag(TAG_ATTR_LIST, itemstack_list);
         }
-        nbt.setTag(TAG_ATTR_LIST, itemstack_list);
 
         for (int idx = 0; idx < 7; ++idx) {
-            nbt.setString(TAG_CHISEL_DESIGN + "_" + idx, cbChiselDesign[idx]);
+            if (hasChiselDesign(idx)) {
+                nbt.setString(TAG_CHISEL_DESIGN + "_" + idx, getChiselDesign(idx));
+            }
         }
 
-        nbt.setShort(TAG_METADATA, cbMetadata);
-        nbt.setString(TAG_DESIGN, cbDesign);
-        nbt.setString(TAG_OWNER, cbOwner);
+        if (cbMetadata != 0) {
+            nbt.setShort(TAG_METADATA, cbMetadata);
+        }
+        if (!cbDesign.equals("")) {
+            nbt.setString(TAG_DESIGN, cbDesign);
+        }
+        if (!cbOwner.equals("")) {
+            nbt.setString(TAG_OWNER, cbOwner);
+        }
     }
 
     @Override
@@ -124,7 +238,7 @@ public class TEBase extends TileEntity implements IProtected {
     {
         NBTTagCompound nbt = new NBTTagCompound();
         writeToNBT(nbt);
-        return new S35PacketUpdateTileEntity(xCoord, yCoord, zCoord, 0, nbt);
+        return new S35PacketUpdateTileEntity(xCoord, yCoord, zCoord, SYNC_FULL, nbt);
     }
 
     @Override
@@ -139,7 +253,11 @@ public class TEBase extends TileEntity implements IProtected {
      */
     public void onDataPacket(NetworkManager net, S35PacketUpdateTileEntity pkt)
     {
-        readFromNBT(pkt.func_148857_g());
+        if (pkt.func_148853_f() == SYNC_DELTA) {
+            readDelta(pkt.func_148857_g().getByteArray(TAG_DELTA));
+        } else {
+            readFromNBT(pkt.func_148857_g());
+        }
 
         if (worldObj.isRemote) {
             worldObj.markBlockForUpdate(xCoord, yCoord, zCoord);
@@ -148,6 +266,161 @@ public class TEBase extends TileEntity implements IProtected {
         }
     }
 
+    /**
+     * Records changed fields and queues them for clients.
+     * <p>
+     * The full description packet is still used for the initial
+     * chunk send, so only players that already have the chunk
+     * receive the delta.  Client-side changes simply re-render.
+     *
+     * @param fields the dirty-field bits
+     */
+    protected void updateFields(long fields)
+    {
+        cbRenderPassMask = RENDER_PASS_UNRESOLVED;
+        World world = getWorldObj();
+
+        if (world == null) {
+            return;
+        }
+
+        if (world.isRemote) {
+            world.markBlockForUpdate(xCoord, yCoord, zCoord);
+        } else {
+            cbDirtyFields |= fields;
+            UpdateHandler.sendDelta(this);
+        }
+    }
+
+    /**
+     * Sends pending field changes to players watching this chunk.
+     * <p>
+     * Called by {@link UpdateHandler} once per tick.
+     */
+    public void sendDelta()
+    {
+        if (cbDirtyFields == 0 || !(worldObj instanceof WorldServer)) {
+            return;
+        }
+
+        NBTTagCompound nbt = new NBTTagCompound();
+        try {
+            nbt.setByteArray(TAG_DELTA, writeDelta(cbDirtyFields));
+        } catch (IOException e) {
+            ModLogger.log(Level.WARN, String.format("Unable to write tile entity delta at (%s, %s, %s): %s", xCoord, yCoord, zCoord, e.getMessage()));
+            worldObj.markBlockForUpdate(xCoord, yCoord, zCoord);
+            return;
+        } finally {
+            cbDirtyFields = 0;
+        }
+
+        Packet packet = new S35PacketUpdateTileEntity(xCoord, yCoord, zCoord, SYNC_DELTA, nbt);
+        PlayerManager playerManager = ((WorldServer)worldObj).getPlayerManager();
+
+        for (Object obj : worldObj.playerEntities) {
+            EntityPlayerMP entityPlayer = (EntityPlayerMP) obj;
+            if (playerManager.isPlayerWatchingChunk(entityPlayer, xCoord >> 4, zCoord >> 4)) {
+                entityPlayer.playerNetServerHandler.sendPacket(packet);
+            }
+        }
+    }
+
+    /**
+     * Serializes fields marked in bitmask to compact binary form.
+     */
+    private byte[] writeDelta(long fields) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeLong(fields);
+        out.writeByte(worldObj.getBlockMetadata(xCoord, yCoord, zCoord)); // Replaces block change packet sent with full updates
+
+        for (byte attrId = 0; attrId < AttributeArray.SIZE; ++attrId) {
+            if ((fields & 1L << attrId) != 0) {
+                ItemStack itemStack = getAttribute(attrId);
+                if (itemStack == null) {
+                    out.writeShort(-1);
+                } else {
+                    out.writeShort(Item.getIdFromItem(itemStack.getItem()));
+                    out.writeShort(itemStack.getItemDamage());
+                    out.writeBoolean(itemStack.hasTagCompound());
+                    if (itemStack.hasTagCompound()) {
+                        CompressedStreamTools.write(itemStack.getTagCompound(), out);
+                    }
+                }
+            }
+        }
+        for (int side = 0; side < 7; ++side) {
+            if ((fields & 1L << FIELD_CHISEL_DESIGN + side) != 0) {
+                out.writeUTF(getChiselDesign(side));
+            }
+        }
+        if ((fields & FIELD_METADATA) != 0) {
+            out.writeShort(cbMetadata);
+        }
+        if ((fields & FIELD_DESIGN) != 0) {
+            out.writeUTF(cbDesign);
+        }
+        if ((fields & FIELD_OWNER) != 0) {
+            out.writeUTF(cbOwner);
+        }
+
+        out.close();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Applies fields written by {@link #writeDelta(long)}.
+     */
+    private void readDelta(byte[] data)
+    {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+
+        try {
+            long fields = in.readLong();
+            cbCoverProfile = null;
+            cbRenderPassMask = RENDER_PASS_UNRESOLVED;
+            worldObj.setBlockMetadataWithNotify(xCoord, yCoord, zCoord, in.readByte(), 0);
+
+            for (byte attrId = 0; attrId < AttributeArray.SIZE; ++attrId) {
+                if ((fields & 1L << attrId) != 0) {
+                    int itemId = in.readShort();
+                    if (itemId < 0) {
+                        cbAttrMap.remove(attrId);
+                    } else {
+                        Item item = Item.getItemById(itemId);
+                        int damage = in.readShort();
+                        NBTTagCompound tagCompound = in.readBoolean() ? CompressedStreamTools.read(in) : null;
+                        if (item == null) {
+                            cbAttrMap.remove(attrId);
+                        } else {
+                            ItemStack itemStack = new ItemStack(item, 1, damage);
+                            itemStack.setTagCompound(tagCompound);
+                            cbAttrMap.put(attrId, itemStack);
+                        }
+                    }
+                }
+            }
+            for (int side = 0; side < 7; ++side) {
+                if ((fields & 1L << FIELD_CHISEL_DESIGN + side) != 0) {
+                    cbChiselDesign[side] = DesignHandler.chisel.getId(in.readUTF());
+                }
+            }
+            if ((fields & FIELD_METADATA) != 0) {
+                cbMetadata = in.readShort();
+            }
+            if ((fields & FIELD_DESIGN) != 0) {
+                cbDesign = in.readUTF();
+                cbDesignId = DESIGN_UNRESOLVED;
+            }
+            if ((fields & FIELD_OWNER) != 0) {
+                cbOwner = in.readUTF();
+            }
+        } catch (IOException e) {
+            ModLogger.log(Level.WARN, String.format("Unable to read tile entity delta at (%s, %s, %s): %s", xCoord, yCoord, zCoord, e.getMessage()));
+        }
+    }
+
     /**
      * Called from Chunk.setBlockIDWithMetadata, determines if this tile entity should be re-created when the ID, or Metadata changes.
      * Use with caution as this will leave straggler TileEntities, or create conflicts with other TileEntities if not used properly.
@@ -186,6 +459,7 @@ public class TEBase extends TileEntity implements IProtected {
     public void setOwner(UUID uuid)
     {
         cbOwner = uuid.toString();
+        updateFields(FIELD_OWNER);
         markDirty();
     }
 
@@ -205,9 +479,67 @@ public class TEBase extends TileEntity implements IProtected {
         return false;
     }
 
+    /**
+     * Returns cached cover profile, or <code>null</code> if attributes
+     * have changed since it was built.
+     */
+    public CoverProfile getCoverProfile()
+    {
+        return cbCoverProfile;
+    }
+
+    public void setCoverProfile(CoverProfile profile)
+    {
+        cbCoverProfile = profile;
+    }
+
+    /**
+     * Returns cached collapsible block shape, which may be
+     * stale if data has changed since it was built.
+     *
+     * @see CollapsibleGeometry#get(TEBase)
+     */
+    public CollapsibleGeometry getCollapsibleGeometry()
+    {
+        return cbCollapsibleGeometry;
+    }
+
+    public void setCollapsibleGeometry(CollapsibleGeometry geometry)
+    {
+        cbCollapsibleGeometry = geometry;
+    }
+
+    /**
+     * Returns cached mask of render passes in which this block has
+     * geometry, or {@link #RENDER_PASS_UNRESOLVED} if fields have
+     * changed since it was computed.  Bit 0 is the opaque pass, and
+     * bit 1 is the alpha pass.
+     */
+    public int getRenderPassMask()
+    {
+        return cbRenderPassMask;
+    }
+
+    public void setRenderPassMask(int mask)
+    {
+        cbRenderPassMask = (byte) mask;
+    }
+
+    /**
+     * Returns bitmask of side covers present, where bit n is set
+     * when side n has a cover.
+     * <p>
+     * Side cover attribute ids match their sides, so this is read
+     * straight from the attribute presence mask.
+     */
+    public int getSideCoverMask()
+    {
+        return cbAttrMap.getMask() & SIDE_COVER_MASK;
+    }
+
     public boolean hasAttribute(byte attrId)
     {
-        return cbAttrMap.containsKey(attrId);
+        return cbAttrMap.has(attrId);
     }
 
     public ItemStack getAttribute(byte attrId)
@@ -226,6 +558,7 @@ public class TEBase extends TileEntity implements IProtected {
             }
 
             cbAttrMap.put(attrId, reducedStack);
+            cbCoverProfile = null;
 
             World world = getWorldObj();
             if (world != null) {
@@ -237,9 +570,13 @@ public class TEBase extends TileEntity implements IProtected {
                     if (attrId == ATTR_COVER[6]) {
                         world.setBlockMetadataWithNotify(xCoord, yCoord, zCoord, metadata, 0);
                     }
-                    world.notifyBlocksOfNeighborChange(xCoord, yCoord, zCoord, block);
+                    UpdateHandler.notifyBlocksOfNeighborChange(world, xCoord, yCoord, zCoord, block);
                 } else if (attrId == ATTR_PLANT | attrId == ATTR_SOIL) {
-                    world.notifyBlocksOfNeighborChange(xCoord, yCoord, zCoord, block);
+                    UpdateHandler.notifyBlocksOfNeighborChange(world, xCoord, yCoord, zCoord, block);
+                }
+
+                if (attrId == ATTR_COVER[6] || attrId == ATTR_ILLUMINATOR) {
+                    UpdateHandler.updateAllLightTypes(world, xCoord, yCoord, zCoord);
                 }
 
                 if (attrId == ATTR_FERTILIZER) {
@@ -247,7 +584,7 @@ public class TEBase extends TileEntity implements IProtected {
                     getWorldObj().playAuxSFX(2005, xCoord, yCoord, zCoord, 0);
                 }
 
-                world.markBlockForUpdate(xCoord, yCoord, zCoord);
+                updateFields(1L << attrId);
 
             }
 
@@ -268,7 +605,11 @@ public class TEBase extends TileEntity implements IProtected {
         if (hasAttribute(attrId)) {
             dropAttribute(attrId);
             cbAttrMap.remove(attrId);
-            getWorldObj().markBlockForUpdate(xCoord, yCoord, zCoord);
+            cbCoverProfile = null;
+            if (attrId == ATTR_COVER[6] || attrId == ATTR_ILLUMINATOR) {
+                UpdateHandler.updateAllLightTypes(getWorldObj(), xCoord, yCoord, zCoord);
+            }
+            updateFields(1L << attrId);
             markDirty();
             return true;
         }
@@ -304,13 +645,21 @@ public class TEBase extends TileEntity implements IProtected {
      */
     public boolean hasChiselDesign(int side)
     {
-        return DesignHandler.listChisel.contains(getChiselDesign(side));
+        return cbChiselDesign[side] != DesignCatalog.NONE;
     }
 
     /**
      * Returns pattern.
      */
     public String getChiselDesign(int side)
+    {
+        return DesignHandler.chisel.getName(cbChiselDesign[side]);
+    }
+
+    /**
+     * Returns pattern id, or {@link DesignCatalog#NONE} if side has no pattern.
+     */
+    public int getChiselDesignId(int side)
     {
         return cbChiselDesign[side];
     }
@@ -320,9 +669,11 @@ public class TEBase extends TileEntity implements IProtected {
      */
     public boolean setChiselDesign(int side, String iconName)
     {
-        if (!cbChiselDesign.equals(iconName)) {
-            cbChiselDesign[side] = iconName;
-            getWorldObj().markBlockForUpdate(xCoord, yCoord, zCoord);
+        int id = DesignHandler.chisel.getId(iconName);
+
+        if (cbChiselDesign[side] != id) {
+            cbChiselDesign[side] = id;
+            updateFields(1L << FIELD_CHISEL_DESIGN + side);
             return true;
         }
 
@@ -331,9 +682,9 @@ public class TEBase extends TileEntity implements IProtected {
 
     public void removeChiselDesign(int side)
     {
-        if (!cbChiselDesign.equals("")) {
-            cbChiselDesign[side] = "";
-            getWorldObj().markBlockForUpdate(xCoord, yCoord, zCoord);
+        if (cbChiselDesign[side] != DesignCatalog.NONE) {
+            cbChiselDesign[side] = DesignCatalog.NONE;
+            updateFields(1L << FIELD_CHISEL_DESIGN + side);
         }
     }
 
@@ -354,7 +705,25 @@ public class TEBase extends TileEntity implements IProtected {
     {
         if (data != getData()) {
             cbMetadata = (short) data;
-            getWorldObj().markBlockForUpdate(xCoord, yCoord, zCoord);
+            updateFields(FIELD_METADATA);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Sets block-specific data without queuing a delta for clients.
+     * <p>
+     * Used by callers that synchronize many blocks at once, such as
+     * {@link com.carpentersblocks.util.collapsible.CollapsibleHeightfield}.
+     */
+    public boolean setDataUnsynced(int data)
+    {
+        if (data != getData()) {
+            cbMetadata = (short) data;
+            cbRenderPassMask = RENDER_PASS_UNRESOLVED;
+            markDirty();
             return true;
         }
 
@@ -363,7 +732,21 @@ public class TEBase extends TileEntity implements IProtected {
 
     public boolean hasDesign()
     {
-        return DesignHandler.getListForType(getBlockDesignType()).contains(cbDesign);
+        return getDesignId() != DesignCatalog.NONE;
+    }
+
+    /**
+     * Returns design id for this block's design type, or
+     * {@link DesignCatalog#NONE} if block has no design.
+     */
+    public int getDesignId()
+    {
+        if (cbDesignId == DESIGN_UNRESOLVED) {
+            DesignType type = getBlockDesignType();
+            cbDesignId = type == null ? DesignCatalog.NONE : DesignHandler.getCatalog(type).getId(cbDesign);
+        }
+
+        return cbDesignId;
     }
 
     public String getDesign()
@@ -375,7 +758,8 @@ public class TEBase extends TileEntity implements IProtected {
     {
         if (!cbDesign.equals(name)) {
             cbDesign = name;
-            getWorldObj().markBlockForUpdate(xCoord, yCoord, zCoord);
+            cbDesignId = DESIGN_UNRESOLVED;
+            updateFields(FIELD_DESIGN);
             return true;
         }
 
@@ -387,20 +771,26 @@ public class TEBase extends TileEntity implements IProtected {
         return setDesign("");
     }
 
-    public String getBlockDesignType()
+    /**
+     * Returns design type supported by block, or <code>null</code>
+     * if block does not support designs.
+     */
+    public DesignType getBlockDesignType()
     {
-        String name = getBlockType().getUnlocalizedName();
-        return name.substring(new String("tile.blockCarpenters").length()).toLowerCase();
+        Block block = getBlockType();
+        return block instanceof BlockCoverable ? ((BlockCoverable)block).getDesignType() : null;
     }
 
     public boolean setNextDesign()
     {
-        return setDesign(DesignHandler.getNext(getBlockDesignType(), cbDesign));
+        DesignCatalog catalog = DesignHandler.getCatalog(getBlockDesignType());
+        return setDesign(catalog.getNext(cbDesign));
     }
 
     public boolean setPrevDesign()
     {
-        return setDesign(DesignHandler.getPrev(getBlockDesignType(), cbDesign));
+        DesignCatalog catalog = DesignHandler.getCatalog(getBlockDesignType());
+        return setDesign(catalog.getPrev(cbDesign));
     }
 
     /**
@@ -1,6 +1,8 @@
 package com.carpentersblocks.util;
 
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.Block.SoundType;
 import net.minecraft.block.BlockBreakable;
@@ -17,36 +19,59 @@ import net.minecraftforge.oredict.OreDictionary;
 import com.carpentersblocks.CarpentersBlocks;
 import com.carpentersblocks.block.BlockCoverable;
 import com.carpentersblocks.tileentity.TEBase;
-import com.carpentersblocks.util.handler.ChatHandler;
+import com.carpentersblocks.util.handler.ClassificationHandler;
 import com.carpentersblocks.util.handler.DyeHandler;
 import com.carpentersblocks.util.handler.OverlayHandler;
-import com.carpentersblocks.util.registry.FeatureRegistry;
+import com.carpentersblocks.util.handler.OverlayHandler.Overlay;
 
 public class BlockProperties {
 
     public final static SoundType stepSound         = new SoundType(CarpentersBlocks.MODID, 1.0F, 1.0F);
     public final static int       MASK_DEFAULT_ICON = 0x10;
 
+    /** Shared default stacks, keyed by block.  These must never be modified. */
+    private final static Map<Block, ItemStack> defaultStacks = new ConcurrentHashMap<Block, ItemStack>();
+
     public static boolean isMetadataDefaultIcon(int metadata)
     {
         return (metadata & MASK_DEFAULT_ICON) > 0;
     }
 
     /**
-     * Adds additional data to unused bits in ItemStack metadata to
-     * identify special properties for ItemStack.
+     * Returns ItemStack metadata with additional data added to unused
+     * bits to identify special properties for ItemStack.
      * <p>
      * Tells {@link BlockCoverable} to retrieve block icon rather than
-     * default blank icon.
+     * default blank icon.  The ItemStack is not modified, so it is safe
+     * to pass shared stacks returned by {@link #getCover(TEBase, int)}.
      *
-     * @param itemStack
-     * @param mask
+     * @param  itemStack the {@link ItemStack}
+     * @return the metadata to use when rendering
      */
-    public static void prepareItemStackForRendering(ItemStack itemStack)
+    public static int getRenderMetadata(ItemStack itemStack)
     {
         if (toBlock(itemStack) instanceof BlockCoverable) {
-            itemStack.setItemDamage(itemStack.getItemDamage() | MASK_DEFAULT_ICON);
+            return itemStack.getItemDamage() | MASK_DEFAULT_ICON;
+        } else {
+            return itemStack.getItemDamage();
+        }
+    }
+
+    /**
+     * Returns shared {@link ItemStack} for block with a damage value of zero.
+     * <p>
+     * The returned ItemStack is shared and must not be modified.
+     */
+    public static ItemStack getDefaultStack(Block block)
+    {
+        ItemStack itemStack = defaultStacks.get(block);
+
+        if (itemStack == null) {
+            itemStack = new ItemStack(block);
+            defaultStacks.put(block, itemStack);
         }
+
+        return itemStack;
     }
 
     /**
@@ -69,7 +94,7 @@ public class BlockProperties {
     {
         if (side == 1 && TE.hasAttribute(TE.ATTR_COVER[side])) {
 
-            Block block = toBlock(getCover(TE, side));
+            Block block = getCoverBlock(TE, side);
 
             if (block.equals(Blocks.snow) || block.equals(Blocks.snow_layer)) {
                 return 0.125F;
@@ -125,13 +150,26 @@ public class BlockProperties {
      * <p>
      * This is needed to avoid calling properties for covers that have NBTTagCompounds,
      * which may rely on data that does not exist.
+     * <p>
+     * Does not allocate.  The returned ItemStack may be the tile entity
+     * attribute or a shared stack, and must not be modified.
      */
     public static ItemStack getCover(TEBase TE, int side)
     {
         ItemStack itemStack = getCoverSafe(TE, side);
         Block block = toBlock(itemStack);
 
-        return block.hasTileEntity(itemStack.getItemDamage()) && !(block instanceof BlockCoverable) ? new ItemStack(Blocks.planks) : itemStack;
+        return block.hasTileEntity(itemStack.getItemDamage()) && !(block instanceof BlockCoverable) ? getDefaultStack(Blocks.planks) : itemStack;
+    }
+
+    /**
+     * Returns cover block for side.
+     * <p>
+     * Equivalent to <code>toBlock(getCover(TE, side))</code>.
+     */
+    public static Block getCoverBlock(TEBase TE, int side)
+    {
+        return toBlock(getCover(TE, side));
     }
 
     /**
@@ -164,6 +202,9 @@ public class BlockProperties {
 
     /**
      * Returns the cover, or if no cover exists, will return the calling block type.
+     * <p>
+     * Does not allocate.  The returned ItemStack may be the tile entity
+     * attribute or a shared stack, and must not be modified.
      *
      * @param  TE the {@link TEBase}
      * @param  side the side
@@ -172,7 +213,7 @@ public class BlockProperties {
     public static ItemStack getCoverSafe(TEBase TE, int side)
     {
         ItemStack itemStack = TE.getAttribute(TE.ATTR_COVER[side]);
-        return itemStack != null ? itemStack : new ItemStack(TE.getBlockType());
+        return itemStack != null ? itemStack : getDefaultStack(TE.getBlockType());
     }
 
     /**
@@ -188,8 +229,7 @@ public class BlockProperties {
                    block instanceof BlockSlab ||
                    block instanceof BlockPane ||
                    block instanceof BlockBreakable ||
-                   FeatureRegistry.coverExceptions.contains(itemStack.getDisplayName()) ||
-                   FeatureRegistry.coverExceptions.contains(ChatHandler.getDefaultTranslation(itemStack));
+                   ClassificationHandler.isCoverException(itemStack);
 
         }
 
@@ -204,15 +244,7 @@ public class BlockProperties {
      */
     public static boolean isIlluminator(ItemStack itemStack)
     {
-        if (itemStack != null) {
-            for (int Id : OreDictionary.getOreIDs(itemStack)) {
-                if (OreDictionary.getOreName(Id).equals("dustGlowstone")) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
+        return itemStack != null && ClassificationHandler.isIlluminator(itemStack);
     }
 
     /**
@@ -229,8 +261,7 @@ public class BlockProperties {
      */
     public static boolean isOverlay(ItemStack itemStack)
     {
-        return OverlayHandler.overlayMap.containsKey(itemStack.getDisplayName()) ||
-               OverlayHandler.overlayMap.containsKey(ChatHandler.getDefaultTranslation(itemStack));
+        return OverlayHandler.getOverlayType(itemStack) != Overlay.NONE;
     }
 
     /**
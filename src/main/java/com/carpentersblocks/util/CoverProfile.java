@@ -0,0 +1,43 @@
+package com.carpentersblocks.util;
+
+import net.minecraft.block.Block;
+
+/**
+ * Immutable snapshot of cover-derived block properties.
+ * <p>
+ * Built by {@link com.carpentersblocks.block.BlockCoverable} and cached
+ * on the tile entity until a cover, overlay or illuminator changes, so
+ * that lighting, fire and explosion queries avoid resolving covers.
+ * Properties that may depend on location, such as hardness, are not
+ * kept here; query {@link #block} for them instead.
+ */
+public class CoverProfile {
+
+    /** Whether a base cover is present. */
+    public final boolean hasCover;
+
+    /** Base cover block, or the coverable block itself if uncovered. */
+    public final Block block;
+
+    /** Highest light value from illuminator and covers. */
+    public final int lightValue;
+
+    public final float resistance;
+    public final int   flammability;
+    public final int   fireSpreadSpeed;
+
+    /** Slipperiness of top surface, considering top side cover and overlay. */
+    public final float slipperiness;
+
+    public CoverProfile(boolean hasCover, Block block, int lightValue, float resistance, int flammability, int fireSpreadSpeed, float slipperiness)
+    {
+        this.hasCover = hasCover;
+        this.block = block;
+        this.lightValue = lightValue;
+        this.resistance = resistance;
+        this.flammability = flammability;
+        this.fireSpreadSpeed = fireSpreadSpeed;
+        this.slipperiness = slipperiness;
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.carpentersblocks.util;
+
+import net.minecraft.util.MovingObjectPosition;
+import net.minecraft.util.Vec3;
+
+public class RayTraceUtil {
+
+    /** Full block, flattened as xMin, yMin, zMin, xMax, yMax, zMax. */
+    public final static float[] FULL_BLOCK = { 0.0F, 0.0F, 0.0F, 1.0F, 1.0F, 1.0F };
+
+    /**
+     * Ray traces boxes from start vector to end vector, returning nearest hit.
+     * <p>
+     * Boxes are flattened, six coordinates per box relative to block origin.
+     * Faces are tested the same way as {@link net.minecraft.block.Block#collisionRayTrace},
+     * but without changing block bounds or allocating vectors per face.
+     *
+     * @return the {@link MovingObjectPosition}, or <code>null</code> if no box was hit
+     */
+    public static MovingObjectPosition rayTraceBoxes(float[] boxes, int x, int y, int z, Vec3 startVec, Vec3 endVec)
+    {
+        double xStart = startVec.xCoord - x;
+        double yStart = startVec.yCoord - y;
+        double zStart = startVec.zCoord - z;
+        double xDir = endVec.xCoord - startVec.xCoord;
+        double yDir = endVec.yCoord - startVec.yCoord;
+        double zDir = endVec.zCoord - startVec.zCoord;
+
+        int sideHit = -1;
+        double tNearest = Double.MAX_VALUE;
+
+        for (int offset = 0; offset < boxes.length; offset += 6)
+        {
+            for (int side = 0; side < 6; ++side)
+            {
+                int axis = side < 2 ? 1 : side < 4 ? 2 : 0;
+                double start = axis == 0 ? xStart : axis == 1 ? yStart : zStart;
+                double dir = axis == 0 ? xDir : axis == 1 ? yDir : zDir;
+
+                if (dir * dir < 1.0E-7D) {
+                    continue;
+                }
+
+                double t = (boxes[offset + axis + (side % 2 == 0 ? 0 : 3)] - start) / dir;
+
+                if (t < 0.0D || t > 1.0D || t >= tNearest) {
+                    continue;
+                }
+
+                double xHit = xStart + xDir * t;
+                double yHit = yStart + yDir * t;
+                double zHit = zStart + zDir * t;
+
+                boolean inFace =
+                        (axis == 0 || xHit >= boxes[offset]     && xHit <= boxes[offset + 3]) &&
+                        (axis == 1 || yHit >= boxes[offset + 1] && yHit <= boxes[offset + 4]) &&
+                        (axis == 2 || zHit >= boxes[offset + 2] && zHit <= boxes[offset + 5]);
+
+                if (inFace) {
+                    tNearest = t;
+                    sideHit = side;
+                }
+            }
+        }
+
+        if (sideHit < 0) {
+            return null;
+        }
+
+        Vec3 hitVec = Vec3.createVectorHelper(startVec.xCoord + xDir * tNearest, startVec.yCoord + yDir * tNearest, startVec.zCoord + zDir * tNearest);
+
+        return new MovingObjectPosition(x, y, z, sideHit, hitVec);
+    }
+
+}
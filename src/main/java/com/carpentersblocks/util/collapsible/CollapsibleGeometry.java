@@ -0,0 +1,155 @@
+package com.carpentersblocks.util.collapsible;
+
+import com.carpentersblocks.data.Collapsible;
+import com.carpentersblocks.tileentity.TEBase;
+
+/**
+ * Immutable collapsible block shape built from block data.
+ * <p>
+ * Geometry is cached on the {@link TEBase} and rebuilt only once quadrant
+ * heights change, so rendering, collision and ray tracing share a single
+ * copy.  Being immutable, it may be read from the render and server
+ * threads at the same time.
+ */
+public class CollapsibleGeometry {
+
+    /** Small offset to prevent Z-fighting at height 1. */
+    private final static double BIAS = 1.0D / 1024.0D;
+
+    /** Block data geometry was built from. */
+    public final int data;
+
+    /** Quadrant heights summed. */
+    private final int combinedHeight;
+
+    /** Corner heights used for rendering. */
+    public final double offset_XZNN;
+    public final double offset_XZNP;
+    public final double offset_XZPN;
+    public final double offset_XZPP;
+
+    /** Center height used for rendering, along the primary diagonal. */
+    public final double CENTER_YMAX;
+
+    /** Block height determined by the highest quadrant. */
+    public final float maxHeight;
+
+    /** Quadrant collision boxes, flattened six coordinates per quadrant. */
+    private final float[] boxes = new float[4 * 6];
+
+    /** Block bounds, as a single flattened box. */
+    private final float[] bounds;
+
+    private CollapsibleGeometry(int data)
+    {
+        this.data = data;
+
+        int[] quadHeight = new int[4];
+        float highest = 0.0F;
+
+        for (int quad = 0; quad < 4; ++quad) {
+            quadHeight[quad] = Collapsible.getQuadHeight(data, quad);
+            highest = Math.max(highest, (quadHeight[quad] - 1.0F) / 15.0F);
+        }
+
+        combinedHeight = quadHeight[0] + quadHeight[1] + quadHeight[2] + quadHeight[3];
+        maxHeight = highest;
+        bounds = new float[] { 0.0F, 0.0F, 0.0F, 1.0F, maxHeight, 1.0F };
+
+        /* Render offsets. */
+
+        double bias = isFullyCollapsed() ? 0.0D : BIAS;
+
+        offset_XZNN = (quadHeight[Collapsible.QUAD_XZNN] - 1.0D) / 15.0D + bias;
+        offset_XZNP = (quadHeight[Collapsible.QUAD_XZNP] - 1.0D) / 15.0D + bias;
+        offset_XZPN = (quadHeight[Collapsible.QUAD_XZPN] - 1.0D) / 15.0D + bias;
+        offset_XZPP = (quadHeight[Collapsible.QUAD_XZPP] - 1.0D) / 15.0D + bias;
+
+        /* Find primary corners and set center yMax offset. */
+
+        double NW_SE = Math.abs(offset_XZNN - offset_XZPP);
+        double NE_SW = Math.abs(offset_XZPN - offset_XZNP);
+
+        /*
+         * Changing this to NW_SE > NE_SW will change how slopes are split.
+         * It's really a matter of personal preference.
+         */
+        if (NW_SE < NE_SW) {
+            CENTER_YMAX = (offset_XZPN + offset_XZNP) / 2.0F;
+        } else {
+            CENTER_YMAX = (offset_XZNN + offset_XZPP) / 2.0F;
+        }
+
+        /* Collision boxes. */
+
+        for (int quad = 0; quad < 4; ++quad)
+        {
+            int idx = quad * 6;
+            boolean xPos = quad == Collapsible.QUAD_XZPN || quad == Collapsible.QUAD_XZPP;
+            boolean zPos = quad == Collapsible.QUAD_XZNP || quad == Collapsible.QUAD_XZPP;
+
+            float height = (quadHeight[quad] - 1.0F) / 15.0F;
+
+            /* Make quads stagger no more than 0.5F so player can always walk across them. */
+            if (maxHeight - height > 0.5F) {
+                height = maxHeight - 0.5F;
+            }
+
+            boxes[idx]     = xPos ? 0.5F : 0.0F;
+            boxes[idx + 1] = 0.0F;
+            boxes[idx + 2] = zPos ? 0.5F : 0.0F;
+            boxes[idx + 3] = xPos ? 1.0F : 0.5F;
+            boxes[idx + 4] = height;
+            boxes[idx + 5] = zPos ? 1.0F : 0.5F;
+        }
+    }
+
+    /**
+     * Returns geometry for collapsible block, building
+     * it if block data has changed since it was cached.
+     */
+    public static CollapsibleGeometry get(TEBase TE)
+    {
+        CollapsibleGeometry geometry = TE.getCollapsibleGeometry();
+        int data = TE.getData();
+
+        if (geometry == null || geometry.data != data) {
+            geometry = new CollapsibleGeometry(data);
+            TE.setCollapsibleGeometry(geometry);
+        }
+
+        return geometry;
+    }
+
+    /**
+     * Returns quadrant collision boxes, ordered by quadrant.
+     * <p>
+     * Boxes are flattened, six coordinates per box in the order
+     * xMin, yMin, zMin, xMax, yMax, zMax.  The returned array is
+     * shared and must not be modified.
+     */
+    public float[] getBoxes()
+    {
+        return boxes;
+    }
+
+    /**
+     * Returns block bounds, with height determined by the highest quadrant.
+     * The returned array is shared and must not be modified.
+     */
+    public float[] getBounds()
+    {
+        return bounds;
+    }
+
+    public boolean isFullyCollapsed()
+    {
+        return combinedHeight == 16 * 4;
+    }
+
+    public boolean isFullHeight()
+    {
+        return combinedHeight == 0;
+    }
+
+}
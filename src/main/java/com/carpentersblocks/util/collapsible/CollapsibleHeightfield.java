@@ -0,0 +1,350 @@
+package com.carpentersblocks.util.collapsible;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import com.carpentersblocks.data.Collapsible;
+import com.carpentersblocks.network.PacketCollapsibleHeights;
+import com.carpentersblocks.tileentity.TEBase;
+import com.carpentersblocks.util.handler.PacketHandler;
+import com.carpentersblocks.util.protection.PlayerPermissions;
+import com.carpentersblocks.util.registry.BlockRegistry;
+
+/**
+ * Quadrant heights of collapsible blocks within a rectangular region
+ * at a single y-level.
+ * <p>
+ * Heights are read once into a primitive array, edited in place, and
+ * written back with {@link #write()}, which sends clients one packet
+ * per chunk rather than one update per block.
+ * <p>
+ * Quadrant heights range from 1 to 16.  Corners are addressed by world
+ * coordinates, where corner (x, z) is shared by up to four blocks.
+ * <p>
+ * When read for a player, blocks the player may not edit are locked.
+ * Locked blocks are never changed, and corners they share are left
+ * as they are.
+ */
+public class CollapsibleHeightfield {
+
+    /** Corner offsets per quadrant. */
+    private final static int[] QUAD_X_OFFSET = { 0, 0, 1, 1 };
+    private final static int[] QUAD_Z_OFFSET = { 0, 1, 0, 1 };
+
+    private final static int MIN_HEIGHT = 1;
+    private final static int MAX_HEIGHT = 16;
+
+    private final World world;
+    private final int xMin;
+    private final int y;
+    private final int zMin;
+    private final int width;
+    private final int depth;
+
+    /** Collapsible tile entities by block index, or <code>null</code> where there are none. */
+    private final TEBase[] tiles;
+
+    /** Quadrant heights, four per block in quadrant order, or 0 where there is no block. */
+    private final int[] heights;
+
+    /** Whether block at index may not be changed. */
+    private final boolean[] locked;
+
+    private CollapsibleHeightfield(World world, int xMin, int y, int zMin, int width, int depth, TEBase[] tiles, int[] heights, boolean[] locked)
+    {
+        this.world = world;
+        this.xMin = xMin;
+        this.y = y;
+        this.zMin = zMin;
+        this.width = width;
+        this.depth = depth;
+        this.tiles = tiles;
+        this.heights = heights;
+        this.locked = locked;
+    }
+
+    /**
+     * Creates heightfield from quadrant heights alone, for checking
+     * edits without a world.  It cannot be written.
+     */
+    CollapsibleHeightfield(int xMin, int zMin, int width, int depth, int[] heights, boolean[] locked)
+    {
+        this(null, xMin, 0, zMin, width, depth, new TEBase[width * depth], heights, locked);
+    }
+
+    /**
+     * Reads collapsible blocks within bounds, inclusive, locking those
+     * player may not edit.  Player may be <code>null</code>.
+     */
+    private static CollapsibleHeightfield read(World world, int xMin, int y, int zMin, int xMax, int zMax, EntityPlayer entityPlayer)
+    {
+        if (xMax < xMin || zMax < zMin) {
+            throw new IllegalArgumentException(String.format("Invalid heightfield bounds (%s, %s) to (%s, %s)", xMin, zMin, xMax, zMax));
+        }
+
+        int width = xMax - xMin + 1;
+        int depth = zMax - zMin + 1;
+        TEBase[] tiles = new TEBase[width * depth];
+        int[] heights = new int[width * depth * 4];
+        boolean[] locked = new boolean[width * depth];
+
+        for (int z = zMin; z <= zMax; ++z) {
+            for (int x = xMin; x <= xMax; ++x) {
+
+                if (!world.blockExists(x, y, z) || world.getBlock(x, y, z) != BlockRegistry.blockCarpentersCollapsibleBlock) {
+                    continue;
+                }
+
+                TileEntity TE = world.getTileEntity(x, y, z);
+
+                if (TE instanceof TEBase) {
+                    int idx = (z - zMin) * width + x - xMin;
+                    int data = ((TEBase)TE).getData();
+                    tiles[idx] = (TEBase) TE;
+                    locked[idx] = entityPlayer != null && !PlayerPermissions.canPlayerEdit((TEBase) TE, x, y, z, entityPlayer);
+                    for (int quad = 0; quad < 4; ++quad) {
+                        heights[idx * 4 + quad] = Collapsible.getQuadHeight(data, quad);
+                    }
+                }
+
+            }
+        }
+
+        return new CollapsibleHeightfield(world, xMin, y, zMin, width, depth, tiles, heights, locked);
+    }
+
+    /**
+     * Reads collapsible blocks within bounds, inclusive.
+     */
+    public static CollapsibleHeightfield read(World world, int xMin, int y, int zMin, int xMax, int zMax)
+    {
+        return read(world, xMin, y, zMin, xMax, zMax, null);
+    }
+
+    /**
+     * Reads collapsible blocks within radius of block, forming a square.
+     */
+    public static CollapsibleHeightfield read(World world, int x, int y, int z, int radius)
+    {
+        return read(world, x - radius, y, z - radius, x + radius, z + radius, null);
+    }
+
+    /**
+     * Reads collapsible blocks within radius of block, forming a square,
+     * locking those player may not edit.
+     */
+    public static CollapsibleHeightfield read(World world, int x, int y, int z, int radius, EntityPlayer entityPlayer)
+    {
+        return read(world, x - radius, y, z - radius, x + radius, z + radius, entityPlayer);
+    }
+
+    private int getIndex(int x, int z)
+    {
+        return (z - zMin) * width + x - xMin;
+    }
+
+    private boolean contains(int x, int z)
+    {
+        return x >= xMin && x < xMin + width && z >= zMin && z < zMin + depth;
+    }
+
+    private boolean hasBlock(int idx)
+    {
+        return heights[idx * 4] > 0;
+    }
+
+    private boolean isEditable(int idx)
+    {
+        return hasBlock(idx) && !locked[idx];
+    }
+
+    /**
+     * Returns height of quadrant, or 0 if block is not a collapsible block in region.
+     */
+    public int getQuadHeight(int x, int z, int quad)
+    {
+        if (!contains(x, z) || !hasBlock(getIndex(x, z))) {
+            return 0;
+        }
+
+        return heights[getIndex(x, z) * 4 + quad];
+    }
+
+    /**
+     * Sets height of quadrant, along with the matching quadrant of
+     * any blocks sharing its corner so that transitions stay smooth.
+     */
+    public void setQuadHeight(int x, int z, int quad, int height)
+    {
+        setCornerHeight(x + QUAD_X_OFFSET[quad], z + QUAD_Z_OFFSET[quad], height);
+    }
+
+    /**
+     * Sets height of corner for every editable block in region sharing it.
+     * Out-of-range heights are ignored.
+     */
+    public void setCornerHeight(int x, int z, int height)
+    {
+        if (height < MIN_HEIGHT || height > MAX_HEIGHT) {
+            return;
+        }
+
+        for (int quad = 0; quad < 4; ++quad)
+        {
+            int blockX = x - QUAD_X_OFFSET[quad];
+            int blockZ = z - QUAD_Z_OFFSET[quad];
+
+            if (contains(blockX, blockZ)) {
+                int idx = getIndex(blockX, blockZ);
+                if (isEditable(idx)) {
+                    heights[idx * 4 + quad] = height;
+                }
+            }
+        }
+    }
+
+    /**
+     * Raises or lowers every editable quadrant in region by amount.
+     */
+    public void adjust(int amount)
+    {
+        for (int idx = 0; idx < locked.length; ++idx) {
+            if (isEditable(idx)) {
+                for (int quad = 0; quad < 4; ++quad) {
+                    int height = heights[idx * 4 + quad] + amount;
+                    heights[idx * 4 + quad] = Math.max(MIN_HEIGHT, Math.min(MAX_HEIGHT, height));
+                }
+            }
+        }
+    }
+
+    /**
+     * Smooths region in one pass, setting each corner to the
+     * average of itself and its eight neighboring corners.
+     * <p>
+     * Corners along the region boundary are shared with blocks
+     * outside of it, so they are left as they are, as are corners
+     * shared with locked blocks.  Locked blocks still count toward
+     * the averages of neighboring corners.
+     */
+    public void smooth()
+    {
+        int cornerWidth = width + 1;
+        int cornerDepth = depth + 1;
+        int[] cornerSum = new int[cornerWidth * cornerDepth];
+        int[] cornerCount = new int[cornerWidth * cornerDepth];
+        boolean[] cornerLocked = new boolean[cornerWidth * cornerDepth];
+
+        /* Average quadrants sharing each corner. */
+
+        for (int idx = 0; idx < locked.length; ++idx) {
+            if (hasBlock(idx)) {
+                int blockX = idx % width;
+                int blockZ = idx / width;
+                for (int quad = 0; quad < 4; ++quad) {
+                    int corner = (blockZ + QUAD_Z_OFFSET[quad]) * cornerWidth + blockX + QUAD_X_OFFSET[quad];
+                    cornerSum[corner] += heights[idx * 4 + quad];
+                    ++cornerCount[corner];
+                    cornerLocked[corner] |= locked[idx];
+                }
+            }
+        }
+
+        for (int corner = 0; corner < cornerSum.length; ++corner) {
+            if (cornerCount[corner] > 0) {
+                cornerSum[corner] = Math.round((float) cornerSum[corner] / cornerCount[corner]);
+            }
+        }
+
+        /* Average neighboring corners, writing interior corners back to quadrants. */
+
+        for (int cornerZ = 1; cornerZ < depth; ++cornerZ)
+        {
+            for (int cornerX = 1; cornerX < width; ++cornerX)
+            {
+                int center = cornerZ * cornerWidth + cornerX;
+
+                if (cornerCount[center] == 0 || cornerLocked[center]) {
+                    continue;
+                }
+
+                int total = 0;
+                int count = 0;
+
+                for (int offZ = -1; offZ <= 1; ++offZ) {
+                    for (int offX = -1; offX <= 1; ++offX) {
+                        int corner = (cornerZ + offZ) * cornerWidth + cornerX + offX;
+                        if (cornerCount[corner] > 0) {
+                            total += cornerSum[corner];
+                            ++count;
+                        }
+                    }
+                }
+
+                setCornerHeight(xMin + cornerX, zMin + cornerZ, Math.round((float) total / count));
+            }
+        }
+    }
+
+    /**
+     * Writes changed heights back to blocks.
+     * <p>
+     * On the server, changes are sent to players watching each
+     * chunk as a single packet.  Locked blocks are skipped.
+     *
+     * @return the number of blocks changed
+     */
+    public int write()
+    {
+        int changed = 0;
+        int xMax = xMin + width - 1;
+        int zMax = zMin + depth - 1;
+
+        for (int chunkZ = zMin >> 4; chunkZ <= zMax >> 4; ++chunkZ)
+        {
+            for (int chunkX = xMin >> 4; chunkX <= xMax >> 4; ++chunkX)
+            {
+                PacketCollapsibleHeights packet = null;
+
+                for (int z = Math.max(zMin, chunkZ << 4); z <= Math.min(zMax, (chunkZ << 4) + 15); ++z) {
+                    for (int x = Math.max(xMin, chunkX << 4); x <= Math.min(xMax, (chunkX << 4) + 15); ++x) {
+
+                        int idx = getIndex(x, z);
+                        TEBase TE = tiles[idx];
+
+                        if (TE == null || TE.isInvalid() || locked[idx]) {
+                            continue;
+                        }
+
+                        int data = TE.getData();
+                        for (int quad = 0; quad < 4; ++quad) {
+                            data = Collapsible.setQuadHeight(data, quad, heights[idx * 4 + quad]);
+                        }
+
+                        if (data != TE.getData()) {
+                            ++changed;
+                            if (world.isRemote) {
+                                TE.setData(data);
+                            } else {
+                                TE.setDataUnsynced(data);
+                                if (packet == null) {
+                                    packet = new PacketCollapsibleHeights(chunkX, chunkZ, y);
+                                }
+                                packet.add(x, z, data);
+                            }
+                        }
+
+                    }
+                }
+
+                if (packet != null) {
+                    PacketHandler.sendPacketToChunk(packet, (WorldServer) world, chunkX, chunkZ);
+                }
+            }
+        }
+
+        return changed;
+    }
+
+}
@@ -0,0 +1,241 @@
+package com.carpentersblocks.util.handler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.oredict.OreDictionary;
+import com.carpentersblocks.util.handler.OverlayHandler.Overlay;
+import com.carpentersblocks.util.registry.FeatureRegistry;
+
+/**
+ * Classifies items as overlays, cover exceptions, dyes and illuminators.
+ * <p>
+ * Configured names are matched against the default (en_US) display
+ * name of each item once, and ore dictionary entries are scanned once.
+ * The result is stored per item and damage value, or per item alone
+ * for damageable items, whose damage is durability rather than a
+ * subtype.  Results do not depend on the client language.
+ * <p>
+ * Low damage values, which cover most subtypes, are kept in a
+ * fixed-size array per item.  Higher values, such as potion effects,
+ * are kept in a map so that they don't size the array.
+ */
+public class ClassificationHandler {
+
+    private static final int MASK_OVERLAY         = 0x007;
+    private static final int MASK_COVER_EXCEPTION = 0x008;
+    private static final int MASK_ILLUMINATOR     = 0x010;
+    private static final int MASK_DYE             = 0x3e0;
+    private static final int MASK_CLASSIFIED      = 0x400;
+
+    /** Dye index is stored offset by one, so that zero means not a dye. */
+    private static final int SHIFT_DYE = 5;
+
+    /** Damage values classified in array for items with subtypes. */
+    private static final int DENSE_SIZE = 64;
+
+    private static final Overlay[] overlays = Overlay.values();
+
+    /** Classifications for each item. */
+    private static ConcurrentMap<Item, Classes> table = new ConcurrentHashMap<Item, Classes>();
+
+    /**
+     * Rebuilds classification table from configured names and
+     * ore dictionary.
+     * <p>
+     * Items without subtypes are classified immediately.  Remaining
+     * damage values are classified on first lookup.
+     */
+    public static void init()
+    {
+        table = new ConcurrentHashMap<Item, Classes>();
+
+        for (Object object : Item.itemRegistry) {
+            Item item = (Item) object;
+            if (!item.getHasSubtypes()) {
+                try {
+                    getClassification(new ItemStack(item));
+                } catch (RuntimeException e) { }
+            }
+        }
+    }
+
+    /**
+     * Discards classification for ItemStack so that it is rebuilt
+     * on next lookup.  Called when ore dictionary entries are added.
+     */
+    public static void invalidate(ItemStack itemStack)
+    {
+        if (itemStack == null || itemStack.getItem() == null) {
+            return;
+        }
+
+        int damage = itemStack.getItemDamage();
+
+        if (damage == OreDictionary.WILDCARD_VALUE || itemStack.getItem().isDamageable()) {
+            table.remove(itemStack.getItem());
+        } else {
+            Classes classes = table.get(itemStack.getItem());
+            if (classes != null && damage >= 0) {
+                classes.set(damage, 0);
+            }
+        }
+    }
+
+    /**
+     * Returns overlay for ItemStack, or {@link Overlay#NONE}.
+     */
+    public static Overlay getOverlay(ItemStack itemStack)
+    {
+        return overlays[getClassification(itemStack) & MASK_OVERLAY];
+    }
+
+    /**
+     * Returns whether ItemStack is listed as a cover exception.
+     */
+    public static boolean isCoverException(ItemStack itemStack)
+    {
+        return (getClassification(itemStack) & MASK_COVER_EXCEPTION) != 0;
+    }
+
+    /**
+     * Returns whether ItemStack is registered as dustGlowstone.
+     */
+    public static boolean isIlluminator(ItemStack itemStack)
+    {
+        return (getClassification(itemStack) & MASK_ILLUMINATOR) != 0;
+    }
+
+    /**
+     * Returns dye index for ItemStack as defined by {@link DyeHandler},
+     * or -1 if ItemStack is not a dye.
+     */
+    public static int getDye(ItemStack itemStack)
+    {
+        return ((getClassification(itemStack) & MASK_DYE) >> SHIFT_DYE) - 1;
+    }
+
+    private static int getClassification(ItemStack itemStack)
+    {
+        Item item = itemStack.getItem();
+        int damage = itemStack.getItemDamage();
+
+        /* Names of NBT-bearing stacks may depend on their tags. */
+
+        if (item == null || damage < 0 || damage == OreDictionary.WILDCARD_VALUE || itemStack.hasTagCompound()) {
+            return item == null ? MASK_CLASSIFIED : classify(itemStack);
+        }
+
+        /* Classify damageable items once, rather than once per durability value. */
+
+        if (item.isDamageable()) {
+            damage = 0;
+        }
+
+        Classes classes = table.get(item);
+
+        if (classes == null) {
+            classes = new Classes(item.getHasSubtypes() ? DENSE_SIZE : 1);
+            Classes existing = table.putIfAbsent(item, classes);
+            if (existing != null) {
+                classes = existing;
+            }
+        } else {
+            int classification = classes.get(damage);
+            if (classification != 0) {
+                return classification;
+            }
+        }
+
+        int classification = classify(itemStack);
+        classes.set(damage, classification);
+
+        return classification;
+    }
+
+    private static int classify(ItemStack itemStack)
+    {
+        String name = ChatHandler.getDefaultTranslation(itemStack);
+        int classification = MASK_CLASSIFIED;
+
+        Overlay overlay = OverlayHandler.overlayMap.get(name);
+        if (overlay != null) {
+            classification |= overlay.ordinal();
+        }
+
+        if (FeatureRegistry.coverExceptions.contains(name)) {
+            classification |= MASK_COVER_EXCEPTION;
+        }
+
+        boolean hasDye = false;
+        for (int id : OreDictionary.getOreIDs(itemStack)) {
+            String oreName = OreDictionary.getOreName(id);
+            if (oreName.equals("dustGlowstone")) {
+                classification |= MASK_ILLUMINATOR;
+            } else if (!hasDye) {
+                int dye = DyeHandler.getDyeIndex(oreName);
+                if (dye >= 0) {
+                    classification |= dye + 1 << SHIFT_DYE;
+                    hasDye = true;
+                }
+            }
+        }
+
+        return classification;
+    }
+
+    /**
+     * Classifications for one item by damage value, where zero means
+     * not yet classified.  The array never grows, so entries written
+     * from different threads are not lost.
+     */
+    static class Classes {
+
+        private final int[] dense;
+        private volatile Map<Integer, Integer> sparse;
+
+        public Classes(int size)
+        {
+            dense = new int[size];
+        }
+
+        public int get(int damage)
+        {
+            if (damage < dense.length) {
+                return dense[damage];
+            }
+
+            Map<Integer, Integer> map = sparse;
+            Integer classification = map != null ? map.get(damage) : null;
+
+            return classification != null ? classification : 0;
+        }
+
+        public void set(int damage, int classification)
+        {
+            if (damage < dense.length) {
+                dense[damage] = classification;
+            } else if (classification == 0) {
+                Map<Integer, Integer> map = sparse;
+                if (map != null) {
+                    map.remove(damage);
+                }
+            } else {
+                getSparse().put(damage, classification);
+            }
+        }
+
+        private synchronized Map<Integer, Integer> getSparse()
+        {
+            if (sparse == null) {
+                sparse = new ConcurrentHashMap<Integer, Integer>();
+            }
+
+            return sparse;
+        }
+
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.carpentersblocks.util.handler;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable set of design names for one design type.
+ * <p>
+ * Each name is assigned a numeric id equal to its position, which
+ * also matches the position of its icon in {@link com.carpentersblocks.util.registry.IconRegistry}.
+ */
+public class DesignCatalog {
+
+    /** Id representing the absence of a design. */
+    public static final int NONE = -1;
+
+    /** Catalog for blocks that do not support designs. */
+    public static final DesignCatalog EMPTY = new DesignCatalog(Collections.<String>emptyList());
+
+    private final String[] names;
+    private final Map<String, Integer> ids;
+
+    public DesignCatalog(List<String> list)
+    {
+        names = list.toArray(new String[list.size()]);
+        ids = new HashMap<String, Integer>();
+
+        for (int id = 0; id < names.length; ++id) {
+            ids.put(names[id], id);
+        }
+    }
+
+    /**
+     * Returns id for design name, or {@link #NONE} if not found.
+     */
+    public int getId(String name)
+    {
+        Integer id = ids.get(name);
+        return id != null ? id : NONE;
+    }
+
+    /**
+     * Returns design name for id, or an empty string if id is
+     * out of range.
+     */
+    public String getName(int id)
+    {
+        return id >= 0 && id < names.length ? names[id] : "";
+    }
+
+    public boolean contains(String name)
+    {
+        return ids.containsKey(name);
+    }
+
+    public boolean contains(int id)
+    {
+        return id >= 0 && id < names.length;
+    }
+
+    public int size()
+    {
+        return names.length;
+    }
+
+    /**
+     * Returns name of next design, wrapping to the first design.
+     * Unknown names resolve to the first design.
+     */
+    public String getNext(String name)
+    {
+        return names.length == 0 ? name : names[getNext(getId(name))];
+    }
+
+    /**
+     * Returns name of previous design, wrapping to the last design.
+     * Unknown names resolve to the last design.
+     */
+    public String getPrev(String name)
+    {
+        return names.length == 0 ? name : names[getPrev(getId(name))];
+    }
+
+    /**
+     * Returns id of next design, wrapping to the first design.
+     */
+    public int getNext(int id)
+    {
+        return id + 1 >= names.length || id < 0 ? 0 : id + 1;
+    }
+
+    /**
+     * Returns id of previous design, wrapping to the last design.
+     */
+    public int getPrev(int id)
+    {
+        return id <= 0 || id >= names.length ? names.length - 1 : id - 1;
+    }
+
+}
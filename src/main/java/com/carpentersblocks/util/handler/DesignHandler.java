@@ -4,6 +4,7 @@ import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.jar.JarFile;
 import java.util.zip.ZipEntry;
@@ -27,11 +28,24 @@ import cpw.mods.fml.relauncher.SideOnly;
 
 public class DesignHandler {
 
+    public enum DesignType {
+        CHISEL,
+        BED,
+        FLOWER_POT,
+        TILE
+    }
+
     public static ArrayList<String> listChisel    = new ArrayList<String>();
     public static ArrayList<String> listBed       = new ArrayList<String>();
     public static ArrayList<String> listFlowerPot = new ArrayList<String>();
     public static ArrayList<String> listTile      = new ArrayList<String>();
 
+    /** Numeric id lookups, built once design discovery completes. */
+    public static DesignCatalog chisel    = new DesignCatalog(listChisel);
+    public static DesignCatalog bed       = new DesignCatalog(listBed);
+    public static DesignCatalog flowerPot = new DesignCatalog(listFlowerPot);
+    public static DesignCatalog tile      = new DesignCatalog(listTile);
+
     private static final String PATH_BASE       = "assets/carpentersblocks/textures/blocks/";
     private static final String PATH_EXEMPT     = "template/";
     private static final String PATH_CHISEL     = "designs/chisel/";
@@ -68,6 +82,18 @@ public class DesignHandler {
             } catch (Exception e) { }
         }
 
+        /* Sort so that design ids are stable regardless of discovery order. */
+
+        Collections.sort(listChisel);
+        Collections.sort(listBed);
+        Collections.sort(listFlowerPot);
+        Collections.sort(listTile);
+
+        chisel    = new DesignCatalog(listChisel);
+        bed       = new DesignCatalog(listBed);
+        flowerPot = new DesignCatalog(listFlowerPot);
+        tile      = new DesignCatalog(listTile);
+
         ModLogger.log(Level.INFO, String.format("Designs found: Bed(%s), Chisel(%s), FlowerPot(%s), Tile(%s)", listBed.size(), listChisel.size(), listFlowerPot.size(), listTile.size()));
     }
 
@@ -131,42 +157,25 @@ public class DesignHandler {
         }
     }
 
-    public static ArrayList<String> getListForType(String type)
-    {
-        return (ArrayList<String>) (
-                type.equals("chisel") ? listChisel.clone() :
-                type.equals("bed") ? listBed.clone() :
-                type.equals("flowerpot") ? listFlowerPot.clone() :
-                type.equals("tile") ? listTile.clone() : null);
-    }
-
     /**
-     * Returns name of next tile in list.
+     * Returns design catalog for type, or an empty catalog
+     * if type is <code>null</code>.
      */
-    public static String getNext(String type, String iconName)
+    public static DesignCatalog getCatalog(DesignType type)
     {
-        ArrayList<String> tempList = getListForType(type);
-
-        if (tempList.isEmpty()) {
-            return iconName;
-        } else {
-            int idx = tempList.indexOf(iconName) + 1;
-            return tempList.get(idx >= tempList.size() ? 0 : idx);
+        if (type == null) {
+            return DesignCatalog.EMPTY;
         }
-    }
-
-    /**
-     * Returns name of previous tile in list.
-     */
-    public static String getPrev(String type, String iconName)
-    {
-        ArrayList<String> tempList = getListForType(type);
 
-        if (tempList.isEmpty()) {
-            return iconName;
-        } else {
-            int idx = iconName.equals("") ? tempList.size() - 1 : tempList.indexOf(iconName) - 1;
-            return tempList.get(idx < 0 ? tempList.size() - 1 : idx);
+        switch (type) {
+            case CHISEL:
+                return chisel;
+            case BED:
+                return bed;
+            case FLOWER_POT:
+                return flowerPot;
+            default:
+                return tile;
         }
     }
 
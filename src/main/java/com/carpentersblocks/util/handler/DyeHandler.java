@@ -4,29 +4,47 @@ import java.util.HashMap;
 import java.util.Map;
 import net.minecraft.item.ItemDye;
 import net.minecraft.item.ItemStack;
-import net.minecraftforge.oredict.OreDictionary;
 
 public class DyeHandler {
 
+    /** Ore dictionary dye names, ordered to match {@link ItemDye#field_150922_c}. */
+    private final static String[] dyeNames = {
+        "dyeBlack",
+        "dyeRed",
+        "dyeGreen",
+        "dyeBrown",
+        "dyeBlue",
+        "dyePurple",
+        "dyeCyan",
+        "dyeLightGray",
+        "dyeGray",
+        "dyePink",
+        "dyeLime",
+        "dyeYellow",
+        "dyeLightBlue",
+        "dyeMagenta",
+        "dyeOrange",
+        "dyeWhite"
+    };
+
+    private final static int WHITE = 15;
+
     private final static Map<String, Integer> dyeMap;
     static {
         dyeMap = new HashMap<String, Integer>();
-        dyeMap.put("dyeBlack", ItemDye.field_150922_c[0]);
-        dyeMap.put("dyeRed", ItemDye.field_150922_c[1]);
-        dyeMap.put("dyeGreen", ItemDye.field_150922_c[2]);
-        dyeMap.put("dyeBrown", ItemDye.field_150922_c[3]);
-        dyeMap.put("dyeBlue", ItemDye.field_150922_c[4]);
-        dyeMap.put("dyePurple", ItemDye.field_150922_c[5]);
-        dyeMap.put("dyeCyan", ItemDye.field_150922_c[6]);
-        dyeMap.put("dyeLightGray", ItemDye.field_150922_c[7]);
-        dyeMap.put("dyeGray", ItemDye.field_150922_c[8]);
-        dyeMap.put("dyePink", ItemDye.field_150922_c[9]);
-        dyeMap.put("dyeLime", ItemDye.field_150922_c[10]);
-        dyeMap.put("dyeYellow", ItemDye.field_150922_c[11]);
-        dyeMap.put("dyeLightBlue", ItemDye.field_150922_c[12]);
-        dyeMap.put("dyeMagenta", ItemDye.field_150922_c[13]);
-        dyeMap.put("dyeOrange", ItemDye.field_150922_c[14]);
-        dyeMap.put("dyeWhite", ItemDye.field_150922_c[15]);
+        for (int idx = 0; idx < dyeNames.length; ++idx) {
+            dyeMap.put(dyeNames[idx], idx);
+        }
+    }
+
+    /**
+     * Returns dye index for ore dictionary name, or -1 if name is
+     * not a known dye.
+     */
+    public static int getDyeIndex(String dye)
+    {
+        Integer idx = dyeMap.get(dye);
+        return idx != null ? idx : -1;
     }
 
     /**
@@ -37,15 +55,8 @@ public class DyeHandler {
      */
     public static int getVanillaDmgValue(ItemStack itemStack)
     {
-        int color = getColor(itemStack);
-
-        for (int idx = 0; idx < ItemDye.field_150922_c.length; ++idx) {
-            if (color == ItemDye.field_150922_c[idx]) {
-                return 15 - idx;
-            }
-        }
-
-        return 15;
+        int idx = ClassificationHandler.getDye(itemStack);
+        return idx >= 0 ? 15 - idx : 15;
     }
 
     /**
@@ -53,14 +64,8 @@ public class DyeHandler {
      */
     public static String getOreDictName(ItemStack itemStack)
     {
-        for (int id : OreDictionary.getOreIDs(itemStack)) {
-            String result = OreDictionary.getOreName(id);
-            if (result.startsWith("dye") && result.length() > 3) {
-                return result;
-            }
-        }
-
-        return "Unknown";
+        int idx = ClassificationHandler.getDye(itemStack);
+        return idx >= 0 ? dyeNames[idx] : "Unknown";
     }
 
     /**
@@ -68,8 +73,8 @@ public class DyeHandler {
      */
     public static boolean isDye(ItemStack itemStack, boolean allowWhite)
     {
-        String name = getOreDictName(itemStack);
-        return dyeMap.containsKey(name) && (name.equals("dyeWhite") && !allowWhite ? false : true);
+        int idx = ClassificationHandler.getDye(itemStack);
+        return idx >= 0 && (allowWhite || idx != WHITE);
     }
 
     /**
@@ -77,7 +82,8 @@ public class DyeHandler {
      */
     public static int getColor(ItemStack itemStack)
     {
-        return getColor(getOreDictName(itemStack));
+        int idx = ClassificationHandler.getDye(itemStack);
+        return idx >= 0 ? ItemDye.field_150922_c[idx] : 0xffffff;
     }
 
     /**
@@ -85,15 +91,8 @@ public class DyeHandler {
      */
     public static int getColor(String dye)
     {
-        int color = 0xffffff;
-
-        Object dyeLookup = dyeMap.get(dye);
-
-        if (dyeLookup != null) {
-            color = (Integer) dyeLookup;
-        }
-
-        return color;
+        int idx = getDyeIndex(dye);
+        return idx >= 0 ? ItemDye.field_150922_c[idx] : 0xffffff;
     }
 
 }
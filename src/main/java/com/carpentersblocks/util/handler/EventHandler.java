@@ -23,6 +23,7 @@ import net.minecraftforge.client.event.sound.PlaySoundEvent17;
 import net.minecraftforge.event.entity.PlaySoundAtEntityEvent;
 import net.minecraftforge.event.entity.living.LivingEvent.LivingUpdateEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
+import net.minecraftforge.oredict.OreDictionary.OreRegisterEvent;
 import com.carpentersblocks.CarpentersBlocks;
 import com.carpentersblocks.api.ICarpentersChisel;
 import com.carpentersblocks.api.ICarpentersHammer;
@@ -69,6 +70,16 @@ public class EventHandler {
         }
     }
 
+    @SubscribeEvent
+    /**
+     * Refreshes cached item classification when ore dictionary
+     * entries are added.
+     */
+    public void onOreRegisterEvent(OreRegisterEvent event)
+    {
+        ClassificationHandler.invalidate(event.Ore);
+    }
+
     @SubscribeEvent
     /**
      * Used to store side clicked and also forces onBlockActivated
@@ -205,29 +216,29 @@ public class EventHandler {
         if (world.getBlock(x, y, z) instanceof BlockCoverable) {
 
             TEBase TE = (TEBase) world.getTileEntity(x, y, z);
-            int effectiveSide = TE.hasAttribute(TE.ATTR_COVER[1]) ? 1 : 6;
-            ItemStack itemStack = BlockProperties.getCover(TE, effectiveSide);
-
-            if (TE.hasAttribute(TE.ATTR_OVERLAY[effectiveSide])) {
-                Overlay overlay = OverlayHandler.getOverlayType(TE.getAttribute(TE.ATTR_OVERLAY[effectiveSide]));
-                if (OverlayHandler.coversFullSide(overlay, 1)) {
-                    itemStack = overlay.getItemStack();
-                }
-            }
 
             /* Spawn sprint particles client-side. */
 
             if (world.isRemote && entity.isSprinting() && !entity.isInWater()) {
+
+                int effectiveSide = TE.hasAttribute(TE.ATTR_COVER[1]) ? 1 : 6;
+                ItemStack itemStack = BlockProperties.getCover(TE, effectiveSide);
+
+                if (TE.hasAttribute(TE.ATTR_OVERLAY[effectiveSide])) {
+                    Overlay overlay = OverlayHandler.getOverlayType(TE.getAttribute(TE.ATTR_OVERLAY[effectiveSide]));
+                    if (OverlayHandler.coversFullSide(overlay, 1)) {
+                        itemStack = overlay.getItemStack();
+                    }
+                }
+
                 ParticleHelper.spawnTileParticleAt(entity, itemStack);
+
             }
 
             /* Adjust block slipperiness according to cover. */
 
-            if (BlockProperties.toBlock(itemStack) instanceof BlockCoverable) {
-                TE.getBlockType().slipperiness = Blocks.dirt.slipperiness;
-            } else {
-                TE.getBlockType().slipperiness = BlockProperties.toBlock(itemStack).slipperiness;
-            }
+            BlockCoverable block = (BlockCoverable) TE.getBlockType();
+            block.slipperiness = block.getCoverProfile(TE).slipperiness;
 
         }
     }
@@ -248,6 +259,8 @@ public class EventHandler {
          */
         if (FeatureRegistry.routableFluids == 2) {
             blockMaterial = Material.water;
+        } else if (FeatureRegistry.routableFluids == 3) {
+            RoutableFluidHandler.beginWorldRender();
         }
     }
     @SideOnly(Side.CLIENT)
@@ -258,6 +271,8 @@ public class EventHandler {
 
         if (FeatureRegistry.routableFluids == 2) {
             blockMaterial = Material.wood;
+        } else if (FeatureRegistry.routableFluids == 3) {
+            RoutableFluidHandler.endWorldRender();
         }
     }
 
@@ -279,7 +294,7 @@ public class EventHandler {
                 TileEntity TE = world.getTileEntity(x, y, z);
 
                 if (TE != null && TE instanceof TEBase) {
-                    block = BlockProperties.toBlock(BlockProperties.getCover((TEBase) TE, 6));
+                    block = BlockProperties.getCoverBlock((TEBase) TE, 6);
                 }
 
                 if (block instanceof BlockCoverable) {
@@ -313,7 +328,7 @@ public class EventHandler {
 
             if (block instanceof BlockCoverable) {
 
-                block = BlockProperties.toBlock(BlockProperties.getCover((TEBase) event.entity.worldObj.getTileEntity(x, y, z), 6));
+                block = BlockProperties.getCoverBlock((TEBase) event.entity.worldObj.getTileEntity(x, y, z), 6);
 
                 if (block instanceof BlockCoverable) {
                     event.name = prefix + Blocks.planks.stepSound.soundName;
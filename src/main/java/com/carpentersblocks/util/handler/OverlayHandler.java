@@ -36,7 +36,7 @@ public class OverlayHandler {
         }
     }
 
-    public static Map overlayMap = new HashMap();
+    public static Map<String, Overlay> overlayMap = new HashMap<String, Overlay>();
 
     /**
      * Initializes overlay definitions from configuration file.
@@ -92,13 +92,7 @@ public class OverlayHandler {
      */
     public static Overlay getOverlayType(ItemStack itemStack)
     {
-        Object object = overlayMap.get(itemStack.getDisplayName());
-
-        if (object == null) {
-            object = overlayMap.get(ChatHandler.getDefaultTranslation(itemStack));
-        }
-
-        return object == null ? Overlay.NONE : (Overlay) object;
+        return ClassificationHandler.getOverlay(itemStack);
     }
 
     @SideOnly(Side.CLIENT)
@@ -6,17 +6,26 @@ import io.netty.buffer.Unpooled;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import net.minecraft.client.Minecraft;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.network.NetHandlerPlayServer;
 import net.minecraft.network.play.client.C17PacketCustomPayload;
+import net.minecraft.network.play.server.S3FPacketCustomPayload;
+import net.minecraft.server.management.PlayerManager;
+import net.minecraft.world.WorldServer;
 import com.carpentersblocks.CarpentersBlocks;
 import com.carpentersblocks.network.ICarpentersPacket;
 import com.carpentersblocks.network.PacketActivateBlock;
+import com.carpentersblocks.network.PacketCollapsibleHeights;
 import com.carpentersblocks.network.PacketEnrichPlant;
 import com.carpentersblocks.network.PacketSlopeSelect;
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.network.FMLNetworkEvent.ClientCustomPacketEvent;
 import cpw.mods.fml.common.network.FMLNetworkEvent.ServerCustomPacketEvent;
 import cpw.mods.fml.common.network.internal.FMLProxyPacket;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
 
 public class PacketHandler {
 
@@ -26,13 +35,25 @@ public class PacketHandler {
         packetCarrier.add(PacketEnrichPlant.class);
         packetCarrier.add(PacketSlopeSelect.class);
         packetCarrier.add(PacketActivateBlock.class);
+        packetCarrier.add(PacketCollapsibleHeights.class);
     }
 
     @SubscribeEvent
     public void onServerPacket(ServerCustomPacketEvent event) throws IOException
     {
-        ByteBufInputStream bbis = new ByteBufInputStream(event.packet.payload());
-        EntityPlayer entityPlayer = ((NetHandlerPlayServer) event.handler).playerEntity;
+        processPacket(((NetHandlerPlayServer) event.handler).playerEntity, event.packet);
+    }
+
+    @SideOnly(Side.CLIENT)
+    @SubscribeEvent
+    public void onClientPacket(ClientCustomPacketEvent event) throws IOException
+    {
+        processPacket(Minecraft.getMinecraft().thePlayer, event.packet);
+    }
+
+    private static void processPacket(EntityPlayer entityPlayer, FMLProxyPacket packet) throws IOException
+    {
+        ByteBufInputStream bbis = new ByteBufInputStream(packet.payload());
         int packetId = bbis.readInt();
 
         try {
@@ -57,4 +78,26 @@ public class PacketHandler {
         CarpentersBlocks.channel.sendToServer(new FMLProxyPacket(new C17PacketCustomPayload(CarpentersBlocks.MODID, buffer)));
     }
 
+    /**
+     * Sends packet to all players watching chunk.
+     */
+    public static void sendPacketToChunk(ICarpentersPacket packet, WorldServer world, int chunkX, int chunkZ)
+    {
+        ByteBuf buffer = Unpooled.buffer();
+        buffer.writeInt(packetCarrier.indexOf(packet.getClass()));
+
+        try {
+            packet.appendData(buffer);
+        } catch (IOException e) { }
+
+        PlayerManager playerManager = world.getPlayerManager();
+
+        for (Object obj : world.playerEntities) {
+            EntityPlayerMP entityPlayer = (EntityPlayerMP) obj;
+            if (playerManager.isPlayerWatchingChunk(entityPlayer, chunkX, chunkZ)) {
+                CarpentersBlocks.channel.sendTo(new FMLProxyPacket(new S3FPacketCustomPayload(CarpentersBlocks.MODID, buffer)), entityPlayer);
+            }
+        }
+    }
+
 }
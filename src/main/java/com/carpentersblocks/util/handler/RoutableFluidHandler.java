@@ -0,0 +1,74 @@
+package com.carpentersblocks.util.handler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import com.carpentersblocks.renderer.helper.FancyFluidsHelper;
+
+/**
+ * Supports routable fluids mode 3, where Carpenter's Blocks report
+ * themselves opaque to adjacent fluids so fluid sides aren't drawn
+ * against routed fluid.
+ * <p>
+ * Vanilla liquids render through a hard-coded render type, so the
+ * querying block can only be found from the call stack.  The stack is
+ * only inspected while the current thread is rendering chunks, and
+ * each class found there is resolved once.
+ */
+public class RoutableFluidHandler {
+
+    /** Whether current thread is rendering chunks. */
+    private static final ThreadLocal<Boolean> renderingWorld = new ThreadLocal<Boolean>();
+
+    /** Whether class, by name, is a fluid block. */
+    private static final Map<String, Boolean> fluidClasses = new ConcurrentHashMap<String, Boolean>();
+
+    /**
+     * Marks current thread as rendering chunks.
+     */
+    public static void beginWorldRender()
+    {
+        renderingWorld.set(Boolean.TRUE);
+    }
+
+    /**
+     * Clears mark set by {@link #beginWorldRender()}.
+     */
+    public static void endWorldRender()
+    {
+        renderingWorld.remove();
+    }
+
+    /**
+     * Returns whether current thread is rendering chunks.
+     */
+    public static boolean isRenderingWorld()
+    {
+        return renderingWorld.get() != null;
+    }
+
+    /**
+     * Returns whether class is a vanilla or Forge fluid block.
+     * Results are cached by name, and unknown classes are not fluids.
+     */
+    public static boolean isFluidClass(String className)
+    {
+        Boolean isFluid = fluidClasses.get(className);
+
+        if (isFluid == null) {
+            isFluid = Boolean.FALSE;
+            try {
+                Class<?> clazz = Class.forName(className);
+                for (int idx = 0; idx < FancyFluidsHelper.liquidClasses.length; ++idx) {
+                    if (FancyFluidsHelper.liquidClasses[idx].isAssignableFrom(clazz)) {
+                        isFluid = Boolean.TRUE;
+                        break;
+                    }
+                }
+            } catch (ClassNotFoundException e) {}
+            fluidClasses.put(className, isFluid);
+        }
+
+        return isFluid;
+    }
+
+}
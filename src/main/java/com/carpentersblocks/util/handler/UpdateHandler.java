@@ -0,0 +1,168 @@
+package com.carpentersblocks.util.handler;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import net.minecraft.block.Block;
+import net.minecraft.world.World;
+import net.minecraftforge.common.DimensionManager;
+import com.carpentersblocks.tileentity.TEBase;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.Phase;
+import cpw.mods.fml.common.gameevent.TickEvent.ServerTickEvent;
+
+/**
+ * Coalesces server-side block updates, neighbor notifications,
+ * light updates and tile entity deltas per position, and flushes
+ * them once at the end of the server tick.
+ * <p>
+ * Requests made on the client are performed immediately.
+ */
+public class UpdateHandler {
+
+    private static final int BLOCK_UPDATE  = 1;
+    private static final int NOTIFY_BLOCKS = 2;
+    private static final int LIGHT_UPDATE  = 4;
+    private static final int TILE_DELTA    = 8;
+
+    private static class Entry {
+
+        final int x;
+        final int y;
+        final int z;
+        int flags;
+        Block block;
+        TEBase TE;
+
+        Entry(int x, int y, int z) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+    }
+
+    private static Map<World, Map<Long, Entry>> queue = new HashMap<World, Map<Long, Entry>>();
+
+    /**
+     * Queues block for client update.
+     */
+    public static void markBlockForUpdate(World world, int x, int y, int z)
+    {
+        if (world.isRemote) {
+            world.markBlockForUpdate(x, y, z);
+        } else {
+            getEntry(world, x, y, z).flags |= BLOCK_UPDATE;
+        }
+    }
+
+    /**
+     * Queues neighbor change notification.  If queued more than once
+     * in a tick, the most recent block is used.
+     */
+    public static void notifyBlocksOfNeighborChange(World world, int x, int y, int z, Block block)
+    {
+        if (world.isRemote) {
+            world.notifyBlocksOfNeighborChange(x, y, z, block);
+        } else {
+            Entry entry = getEntry(world, x, y, z);
+            entry.flags |= NOTIFY_BLOCKS;
+            entry.block = block;
+        }
+    }
+
+    /**
+     * Queues light update for all light types.
+     */
+    public static void updateAllLightTypes(World world, int x, int y, int z)
+    {
+        if (world.isRemote) {
+            world.func_147451_t(x, y, z);
+        } else {
+            getEntry(world, x, y, z).flags |= LIGHT_UPDATE;
+        }
+    }
+
+    /**
+     * Queues pending field changes of tile entity for delta synchronization.
+     */
+    public static void sendDelta(TEBase TE)
+    {
+        Entry entry = getEntry(TE.getWorldObj(), TE.xCoord, TE.yCoord, TE.zCoord);
+        entry.flags |= TILE_DELTA;
+        entry.TE = TE;
+    }
+
+    private static Entry getEntry(World world, int x, int y, int z)
+    {
+        Map<Long, Entry> map = queue.get(world);
+
+        if (map == null) {
+            map = new LinkedHashMap<Long, Entry>();
+            queue.put(world, map);
+        }
+
+        Long key = ((long)x & 0x3ffffff) << 38 | ((long)y & 0xfff) << 26 | z & 0x3ffffff;
+        Entry entry = map.get(key);
+
+        if (entry == null) {
+            entry = new Entry(x, y, z);
+            map.put(key, entry);
+        }
+
+        return entry;
+    }
+
+    @SubscribeEvent
+    /**
+     * Flushes queued updates at end of server tick.
+     */
+    public void onServerTickEvent(ServerTickEvent event)
+    {
+        if (event.phase.equals(Phase.END) && !queue.isEmpty()) {
+            flush();
+        }
+    }
+
+    /**
+     * Performs all queued updates.
+     */
+    public static void flush()
+    {
+        Map<World, Map<Long, Entry>> pending = queue;
+        queue = new HashMap<World, Map<Long, Entry>>();
+
+        for (Map.Entry<World, Map<Long, Entry>> worldEntry : pending.entrySet()) {
+
+            World world = worldEntry.getKey();
+
+            /* Skip worlds unloaded since updates were queued. */
+            if (DimensionManager.getWorld(world.provider.dimensionId) != world) {
+                continue;
+            }
+
+            for (Entry entry : worldEntry.getValue().values()) {
+
+                if (!world.blockExists(entry.x, entry.y, entry.z)) {
+                    continue;
+                }
+
+                if ((entry.flags & TILE_DELTA) != 0 && !entry.TE.isInvalid()) {
+                    entry.TE.sendDelta();
+                }
+                if ((entry.flags & BLOCK_UPDATE) != 0) {
+                    world.markBlockForUpdate(entry.x, entry.y, entry.z);
+                }
+                if ((entry.flags & LIGHT_UPDATE) != 0) {
+                    world.func_147451_t(entry.x, entry.y, entry.z);
+                }
+                if ((entry.flags & NOTIFY_BLOCKS) != 0) {
+                    world.notifyBlocksOfNeighborChange(entry.x, entry.y, entry.z, entry.block);
+                }
+
+            }
+
+        }
+    }
+
+}
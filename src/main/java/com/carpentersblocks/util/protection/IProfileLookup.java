@@ -0,0 +1,15 @@
+package com.carpentersblocks.util.protection;
+
+import java.util.UUID;
+
+public interface IProfileLookup {
+
+    /**
+     * Returns UUID for player name, or <code>null</code> if no
+     * profile exists for name.
+     * <p>
+     * Called from a background thread and may block.
+     */
+    public UUID getUUID(String name);
+
+}
@@ -0,0 +1,32 @@
+package com.carpentersblocks.util.protection;
+
+import java.util.UUID;
+import net.minecraft.server.MinecraftServer;
+import com.mojang.authlib.Agent;
+import com.mojang.authlib.GameProfile;
+import com.mojang.authlib.ProfileLookupCallback;
+
+/**
+ * Looks up player profiles using the server's profile repository.
+ */
+public class MojangProfileLookup implements IProfileLookup {
+
+    @Override
+    public UUID getUUID(String name)
+    {
+        final GameProfile[] gameProfileResult = new GameProfile[1];
+        ProfileLookupCallback profilelookupcallback = new ProfileLookupCallback() {
+            @Override
+            public void onProfileLookupSucceeded(GameProfile gameProfile) {
+                gameProfileResult[0] = gameProfile;
+            }
+            @Override
+            public void onProfileLookupFailed(GameProfile gameProfile, Exception exception) {
+                gameProfileResult[0] = null;
+            }
+        };
+        MinecraftServer.getServer().func_152359_aw().findProfilesByNames(new String[] { name }, Agent.MINECRAFT, profilelookupcallback);
+        return gameProfileResult[0] != null ? gameProfileResult[0].getId() : null;
+    }
+
+}
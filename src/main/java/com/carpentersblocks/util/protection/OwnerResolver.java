@@ -0,0 +1,264 @@
+package com.carpentersblocks.util.protection;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import net.minecraft.entity.Entity;
+import net.minecraft.tileentity.TileEntity;
+import org.apache.logging.log4j.Level;
+import com.carpentersblocks.util.ModLogger;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.Phase;
+import cpw.mods.fml.common.gameevent.TickEvent.ServerTickEvent;
+
+/**
+ * Resolves legacy owner names to UUIDs on a background thread.
+ * <p>
+ * Results are kept in a name to UUID cache that is persisted to
+ * disk, so each name is looked up at most once.  Objects waiting
+ * on a name keep their legacy owner until the lookup completes,
+ * and are then patched on the server thread.
+ */
+public class OwnerResolver {
+
+    /** Maximum number of names waiting for lookup. */
+    static final int QUEUE_CAPACITY = 256;
+
+    private final IProfileLookup profileLookup;
+    private final File cacheFile;
+
+    /** Resolved names. */
+    private final Map<String, UUID> cache = new ConcurrentHashMap<String, UUID>();
+
+    /** Names with no profile, retried after restart. */
+    private final Set<String> unresolved = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    /** Names queued or being looked up. */
+    private final Set<String> pending = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    private final BlockingQueue<String> requests = new ArrayBlockingQueue<String>(QUEUE_CAPACITY);
+    private final ConcurrentLinkedQueue<String> completed = new ConcurrentLinkedQueue<String>();
+
+    /** Objects waiting on name resolution.  Accessed from server thread only. */
+    private final Map<String, List<IProtected>> waiting = new HashMap<String, List<IProtected>>();
+
+    private Thread worker;
+
+    /**
+     * Creates resolver.
+     *
+     * @param profileLookup the profile lookup used to resolve names
+     * @param cacheFile the persistent cache file, or <code>null</code> for an in-memory cache
+     */
+    public OwnerResolver(IProfileLookup profileLookup, File cacheFile)
+    {
+        this.profileLookup = profileLookup;
+        this.cacheFile = cacheFile;
+        loadCache();
+    }
+
+    /**
+     * Returns cached UUID for name, or <code>null</code> if name
+     * is not yet resolved.
+     */
+    public UUID getCachedUUID(String name)
+    {
+        return cache.get(name);
+    }
+
+    /**
+     * Queues name for lookup and patches object once resolved.
+     * <p>
+     * Returns cached UUID immediately if available, otherwise
+     * <code>null</code>.
+     */
+    public UUID resolve(IProtected object, String name)
+    {
+        UUID uuid = cache.get(name);
+
+        if (uuid != null || name.equals("") || unresolved.contains(name)) {
+            return uuid;
+        }
+
+        if (pending.add(name)) {
+            if (requests.offer(name)) {
+                startWorker();
+            } else {
+                pending.remove(name); // Queue full, retried when object is next loaded
+                return null;
+            }
+        }
+
+        synchronized (waiting) {
+            List<IProtected> list = waiting.get(name);
+            if (list == null) {
+                list = new ArrayList<IProtected>();
+                waiting.put(name, list);
+            }
+            list.add(object);
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns number of objects waiting on name resolution.
+     */
+    int getWaitingCount()
+    {
+        int count = 0;
+
+        synchronized (waiting) {
+            for (List<IProtected> list : waiting.values()) {
+                count += list.size();
+            }
+        }
+
+        return count;
+    }
+
+    private synchronized void startWorker()
+    {
+        if (worker == null) {
+            worker = new Thread("Carpenter's Blocks Owner Resolver") {
+                @Override
+                public void run() {
+                    processRequests();
+                }
+            };
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    private void processRequests()
+    {
+        while (true) {
+            String name;
+            try {
+                name = requests.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            UUID uuid = null;
+            try {
+                uuid = profileLookup.getUUID(name);
+            } catch (Exception e) {
+                ModLogger.log(Level.WARN, "Owner lookup failed for " + name + ": " + e.getMessage());
+            }
+
+            if (uuid != null) {
+                cache.put(name, uuid);
+                saveEntry(name, uuid);
+            } else {
+                unresolved.add(name);
+            }
+
+            pending.remove(name);
+            completed.add(name);
+        }
+    }
+
+    @SubscribeEvent
+    /**
+     * Patches objects whose owner names were resolved since last tick.
+     */
+    public void onServerTickEvent(ServerTickEvent event)
+    {
+        if (event.phase.equals(Phase.END)) {
+            processResults();
+        }
+    }
+
+    /**
+     * Patches objects waiting on completed lookups.
+     * Must be called from the server thread.
+     */
+    public void processResults()
+    {
+        String name;
+
+        while ((name = completed.poll()) != null) {
+
+            List<IProtected> list;
+            synchronized (waiting) {
+                list = waiting.remove(name);
+            }
+
+            UUID uuid = cache.get(name);
+
+            if (list != null && uuid != null) {
+                for (IProtected object : list) {
+                    if (isValid(object) && object.getOwner().equals(name)) {
+                        object.setOwner(uuid);
+                    }
+                }
+            }
+
+        }
+    }
+
+    private boolean isValid(IProtected object)
+    {
+        if (object instanceof TileEntity) {
+            return !((TileEntity)object).isInvalid();
+        } else if (object instanceof Entity) {
+            return !((Entity)object).isDead;
+        }
+
+        return true;
+    }
+
+    private void loadCache()
+    {
+        if (cacheFile == null || !cacheFile.exists()) {
+            return;
+        }
+
+        try {
+            BufferedReader reader = new BufferedReader(new FileReader(cacheFile));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] entry = line.split(" ");
+                if (entry.length == 2) {
+                    try {
+                        cache.put(entry[0], UUID.fromString(entry[1]));
+                    } catch (IllegalArgumentException e) { }
+                }
+            }
+            reader.close();
+        } catch (IOException e) {
+            ModLogger.log(Level.WARN, "Unable to read owner cache: " + e.getMessage());
+        }
+    }
+
+    private synchronized void saveEntry(String name, UUID uuid)
+    {
+        if (cacheFile == null) {
+            return;
+        }
+
+        try {
+            FileWriter writer = new FileWriter(cacheFile, true);
+            writer.write(name + " " + uuid + "\n");
+            writer.close();
+        } catch (IOException e) {
+            ModLogger.log(Level.WARN, "Unable to write owner cache: " + e.getMessage());
+        }
+    }
+
+}
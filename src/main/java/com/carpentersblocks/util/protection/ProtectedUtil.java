@@ -1,17 +1,27 @@
 package com.carpentersblocks.util.protection;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.File;
 import java.util.UUID;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.server.MinecraftServer;
-import com.mojang.authlib.Agent;
-import com.mojang.authlib.GameProfile;
-import com.mojang.authlib.ProfileLookupCallback;
 
 public class ProtectedUtil {
 
-    private static Map<String, UUID> cachedUUID = new HashMap<String, UUID>();
+    private static OwnerResolver ownerResolver = new OwnerResolver(new MojangProfileLookup(), null);
+
+    /**
+     * Sets up owner resolution with persistent cache.
+     *
+     * @param cacheFile the file holding resolved owner names
+     */
+    public static void init(File cacheFile)
+    {
+        ownerResolver = new OwnerResolver(new MojangProfileLookup(), cacheFile);
+    }
+
+    public static OwnerResolver getOwnerResolver()
+    {
+        return ownerResolver;
+    }
 
     /**
      * Returns whether player is owner of object.
@@ -26,6 +36,11 @@ public class ProtectedUtil {
 
     /**
      * Reads owner from protected object and converts it to UUID if necessary.
+     * <p>
+     * Legacy owner names not yet resolved are queued for lookup, and
+     * the object keeps its owner name until the lookup completes.
+     *
+     * @return the owner UUID, or <code>null</code> if owner is still a name
      */
     public static UUID updateOwnerUUID(IProtected object)
     {
@@ -35,40 +50,13 @@ public class ProtectedUtil {
         try {
             uuid = UUID.fromString(owner);
         } catch (IllegalArgumentException e) {
-            if (cachedUUID.containsKey(owner)) {
-                if (cachedUUID.get(owner) != null) {
-                    object.setOwner(cachedUUID.get(owner));
-                }
-            } else {
-                uuid = getOwnerIdentity(owner);
-                if (uuid != null) {
-                    object.setOwner(uuid);
-                }
-                cachedUUID.put(owner, uuid);
+            uuid = ownerResolver.resolve(object, owner);
+            if (uuid != null) {
+                object.setOwner(uuid);
             }
         }
 
         return uuid;
     }
 
-    /**
-     * Converts saved owner names to UUID and returns result.
-     */
-    private static UUID getOwnerIdentity(String name)
-    {
-        final GameProfile[] gameProfileResult = new GameProfile[1];
-        ProfileLookupCallback profilelookupcallback = new ProfileLookupCallback() {
-            @Override
-            public void onProfileLookupSucceeded(GameProfile gameProfile) {
-                gameProfileResult[0] = gameProfile;
-            }
-            @Override
-            public void onProfileLookupFailed(GameProfile gameProfile, Exception exception) {
-                gameProfileResult[0] = null;
-            }
-        };
-        MinecraftServer.getServer().func_152359_aw().findProfilesByNames(new String[] { name }, Agent.MINECRAFT, profilelookupcallback);
-        return gameProfileResult[0] != null ? gameProfileResult[0].getId() : null;
-    }
-
 }
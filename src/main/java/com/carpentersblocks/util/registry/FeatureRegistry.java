@@ -3,6 +3,7 @@ package com.carpentersblocks.util.registry;
 import java.util.ArrayList;
 import net.minecraftforge.common.config.Configuration;
 import net.minecraftforge.common.config.Property;
+import com.carpentersblocks.util.slope.SlopeUtil;
 import cpw.mods.fml.common.event.FMLPreInitializationEvent;
 
 public class FeatureRegistry {
@@ -52,6 +53,7 @@ public class FeatureRegistry {
         Property slopeSmoothnessProp = config.get("features", "Smoothness", slopeSmoothness);
         slopeSmoothnessProp.comment = "This controls the smoothness of the slope faces.\nNote: smoothness of 2 is similar to stairs, while a value above 25 is generally fluid.";
         slopeSmoothness = slopeSmoothnessProp.getInt(slopeSmoothness);
+        SlopeUtil.buildBoxTables();
 
         Property torchWeatherEffectsProp = config.get("features", "Enable Torch Weather Effects", enableTorchWeatherEffects);
         torchWeatherEffectsProp.comment = "This controls whether torches extinguish themselves when exposed to rain or snow.";
@@ -5,6 +5,7 @@ import net.minecraft.util.IIcon;
 import net.minecraftforge.client.event.TextureStitchEvent;
 import com.carpentersblocks.CarpentersBlocks;
 import com.carpentersblocks.CarpentersBlocksCachedResources;
+import com.carpentersblocks.renderer.helper.QuadCache;
 import com.carpentersblocks.util.handler.DesignHandler;
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 import cpw.mods.fml.relauncher.Side;
@@ -61,6 +62,7 @@ public class IconRegistry {
         if (event.map.getTextureType() == 0) {
 
             CarpentersBlocksCachedResources.INSTANCE.rebuildCache();
+            QuadCache.invalidate();
 
             icon_uncovered_solid         = event.map.registerIcon(CarpentersBlocks.MODID + ":" + "general/solid");
             icon_uncovered_full          = event.map.registerIcon(CarpentersBlocks.MODID + ":" + "general/full_frame");
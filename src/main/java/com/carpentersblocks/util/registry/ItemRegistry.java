@@ -5,6 +5,7 @@ import net.minecraft.init.Items;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.common.config.Configuration;
+import net.minecraftforge.common.config.Property;
 import com.carpentersblocks.item.ItemCarpentersBed;
 import com.carpentersblocks.item.ItemCarpentersChisel;
 import com.carpentersblocks.item.ItemCarpentersDoor;
@@ -31,6 +32,7 @@ public class ItemRegistry {
     public static double itemHammerDamageChanceFromSlopes      = 0.75D;
     public static double itemHammerDamageChanceFromStairs      = 1.0D;
     public static double itemHammerDamageChanceFromCollapsible = 0.2D;
+    public static int    itemHammerCollapsibleSmoothRadius     = 2;
 
     private static int recipeQuantityTile = 12;
 
@@ -51,6 +53,10 @@ public class ItemRegistry {
         itemHammerDamageChanceFromStairs      = config.get("items",      "itemHammerDamageChanceFromStairs",      itemHammerDamageChanceFromStairs).getDouble(     itemHammerDamageChanceFromStairs);
         itemHammerDamageChanceFromCollapsible = config.get("items", "itemHammerDamageChanceFromCollapsible", itemHammerDamageChanceFromCollapsible).getDouble(itemHammerDamageChanceFromCollapsible);
 
+        Property smoothRadiusProp = config.get("items", "itemHammerCollapsibleSmoothRadius", itemHammerCollapsibleSmoothRadius);
+        smoothRadiusProp.comment = "Radius of area smoothed when sneaking and right-clicking a collapsible block with the hammer.\nValues are limited to 1 through 8.";
+        itemHammerCollapsibleSmoothRadius = Math.max(1, Math.min(8, smoothRadiusProp.getInt(itemHammerCollapsibleSmoothRadius)));
+
         registerItems();
     }
 
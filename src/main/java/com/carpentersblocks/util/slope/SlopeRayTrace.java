@@ -0,0 +1,222 @@
+package com.carpentersblocks.util.slope;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.util.MovingObjectPosition;
+import net.minecraft.util.Vec3;
+import net.minecraftforge.common.util.ForgeDirection;
+import com.carpentersblocks.data.Slope;
+import com.carpentersblocks.util.RayTraceUtil;
+
+/**
+ * Ray traces slopes against the planes of their sloped faces.
+ * <p>
+ * Each slope is described as one or more convex pieces, where each piece
+ * is the space within a set of planes.  Unlike tracing collision boxes,
+ * the cost of a trace does not depend on slope smoothness.
+ */
+public class SlopeRayTrace {
+
+    /** Planes bounding full block. */
+    private final static double[] BLOCK_PLANES = {
+         0.0D, -1.0D,  0.0D, 0.0D,
+         0.0D,  1.0D,  0.0D, 1.0D,
+         0.0D,  0.0D, -1.0D, 0.0D,
+         0.0D,  0.0D,  1.0D, 1.0D,
+        -1.0D,  0.0D,  0.0D, 0.0D,
+         1.0D,  0.0D,  0.0D, 1.0D
+    };
+
+    /**
+     * Convex pieces per slope ID.  Each piece holds four values per
+     * plane, a normal and distance, with solid space satisfying
+     * <code>dot(normal, point) &lt;= distance</code>.
+     */
+    private final static double[][][] slopePieces = new double[Slope.slopesList.length][][];
+
+    static
+    {
+        for (Slope slope : Slope.slopesList) {
+            if (slope != null) {
+                slopePieces[slope.slopeID] = getPieces(slope);
+            }
+        }
+    }
+
+    /**
+     * Returns convex pieces making up slope.
+     */
+    private static double[][] getPieces(Slope slope)
+    {
+        List<double[]> list = new ArrayList<double[]>();
+        ForgeDirection[] facings = slope.facings.toArray(new ForgeDirection[slope.facings.size()]);
+
+        switch (slope.type)
+        {
+            case WEDGE_SIDE:
+            case WEDGE:
+                list.add(getPiece(null, getPlane(1.0D, facings[0], facings[1])));
+                break;
+            case WEDGE_INT:
+                list.add(getPiece(null, getPlane(1.0D, facings[0], facings[1])));
+                list.add(getPiece(null, getPlane(1.0D, facings[0], facings[2])));
+                break;
+            case WEDGE_EXT:
+                list.add(getPiece(null, getPlane(1.0D, facings[0], facings[1]), getPlane(1.0D, facings[0], facings[2])));
+                break;
+            case OBLIQUE_INT:
+                list.add(getPiece(null, getPlane(2.0D, facings[0], facings[1], facings[2])));
+                break;
+            case OBLIQUE_EXT:
+                list.add(getPiece(null, getPlane(1.0D, facings[0], facings[1], facings[2])));
+                break;
+            case PRISM_WEDGE:
+                list.add(getPiece(null, getPlane(1.0D, ForgeDirection.UP, facings[1])));
+                list.add(getPrismPoint(facings[1]));
+                break;
+            default: // PRISM, PRISM_1P, PRISM_2P, PRISM_3P, PRISM_4P
+                list.add(getPiece(null,
+                        getPlane(1.0D, facings[0], ForgeDirection.NORTH),
+                        getPlane(1.0D, facings[0], ForgeDirection.SOUTH),
+                        getPlane(1.0D, facings[0], ForgeDirection.WEST),
+                        getPlane(1.0D, facings[0], ForgeDirection.EAST)));
+                for (int idx = 1; idx < facings.length; ++idx) {
+                    list.add(getPrismPoint(facings[idx]));
+                }
+                break;
+        }
+
+        return list.toArray(new double[list.size()][]);
+    }
+
+    /**
+     * Returns piece for prism point extending from block center in direction.
+     */
+    private static double[] getPrismPoint(ForgeDirection dir)
+    {
+        ForgeDirection left = dir.getRotation(ForgeDirection.UP);
+        double[] halfPlane = new double[] { -dir.offsetX, 0.0D, -dir.offsetZ, dir.offsetX + dir.offsetZ < 0 ? 0.5D : -0.5D };
+
+        return getPiece(halfPlane, getPlane(1.0D, ForgeDirection.UP, left), getPlane(1.0D, ForgeDirection.UP, left.getOpposite()));
+    }
+
+    /**
+     * Returns plane where coordinates toward each direction,
+     * ranging from 0.0 to 1.0 within block, add up to limit.
+     */
+    private static double[] getPlane(double limit, ForgeDirection ... dirs)
+    {
+        double[] plane = new double[] { 0.0D, 0.0D, 0.0D, limit };
+
+        for (ForgeDirection dir : dirs) {
+            plane[0] += dir.offsetX;
+            plane[1] += dir.offsetY;
+            plane[2] += dir.offsetZ;
+            if (dir.offsetX + dir.offsetY + dir.offsetZ < 0) {
+                plane[3] -= 1.0D;
+            }
+        }
+
+        return plane;
+    }
+
+    /**
+     * Flattens planes into piece bounded by full block.
+     */
+    private static double[] getPiece(double[] extraPlane, double[] ... planes)
+    {
+        List<double[]> list = new ArrayList<double[]>();
+        for (double[] plane : planes) {
+            list.add(plane);
+        }
+        if (extraPlane != null) {
+            list.add(extraPlane);
+        }
+
+        double[] piece = new double[BLOCK_PLANES.length + list.size() * 4];
+        System.arraycopy(BLOCK_PLANES, 0, piece, 0, BLOCK_PLANES.length);
+        for (int idx = 0; idx < list.size(); ++idx) {
+            System.arraycopy(list.get(idx), 0, piece, BLOCK_PLANES.length + idx * 4, 4);
+        }
+
+        return piece;
+    }
+
+    /**
+     * Ray traces slope from start vector to end vector.
+     * <p>
+     * Side hit is that of the full block, since sloped faces are
+     * shared by two or more sides.
+     *
+     * @return the {@link MovingObjectPosition}, or <code>null</code> if slope wasn't hit
+     */
+    public static MovingObjectPosition rayTrace(Slope slope, int x, int y, int z, Vec3 startVec, Vec3 endVec)
+    {
+        double xStart = startVec.xCoord - x;
+        double yStart = startVec.yCoord - y;
+        double zStart = startVec.zCoord - z;
+        double xDir = endVec.xCoord - startVec.xCoord;
+        double yDir = endVec.yCoord - startVec.yCoord;
+        double zDir = endVec.zCoord - startVec.zCoord;
+
+        MovingObjectPosition blockTrace = RayTraceUtil.rayTraceBoxes(RayTraceUtil.FULL_BLOCK, x, y, z, startVec, endVec);
+
+        if (blockTrace == null) {
+            return null;
+        }
+
+        double tHit = 2.0D;
+
+        for (double[] piece : slopePieces[slope.slopeID])
+        {
+            double t = clip(piece, xStart, yStart, zStart, xDir, yDir, zDir);
+            if (t >= 0.0D && t < tHit) {
+                tHit = t;
+            }
+        }
+
+        if (tHit > 1.0D) {
+            return null;
+        }
+
+        blockTrace.hitVec = Vec3.createVectorHelper(startVec.xCoord + xDir * tHit, startVec.yCoord + yDir * tHit, startVec.zCoord + zDir * tHit);
+
+        return blockTrace;
+    }
+
+    /**
+     * Clips ray against convex piece.
+     *
+     * @return fraction of ray where piece is entered, or <code>-1.0</code> if piece is missed
+     */
+    private static double clip(double[] piece, double xStart, double yStart, double zStart, double xDir, double yDir, double zDir)
+    {
+        double tEnter = 0.0D;
+        double tExit = 1.0D;
+
+        for (int offset = 0; offset < piece.length; offset += 4)
+        {
+            double denom = piece[offset] * xDir + piece[offset + 1] * yDir + piece[offset + 2] * zDir;
+            double dist = piece[offset + 3] - (piece[offset] * xStart + piece[offset + 1] * yStart + piece[offset + 2] * zStart);
+
+            if (denom == 0.0D) {
+                if (dist < 0.0D) {
+                    return -1.0D;
+                }
+            } else {
+                double t = dist / denom;
+                if (denom < 0.0D) {
+                    tEnter = Math.max(tEnter, t);
+                } else {
+                    tExit = Math.min(tExit, t);
+                }
+                if (tEnter > tExit) {
+                    return -1.0D;
+                }
+            }
+        }
+
+        return tEnter;
+    }
+
+}
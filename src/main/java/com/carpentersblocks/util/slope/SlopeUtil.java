@@ -1,11 +1,168 @@
 package com.carpentersblocks.util.slope;
 
+import java.util.ArrayList;
+import java.util.List;
 import net.minecraftforge.common.util.ForgeDirection;
 import com.carpentersblocks.data.Slope;
 import com.carpentersblocks.util.registry.FeatureRegistry;
 
 public class SlopeUtil {
 
+    /** Collision boxes for every slope, built for a single smoothness value. */
+    private static volatile BoxTable boxTable;
+
+    private static class BoxTable {
+
+        public final int smoothness;
+
+        /** Flattened boxes per slope ID, six coordinates per box. */
+        public final float[][] boxes;
+
+        public BoxTable(int smoothness)
+        {
+            this.smoothness = smoothness;
+            boxes = new float[Slope.slopesList.length][];
+
+            SlopeUtil slopeUtil = new SlopeUtil();
+            for (Slope slope : Slope.slopesList) {
+                if (slope != null) {
+                    boxes[slope.slopeID] = slopeUtil.genBoxTable(slope);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Builds collision box tables using current slope smoothness.
+     * <p>
+     * Called once configuration is loaded, and again by {@link #getBoxes(Slope)}
+     * should smoothness change afterwards.
+     */
+    public static void buildBoxTables()
+    {
+        boxTable = new BoxTable(FeatureRegistry.slopeSmoothness);
+    }
+
+    /**
+     * Returns collision boxes for slope, with adjacent boxes merged.
+     * <p>
+     * Boxes are flattened, six coordinates per box in the order
+     * xMin, yMin, zMin, xMax, yMax, zMax.  The returned array is
+     * shared and must not be modified.
+     */
+    public static float[] getBoxes(Slope slope)
+    {
+        BoxTable table = boxTable;
+
+        if (table == null || table.smoothness != FeatureRegistry.slopeSmoothness) {
+            table = new BoxTable(FeatureRegistry.slopeSmoothness);
+            boxTable = table;
+        }
+
+        return table.boxes[slope.slopeID];
+    }
+
+    /**
+     * Generates all boxes for slope, and merges those that
+     * together form a single box.
+     */
+    private float[] genBoxTable(Slope slope)
+    {
+        List<float[]> list = new ArrayList<float[]>();
+
+        int numPasses = getNumPasses(slope);
+        int precision = getNumBoxesPerPass(slope);
+
+        for (int pass = 0; pass < numPasses; ++pass)
+        {
+            for (int slice = 0; slice < precision; ++slice)
+            {
+                float[] box = genBounds(slope, slice, precision, pass);
+
+                if (box != null && box[0] < box[3] && box[1] < box[4] && box[2] < box[5]) {
+                    list.add(box);
+                }
+            }
+            if (slope.type.equals(Slope.Type.OBLIQUE_EXT)) {
+                --precision;
+            }
+        }
+
+        mergeBoxes(list);
+
+        float[] table = new float[list.size() * 6];
+        for (int idx = 0; idx < list.size(); ++idx) {
+            System.arraycopy(list.get(idx), 0, table, idx * 6, 6);
+        }
+
+        return table;
+    }
+
+    /**
+     * Merges boxes contained by another box, or that share extents
+     * on two axes and touch or overlap on the third.
+     */
+    private static void mergeBoxes(List<float[]> list)
+    {
+        boolean merged = true;
+
+        while (merged)
+        {
+            merged = false;
+
+            for (int idx1 = 0; idx1 < list.size() && !merged; ++idx1) {
+                for (int idx2 = 0; idx2 < list.size() && !merged; ++idx2) {
+
+                    if (idx1 == idx2) {
+                        continue;
+                    }
+
+                    float[] box1 = list.get(idx1);
+                    float[] box2 = list.get(idx2);
+
+                    if (contains(box1, box2)) {
+                        list.remove(idx2);
+                        merged = true;
+                    } else {
+                        for (int axis = 0; axis < 3 && !merged; ++axis) {
+                            if (canJoin(box1, box2, axis)) {
+                                box1[axis] = Math.min(box1[axis], box2[axis]);
+                                box1[axis + 3] = Math.max(box1[axis + 3], box2[axis + 3]);
+                                list.remove(idx2);
+                                merged = true;
+                            }
+                        }
+                    }
+
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns whether first box fully contains second box.
+     */
+    private static boolean contains(float[] box1, float[] box2)
+    {
+        return box1[0] <= box2[0] && box1[1] <= box2[1] && box1[2] <= box2[2] &&
+               box1[3] >= box2[3] && box1[4] >= box2[4] && box1[5] >= box2[5];
+    }
+
+    /**
+     * Returns whether boxes form a single box when joined along axis.
+     */
+    private static boolean canJoin(float[] box1, float[] box2, int axis)
+    {
+        for (int other = 0; other < 3; ++other) {
+            if (other != axis && (box1[other] != box2[other] || box1[other + 3] != box2[other + 3])) {
+                return false;
+            }
+        }
+
+        return box2[axis] <= box1[axis + 3] && box1[axis] <= box2[axis + 3];
+    }
+
     /**
      * Return number of boxes that need to be constructed for slope per pass.
      */
@@ -1,9 +1,49 @@
 package com.carpentersblocks.util.stairs;
 
+import java.util.Arrays;
 import com.carpentersblocks.data.Stairs;
 
 public class StairsUtil {
 
+    /** Boxes per stairs ID, flattened six coordinates per box. */
+    private final static float[][] boxTable = new float[Stairs.stairsList.length][];
+
+    static
+    {
+        StairsUtil stairsUtil = new StairsUtil();
+
+        for (Stairs stairs : Stairs.stairsList)
+        {
+            if (stairs != null) {
+
+                float[] table = new float[0];
+
+                for (int box = 0; box < 3; ++box) {
+                    float[] bounds = stairsUtil.genBounds(box, stairs);
+                    if (bounds != null) {
+                        table = Arrays.copyOf(table, table.length + 6);
+                        System.arraycopy(bounds, 0, table, table.length - 6, 6);
+                    }
+                }
+
+                boxTable[stairs.stairsID] = table;
+
+            }
+        }
+    }
+
+    /**
+     * Returns boxes for stairs, in the same order as {@link #genBounds(int, Stairs)}.
+     * <p>
+     * Boxes are flattened, six coordinates per box in the order
+     * xMin, yMin, zMin, xMax, yMax, zMax.  The returned array is
+     * shared and must not be modified.
+     */
+    public static float[] getBoxes(Stairs stairs)
+    {
+        return boxTable[stairs.stairsID];
+    }
+
     /**
      * Will return stairs boundaries.
      */
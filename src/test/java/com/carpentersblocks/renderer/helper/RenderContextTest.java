@@ -0,0 +1,91 @@
+package com.carpentersblocks.renderer.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+
+public class RenderContextTest {
+
+    private static final int THREADS = 8;
+
+    @Test
+    public void contextIsReusedWithinThread()
+    {
+        assertSame(RenderContext.get(), RenderContext.get());
+        assertSame(RenderContext.get().quadCacheKey, RenderContext.get().quadCacheKey);
+    }
+
+    @Test
+    public void contextIsNotSharedBetweenThreads() throws InterruptedException
+    {
+        final AtomicReference<RenderContext> other = new AtomicReference<RenderContext>();
+
+        Thread thread = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                other.set(RenderContext.get());
+            }
+        };
+        thread.start();
+        thread.join();
+
+        assertNotSame(RenderContext.get(), other.get());
+    }
+
+    /**
+     * Writes vertex, bound and UV state from several threads at once,
+     * and checks that no thread sees another thread's values.
+     */
+    @Test
+    public void concurrentWritesStayOnTheirThread() throws InterruptedException
+    {
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger corrupted = new AtomicInteger();
+        Thread[] threads = new Thread[THREADS];
+
+        for (int idx = 0; idx < THREADS; ++idx) {
+            final int id = idx;
+            threads[idx] = new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+
+                    RenderContext ctx = RenderContext.get();
+                    ctx.vertexCount = 0;
+
+                    for (int count = 0; count < 20000; ++count) {
+                        ctx.uMin = id;
+                        ctx.xMax = id + count;
+                        ctx.drawMode = id;
+                        ctx.vertexCount += 4;
+                        Thread.yield();
+                        if (ctx.uMin != id || ctx.xMax != id + count || ctx.drawMode != id || ctx.vertexCount != (count + 1) * 4) {
+                            corrupted.incrementAndGet();
+                        }
+                    }
+                }
+            };
+            threads[idx].start();
+        }
+
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, corrupted.get());
+    }
+
+}
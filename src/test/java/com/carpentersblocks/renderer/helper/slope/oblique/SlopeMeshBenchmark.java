@@ -0,0 +1,267 @@
+package com.carpentersblocks.renderer.helper.slope.oblique;
+
+import net.minecraft.client.renderer.RenderBlocks;
+import net.minecraft.util.IIcon;
+import net.minecraftforge.common.util.ForgeDirection;
+import org.lwjgl.opengl.GL11;
+import com.carpentersblocks.data.Slope;
+import com.carpentersblocks.renderer.helper.VertexHelper;
+
+/**
+ * Times meshing the sloped faces of a 16x16x16 volume of mixed wedge,
+ * corner and prism slopes.  Not a unit test; run its main method and
+ * compare nanoseconds per block against the tree before the face
+ * templates were added.
+ * <p>
+ * Only the public helper methods are called, so the same source runs
+ * against either tree.  The tessellator is never drawn, so vertices
+ * accumulate for the whole run.
+ */
+public class SlopeMeshBenchmark {
+
+    private static final int SIZE = 16;
+    private static final int PASSES = 50;
+
+    private static final int[] SLOPES = {
+        Slope.ID_WEDGE_POS_N,
+        Slope.ID_WEDGE_NEG_S,
+        Slope.ID_WEDGE_NW,
+        Slope.ID_WEDGE_SE,
+        Slope.ID_WEDGE_INT_POS_NE,
+        Slope.ID_WEDGE_INT_NEG_SW,
+        Slope.ID_WEDGE_EXT_POS_NW,
+        Slope.ID_WEDGE_EXT_NEG_SE,
+        Slope.ID_PRISM_POS,
+        Slope.ID_PRISM_2P_POS_NS,
+        Slope.ID_PRISM_WEDGE_POS_W
+    };
+
+    private static final IIcon ICON = new IIcon()
+    {
+        @Override
+        public int getIconWidth()
+        {
+            return 16;
+        }
+
+        @Override
+        public int getIconHeight()
+        {
+            return 16;
+        }
+
+        @Override
+        public float getMinU()
+        {
+            return 0.0F;
+        }
+
+        @Override
+        public float getMaxU()
+        {
+            return 0.0625F;
+        }
+
+        @Override
+        public float getInterpolatedU(double u)
+        {
+            return (float) (u / 256.0D);
+        }
+
+        @Override
+        public float getMinV()
+        {
+            return 0.0F;
+        }
+
+        @Override
+        public float getMaxV()
+        {
+            return 0.0625F;
+        }
+
+        @Override
+        public float getInterpolatedV(double v)
+        {
+            return (float) (v / 256.0D);
+        }
+
+        @Override
+        public String getIconName()
+        {
+            return "benchmark";
+        }
+    };
+
+    public static void main(String[] args)
+    {
+        RenderBlocks renderBlocks = new RenderBlocks();
+
+        /* Warm up so class loading and compilation are not counted. */
+        run(renderBlocks, 10);
+
+        long time = run(renderBlocks, PASSES);
+
+        System.out.println(String.format("Sloped faces: %8.1f ns per block", (double) time / (PASSES * SIZE * SIZE * SIZE)));
+    }
+
+    private static long run(RenderBlocks renderBlocks, int passes)
+    {
+        long start = System.nanoTime();
+        for (int pass = 0; pass < passes; ++pass) {
+            for (int x = 0; x < SIZE; ++x) {
+                for (int y = 0; y < SIZE; ++y) {
+                    for (int z = 0; z < SIZE; ++z) {
+                        Slope slope = Slope.slopesList[SLOPES[(x + y * SIZE + z * SIZE * SIZE) % SLOPES.length]];
+                        renderSlope(renderBlocks, slope, x, y, z);
+                    }
+                }
+            }
+        }
+
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Draws the sloped faces of a slope, picking helpers and bounds the
+     * way BlockHandlerCarpentersSlope does.
+     */
+    private static void renderSlope(RenderBlocks renderBlocks, Slope slope, double x, double y, double z)
+    {
+        boolean hasN = slope.facings.contains(ForgeDirection.NORTH);
+        boolean hasS = slope.facings.contains(ForgeDirection.SOUTH);
+        boolean hasW = slope.facings.contains(ForgeDirection.WEST);
+
+        renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D);
+
+        switch (slope.getPrimaryType()) {
+            case WEDGE_SIDE:
+                VertexHelper.startDrawing(GL11.GL_QUADS);
+                if (hasN) {
+                    HelperOblWedge.renderSlopeZNeg(renderBlocks, slope.slopeID, x, y, z, ICON);
+                } else {
+                    HelperOblWedge.renderSlopeZPos(renderBlocks, slope.slopeID, x, y, z, ICON);
+                }
+                break;
+            case WEDGE:
+                VertexHelper.startDrawing(GL11.GL_QUADS);
+                if (hasN) {
+                    HelperOblWedge.renderSlopeZNeg(renderBlocks, slope.slopeID, x, y, z, ICON);
+                } else if (hasS) {
+                    HelperOblWedge.renderSlopeZPos(renderBlocks, slope.slopeID, x, y, z, ICON);
+                } else if (hasW) {
+                    HelperOblWedge.renderSlopeXNeg(renderBlocks, slope.slopeID, x, y, z, ICON);
+                } else {
+                    HelperOblWedge.renderSlopeXPos(renderBlocks, slope.slopeID, x, y, z, ICON);
+                }
+                break;
+            case WEDGE_INT:
+            case WEDGE_EXT:
+                VertexHelper.startDrawing(GL11.GL_TRIANGLES);
+                if (hasW) {
+                    HelperCorner.renderSlopeXNeg(renderBlocks, slope.slopeID, x, y, z, ICON);
+                } else {
+                    HelperCorner.renderSlopeXPos(renderBlocks, slope.slopeID, x, y, z, ICON);
+                }
+                if (hasN) {
+                    HelperCorner.renderSlopeZNeg(renderBlocks, slope.slopeID, x, y, z, ICON);
+                } else {
+                    HelperCorner.renderSlopeZPos(renderBlocks, slope.slopeID, x, y, z, ICON);
+                }
+                break;
+            case PRISM:
+                VertexHelper.startDrawing(GL11.GL_TRIANGLES);
+                if (hasN) {
+                    renderPrismPoint(renderBlocks, ForgeDirection.NORTH, x, y, z);
+                } else if (slope.isPositive) {
+                    renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, 0.5D, 0.5D);
+                    HelperPrism.renderSlopeYPosZNeg(renderBlocks, x, y, z, ICON);
+                } else {
+                    renderBlocks.setRenderBounds(0.0D, 0.5D, 0.0D, 1.0D, 1.0D, 0.5D);
+                    HelperPrism.renderSlopeYNegZNeg(renderBlocks, x, y, z, ICON);
+                }
+                if (hasS) {
+                    renderPrismPoint(renderBlocks, ForgeDirection.SOUTH, x, y, z);
+                } else if (slope.isPositive) {
+                    renderBlocks.setRenderBounds(0.0D, 0.0D, 0.5D, 1.0D, 0.5D, 1.0D);
+                    HelperPrism.renderSlopeYPosZPos(renderBlocks, x, y, z, ICON);
+                } else {
+                    renderBlocks.setRenderBounds(0.0D, 0.5D, 0.5D, 1.0D, 1.0D, 1.0D);
+                    HelperPrism.renderSlopeYNegZPos(renderBlocks, x, y, z, ICON);
+                }
+                if (hasW) {
+                    renderPrismPoint(renderBlocks, ForgeDirection.WEST, x, y, z);
+                } else if (slope.isPositive) {
+                    renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 0.5D, 0.5D, 1.0D);
+                    HelperPrism.renderSlopeYPosXNeg(renderBlocks, x, y, z, ICON);
+                } else {
+                    renderBlocks.setRenderBounds(0.0D, 0.5D, 0.0D, 0.5D, 1.0D, 1.0D);
+                    HelperPrism.renderSlopeYNegXNeg(renderBlocks, x, y, z, ICON);
+                }
+                if (slope.facings.contains(ForgeDirection.EAST)) {
+                    renderPrismPoint(renderBlocks, ForgeDirection.EAST, x, y, z);
+                } else if (slope.isPositive) {
+                    renderBlocks.setRenderBounds(0.5D, 0.0D, 0.0D, 1.0D, 0.5D, 1.0D);
+                    HelperPrism.renderSlopeYPosXPos(renderBlocks, x, y, z, ICON);
+                } else {
+                    renderBlocks.setRenderBounds(0.5D, 0.5D, 0.0D, 1.0D, 1.0D, 1.0D);
+                    HelperPrism.renderSlopeYNegXPos(renderBlocks, x, y, z, ICON);
+                }
+                break;
+            case PRISM_WEDGE:
+                VertexHelper.startDrawing(GL11.GL_TRIANGLES);
+                ForgeDirection point = hasN ? ForgeDirection.NORTH : hasS ? ForgeDirection.SOUTH : hasW ? ForgeDirection.WEST : ForgeDirection.EAST;
+                renderPrismPoint(renderBlocks, point, x, y, z);
+                renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D);
+                VertexHelper.startDrawing(GL11.GL_QUADS);
+                switch (point) {
+                    case NORTH:
+                        HelperPrism.renderWedgeSlopeZNeg(renderBlocks, x, y, z, ICON);
+                        break;
+                    case SOUTH:
+                        HelperPrism.renderWedgeSlopeZPos(renderBlocks, x, y, z, ICON);
+                        break;
+                    case WEST:
+                        HelperPrism.renderWedgeSlopeXNeg(renderBlocks, x, y, z, ICON);
+                        break;
+                    default:
+                        HelperPrism.renderWedgeSlopeXPos(renderBlocks, x, y, z, ICON);
+                        break;
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static void renderPrismPoint(RenderBlocks renderBlocks, ForgeDirection point, double x, double y, double z)
+    {
+        switch (point) {
+            case NORTH:
+                renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 0.5D, 0.5D, 0.5D);
+                HelperPrism.renderNorthPointSlopeXNeg(renderBlocks, x, y, z, ICON);
+                renderBlocks.setRenderBounds(0.5D, 0.0D, 0.0D, 1.0D, 0.5D, 0.5D);
+                HelperPrism.renderNorthPointSlopeXPos(renderBlocks, x, y, z, ICON);
+                break;
+            case SOUTH:
+                renderBlocks.setRenderBounds(0.0D, 0.0D, 0.5D, 0.5D, 0.5D, 1.0D);
+                HelperPrism.renderSouthPointSlopeXNeg(renderBlocks, x, y, z, ICON);
+                renderBlocks.setRenderBounds(0.5D, 0.0D, 0.5D, 1.0D, 0.5D, 1.0D);
+                HelperPrism.renderSouthPointSlopeXPos(renderBlocks, x, y, z, ICON);
+                break;
+            case WEST:
+                renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 0.5D, 0.5D, 0.5D);
+                HelperPrism.renderWestPointSlopeZNeg(renderBlocks, x, y, z, ICON);
+                renderBlocks.setRenderBounds(0.0D, 0.0D, 0.5D, 0.5D, 0.5D, 1.0D);
+                HelperPrism.renderWestPointSlopeZPos(renderBlocks, x, y, z, ICON);
+                break;
+            default:
+                renderBlocks.setRenderBounds(0.5D, 0.0D, 0.0D, 1.0D, 0.5D, 0.5D);
+                HelperPrism.renderEastPointSlopeZNeg(renderBlocks, x, y, z, ICON);
+                renderBlocks.setRenderBounds(0.5D, 0.0D, 0.5D, 1.0D, 0.5D, 1.0D);
+                HelperPrism.renderEastPointSlopeZPos(renderBlocks, x, y, z, ICON);
+                break;
+        }
+    }
+
+}
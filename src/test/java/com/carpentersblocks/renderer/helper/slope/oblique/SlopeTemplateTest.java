@@ -0,0 +1,75 @@
+package com.carpentersblocks.renderer.helper.slope.oblique;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import net.minecraftforge.common.util.ForgeDirection;
+import org.junit.Test;
+import com.carpentersblocks.data.Slope;
+import com.carpentersblocks.data.Slope.Type;
+import com.carpentersblocks.renderer.helper.FaceTemplate;
+
+public class SlopeTemplateTest {
+
+    private static final ForgeDirection[] SIDES = { ForgeDirection.NORTH, ForgeDirection.SOUTH, ForgeDirection.WEST, ForgeDirection.EAST };
+
+    /**
+     * Every wedge has a sloped quad on the side it faces.
+     */
+    @Test
+    public void wedgesHaveQuadOnFacing()
+    {
+        for (Slope slope : Slope.slopesList) {
+            if (slope != null && (slope.type.equals(Type.WEDGE) || slope.type.equals(Type.WEDGE_SIDE))) {
+                ForgeDirection side = slope.facings.contains(ForgeDirection.NORTH) ? ForgeDirection.NORTH :
+                                      slope.facings.contains(ForgeDirection.SOUTH) ? ForgeDirection.SOUTH :
+                                      slope.facings.contains(ForgeDirection.WEST)  ? ForgeDirection.WEST : ForgeDirection.EAST;
+                assertVertexCount(4, HelperOblWedge.getSlopeTemplate(side, slope.slopeID), slope);
+            }
+        }
+    }
+
+    /**
+     * Every corner has a sloped triangle on an x side and a z side.
+     */
+    @Test
+    public void cornersHaveTriangleOnEachAxis()
+    {
+        for (Slope slope : Slope.slopesList) {
+            if (slope != null && (slope.type.equals(Type.WEDGE_INT) || slope.type.equals(Type.WEDGE_EXT))) {
+                ForgeDirection sideX = slope.facings.contains(ForgeDirection.WEST) ? ForgeDirection.WEST : ForgeDirection.EAST;
+                ForgeDirection sideZ = slope.facings.contains(ForgeDirection.NORTH) ? ForgeDirection.NORTH : ForgeDirection.SOUTH;
+                assertVertexCount(3, HelperCorner.getSlopeTemplate(sideX, slope.slopeID), slope);
+                assertVertexCount(3, HelperCorner.getSlopeTemplate(sideZ, slope.slopeID), slope);
+            }
+        }
+    }
+
+    @Test
+    public void prismFacesAreTriangles()
+    {
+        for (ForgeDirection side : SIDES) {
+            assertEquals(3, HelperPrism.getSlopeTemplate(side, true).getVertexCount());
+            assertEquals(3, HelperPrism.getSlopeTemplate(side, false).getVertexCount());
+            for (ForgeDirection half : SIDES) {
+                if (half.offsetX != side.offsetX && half.offsetZ != side.offsetZ) {
+                    assertEquals(3, HelperPrism.getPointTemplate(side, half).getVertexCount());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void slopeWithoutFaceHasNoTemplate()
+    {
+        assertNull(HelperOblWedge.getSlopeTemplate(ForgeDirection.SOUTH, Slope.ID_WEDGE_POS_N));
+        assertNull(HelperCorner.getSlopeTemplate(ForgeDirection.NORTH, Slope.ID_WEDGE_POS_N));
+    }
+
+    private static void assertVertexCount(int expected, FaceTemplate template, Slope slope)
+    {
+        assertNotNull("No template for slope " + slope.slopeID, template);
+        assertEquals("Vertex count for slope " + slope.slopeID, expected, template.getVertexCount());
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.carpentersblocks.tileentity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.lang.management.ManagementFactory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import org.junit.Test;
+
+public class AttributeArrayTest {
+
+    private static ItemStack newStack()
+    {
+        return new ItemStack((Item) null, 1, 0);
+    }
+
+    @Test
+    public void emptyArrayHasNoAttributes()
+    {
+        AttributeArray array = new AttributeArray();
+
+        assertTrue(array.isEmpty());
+        assertEquals(0, array.getMask());
+
+        for (byte attrId = 0; attrId < AttributeArray.SIZE; ++attrId) {
+            assertFalse(array.has(attrId));
+            assertNull(array.get(attrId));
+        }
+    }
+
+    @Test
+    public void putSetsSlotAndMaskBit()
+    {
+        AttributeArray array = new AttributeArray();
+        ItemStack cover = newStack();
+        ItemStack upgrade = newStack();
+
+        array.put((byte) 0, cover);
+        array.put((byte) 25, upgrade);
+
+        assertFalse(array.isEmpty());
+        assertEquals(1 | 1 << 25, array.getMask());
+        assertSame(cover, array.get((byte) 0));
+        assertSame(upgrade, array.get((byte) 25));
+        assertFalse(array.has((byte) 1));
+    }
+
+    @Test
+    public void putReplacesExistingStack()
+    {
+        AttributeArray array = new AttributeArray();
+        ItemStack replacement = newStack();
+
+        array.put((byte) 6, newStack());
+        array.put((byte) 6, replacement);
+
+        assertSame(replacement, array.get((byte) 6));
+        assertEquals(1 << 6, array.getMask());
+    }
+
+    @Test
+    public void removeClearsOnlyThatAttribute()
+    {
+        AttributeArray array = new AttributeArray();
+        ItemStack dye = newStack();
+
+        array.put((byte) 7, newStack());
+        array.put((byte) 8, dye);
+        array.remove((byte) 7);
+        array.remove((byte) 20); // Not present
+
+        assertFalse(array.has((byte) 7));
+        assertNull(array.get((byte) 7));
+        assertSame(dye, array.get((byte) 8));
+        assertEquals(1 << 8, array.getMask());
+    }
+
+    @Test
+    public void clearRemovesAllAttributes()
+    {
+        AttributeArray array = new AttributeArray();
+
+        for (byte attrId = 0; attrId < AttributeArray.SIZE; ++attrId) {
+            array.put(attrId, newStack());
+        }
+        array.clear();
+
+        assertTrue(array.isEmpty());
+        for (byte attrId = 0; attrId < AttributeArray.SIZE; ++attrId) {
+            assertNull(array.get(attrId));
+        }
+    }
+
+    @Test
+    public void packedEntriesRoundTrip()
+    {
+        int[] itemIds = { 0, 1, 256, 4095, 31999, 32767 };
+
+        for (byte attrId = 0; attrId < AttributeArray.SIZE; ++attrId) {
+            for (int itemId : itemIds) {
+                int entry = AttributeArray.packEntry(attrId, itemId);
+                assertEquals(attrId, AttributeArray.getEntryAttrId(entry));
+                assertEquals(itemId, AttributeArray.getEntryItemId(entry));
+            }
+        }
+    }
+
+    @Test
+    public void lookupsDoNotAllocate()
+    {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return;
+        }
+
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadBean.isThreadAllocatedMemorySupported()) {
+            return;
+        }
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        AttributeArray array = new AttributeArray();
+        array.put((byte) 1, newStack());
+        array.put((byte) 6, newStack());
+
+        long threadId = Thread.currentThread().getId();
+        int found = 0;
+
+        /* Warm up so class loading and compilation are not counted. */
+        for (int count = 0; count < 20000; ++count) {
+            found += lookup(array, count);
+        }
+        threadBean.getThreadAllocatedBytes(threadId);
+
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int count = 0; count < 100000; ++count) {
+            found += lookup(array, count);
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        /* Allow for the measurement call itself, but not one object per lookup. */
+        assertTrue("Allocated " + allocated + " bytes over 100000 lookups (" + found + ")", allocated < 1024);
+    }
+
+    /**
+     * Performs attribute reads made when resolving a side cover.
+     */
+    private static int lookup(AttributeArray array, int count)
+    {
+        byte attrId = (byte) (count % 7);
+        return (array.has(attrId) ? 1 : 0) + (array.get(attrId) != null ? 1 : 0) + (array.getMask() & 0x3f);
+    }
+
+    @Test
+    public void sizeCoversHighestAttributeId()
+    {
+        assertEquals(TEBase.ATTR_UPGRADE + 1, AttributeArray.SIZE);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.carpentersblocks.tileentity;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import org.junit.Test;
+import com.carpentersblocks.util.CoverProfile;
+
+public class TEBaseTest {
+
+    private static CoverProfile newProfile()
+    {
+        return new CoverProfile(false, null, 0, 0.0F, 0, 0, 0.6F);
+    }
+
+    @Test
+    public void coverProfileIsKeptUntilAttributesChange()
+    {
+        TEBase TE = new TEBase();
+        CoverProfile profile = newProfile();
+
+        TE.setCoverProfile(profile);
+        assertSame(profile, TE.getCoverProfile());
+
+        TE.addAttribute(TEBase.ATTR_COVER[6], new ItemStack((Item) null, 1, 0));
+        assertNull(TE.getCoverProfile());
+    }
+
+    @Test
+    public void coverProfileIsKeptWhenAttributeIsAlreadyPresent()
+    {
+        TEBase TE = new TEBase();
+        TE.addAttribute(TEBase.ATTR_ILLUMINATOR, new ItemStack((Item) null, 1, 0));
+
+        CoverProfile profile = newProfile();
+        TE.setCoverProfile(profile);
+        TE.addAttribute(TEBase.ATTR_ILLUMINATOR, new ItemStack((Item) null, 1, 0));
+
+        assertSame(profile, TE.getCoverProfile());
+    }
+
+}
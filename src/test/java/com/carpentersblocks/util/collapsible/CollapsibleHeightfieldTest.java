@@ -0,0 +1,149 @@
+package com.carpentersblocks.util.collapsible;
+
+import static org.junit.Assert.assertEquals;
+import java.util.Arrays;
+import org.junit.Test;
+import com.carpentersblocks.data.Collapsible;
+
+public class CollapsibleHeightfieldTest {
+
+    private static final int X_MIN = -1;
+    private static final int Z_MIN = 4;
+
+    /**
+     * Builds a 3x3 heightfield of full blocks, with center block
+     * fully collapsed.
+     */
+    private static CollapsibleHeightfield createBasin(boolean[] locked)
+    {
+        int[] heights = new int[9 * 4];
+        Arrays.fill(heights, 16);
+        Arrays.fill(heights, 4 * 4, 5 * 4, 1);
+
+        return new CollapsibleHeightfield(X_MIN, Z_MIN, 3, 3, heights, locked);
+    }
+
+    @Test
+    public void missingBlocksHaveNoHeight()
+    {
+        int[] heights = new int[2 * 4];
+        Arrays.fill(heights, 0, 4, 8);
+        CollapsibleHeightfield heightfield = new CollapsibleHeightfield(X_MIN, Z_MIN, 2, 1, heights, new boolean[2]);
+
+        assertEquals(8, heightfield.getQuadHeight(X_MIN, Z_MIN, Collapsible.QUAD_XZPP));
+        assertEquals(0, heightfield.getQuadHeight(X_MIN + 1, Z_MIN, Collapsible.QUAD_XZNN));
+        assertEquals(0, heightfield.getQuadHeight(X_MIN - 1, Z_MIN, Collapsible.QUAD_XZNN));
+
+        heightfield.setCornerHeight(X_MIN + 1, Z_MIN + 1, 3);
+        heightfield.adjust(2);
+
+        assertEquals(5, heightfield.getQuadHeight(X_MIN, Z_MIN, Collapsible.QUAD_XZPP));
+        assertEquals(0, heightfield.getQuadHeight(X_MIN + 1, Z_MIN, Collapsible.QUAD_XZNP));
+    }
+
+    @Test
+    public void cornerIsSetForEveryBlockSharingIt()
+    {
+        CollapsibleHeightfield heightfield = createBasin(new boolean[9]);
+        heightfield.setCornerHeight(X_MIN + 1, Z_MIN + 1, 5);
+
+        assertEquals(5, heightfield.getQuadHeight(X_MIN,     Z_MIN,     Collapsible.QUAD_XZPP));
+        assertEquals(5, heightfield.getQuadHeight(X_MIN + 1, Z_MIN,     Collapsible.QUAD_XZNP));
+        assertEquals(5, heightfield.getQuadHeight(X_MIN,     Z_MIN + 1, Collapsible.QUAD_XZPN));
+        assertEquals(5, heightfield.getQuadHeight(X_MIN + 1, Z_MIN + 1, Collapsible.QUAD_XZNN));
+        assertEquals(16, heightfield.getQuadHeight(X_MIN,    Z_MIN,     Collapsible.QUAD_XZNN));
+    }
+
+    @Test
+    public void quadrantSetsMatchingCorner()
+    {
+        CollapsibleHeightfield heightfield = createBasin(new boolean[9]);
+        heightfield.setQuadHeight(X_MIN + 1, Z_MIN + 1, Collapsible.QUAD_XZPP, 7);
+
+        assertEquals(7, heightfield.getQuadHeight(X_MIN + 1, Z_MIN + 1, Collapsible.QUAD_XZPP));
+        assertEquals(7, heightfield.getQuadHeight(X_MIN + 2, Z_MIN + 2, Collapsible.QUAD_XZNN));
+        assertEquals(1, heightfield.getQuadHeight(X_MIN + 1, Z_MIN + 1, Collapsible.QUAD_XZNN));
+    }
+
+    @Test
+    public void outOfRangeHeightsAreIgnored()
+    {
+        CollapsibleHeightfield heightfield = createBasin(new boolean[9]);
+        heightfield.setCornerHeight(X_MIN + 1, Z_MIN + 1, 0);
+        heightfield.setCornerHeight(X_MIN + 1, Z_MIN + 1, 17);
+
+        assertEquals(1, heightfield.getQuadHeight(X_MIN + 1, Z_MIN + 1, Collapsible.QUAD_XZNN));
+        assertEquals(16, heightfield.getQuadHeight(X_MIN, Z_MIN, Collapsible.QUAD_XZPP));
+    }
+
+    @Test
+    public void adjustStopsAtLimits()
+    {
+        CollapsibleHeightfield heightfield = createBasin(new boolean[9]);
+
+        heightfield.adjust(3);
+        assertEquals(16, heightfield.getQuadHeight(X_MIN, Z_MIN, Collapsible.QUAD_XZNN));
+        assertEquals(4, heightfield.getQuadHeight(X_MIN + 1, Z_MIN + 1, Collapsible.QUAD_XZNN));
+
+        heightfield.adjust(-20);
+        assertEquals(1, heightfield.getQuadHeight(X_MIN, Z_MIN, Collapsible.QUAD_XZNN));
+        assertEquals(1, heightfield.getQuadHeight(X_MIN + 1, Z_MIN + 1, Collapsible.QUAD_XZNN));
+    }
+
+    /**
+     * Interior corners of the basin average to 12, and smoothing each
+     * with its eight neighbors, which are 16 or 12, gives 14.  Corners
+     * on the region boundary stay at 16.
+     */
+    @Test
+    public void smoothAveragesInteriorCornersOnly()
+    {
+        CollapsibleHeightfield heightfield = createBasin(new boolean[9]);
+        heightfield.smooth();
+
+        for (int quad = 0; quad < 4; ++quad) {
+            assertEquals(14, heightfield.getQuadHeight(X_MIN + 1, Z_MIN + 1, quad));
+        }
+
+        assertEquals(14, heightfield.getQuadHeight(X_MIN, Z_MIN, Collapsible.QUAD_XZPP));
+        assertEquals(16, heightfield.getQuadHeight(X_MIN, Z_MIN, Collapsible.QUAD_XZNN));
+        assertEquals(16, heightfield.getQuadHeight(X_MIN, Z_MIN, Collapsible.QUAD_XZNP));
+        assertEquals(16, heightfield.getQuadHeight(X_MIN + 2, Z_MIN + 2, Collapsible.QUAD_XZPP));
+    }
+
+    @Test
+    public void lockedBlocksAreNotChanged()
+    {
+        boolean[] locked = new boolean[9];
+        locked[0] = true;
+        CollapsibleHeightfield heightfield = createBasin(locked);
+
+        heightfield.setCornerHeight(X_MIN + 1, Z_MIN + 1, 5);
+        heightfield.adjust(-1);
+
+        assertEquals(16, heightfield.getQuadHeight(X_MIN, Z_MIN, Collapsible.QUAD_XZPP));
+        assertEquals(16, heightfield.getQuadHeight(X_MIN, Z_MIN, Collapsible.QUAD_XZNN));
+        assertEquals(4, heightfield.getQuadHeight(X_MIN + 1, Z_MIN + 1, Collapsible.QUAD_XZNN));
+        assertEquals(4, heightfield.getQuadHeight(X_MIN + 1, Z_MIN, Collapsible.QUAD_XZNP));
+    }
+
+    /**
+     * The corner shared with a locked block is left as it is, while
+     * other interior corners still count it toward their averages.
+     */
+    @Test
+    public void smoothLeavesCornersOfLockedBlocks()
+    {
+        boolean[] locked = new boolean[9];
+        locked[0] = true;
+        CollapsibleHeightfield heightfield = createBasin(locked);
+        heightfield.smooth();
+
+        assertEquals(16, heightfield.getQuadHeight(X_MIN, Z_MIN, Collapsible.QUAD_XZPP));
+        assertEquals(1, heightfield.getQuadHeight(X_MIN + 1, Z_MIN + 1, Collapsible.QUAD_XZNN));
+        assertEquals(16, heightfield.getQuadHeight(X_MIN + 1, Z_MIN, Collapsible.QUAD_XZNP));
+        assertEquals(14, heightfield.getQuadHeight(X_MIN + 1, Z_MIN + 1, Collapsible.QUAD_XZPP));
+        assertEquals(14, heightfield.getQuadHeight(X_MIN + 1, Z_MIN + 1, Collapsible.QUAD_XZPN));
+    }
+
+}
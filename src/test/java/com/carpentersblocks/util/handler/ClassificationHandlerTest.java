@@ -0,0 +1,87 @@
+package com.carpentersblocks.util.handler;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+import com.carpentersblocks.util.handler.ClassificationHandler.Classes;
+
+public class ClassificationHandlerTest {
+
+    private static final int THREADS = 8;
+
+    @Test
+    public void unclassifiedDamageReturnsZero()
+    {
+        Classes classes = new Classes(4);
+
+        assertEquals(0, classes.get(0));
+        assertEquals(0, classes.get(3));
+        assertEquals(0, classes.get(16384));
+    }
+
+    @Test
+    public void classificationsAreKeptAboveArraySize()
+    {
+        Classes classes = new Classes(4);
+        classes.set(2, 5);
+        classes.set(16389, 7);
+        classes.set(32767, 9);
+
+        assertEquals(5, classes.get(2));
+        assertEquals(7, classes.get(16389));
+        assertEquals(9, classes.get(32767));
+        assertEquals(0, classes.get(16390));
+    }
+
+    @Test
+    public void clearedClassificationsReturnZero()
+    {
+        Classes classes = new Classes(4);
+        classes.set(1, 5);
+        classes.set(8193, 7);
+
+        classes.set(1, 0);
+        classes.set(8193, 0);
+        classes.set(8194, 0);
+
+        assertEquals(0, classes.get(1));
+        assertEquals(0, classes.get(8193));
+        assertEquals(0, classes.get(8194));
+    }
+
+    /**
+     * Writes classifications for different damage values from several
+     * threads at once, and checks that none are lost.
+     */
+    @Test
+    public void concurrentWritesAreKept() throws InterruptedException
+    {
+        final Classes classes = new Classes(64);
+        Thread[] threads = new Thread[THREADS];
+
+        for (int idx = 0; idx < THREADS; ++idx) {
+            final int offset = idx;
+            threads[idx] = new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    for (int damage = offset; damage < 20000; damage += THREADS) {
+                        classes.set(damage, damage + 1);
+                    }
+                }
+            };
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (int damage = 0; damage < 20000; ++damage) {
+            assertEquals(damage + 1, classes.get(damage));
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.carpentersblocks.util.handler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import org.junit.Test;
+
+public class DesignCatalogTest {
+
+    private final DesignCatalog catalog = new DesignCatalog(Arrays.asList("brick", "dots", "lines"));
+
+    @Test
+    public void idsMatchListPositions()
+    {
+        assertEquals(0, catalog.getId("brick"));
+        assertEquals(2, catalog.getId("lines"));
+        assertEquals(DesignCatalog.NONE, catalog.getId("missing"));
+        assertEquals(DesignCatalog.NONE, catalog.getId(""));
+        assertEquals("dots", catalog.getName(1));
+        assertEquals("", catalog.getName(3));
+        assertEquals("", catalog.getName(DesignCatalog.NONE));
+        assertEquals(3, catalog.size());
+    }
+
+    @Test
+    public void containsNamesAndIds()
+    {
+        assertTrue(catalog.contains("dots"));
+        assertFalse(catalog.contains("missing"));
+        assertTrue(catalog.contains(0));
+        assertTrue(catalog.contains(2));
+        assertFalse(catalog.contains(3));
+        assertFalse(catalog.contains(DesignCatalog.NONE));
+    }
+
+    @Test
+    public void nextWrapsToFirstDesign()
+    {
+        assertEquals("dots", catalog.getNext("brick"));
+        assertEquals("brick", catalog.getNext("lines"));
+        assertEquals("brick", catalog.getNext(""));
+        assertEquals(0, catalog.getNext(DesignCatalog.NONE));
+    }
+
+    @Test
+    public void prevWrapsToLastDesign()
+    {
+        assertEquals("brick", catalog.getPrev("dots"));
+        assertEquals("lines", catalog.getPrev("brick"));
+        assertEquals("lines", catalog.getPrev(""));
+        assertEquals(2, catalog.getPrev(DesignCatalog.NONE));
+    }
+
+    @Test
+    public void emptyCatalogLeavesDesignUnchanged()
+    {
+        DesignCatalog empty = DesignCatalog.EMPTY;
+
+        assertEquals(0, empty.size());
+        assertEquals(DesignCatalog.NONE, empty.getId("brick"));
+        assertFalse(empty.contains(0));
+        assertEquals("brick", empty.getNext("brick"));
+        assertEquals("", empty.getPrev(""));
+    }
+
+    @Test
+    public void lookupsDoNotAllocate()
+    {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return;
+        }
+
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadBean.isThreadAllocatedMemorySupported()) {
+            return;
+        }
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        long threadId = Thread.currentThread().getId();
+        int result = 0;
+
+        /* Warm up so class loading and compilation are not counted. */
+        for (int count = 0; count < 20000; ++count) {
+            result += lookup(count);
+        }
+        threadBean.getThreadAllocatedBytes(threadId);
+
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int count = 0; count < 100000; ++count) {
+            result += lookup(count);
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        /* Allow for the measurement call itself, but not one object per lookup. */
+        assertTrue("Allocated " + allocated + " bytes over 100000 lookups (" + result + ")", allocated < 1024);
+    }
+
+    private int lookup(int count)
+    {
+        int id = catalog.getId(count % 2 == 0 ? "dots" : "missing");
+        return (catalog.contains(id) ? 1 : 0) + catalog.getNext(id) + catalog.getPrev(id) + catalog.getName(id).length();
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.carpentersblocks.util.handler;
+
+import net.minecraftforge.fluids.IFluidBlock;
+import com.carpentersblocks.renderer.helper.FancyFluidsHelper;
+
+/**
+ * Times the routable fluids mode 3 opacity check in
+ * BlockCoverable.isOpaqueCube() against the check it replaced.
+ * Not a unit test; run its main method and compare nanoseconds per call.
+ * <p>
+ * Each check is called from a stack 40 frames deep, about as deep as a
+ * chunk render, since the cost of a stack trace grows with depth.
+ */
+public class RoutableFluidBenchmark {
+
+    private static final int STACK_DEPTH = 40;
+    private static final int ITERATIONS = 200000;
+
+    private static final int OLD_CHECK = 0;
+    private static final int NEW_CHECK = 1;
+
+    private static int result;
+
+    public static void main(String[] args)
+    {
+        /* Warm up so class loading and compilation are not counted. */
+        run(OLD_CHECK, 20000);
+        run(NEW_CHECK, 20000);
+
+        long oldTime = run(OLD_CHECK, ITERATIONS);
+        long outsideTime = run(NEW_CHECK, ITERATIONS);
+
+        RoutableFluidHandler.beginWorldRender();
+        long insideTime;
+        try {
+            insideTime = run(NEW_CHECK, ITERATIONS);
+        } finally {
+            RoutableFluidHandler.endWorldRender();
+        }
+
+        System.out.println(String.format("Old check:                   %8.1f ns", (double) oldTime / ITERATIONS));
+        System.out.println(String.format("New check, outside rendering: %8.1f ns", (double) outsideTime / ITERATIONS));
+        System.out.println(String.format("New check, chunk rendering:   %8.1f ns", (double) insideTime / ITERATIONS));
+        System.out.println("(" + result + ")");
+    }
+
+    private static long run(int check, int iterations)
+    {
+        return recurse(check, iterations, STACK_DEPTH);
+    }
+
+    private static long recurse(int check, int iterations, int depth)
+    {
+        if (depth > 0) {
+            return recurse(check, iterations, depth - 1);
+        }
+
+        long start = System.nanoTime();
+        for (int count = 0; count < iterations; ++count) {
+            if (Fluid.shouldSideBeRendered(check)) {
+                ++result;
+            }
+        }
+
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Stands in for a fluid block, the frame that asks for opacity.
+     */
+    private static abstract class Fluid implements IFluidBlock {
+
+        public static boolean shouldSideBeRendered(int check)
+        {
+            return !Block.shouldSideBeRendered(check);
+        }
+
+    }
+
+    /**
+     * Stands in for Block.shouldSideBeRendered(), which queries the
+     * adjacent block.
+     */
+    private static class Block {
+
+        public static boolean shouldSideBeRendered(int check)
+        {
+            return check == OLD_CHECK ? isOpaqueCubeOld() : isOpaqueCubeNew();
+        }
+
+    }
+
+    /**
+     * The check as it was before routable fluids mode 3 was gated on
+     * chunk rendering.
+     */
+    private static boolean isOpaqueCubeOld()
+    {
+        try {
+            Class<?> clazz = Class.forName(new Throwable().getStackTrace()[2].getClassName());
+            for (int idx = 0; idx < FancyFluidsHelper.liquidClasses.length; ++idx) {
+                if (clazz.isAssignableFrom(FancyFluidsHelper.liquidClasses[idx])) {
+                    return true;
+                }
+            }
+        } catch (Exception e) {}
+
+        return false;
+    }
+
+    /**
+     * The check as it is now.
+     */
+    private static boolean isOpaqueCubeNew()
+    {
+        if (RoutableFluidHandler.isRenderingWorld()) {
+            StackTraceElement[] stackTrace = new Throwable().getStackTrace();
+            return stackTrace.length > 2 && RoutableFluidHandler.isFluidClass(stackTrace[2].getClassName());
+        }
+
+        return false;
+    }
+
+}
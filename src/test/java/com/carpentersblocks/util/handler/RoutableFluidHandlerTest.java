@@ -0,0 +1,56 @@
+package com.carpentersblocks.util.handler;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import net.minecraftforge.fluids.IFluidBlock;
+import org.junit.Test;
+
+public class RoutableFluidHandlerTest {
+
+    @Test
+    public void flagIsClearedAfterRender()
+    {
+        assertFalse(RoutableFluidHandler.isRenderingWorld());
+        RoutableFluidHandler.beginWorldRender();
+        assertTrue(RoutableFluidHandler.isRenderingWorld());
+        RoutableFluidHandler.endWorldRender();
+        assertFalse(RoutableFluidHandler.isRenderingWorld());
+    }
+
+    @Test
+    public void flagIsPerThread() throws InterruptedException
+    {
+        final AtomicBoolean seenByOtherThread = new AtomicBoolean(true);
+
+        RoutableFluidHandler.beginWorldRender();
+        try {
+            Thread thread = new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    seenByOtherThread.set(RoutableFluidHandler.isRenderingWorld());
+                }
+            };
+            thread.start();
+            thread.join();
+        } finally {
+            RoutableFluidHandler.endWorldRender();
+        }
+
+        assertFalse(seenByOtherThread.get());
+    }
+
+    @Test
+    public void fluidClassesAreRecognised()
+    {
+        assertTrue(RoutableFluidHandler.isFluidClass(TestFluid.class.getName()));
+        assertTrue(RoutableFluidHandler.isFluidClass(TestFluid.class.getName()));
+        assertFalse(RoutableFluidHandler.isFluidClass(RoutableFluidHandlerTest.class.getName()));
+        assertFalse(RoutableFluidHandler.isFluidClass("com.carpentersblocks.NoSuchClass"));
+    }
+
+    private interface TestFluid extends IFluidBlock {}
+
+}
@@ -0,0 +1,187 @@
+package com.carpentersblocks.util.protection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class OwnerResolverTest {
+
+    private static final long TIMEOUT_MS = 5000;
+
+    /**
+     * Profile lookup returning a fixed UUID derived from name,
+     * optionally blocking on a name until released.
+     */
+    private static class FakeProfileLookup implements IProfileLookup {
+
+        final List<String> lookups = Collections.synchronizedList(new ArrayList<String>());
+        final CountDownLatch blockStarted = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final String blockingName;
+
+        FakeProfileLookup(String blockingName)
+        {
+            this.blockingName = blockingName;
+        }
+
+        @Override
+        public UUID getUUID(String name)
+        {
+            lookups.add(name);
+
+            if (name.equals(blockingName)) {
+                blockStarted.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) { }
+            }
+
+            return name.startsWith("unknown") ? null : getExpectedUUID(name);
+        }
+
+    }
+
+    private static class FakeProtected implements IProtected {
+
+        String owner;
+
+        FakeProtected(String owner)
+        {
+            this.owner = owner;
+        }
+
+        @Override
+        public String getOwner()
+        {
+            return owner;
+        }
+
+        @Override
+        public void setOwner(UUID uuid)
+        {
+            owner = uuid.toString();
+        }
+
+    }
+
+    private static UUID getExpectedUUID(String name)
+    {
+        return UUID.nameUUIDFromBytes(name.getBytes());
+    }
+
+    /**
+     * Processes results until name is resolved or unresolvable.
+     */
+    private static void awaitResolution(OwnerResolver resolver, FakeProfileLookup lookup, String name) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+
+        while (System.currentTimeMillis() < deadline) {
+            if (resolver.getCachedUUID(name) != null || (lookup.lookups.contains(name) && resolver.getWaitingCount() == 0)) {
+                break;
+            }
+            Thread.sleep(5);
+            resolver.processResults();
+        }
+
+        /* Worker may complete between the check and last processing. */
+        Thread.sleep(20);
+        resolver.processResults();
+    }
+
+    @Test
+    public void resolvedOwnerIsPatchedOnServerThread() throws InterruptedException
+    {
+        FakeProfileLookup lookup = new FakeProfileLookup(null);
+        OwnerResolver resolver = new OwnerResolver(lookup, null);
+        FakeProtected object = new FakeProtected("alice");
+
+        assertNull(resolver.resolve(object, "alice"));
+        assertEquals("alice", object.getOwner()); // Keeps legacy owner until patched
+
+        awaitResolution(resolver, lookup, "alice");
+
+        assertEquals(getExpectedUUID("alice").toString(), object.getOwner());
+        assertEquals(getExpectedUUID("alice"), resolver.resolve(new FakeProtected("alice"), "alice"));
+        assertEquals(0, resolver.getWaitingCount());
+    }
+
+    @Test
+    public void concurrentRequestsForNameAreLookedUpOnce() throws InterruptedException
+    {
+        FakeProfileLookup lookup = new FakeProfileLookup("bob");
+        OwnerResolver resolver = new OwnerResolver(lookup, null);
+        FakeProtected first = new FakeProtected("bob");
+        FakeProtected second = new FakeProtected("bob");
+
+        resolver.resolve(first, "bob");
+        assertTrue(lookup.blockStarted.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        resolver.resolve(second, "bob");
+        assertEquals(2, resolver.getWaitingCount());
+
+        lookup.release.countDown();
+        awaitResolution(resolver, lookup, "bob");
+
+        assertEquals(1, Collections.frequency(lookup.lookups, "bob"));
+        assertEquals(getExpectedUUID("bob").toString(), first.getOwner());
+        assertEquals(getExpectedUUID("bob").toString(), second.getOwner());
+    }
+
+    @Test
+    public void unknownNameKeepsLegacyOwner() throws InterruptedException
+    {
+        FakeProfileLookup lookup = new FakeProfileLookup(null);
+        OwnerResolver resolver = new OwnerResolver(lookup, null);
+        FakeProtected object = new FakeProtected("unknown_carol");
+
+        resolver.resolve(object, "unknown_carol");
+        awaitResolution(resolver, lookup, "unknown_carol");
+
+        assertEquals("unknown_carol", object.getOwner());
+        assertEquals(0, resolver.getWaitingCount());
+
+        /* Not queued again until restart. */
+        resolver.resolve(object, "unknown_carol");
+        assertEquals(0, resolver.getWaitingCount());
+        assertEquals(1, Collections.frequency(lookup.lookups, "unknown_carol"));
+    }
+
+    @Test
+    public void fullQueueDoesNotRetainObject() throws InterruptedException
+    {
+        FakeProfileLookup lookup = new FakeProfileLookup("blocker");
+        OwnerResolver resolver = new OwnerResolver(lookup, null);
+
+        /* Occupy worker so that queued names stay queued. */
+        resolver.resolve(new FakeProtected("blocker"), "blocker");
+        assertTrue(lookup.blockStarted.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+
+        for (int idx = 0; idx < OwnerResolver.QUEUE_CAPACITY; ++idx) {
+            resolver.resolve(new FakeProtected("player" + idx), "player" + idx);
+        }
+        assertEquals(OwnerResolver.QUEUE_CAPACITY + 1, resolver.getWaitingCount());
+
+        FakeProtected overflow = new FakeProtected("dave");
+        assertNull(resolver.resolve(overflow, "dave"));
+        assertEquals(OwnerResolver.QUEUE_CAPACITY + 1, resolver.getWaitingCount());
+
+        /* Drain queue, then retry as if object were loaded again. */
+        lookup.release.countDown();
+        awaitResolution(resolver, lookup, "player" + (OwnerResolver.QUEUE_CAPACITY - 1));
+        assertEquals(0, resolver.getWaitingCount());
+        assertEquals("dave", overflow.getOwner());
+
+        resolver.resolve(overflow, "dave");
+        awaitResolution(resolver, lookup, "dave");
+
+        assertEquals(getExpectedUUID("dave").toString(), overflow.getOwner());
+    }
+
+}
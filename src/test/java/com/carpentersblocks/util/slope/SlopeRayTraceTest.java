@@ -0,0 +1,189 @@
+package com.carpentersblocks.util.slope;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import net.minecraft.util.MovingObjectPosition;
+import net.minecraft.util.Vec3;
+import net.minecraftforge.common.util.ForgeDirection;
+import org.junit.After;
+import org.junit.Test;
+import com.carpentersblocks.data.Slope;
+import com.carpentersblocks.util.RayTraceUtil;
+import com.carpentersblocks.util.registry.FeatureRegistry;
+
+public class SlopeRayTraceTest {
+
+    /** Smoothness of collision boxes used as reference shape. */
+    private static final int SMOOTHNESS = 64;
+
+    /** Depth, in blocks, by which box staircases may differ from sloped faces. */
+    private static final double TOLERANCE = 2.0D / (SMOOTHNESS / 2);
+
+    /** Rays per block face along each axis. */
+    private static final int SAMPLES = 8;
+
+    private static final int X = 10;
+    private static final int Y = 20;
+    private static final int Z = -30;
+
+    private final int defaultSmoothness = FeatureRegistry.slopeSmoothness;
+
+    @After
+    public void restoreSmoothness()
+    {
+        FeatureRegistry.slopeSmoothness = defaultSmoothness;
+        SlopeUtil.buildBoxTables();
+    }
+
+    @Test
+    public void rayBesideBlockMisses()
+    {
+        for (Slope slope : Slope.slopesList) {
+            if (slope != null) {
+                Vec3 start = Vec3.createVectorHelper(X - 1.0D, Y + 0.5D, Z - 0.5D);
+                Vec3 end = Vec3.createVectorHelper(X + 2.0D, Y + 0.5D, Z - 0.5D);
+                assertNull("slope " + slope.slopeID, SlopeRayTrace.rayTrace(slope, X, Y, Z, start, end));
+            }
+        }
+    }
+
+    @Test
+    public void rayStoppingShortMisses()
+    {
+        Vec3 start = Vec3.createVectorHelper(X + 0.5D, Y + 2.0D, Z + 0.5D);
+        Vec3 end = Vec3.createVectorHelper(X + 0.5D, Y + 1.5D, Z + 0.5D);
+        assertNull(SlopeRayTrace.rayTrace(Slope.WEDGE_POS_N, X, Y, Z, start, end));
+    }
+
+    /**
+     * Traces rays straight into every face of every slope, and compares
+     * the surface hit with a trace against fine collision boxes.
+     */
+    @Test
+    public void hitsMatchFineCollisionBoxes()
+    {
+        FeatureRegistry.slopeSmoothness = SMOOTHNESS;
+        SlopeUtil.buildBoxTables();
+
+        int hits = 0;
+
+        for (Slope slope : Slope.slopesList) {
+            /*
+             * Collision boxes for interior oblique corners step well below
+             * the rendered face, so they are checked separately.
+             */
+            if (slope != null && slope.type != Slope.Type.OBLIQUE_INT) {
+                float[] boxes = SlopeUtil.getBoxes(slope);
+
+                for (int side = 0; side < 6; ++side) {
+                    for (int uIdx = 0; uIdx < SAMPLES; ++uIdx) {
+                        for (int vIdx = 0; vIdx < SAMPLES; ++vIdx) {
+
+                            double u = (uIdx + 0.5D) / SAMPLES;
+                            double v = (vIdx + 0.5D) / SAMPLES;
+                            double[] ray = getRay(side, u, v);
+
+                            Vec3 start = Vec3.createVectorHelper(X + ray[0], Y + ray[1], Z + ray[2]);
+                            Vec3 end = Vec3.createVectorHelper(X + ray[3], Y + ray[4], Z + ray[5]);
+                            String name = "slope " + slope.slopeID + ", side " + side + " at " + u + ", " + v;
+
+                            MovingObjectPosition exact = SlopeRayTrace.rayTrace(slope, X, Y, Z, start, end);
+                            MovingObjectPosition approx = RayTraceUtil.rayTraceBoxes(boxes, X, Y, Z, start, end);
+
+                            if (exact == null) {
+                                if (approx != null) {
+                                    double boxDepth = getDepth(approx, start, side);
+                                    assertTrue(name + " missed slope but hit boxes at depth " + boxDepth, boxDepth > 2.0D - TOLERANCE);
+                                }
+                            } else {
+                                assertNotNull(name + " hit slope but missed boxes", approx);
+                                assertEquals(name, side, exact.sideHit);
+                                assertEquals(X, exact.blockX);
+                                assertEquals(Y, exact.blockY);
+                                assertEquals(Z, exact.blockZ);
+
+                                double depth = getDepth(exact, start, side);
+                                double boxDepth = getDepth(approx, start, side);
+                                assertTrue(name + " hit at depth " + depth + ", boxes at " + boxDepth,
+                                        Math.abs(depth - boxDepth) <= TOLERANCE);
+                                ++hits;
+                            }
+
+                        }
+                    }
+                }
+            }
+        }
+
+        /* Guard against a trace that misses everything. */
+        assertTrue("only " + hits + " hits", hits > 0);
+    }
+
+    /**
+     * Traces a ray along the diagonal into the cut corner of each interior
+     * oblique slope.  The rendered face joins the three block corners
+     * next to the cut corner, so the ray must hit the face's center.
+     */
+    @Test
+    public void obliqueInteriorHitsRenderedFace()
+    {
+        for (Slope slope : Slope.slopesList) {
+            if (slope != null && slope.type == Slope.Type.OBLIQUE_INT) {
+
+                double[] corner = new double[3];
+                double[] inward = new double[3];
+
+                for (ForgeDirection dir : slope.facings) {
+                    int axis = dir.offsetX != 0 ? 0 : dir.offsetY != 0 ? 1 : 2;
+                    int offset = dir.offsetX + dir.offsetY + dir.offsetZ;
+                    corner[axis] = offset > 0 ? 1.0D : 0.0D;
+                    inward[axis] = -offset;
+                }
+
+                Vec3 start = Vec3.createVectorHelper(X + corner[0] - inward[0], Y + corner[1] - inward[1], Z + corner[2] - inward[2]);
+                Vec3 end = Vec3.createVectorHelper(X + corner[0] + inward[0], Y + corner[1] + inward[1], Z + corner[2] + inward[2]);
+                String name = "slope " + slope.slopeID;
+
+                MovingObjectPosition hit = SlopeRayTrace.rayTrace(slope, X, Y, Z, start, end);
+
+                assertNotNull(name, hit);
+                assertEquals(name, X + corner[0] + inward[0] / 3.0D, hit.hitVec.xCoord, 1.0E-9D);
+                assertEquals(name, Y + corner[1] + inward[1] / 3.0D, hit.hitVec.yCoord, 1.0E-9D);
+                assertEquals(name, Z + corner[2] + inward[2] / 3.0D, hit.hitVec.zCoord, 1.0E-9D);
+
+            }
+        }
+    }
+
+    /**
+     * Returns ray entering block through side at face coordinates u and v,
+     * starting and ending one block outside.  Ray is six coordinates,
+     * start then end, relative to block origin.
+     */
+    private static double[] getRay(int side, double u, double v)
+    {
+        switch (side) {
+            case 0:  return new double[] { u, -1.0D, v, u, 2.0D, v };
+            case 1:  return new double[] { u, 2.0D, v, u, -1.0D, v };
+            case 2:  return new double[] { u, v, -1.0D, u, v, 2.0D };
+            case 3:  return new double[] { u, v, 2.0D, u, v, -1.0D };
+            case 4:  return new double[] { -1.0D, u, v, 2.0D, u, v };
+            default: return new double[] { 2.0D, u, v, -1.0D, u, v };
+        }
+    }
+
+    /**
+     * Returns distance travelled from ray start to hit.
+     */
+    private static double getDepth(MovingObjectPosition hit, Vec3 start, int side)
+    {
+        int axis = side < 2 ? 1 : side < 4 ? 2 : 0;
+        double from = axis == 0 ? start.xCoord : axis == 1 ? start.yCoord : start.zCoord;
+        double to = axis == 0 ? hit.hitVec.xCoord : axis == 1 ? hit.hitVec.yCoord : hit.hitVec.zCoord;
+
+        return Math.abs(to - from);
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.carpentersblocks.util.slope;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Test;
+import com.carpentersblocks.data.Slope;
+import com.carpentersblocks.util.registry.FeatureRegistry;
+
+public class SlopeUtilTest {
+
+    /** Sample points per axis when comparing box volumes. */
+    private static final int SAMPLES = 24;
+
+    private final int defaultSmoothness = FeatureRegistry.slopeSmoothness;
+
+    @After
+    public void restoreSmoothness()
+    {
+        FeatureRegistry.slopeSmoothness = defaultSmoothness;
+        SlopeUtil.buildBoxTables();
+    }
+
+    @Test
+    public void tablesCoverSameVolumeAsGeneratedBounds()
+    {
+        int[] smoothnessValues = { 1, 2, 3, 4, 5, 8 };
+
+        for (int smoothness : smoothnessValues) {
+
+            FeatureRegistry.slopeSmoothness = smoothness;
+            SlopeUtil.buildBoxTables();
+
+            for (Slope slope : Slope.slopesList) {
+                if (slope != null) {
+                    List<float[]> generated = genBounds(slope);
+                    float[] table = SlopeUtil.getBoxes(slope);
+                    String name = "slope " + slope.slopeID + ", smoothness " + smoothness;
+
+                    assertNotNull(name, table);
+                    assertEquals(name, 0, table.length % 6);
+                    assertTrue(name + " has more boxes than generated", table.length / 6 <= generated.size());
+                    assertSameVolume(name, generated, table);
+                }
+            }
+
+        }
+    }
+
+    @Test
+    public void tableIsRebuiltWhenSmoothnessChanges()
+    {
+        FeatureRegistry.slopeSmoothness = 2;
+        SlopeUtil.buildBoxTables();
+        float[] coarse = SlopeUtil.getBoxes(Slope.WEDGE_POS_N);
+        assertSame(coarse, SlopeUtil.getBoxes(Slope.WEDGE_POS_N));
+
+        FeatureRegistry.slopeSmoothness = 8;
+        float[] fine = SlopeUtil.getBoxes(Slope.WEDGE_POS_N);
+        assertEquals(2 * 6, coarse.length);
+        assertEquals(8 * 6, fine.length);
+    }
+
+    /**
+     * Generates unmerged boxes for slope the way collision and ray
+     * tracing did before box tables.
+     */
+    private static List<float[]> genBounds(Slope slope)
+    {
+        SlopeUtil slopeUtil = new SlopeUtil();
+        List<float[]> list = new ArrayList<float[]>();
+
+        int numPasses = slopeUtil.getNumPasses(slope);
+        int precision = slopeUtil.getNumBoxesPerPass(slope);
+
+        for (int pass = 0; pass < numPasses; ++pass) {
+            for (int slice = 0; slice < precision; ++slice) {
+                float[] box = slopeUtil.genBounds(slope, slice, precision, pass);
+                if (box != null) {
+                    list.add(box);
+                }
+            }
+            if (slope.type.equals(Slope.Type.OBLIQUE_EXT)) {
+                --precision;
+            }
+        }
+
+        return list;
+    }
+
+    /**
+     * Checks that a grid of points falls inside the generated boxes
+     * exactly when it falls inside the table boxes.  Boxes are treated
+     * as half-open, so points on a merged seam count once on each side.
+     */
+    private static void assertSameVolume(String name, List<float[]> generated, float[] table)
+    {
+        for (int xIdx = 0; xIdx <= SAMPLES; ++xIdx) {
+            for (int yIdx = 0; yIdx <= SAMPLES; ++yIdx) {
+                for (int zIdx = 0; zIdx <= SAMPLES; ++zIdx) {
+
+                    float x = (float) xIdx / SAMPLES;
+                    float y = (float) yIdx / SAMPLES;
+                    float z = (float) zIdx / SAMPLES;
+
+                    boolean inGenerated = false;
+                    for (float[] box : generated) {
+                        inGenerated |= contains(box, 0, x, y, z);
+                    }
+
+                    boolean inTable = false;
+                    for (int offset = 0; offset < table.length; offset += 6) {
+                        inTable |= contains(table, offset, x, y, z);
+                    }
+
+                    assertEquals(name + " at " + x + ", " + y + ", " + z, inGenerated, inTable);
+
+                }
+            }
+        }
+    }
+
+    private static boolean contains(float[] boxes, int offset, float x, float y, float z)
+    {
+        return boxes[offset]     <= x && x < boxes[offset + 3] &&
+               boxes[offset + 1] <= y && y < boxes[offset + 4] &&
+               boxes[offset + 2] <= z && z < boxes[offset + 5];
+    }
+
+}
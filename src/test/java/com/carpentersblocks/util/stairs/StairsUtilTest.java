@@ -0,0 +1,36 @@
+package com.carpentersblocks.util.stairs;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotNull;
+import java.util.Arrays;
+import org.junit.Test;
+import com.carpentersblocks.data.Stairs;
+
+public class StairsUtilTest {
+
+    @Test
+    public void tablesMatchGeneratedBoundsInOrder()
+    {
+        StairsUtil stairsUtil = new StairsUtil();
+
+        for (Stairs stairs : Stairs.stairsList) {
+            if (stairs != null) {
+
+                float[] expected = new float[0];
+                for (int box = 0; box < 3; ++box) {
+                    float[] bounds = stairsUtil.genBounds(box, stairs);
+                    if (bounds != null) {
+                        expected = Arrays.copyOf(expected, expected.length + 6);
+                        System.arraycopy(bounds, 0, expected, expected.length - 6, 6);
+                    }
+                }
+
+                float[] table = StairsUtil.getBoxes(stairs);
+                assertNotNull("stairs " + stairs.stairsID, table);
+                assertArrayEquals("stairs " + stairs.stairsID, expected, table, 0.0F);
+
+            }
+        }
+    }
+
+}